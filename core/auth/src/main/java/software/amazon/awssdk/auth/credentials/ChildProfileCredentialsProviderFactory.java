@@ -17,6 +17,7 @@ package software.amazon.awssdk.auth.credentials;
 
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.profiles.Profile;
+import software.amazon.awssdk.profiles.ProfileFile;
 
 /**
  * A factory for {@link AwsCredentialsProvider}s that are derived from another set of credentials in a profile file.
@@ -58,11 +59,13 @@ public interface ChildProfileCredentialsProviderFactory {
     final class ChildProfileCredentialsRequest {
         private final AwsCredentialsProvider sourceCredentialsProvider;
         private final Profile profile;
+        private final ProfileFile profileFile;
         private final String sourceChain;
 
         private ChildProfileCredentialsRequest(Builder builder) {
             this.sourceCredentialsProvider = builder.sourceCredentialsProvider;
             this.profile = builder.profile;
+            this.profileFile = builder.profileFile;
             this.sourceChain = builder.sourceChain;
         }
 
@@ -78,6 +81,13 @@ public interface ChildProfileCredentialsProviderFactory {
             return profile;
         }
 
+        /**
+         * The profile file the profile was loaded from, if known.
+         */
+        public ProfileFile profileFile() {
+            return profileFile;
+        }
+
         public String sourceChain() {
             return sourceChain;
         }
@@ -85,6 +95,7 @@ public interface ChildProfileCredentialsProviderFactory {
         public static final class Builder {
             private AwsCredentialsProvider sourceCredentialsProvider;
             private Profile profile;
+            private ProfileFile profileFile;
             private String sourceChain;
 
             public Builder sourceCredentialsProvider(AwsCredentialsProvider sourceCredentialsProvider) {
@@ -97,6 +108,11 @@ public interface ChildProfileCredentialsProviderFactory {
                 return this;
             }
 
+            public Builder profileFile(ProfileFile profileFile) {
+                this.profileFile = profileFile;
+                return this;
+            }
+
             public Builder sourceChain(String sourceChain) {
                 this.sourceChain = sourceChain;
                 return this;
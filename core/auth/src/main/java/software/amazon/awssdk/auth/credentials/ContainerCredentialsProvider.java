@@ -32,6 +32,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.auth.credentials.internal.ContainerCredentialsRetryPolicy;
@@ -41,16 +45,20 @@ import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
 import software.amazon.awssdk.core.util.SdkUserAgent;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
 import software.amazon.awssdk.regions.util.ResourcesEndpointRetryPolicy;
 import software.amazon.awssdk.utils.ComparableUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+import software.amazon.awssdk.utils.cache.AsyncCachedSupplier;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
-import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
 
 /**
@@ -66,6 +74,10 @@ import software.amazon.awssdk.utils.cache.RefreshResult;
  * "AWS_CONTAINER_CREDENTIALS_FULL_URI" in the container's environment. If the environment variable is not set, this credentials
  * provider will throw an exception.</p>
  *
+ * <p>If {@link Builder#asyncCredentialUpdateEnabled(Boolean)} is set, credentials are loaded on a background thread, and
+ * {@link #resolveIdentity(ResolveIdentityRequest)} returns a future that completes when they are loaded instead of blocking the
+ * calling thread. Concurrent callers share a single load.</p>
+ *
  * @see <a href="http://docs.aws.amazon.com/AmazonECS/latest/developerguide/task-iam-roles.html">Amazon Elastic Container
  * Service (ECS)</a>
  */
@@ -88,6 +100,8 @@ public final class ContainerCredentialsProvider
     private final String endpoint;
     private final HttpCredentialsLoader httpCredentialsLoader;
     private final CachedSupplier<AwsCredentials> credentialsCache;
+    private final AsyncCachedSupplier<AwsCredentials> asyncCredentialsCache;
+    private final ThreadPoolExecutor asyncRefreshExecutor;
 
     private final Boolean asyncCredentialUpdateEnabled;
 
@@ -110,17 +124,34 @@ public final class ContainerCredentialsProvider
 
         if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
             Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
-            this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
-                                                  .cachedValueName(toString())
-                                                  .prefetchStrategy(new NonBlocking(builder.asyncThreadName))
-                                                  .build();
+            this.credentialsCache = null;
+            this.asyncRefreshExecutor = createAsyncRefreshExecutor(builder.asyncThreadName);
+            this.asyncCredentialsCache =
+                AsyncCachedSupplier.builder(() -> CompletableFuture.supplyAsync(this::refreshCredentials, asyncRefreshExecutor))
+                                   .cachedValueName(toString())
+                                   .build();
         } else {
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
                                                   .build();
+            this.asyncCredentialsCache = null;
+            this.asyncRefreshExecutor = null;
         }
     }
 
+    /**
+     * The HTTP credentials loader is blocking, so asynchronous refreshes are run on a single background thread that is released
+     * when no refresh is in progress.
+     */
+    private static ThreadPoolExecutor createAsyncRefreshExecutor(String asyncThreadName) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                                             new ThreadFactoryBuilder().threadNamePrefix(asyncThreadName)
+                                                                                       .daemonThreads(true)
+                                                                                       .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     public static ContainerCredentialsProvider create() {
         return builder().build();
     }
@@ -170,12 +201,30 @@ public final class ContainerCredentialsProvider
 
     @Override
     public AwsCredentials resolveCredentials() {
+        if (asyncCredentialsCache != null) {
+            return CompletableFutureUtils.joinLikeSync(asyncCredentialsCache.get());
+        }
         return credentialsCache.get();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        if (asyncCredentialsCache == null) {
+            return HttpCredentialsProvider.super.resolveIdentity(request);
+        }
+        return asyncCredentialsCache.get().thenApply(credentials -> credentials);
+    }
+
     @Override
     public void close() {
-        credentialsCache.close();
+        if (credentialsCache != null) {
+            credentialsCache.close();
+        }
+        if (asyncCredentialsCache != null) {
+            // Complete the pending refresh first, since its task may never run once the executor is shut down
+            asyncCredentialsCache.close();
+            asyncRefreshExecutor.shutdownNow();
+        }
     }
 
     @Override
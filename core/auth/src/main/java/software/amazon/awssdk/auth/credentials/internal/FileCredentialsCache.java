@@ -0,0 +1,303 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.UserHomeDirectoryUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Caches session credentials on disk, so that they can be reused by other processes and across JVM restarts.
+ * <p>
+ * Each cache key is stored in its own JSON file, named after the SHA-256 hash of the key, in the layout used by the AWS CLI
+ * credential cache. Files are created readable and writable by their owner only, and the cache directory is created accessible
+ * by its owner only, on file systems that support POSIX permissions. Files are written to a temporary file first and then
+ * moved into place, so processes reading the cache never see a partially written file, even when several processes refresh the
+ * same credentials at once.
+ * <p>
+ * Entries whose credentials have expired are deleted when they are read and whenever credentials are stored, so that the cache
+ * directory does not grow without bound.
+ * <p>
+ * The cache is best-effort: failures to read or write it are logged and otherwise ignored, so that credentials are loaded from
+ * their source instead.
+ */
+@ThreadSafe
+@SdkProtectedApi
+public final class FileCredentialsCache {
+    private static final Logger log = Logger.loggerFor(FileCredentialsCache.class);
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE_PERMISSIONS =
+        EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE);
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY_PERMISSIONS =
+        EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE, PosixFilePermission.OWNER_EXECUTE);
+
+    private static final JsonNodeParser JSON_PARSER = JsonNodeParser.builder().removeErrorLocations(true).build();
+
+    private final Path cacheDirectory;
+
+    private FileCredentialsCache(Path cacheDirectory) {
+        this.cacheDirectory = Validate.paramNotNull(cacheDirectory, "cacheDirectory");
+    }
+
+    /**
+     * Create a cache that stores credentials in the provided directory.
+     */
+    public static FileCredentialsCache create(Path cacheDirectory) {
+        return new FileCredentialsCache(cacheDirectory);
+    }
+
+    /**
+     * Create a cache that stores credentials in the default directory, {@code ~/.aws/sdk/cache}.
+     */
+    public static FileCredentialsCache create() {
+        return new FileCredentialsCache(defaultCacheDirectory());
+    }
+
+    /**
+     * The directory used by {@link #create()}.
+     */
+    public static Path defaultCacheDirectory() {
+        return Paths.get(UserHomeDirectoryUtils.userHomeDirectory(), ".aws", "sdk", "cache");
+    }
+
+    /**
+     * The lowercase hex SHA-256 hash of the provided value, or null if the value is null. Cache keys should include the hash of
+     * secrets, such as tokens, instead of the secrets themselves.
+     */
+    public static String sha256Hex(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(value.getBytes(StandardCharsets.UTF_8));
+            return BinaryUtils.toHex(sha256.digest()).toLowerCase(Locale.ENGLISH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to derive credentials cache key", e);
+        }
+    }
+
+    /**
+     * Load the credentials cached for the provided key, if they do not expire before the provided time.
+     *
+     * @param cacheKey The key the credentials were stored with.
+     * @param validUntil The time the credentials must still be valid at to be returned.
+     * @return The cached credentials, or empty if none are cached, they expire too soon, or the cache could not be read.
+     */
+    public Optional<AwsSessionCredentials> load(String cacheKey, Instant validUntil) {
+        Path file = cacheFile(cacheKey);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        AwsSessionCredentials credentials;
+        try (InputStream cachedCredentials = Files.newInputStream(file)) {
+            credentials = unmarshal(IoUtils.toUtf8String(cachedCredentials));
+        } catch (IOException | RuntimeException e) {
+            log.debug(() -> "Unable to load cached credentials from " + file, e);
+            return Optional.empty();
+        }
+
+        if (isExpired(credentials, Instant.now())) {
+            log.debug(() -> "Deleting expired cached credentials at " + file);
+            deleteQuietly(file);
+            return Optional.empty();
+        }
+        if (!credentials.expirationTime().isPresent() || !credentials.expirationTime().get().isAfter(validUntil)) {
+            log.debug(() -> "Ignoring cached credentials at " + file + " because they expire too soon.");
+            return Optional.empty();
+        }
+        log.debug(() -> "Loaded cached credentials from " + file);
+        return Optional.of(credentials);
+    }
+
+    /**
+     * Store the provided credentials for the provided key, replacing any credentials cached for it.
+     */
+    public void store(String cacheKey, AwsSessionCredentials credentials) {
+        if (!credentials.expirationTime().isPresent()) {
+            return;
+        }
+
+        Path file = cacheFile(cacheKey);
+        try {
+            createOwnerOnlyDirectory(cacheDirectory);
+            // Write to a temp file first, then move to the destination to avoid partial reads.
+            Path temp = createOwnerOnlyTempFile(cacheDirectory);
+            try {
+                try (OutputStream os = Files.newOutputStream(temp)) {
+                    os.write(marshal(credentials));
+                }
+                atomicOrFallbackMove(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug(() -> "Unable to cache credentials at " + file, e);
+            return;
+        }
+        deleteExpiredEntries();
+    }
+
+    /**
+     * Delete the cache files whose credentials have expired. Files that cannot be read as cached credentials are left alone.
+     */
+    private void deleteExpiredEntries() {
+        Instant now = Instant.now();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDirectory, "*.json")) {
+            for (Path file : files) {
+                if (isExpired(file, now)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug(() -> "Unable to delete expired cached credentials in " + cacheDirectory, e);
+        }
+    }
+
+    private static boolean isExpired(Path file, Instant now) {
+        try (InputStream cachedCredentials = Files.newInputStream(file)) {
+            return isExpired(unmarshal(IoUtils.toUtf8String(cachedCredentials)), now);
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static boolean isExpired(AwsSessionCredentials credentials, Instant now) {
+        return credentials.expirationTime().map(expiration -> !expiration.isAfter(now)).orElse(false);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException | RuntimeException e) {
+            log.debug(() -> "Unable to delete expired cached credentials at " + file, e);
+        }
+    }
+
+    private Path cacheFile(String cacheKey) {
+        Validate.paramNotBlank(cacheKey, "cacheKey");
+        return cacheDirectory.resolve(sha256Hex(cacheKey) + ".json");
+    }
+
+    private static void createOwnerOnlyDirectory(Path directory) throws IOException {
+        if (Files.isDirectory(directory)) {
+            return;
+        }
+        try {
+            FileAttribute<Set<PosixFilePermission>> attr =
+                PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY_PERMISSIONS);
+            Files.createDirectories(directory, attr);
+        } catch (UnsupportedOperationException e) {
+            Files.createDirectories(directory);
+        }
+    }
+
+    /**
+     * Creates a temp file with owner-only read/write permissions (0600) on POSIX-compatible file systems.
+     * On non-POSIX file systems (e.g., Windows), falls back to default permissions.
+     */
+    private static Path createOwnerOnlyTempFile(Path dir) throws IOException {
+        try {
+            FileAttribute<Set<PosixFilePermission>> attr = PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE_PERMISSIONS);
+            return Files.createTempFile(dir, "credentials-", ".tmp", attr);
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return Files.createTempFile(dir, "credentials-", ".tmp");
+        }
+    }
+
+    /**
+     * Attempts an atomic move, falling back to a non-atomic replace if the file system does not support it.
+     */
+    private static void atomicOrFallbackMove(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static AwsSessionCredentials unmarshal(String contents) {
+        JsonNode credentials = JSON_PARSER.parse(contents)
+                                          .field("Credentials")
+                                          .orElseThrow(() -> new IllegalStateException("Missing 'Credentials' member"));
+        AwsSessionCredentials.Builder builder =
+            AwsSessionCredentials.builder()
+                                 .accessKeyId(requiredField(credentials, "AccessKeyId"))
+                                 .secretAccessKey(requiredField(credentials, "SecretAccessKey"))
+                                 .sessionToken(requiredField(credentials, "SessionToken"))
+                                 .expirationTime(Instant.parse(requiredField(credentials, "Expiration")));
+        credentials.field("AccountId").map(JsonNode::text).ifPresent(builder::accountId);
+        return builder.build();
+    }
+
+    private static String requiredField(JsonNode node, String name) {
+        return node.field(name)
+                   .map(JsonNode::text)
+                   .orElseThrow(() -> new IllegalStateException("Missing '" + name + "' member"));
+    }
+
+    private static byte[] marshal(AwsSessionCredentials credentials) {
+        try (JsonWriter jsonWriter = JsonWriter.create()) {
+            jsonWriter.writeStartObject();
+            jsonWriter.writeFieldName("Credentials");
+            jsonWriter.writeStartObject();
+            jsonWriter.writeFieldName("AccessKeyId");
+            jsonWriter.writeValue(credentials.accessKeyId());
+            jsonWriter.writeFieldName("SecretAccessKey");
+            jsonWriter.writeValue(credentials.secretAccessKey());
+            jsonWriter.writeFieldName("SessionToken");
+            jsonWriter.writeValue(credentials.sessionToken());
+            jsonWriter.writeFieldName("Expiration");
+            jsonWriter.writeValue(credentials.expirationTime().get().toString());
+            if (credentials.accountId().isPresent()) {
+                jsonWriter.writeFieldName("AccountId");
+                jsonWriter.writeValue(credentials.accountId().get());
+            }
+            jsonWriter.writeEndObject();
+            jsonWriter.writeEndObject();
+            return jsonWriter.getBytes();
+        }
+    }
+}
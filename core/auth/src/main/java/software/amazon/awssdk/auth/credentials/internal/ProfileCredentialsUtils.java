@@ -340,6 +340,7 @@ public final class ProfileCredentialsUtils {
             ChildProfileCredentialsProviderFactory.ChildProfileCredentialsRequest.builder()
                 .sourceCredentialsProvider(sourceProvider)
                 .profile(profile)
+                .profileFile(profileFile)
                 .sourceChain(combinedMetrics)
                 .build();
         
@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A process-wide cache that lets credentials providers with identical configurations share one cached value, such as a
+ * {@link software.amazon.awssdk.utils.cache.CachedSupplier}, and therefore one set of credentials and one refresh schedule.
+ * <p>
+ * Each provider {@link #acquire acquires} a {@link Lease} on the value for its configuration key, and closes the lease when it
+ * is closed. The value is created by the first provider to acquire it, and is closed when the last lease is closed. Uses
+ * reference counting to keep track of the providers sharing a value.
+ * <p>
+ * The value should refresh itself through the owner supplier it is created with, rather than through the provider that created
+ * it. The owner supplier always returns a provider that still holds a lease, so refreshes keep working when the provider that
+ * created the value, and any client it owns, is closed before the others.
+ *
+ * @param <K> The type of the key describing a provider's configuration. It must implement equals and hashCode.
+ * @param <OwnerT> The type of the providers sharing values.
+ * @param <ValueT> The type of the shared values.
+ */
+@ThreadSafe
+@SdkProtectedApi
+public final class SharedCredentialsCache<K, OwnerT, ValueT extends SdkAutoCloseable> {
+    private static final Logger log = Logger.loggerFor(SharedCredentialsCache.class);
+
+    private final Map<K, Entry<OwnerT, ValueT>> entries = new HashMap<>();
+
+    /**
+     * Acquire a lease on the value for the provided key, creating the value if no other provider holds a lease on it.
+     *
+     * @param key The key describing the configuration of the owner.
+     * @param owner The provider acquiring the lease.
+     * @param valueFactory Creates the value if needed. It is given a supplier of a provider that currently holds a lease on
+     * the value, which should be used to refresh it.
+     * @return The lease, which must be closed when the owner no longer needs the value.
+     */
+    public Lease<ValueT> acquire(K key, OwnerT owner, Function<Supplier<OwnerT>, ValueT> valueFactory) {
+        Validate.paramNotNull(key, "key");
+        Validate.paramNotNull(owner, "owner");
+        Validate.paramNotNull(valueFactory, "valueFactory");
+
+        synchronized (entries) {
+            Entry<OwnerT, ValueT> entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry<>();
+                Deque<OwnerT> owners = entry.owners;
+                entry.value = Validate.notNull(valueFactory.apply(owners::peekLast), "The value factory returned null.");
+                entries.put(key, entry);
+            } else {
+                int otherOwners = entry.owners.size();
+                log.debug(() -> "Sharing cached credentials with " + otherOwners + " other provider(s).");
+            }
+            entry.owners.addLast(owner);
+            return new Lease<>(entry.value, () -> release(key, owner));
+        }
+    }
+
+    private void release(K key, OwnerT owner) {
+        ValueT valueToClose = null;
+        synchronized (entries) {
+            Entry<OwnerT, ValueT> entry = entries.get(key);
+            if (entry == null || !entry.owners.removeLastOccurrence(owner)) {
+                return;
+            }
+            if (entry.owners.isEmpty()) {
+                entries.remove(key);
+                valueToClose = entry.value;
+            }
+        }
+        IoUtils.closeQuietly(valueToClose, null);
+    }
+
+    /**
+     * The number of providers holding a lease on the value for the provided key.
+     */
+    @SdkTestInternalApi
+    public int referenceCount(K key) {
+        synchronized (entries) {
+            Entry<OwnerT, ValueT> entry = entries.get(key);
+            return entry == null ? 0 : entry.owners.size();
+        }
+    }
+
+    private static final class Entry<OwnerT, ValueT> {
+        private final Deque<OwnerT> owners = new ConcurrentLinkedDeque<>();
+        private ValueT value;
+    }
+
+    /**
+     * A provider's reference to a shared value, created by {@link #acquire}. Closing the lease releases the reference; closing
+     * it more than once has no further effect.
+     */
+    public static final class Lease<ValueT> implements SdkAutoCloseable {
+        private final ValueT value;
+        private final Runnable release;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private Lease(ValueT value, Runnable release) {
+            this.value = value;
+            this.release = release;
+        }
+
+        /**
+         * The shared value.
+         */
+        public ValueT value() {
+            return value;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release.run();
+            }
+        }
+    }
+}
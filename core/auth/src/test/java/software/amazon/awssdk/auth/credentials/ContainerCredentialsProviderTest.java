@@ -18,8 +18,10 @@ package software.amazon.awssdk.auth.credentials;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.core.SdkSystemSetting.AWS_CONTAINER_CREDENTIALS_RELATIVE_URI;
@@ -33,9 +35,11 @@ import org.junit.Test;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
 import software.amazon.awssdk.core.util.SdkUserAgent;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.testutils.EnvironmentVariableHelper;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Tests for the {@link ContainerCredentialsProviderTest}.
@@ -115,6 +119,52 @@ public class ContainerCredentialsProviderTest {
         });
     }
 
+    /**
+     * Tests that with async credential updates enabled, resolveIdentity does not wait for the endpoint and concurrent callers
+     * share a single request.
+     */
+    @Test
+    public void resolveIdentity_asyncCredentialUpdateEnabled_sharesPendingLoad() {
+        mockServer.resetRequests();
+        stubFor(get(urlPathEqualTo(CREDENTIALS_PATH)).willReturn(aResponse().withStatus(200)
+                                                                            .withFixedDelay(500)
+                                                                            .withBody(getSuccessfulBody())));
+
+        try (ContainerCredentialsProvider provider = ContainerCredentialsProvider.builder()
+                                                                                 .endpoint("http://localhost:" + mockServer.port())
+                                                                                 .asyncCredentialUpdateEnabled(true)
+                                                                                 .build()) {
+            CompletableFuture<? extends AwsCredentialsIdentity> first = provider.resolveIdentity();
+            CompletableFuture<? extends AwsCredentialsIdentity> second = provider.resolveIdentity();
+            assertThat(first).isNotDone();
+
+            assertThat(first.join().accessKeyId()).isEqualTo(ACCESS_KEY_ID);
+            assertThat(second.join()).isSameAs(first.join());
+            assertThat(provider.resolveCredentials()).isSameAs(first.join());
+            verify(1, getRequestedFor(urlPathEqualTo(CREDENTIALS_PATH)));
+        }
+    }
+
+    /**
+     * Tests that closing the provider while an async credential load is in progress fails the callers waiting for it.
+     */
+    @Test
+    public void close_asyncCredentialUpdateEnabledWithPendingLoad_failsPendingFuture() {
+        stubFor(get(urlPathEqualTo(CREDENTIALS_PATH)).willReturn(aResponse().withStatus(200)
+                                                                            .withFixedDelay(500)
+                                                                            .withBody(getSuccessfulBody())));
+
+        ContainerCredentialsProvider provider = ContainerCredentialsProvider.builder()
+                                                                            .endpoint("http://localhost:" + mockServer.port())
+                                                                            .asyncCredentialUpdateEnabled(true)
+                                                                            .build();
+        CompletableFuture<? extends AwsCredentialsIdentity> pending = provider.resolveIdentity();
+
+        provider.close();
+
+        assertThatThrownBy(pending::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
     private void stubForSuccessResponse() {
         stubFor200Response(getSuccessfulBody());
     }
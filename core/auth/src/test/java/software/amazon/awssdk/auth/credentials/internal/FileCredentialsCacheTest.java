@@ -0,0 +1,175 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+
+public class FileCredentialsCacheTest {
+    private static final Instant NOW = Instant.now();
+
+    @TempDir
+    Path tempDir;
+
+    private Path cacheDirectory;
+    private FileCredentialsCache cache;
+
+    @BeforeEach
+    public void setup() {
+        cacheDirectory = tempDir.resolve("cache");
+        cache = FileCredentialsCache.create(cacheDirectory);
+    }
+
+    @Test
+    public void load_nothingStored_returnsEmpty() {
+        assertThat(cache.load("key", NOW)).isEmpty();
+    }
+
+    @Test
+    public void store_thenLoad_returnsCredentials() {
+        AwsSessionCredentials credentials = credentials(NOW.plus(Duration.ofHours(1)));
+        cache.store("key", credentials);
+
+        Optional<AwsSessionCredentials> loaded = FileCredentialsCache.create(cacheDirectory).load("key", NOW);
+        assertThat(loaded).hasValueSatisfying(c -> {
+            assertThat(c.accessKeyId()).isEqualTo("akid");
+            assertThat(c.secretAccessKey()).isEqualTo("skid");
+            assertThat(c.sessionToken()).isEqualTo("token");
+            assertThat(c.accountId()).hasValue("123456789012");
+            assertThat(c.expirationTime()).isEqualTo(credentials.expirationTime());
+        });
+    }
+
+    @Test
+    public void load_differentKey_returnsEmpty() {
+        cache.store("key", credentials(NOW.plus(Duration.ofHours(1))));
+
+        assertThat(cache.load("other-key", NOW)).isEmpty();
+    }
+
+    @Test
+    public void load_credentialsExpireBeforeRequestedTime_returnsEmpty() {
+        cache.store("key", credentials(NOW.plus(Duration.ofMinutes(4))));
+
+        assertThat(cache.load("key", NOW.plus(Duration.ofMinutes(5)))).isEmpty();
+    }
+
+    @Test
+    public void store_replacesExistingCredentials() {
+        cache.store("key", credentials(NOW.plus(Duration.ofMinutes(1))));
+        cache.store("key", credentials(NOW.plus(Duration.ofHours(1))));
+
+        assertThat(cache.load("key", NOW.plus(Duration.ofMinutes(5)))).isPresent();
+        assertThat(cacheFiles()).hasSize(1);
+    }
+
+    @Test
+    public void store_credentialsWithoutExpiration_areNotCached() {
+        cache.store("key", AwsSessionCredentials.create("akid", "skid", "token"));
+
+        assertThat(cache.load("key", NOW)).isEmpty();
+        assertThat(Files.exists(cacheDirectory)).isFalse();
+    }
+
+    @Test
+    public void load_corruptFile_returnsEmpty() throws IOException {
+        cache.store("key", credentials(NOW.plus(Duration.ofHours(1))));
+        Path file = cacheFiles()[0];
+        Files.write(file, "{\"Credentials\":{\"AccessKeyId\":".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(cache.load("key", NOW)).isEmpty();
+    }
+
+    @Test
+    public void load_expiredCredentials_deletesFile() throws IOException {
+        cache.store("key", credentials(NOW.plus(Duration.ofHours(1))));
+        Path file = cacheFiles()[0];
+        expire(file, NOW.plus(Duration.ofHours(1)));
+
+        assertThat(cache.load("key", NOW)).isEmpty();
+        assertThat(cacheFiles()).isEmpty();
+    }
+
+    @Test
+    public void store_otherEntriesExpired_deletesExpiredEntries() throws IOException {
+        cache.store("expired", credentials(NOW.plus(Duration.ofHours(1))));
+        Path expiredFile = cacheFiles()[0];
+        expire(expiredFile, NOW.plus(Duration.ofHours(1)));
+        Path unrelatedFile = Files.write(cacheDirectory.resolve("unrelated.json"), "{}".getBytes(StandardCharsets.UTF_8));
+
+        cache.store("key", credentials(NOW.plus(Duration.ofHours(1))));
+
+        assertThat(Files.exists(expiredFile)).isFalse();
+        assertThat(Files.exists(unrelatedFile)).isTrue();
+        assertThat(cache.load("key", NOW)).isPresent();
+    }
+
+    @Test
+    public void sha256Hex_hashesValue() {
+        assertThat(FileCredentialsCache.sha256Hex("abc"))
+            .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        assertThat(FileCredentialsCache.sha256Hex(null)).isNull();
+    }
+
+    @Test
+    public void store_posixFileSystem_restrictsPermissionsToOwner() throws IOException {
+        assumeThat(FileSystems.getDefault().supportedFileAttributeViews()).contains("posix");
+
+        cache.store("key", credentials(NOW.plus(Duration.ofHours(1))));
+
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheDirectory))).isEqualTo("rwx------");
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheFiles()[0]))).isEqualTo("rw-------");
+    }
+
+    private static void expire(Path file, Instant expiration) throws IOException {
+        String contents = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        String expired = contents.replace(expiration.toString(), NOW.minus(Duration.ofMinutes(1)).toString());
+        Files.write(file, expired.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path[] cacheFiles() {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.toArray(Path[]::new);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static AwsSessionCredentials credentials(Instant expiration) {
+        return AwsSessionCredentials.builder()
+                                    .accessKeyId("akid")
+                                    .secretAccessKey("skid")
+                                    .sessionToken("token")
+                                    .accountId("123456789012")
+                                    .expirationTime(expiration)
+                                    .build();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.internal.SharedCredentialsCache.Lease;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+public class SharedCredentialsCacheTest {
+    private SharedCredentialsCache<String, String, TestValue> cache;
+    private AtomicInteger createdValues;
+
+    @BeforeEach
+    public void setup() {
+        cache = new SharedCredentialsCache<>();
+        createdValues = new AtomicInteger();
+    }
+
+    @Test
+    public void acquire_sameKey_sharesValue() {
+        Lease<TestValue> first = cache.acquire("key", "owner1", this::createValue);
+        Lease<TestValue> second = cache.acquire("key", "owner2", this::createValue);
+
+        assertThat(second.value()).isSameAs(first.value());
+        assertThat(createdValues).hasValue(1);
+        assertThat(cache.referenceCount("key")).isEqualTo(2);
+    }
+
+    @Test
+    public void acquire_differentKeys_createsSeparateValues() {
+        Lease<TestValue> first = cache.acquire("key1", "owner1", this::createValue);
+        Lease<TestValue> second = cache.acquire("key2", "owner2", this::createValue);
+
+        assertThat(second.value()).isNotSameAs(first.value());
+        assertThat(createdValues).hasValue(2);
+    }
+
+    @Test
+    public void close_lastLease_closesValueAndRemovesIt() {
+        Lease<TestValue> first = cache.acquire("key", "owner1", this::createValue);
+        Lease<TestValue> second = cache.acquire("key", "owner2", this::createValue);
+
+        first.close();
+        assertThat(first.value().closed).isFalse();
+
+        second.close();
+        assertThat(second.value().closed).isTrue();
+        assertThat(cache.referenceCount("key")).isZero();
+
+        Lease<TestValue> third = cache.acquire("key", "owner3", this::createValue);
+        assertThat(third.value()).isNotSameAs(first.value());
+    }
+
+    @Test
+    public void close_calledTwice_releasesOnce() {
+        Lease<TestValue> first = cache.acquire("key", "owner1", this::createValue);
+        cache.acquire("key", "owner2", this::createValue);
+
+        first.close();
+        first.close();
+
+        assertThat(cache.referenceCount("key")).isEqualTo(1);
+        assertThat(first.value().closed).isFalse();
+    }
+
+    @Test
+    public void ownerSupplier_returnsOwnerStillHoldingLease() {
+        Lease<TestValue> first = cache.acquire("key", "owner1", this::createValue);
+        Lease<TestValue> second = cache.acquire("key", "owner2", this::createValue);
+        Supplier<String> owners = first.value().owners;
+
+        assertThat(owners.get()).isEqualTo("owner2");
+
+        second.close();
+        assertThat(owners.get()).isEqualTo("owner1");
+    }
+
+    private TestValue createValue(Supplier<String> owners) {
+        createdValues.incrementAndGet();
+        return new TestValue(owners);
+    }
+
+    private static final class TestValue implements SdkAutoCloseable {
+        private final Supplier<String> owners;
+        private boolean closed;
+
+        private TestValue(Supplier<String> owners) {
+            this.owners = owners;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -22,7 +22,6 @@ import static software.amazon.awssdk.core.http.HttpResponseHandler.X_AMZN_REQUES
 import static software.amazon.awssdk.core.http.HttpResponseHandler.X_AMZN_REQUEST_ID_HEADERS;
 import static software.amazon.awssdk.core.http.HttpResponseHandler.X_AMZ_ID_2_HEADER;
 
-import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +31,8 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.awscore.internal.eventstream.EventStreamFrame;
+import software.amazon.awssdk.awscore.internal.eventstream.EventStreamFrameDecoder;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
@@ -44,8 +45,6 @@ import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
-import software.amazon.eventstream.Message;
-import software.amazon.eventstream.MessageDecoder;
 
 /**
  * Unmarshalling layer on top of the {@link AsyncResponseTransformer} to decode event stream messages and deliver them to the
@@ -207,16 +206,20 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         future.complete(null);
     }
 
+    /**
+     * Decodes messages without copying their payload when possible. The decoded messages are only valid until the next buffer
+     * is decoded, which is fine because the flattening publisher only requests the next buffer once the messages of the
+     * previous one were all transformed into events.
+     */
     private static final class SynchronousMessageDecoder {
-        private final MessageDecoder decoder = new MessageDecoder();
+        private final EventStreamFrameDecoder decoder = new EventStreamFrameDecoder();
 
-        private Iterable<Message> decode(ByteBuffer bytes) {
-            decoder.feed(bytes);
-            return decoder.getDecodedMessages();
+        private Iterable<EventStreamFrame> decode(ByteBuffer bytes) {
+            return decoder.decode(bytes);
         }
     }
 
-    private Iterable<EventT> transformMessage(Message message) {
+    private Iterable<EventT> transformMessage(EventStreamFrame message) {
         try {
             if (isEvent(message)) {
                 return transformEventMessage(message);
@@ -233,9 +236,9 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         }
     }
 
-    private Iterable<EventT> transformEventMessage(Message message) throws Exception {
+    private Iterable<EventT> transformEventMessage(EventStreamFrame message) throws Exception {
         SdkHttpFullResponse response = adaptMessageToResponse(message, false);
-        if (message.getHeaders().get(":event-type").getString().equals("initial-response")) {
+        if (message.headers().get(":event-type").getString().equals("initial-response")) {
             ResponseT initialResponse = initialResponseHandler.handle(response, attributesFactory.get());
             eventStreamResponseHandler.responseReceived(initialResponse);
             log.debug(() -> getLogPrefix() + "Decoded initial response: " + initialResponse);
@@ -247,7 +250,7 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         return singleton(event);
     }
 
-    private Throwable transformErrorMessage(Message message) throws Exception {
+    private Throwable transformErrorMessage(EventStreamFrame message) throws Exception {
         SdkHttpFullResponse errorResponse = adaptMessageToResponse(message, true);
         Throwable exception = exceptionResponseHandler.handle(errorResponse, attributesFactory.get());
         log.debug(() -> getLogPrefix() + "Decoded error or exception: " + exception, exception);
@@ -275,9 +278,9 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
      *
      * @param message Message to transform.
      */
-    private SdkHttpFullResponse adaptMessageToResponse(Message message, boolean isException) {
+    private SdkHttpFullResponse adaptMessageToResponse(EventStreamFrame message, boolean isException) {
         Map<String, List<String>> headers =
-            message.getHeaders()
+            message.headers()
                    .entrySet()
                    .stream()
                    .collect(HashMap::new, (m, e) -> m.put(e.getKey(), singletonList(e.getValue().getString())), Map::putAll);
@@ -291,7 +294,7 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
 
         SdkHttpFullResponse.Builder builder =
             SdkHttpFullResponse.builder()
-                               .content(AbortableInputStream.create(new ByteArrayInputStream(message.getPayload())))
+                               .content(AbortableInputStream.create(message.payloadInputStream()))
                                .headers(headers);
 
         if (!isException) {
@@ -305,24 +308,24 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
      * @param m Message frame.
      * @return True if frame is an event frame, false if not.
      */
-    private boolean isEvent(Message m) {
-        return "event".equals(m.getHeaders().get(":message-type").getString());
+    private boolean isEvent(EventStreamFrame m) {
+        return "event".equals(m.headers().get(":message-type").getString());
     }
 
     /**
      * @param m Message frame.
      * @return True if frame is an error frame, false if not.
      */
-    private boolean isError(Message m) {
-        return "error".equals(m.getHeaders().get(":message-type").getString());
+    private boolean isError(EventStreamFrame m) {
+        return "error".equals(m.headers().get(":message-type").getString());
     }
 
     /**
      * @param m Message frame.
      * @return True if frame is an exception frame, false if not.
      */
-    private boolean isException(Message m) {
-        return "exception".equals(m.getHeaders().get(":message-type").getString());
+    private boolean isException(EventStreamFrame m) {
+        return "exception".equals(m.headers().get(":message-type").getString());
     }
 
     /**
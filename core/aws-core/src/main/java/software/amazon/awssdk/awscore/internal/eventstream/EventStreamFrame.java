@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.internal.eventstream;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.eventstream.HeaderValue;
+
+/**
+ * An event stream message decoded by {@link EventStreamFrameDecoder}. The payload is a view of the bytes the frame was decoded
+ * from, and is only valid until the decoder is fed again.
+ */
+@SdkInternalApi
+public final class EventStreamFrame {
+    private final Map<String, HeaderValue> headers;
+    private final ByteBuffer payload;
+
+    EventStreamFrame(Map<String, HeaderValue> headers, ByteBuffer payload) {
+        this.headers = headers;
+        this.payload = payload;
+    }
+
+    public Map<String, HeaderValue> headers() {
+        return headers;
+    }
+
+    /**
+     * @return A read-only view of the payload.
+     */
+    public ByteBuffer payload() {
+        return payload.asReadOnlyBuffer();
+    }
+
+    public int payloadLength() {
+        return payload.remaining();
+    }
+
+    /**
+     * @return A stream reading the payload without copying it.
+     */
+    public InputStream payloadInputStream() {
+        if (payload.hasArray()) {
+            return new ByteArrayInputStream(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        }
+        return new ByteBufferInputStream(payload.duplicate());
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("EventStreamFrame")
+                       .add("headers", headers)
+                       .add("payloadLength", payloadLength())
+                       .build();
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
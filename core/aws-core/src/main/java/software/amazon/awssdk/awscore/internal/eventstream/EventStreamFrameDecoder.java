@@ -0,0 +1,314 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.internal.eventstream;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.eventstream.HeaderValue;
+
+/**
+ * Incrementally decodes event stream messages from a sequence of byte buffers.
+ * <p>
+ * A message fully contained in a fed buffer is decoded in place: its payload is a view of that buffer and is not copied. Only
+ * the bytes of a message spanning several buffers are accumulated, in one of two frame buffers that are reused for the
+ * lifetime of the decoder. The frames returned by {@link #decode(ByteBuffer)} are therefore only valid until the next call,
+ * which suits a pipeline that fully consumes the frames of a buffer before requesting the next one.
+ * <p>
+ * The validation performed is the same as the {@code software.amazon.eventstream.MessageDecoder}'s.
+ */
+@NotThreadSafe
+@SdkInternalApi
+public final class EventStreamFrameDecoder {
+    private static final int PRELUDE_LENGTH = 8;
+    private static final int PRELUDE_WITH_CRC_LENGTH = PRELUDE_LENGTH + 4;
+    private static final int MESSAGE_CRC_LENGTH = 4;
+    private static final int MESSAGE_OVERHEAD = PRELUDE_WITH_CRC_LENGTH + MESSAGE_CRC_LENGTH;
+    private static final int MAX_HEADERS_LENGTH = 128 * 1024;
+    private static final int MAX_PAYLOAD_LENGTH = 24 * 1024 * 1024;
+
+    /**
+     * Frame buffers larger than this are released once their frame is decoded rather than kept for the next one.
+     */
+    private static final int MAX_RETAINED_FRAME_BUFFER_SIZE = 1024 * 1024;
+    private static final int MIN_FRAME_BUFFER_SIZE = 8 * 1024;
+
+    private final CRC32 crc32 = new CRC32();
+
+    /**
+     * The buffer accumulating the bytes of the current partial frame, or null if no frame is partially decoded.
+     */
+    private ByteBuffer partialFrame;
+
+    /**
+     * The total length of the current partial frame, or -1 if its prelude was not fully received yet.
+     */
+    private int partialFrameLength = -1;
+
+    /**
+     * The buffer holding the frame completed by the current call to {@link #decode(ByteBuffer)}, which must not be reused
+     * before the next call.
+     */
+    private ByteBuffer completedFrameBuffer;
+
+    /**
+     * A buffer that is not in use, reused for the next partial frame.
+     */
+    private ByteBuffer spareFrameBuffer;
+
+    /**
+     * Decodes the messages completed by the given bytes. The position of {@code bytes} is not modified.
+     *
+     * @param bytes The next bytes of the event stream.
+     * @return The decoded frames, valid until the next call to this method.
+     */
+    public List<EventStreamFrame> decode(ByteBuffer bytes) {
+        ByteBuffer input = bytes.duplicate();
+        List<EventStreamFrame> frames = null;
+
+        if (partialFrame != null) {
+            EventStreamFrame frame = continuePartialFrame(input);
+            if (frame == null) {
+                return Collections.emptyList();
+            }
+            frames = new ArrayList<>();
+            frames.add(frame);
+        }
+
+        while (input.hasRemaining()) {
+            if (input.remaining() < PRELUDE_WITH_CRC_LENGTH) {
+                startPartialFrame(input, -1);
+                break;
+            }
+            int frameLength = validatePrelude(input, input.position());
+            if (input.remaining() < frameLength) {
+                startPartialFrame(input, frameLength);
+                break;
+            }
+
+            ByteBuffer frame = input.slice();
+            frame.limit(frameLength);
+            input.position(input.position() + frameLength);
+            if (frames == null) {
+                frames = new ArrayList<>();
+            }
+            frames.add(decodeFrame(frame));
+        }
+
+        if (completedFrameBuffer != null) {
+            if (spareFrameBuffer == null && completedFrameBuffer.capacity() <= MAX_RETAINED_FRAME_BUFFER_SIZE) {
+                spareFrameBuffer = completedFrameBuffer;
+            }
+            completedFrameBuffer = null;
+        }
+        return frames == null ? Collections.emptyList() : frames;
+    }
+
+    private void startPartialFrame(ByteBuffer input, int frameLength) {
+        partialFrameLength = frameLength;
+        partialFrame = frameBuffer(Math.max(frameLength, MIN_FRAME_BUFFER_SIZE));
+        partialFrame.put(input);
+    }
+
+    private EventStreamFrame continuePartialFrame(ByteBuffer input) {
+        if (partialFrameLength < 0) {
+            transfer(input, partialFrame, PRELUDE_WITH_CRC_LENGTH - partialFrame.position());
+            if (partialFrame.position() < PRELUDE_WITH_CRC_LENGTH) {
+                return null;
+            }
+            partialFrameLength = validatePrelude(partialFrame, 0);
+            if (partialFrame.capacity() < partialFrameLength) {
+                ByteBuffer larger = ByteBuffer.allocate(partialFrameLength);
+                partialFrame.flip();
+                larger.put(partialFrame);
+                partialFrame = larger;
+            }
+        }
+
+        transfer(input, partialFrame, partialFrameLength - partialFrame.position());
+        if (partialFrame.position() < partialFrameLength) {
+            return null;
+        }
+
+        ByteBuffer frame = partialFrame;
+        frame.flip();
+        partialFrame = null;
+        partialFrameLength = -1;
+        completedFrameBuffer = frame;
+        return decodeFrame(frame.slice());
+    }
+
+    private ByteBuffer frameBuffer(int minCapacity) {
+        ByteBuffer buffer = spareFrameBuffer;
+        spareFrameBuffer = null;
+        if (buffer == null || buffer.capacity() < minCapacity) {
+            return ByteBuffer.allocate(minCapacity);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    private static void transfer(ByteBuffer source, ByteBuffer destination, int maxLength) {
+        int length = Math.min(maxLength, source.remaining());
+        ByteBuffer chunk = source.duplicate();
+        chunk.limit(chunk.position() + length);
+        destination.put(chunk);
+        source.position(source.position() + length);
+    }
+
+    /**
+     * Validates the prelude starting at the given index and returns the total length of the message.
+     */
+    private int validatePrelude(ByteBuffer buffer, int index) {
+        int totalLength = buffer.getInt(index);
+        long headersLength = buffer.getInt(index + 4) & 0xFFFFFFFFL;
+        int expectedCrc = buffer.getInt(index + PRELUDE_LENGTH);
+        int computedCrc = crc32(buffer, index, PRELUDE_LENGTH);
+        if (expectedCrc != computedCrc) {
+            throw new IllegalArgumentException(String.format("Prelude checksum failure: expected 0x%x, computed 0x%x",
+                                                             expectedCrc, computedCrc));
+        }
+        if (headersLength > MAX_HEADERS_LENGTH) {
+            throw new IllegalArgumentException("Illegal headers_length value: " + headersLength);
+        }
+        long payloadLength = (totalLength & 0xFFFFFFFFL) - headersLength - MESSAGE_OVERHEAD;
+        if (payloadLength < 0 || payloadLength > MAX_PAYLOAD_LENGTH) {
+            throw new IllegalArgumentException("Illegal payload size: " + payloadLength);
+        }
+        return totalLength;
+    }
+
+    /**
+     * Decodes a complete message, from position zero to the limit of the given buffer.
+     */
+    private EventStreamFrame decodeFrame(ByteBuffer frame) {
+        int totalLength = frame.limit();
+        int expectedCrc = frame.getInt(totalLength - MESSAGE_CRC_LENGTH);
+        int computedCrc = crc32(frame, 0, totalLength - MESSAGE_CRC_LENGTH);
+        if (expectedCrc != computedCrc) {
+            throw new IllegalArgumentException(String.format("Message checksum failure: expected 0x%x, computed 0x%x",
+                                                             expectedCrc, computedCrc));
+        }
+
+        int headersEnd = PRELUDE_WITH_CRC_LENGTH + frame.getInt(4);
+        Map<String, HeaderValue> headers = decodeHeaders(frame, PRELUDE_WITH_CRC_LENGTH, headersEnd);
+
+        frame.position(headersEnd);
+        frame.limit(totalLength - MESSAGE_CRC_LENGTH);
+        return new EventStreamFrame(headers, frame.slice());
+    }
+
+    private static Map<String, HeaderValue> decodeHeaders(ByteBuffer frame, int start, int end) {
+        Map<String, HeaderValue> headers = new LinkedHashMap<>();
+        int index = start;
+        while (index < end) {
+            int nameLength = frame.get(index++) & 0xFF;
+            String name = utf8(frame, index, nameLength);
+            index += nameLength;
+
+            byte type = frame.get(index++);
+            HeaderValue value;
+            switch (type) {
+                case 0:
+                    value = HeaderValue.fromBoolean(true);
+                    break;
+                case 1:
+                    value = HeaderValue.fromBoolean(false);
+                    break;
+                case 2:
+                    value = HeaderValue.fromByte(frame.get(index));
+                    index += 1;
+                    break;
+                case 3:
+                    value = HeaderValue.fromShort(frame.getShort(index));
+                    index += 2;
+                    break;
+                case 4:
+                    value = HeaderValue.fromInteger(frame.getInt(index));
+                    index += 4;
+                    break;
+                case 5:
+                    value = HeaderValue.fromLong(frame.getLong(index));
+                    index += 8;
+                    break;
+                case 6: {
+                    int length = frame.getShort(index) & 0xFFFF;
+                    byte[] bytes = new byte[length];
+                    ByteBuffer source = frame.duplicate();
+                    source.position(index + 2);
+                    source.get(bytes);
+                    value = HeaderValue.fromByteArray(bytes);
+                    index += 2 + length;
+                    break;
+                }
+                case 7: {
+                    int length = frame.getShort(index) & 0xFFFF;
+                    value = HeaderValue.fromString(utf8(frame, index + 2, length));
+                    index += 2 + length;
+                    break;
+                }
+                case 8:
+                    value = HeaderValue.fromTimestamp(Instant.ofEpochMilli(frame.getLong(index)));
+                    index += 8;
+                    break;
+                case 9:
+                    value = HeaderValue.fromUuid(new UUID(frame.getLong(index), frame.getLong(index + 8)));
+                    index += 16;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown header type: " + type);
+            }
+            headers.put(name, value);
+        }
+        if (index != end) {
+            throw new IllegalArgumentException("Headers do not match the headers_length value.");
+        }
+        return headers;
+    }
+
+    private static String utf8(ByteBuffer buffer, int index, int length) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + index, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.position(index);
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int crc32(ByteBuffer buffer, int index, int length) {
+        crc32.reset();
+        if (buffer.hasArray()) {
+            crc32.update(buffer.array(), buffer.arrayOffset() + index, length);
+        } else {
+            ByteBuffer region = buffer.duplicate();
+            region.position(index);
+            region.limit(index + length);
+            crc32.update(region);
+        }
+        return (int) crc32.getValue();
+    }
+}
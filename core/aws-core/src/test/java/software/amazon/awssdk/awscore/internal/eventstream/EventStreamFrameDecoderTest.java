@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.internal.eventstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.eventstream.HeaderValue;
+import software.amazon.eventstream.Message;
+import software.amazon.eventstream.MessageDecoder;
+
+public class EventStreamFrameDecoderTest {
+    private final EventStreamFrameDecoder decoder = new EventStreamFrameDecoder();
+
+    @Test
+    public void decode_multipleMessagesInOneBuffer_decodesAllWithoutCopyingPayloads() {
+        byte[] stream = concat(message("one"), message("two"), message("three"));
+
+        List<EventStreamFrame> frames = decoder.decode(ByteBuffer.wrap(stream));
+
+        assertThat(frames).extracting(EventStreamFrameDecoderTest::payloadString).containsExactly("one", "two", "three");
+
+        // The payload is a view of the fed buffer
+        int payloadIndex = indexOf(stream, "one".getBytes(StandardCharsets.UTF_8));
+        stream[payloadIndex] = 'x';
+        assertThat(payloadString(frames.get(0))).isEqualTo("xne");
+    }
+
+    @Test
+    public void decode_doesNotModifyPositionOfInput() {
+        ByteBuffer input = ByteBuffer.wrap(message("one"));
+
+        decoder.decode(input);
+
+        assertThat(input.position()).isZero();
+    }
+
+    @Test
+    public void decode_oneByteAtATime_decodesAllMessages() {
+        byte[] stream = concat(message("one"), message("two"));
+
+        List<String> payloads = new ArrayList<>();
+        for (byte b : stream) {
+            decoder.decode(ByteBuffer.wrap(new byte[] {b})).forEach(f -> payloads.add(payloadString(f)));
+        }
+
+        assertThat(payloads).containsExactly("one", "two");
+    }
+
+    @Test
+    public void decode_allHeaderTypes_decodesHeaders() {
+        // Byte and short headers are left out, the Message encoder does not write their value
+        Map<String, HeaderValue> headers = new LinkedHashMap<>();
+        headers.put("true", HeaderValue.fromBoolean(true));
+        headers.put("false", HeaderValue.fromBoolean(false));
+        headers.put("integer", HeaderValue.fromInteger(123456));
+        headers.put("long", HeaderValue.fromLong(-123456789012L));
+        headers.put("bytes", HeaderValue.fromByteArray(new byte[] {1, 2, 3}));
+        headers.put("string", HeaderValue.fromString("value"));
+        headers.put("timestamp", HeaderValue.fromTimestamp(Instant.ofEpochMilli(1234567890123L)));
+        headers.put("uuid", HeaderValue.fromUuid(UUID.randomUUID()));
+        byte[] stream = new Message(headers, new byte[0]).toByteBuffer().array();
+
+        List<EventStreamFrame> frames = decoder.decode(ByteBuffer.wrap(stream));
+
+        assertThat(frames).singleElement().satisfies(f -> {
+            assertThat(f.headers()).containsExactlyEntriesOf(headers);
+            assertThat(f.payloadLength()).isZero();
+        });
+    }
+
+    @Test
+    public void decode_randomSplits_matchesMessageDecoder() {
+        Random random = new Random(42);
+        List<byte[]> messages = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            byte[] payload = new byte[random.nextInt(i % 10 == 0 ? 64 * 1024 : 512)];
+            random.nextBytes(payload);
+            Map<String, HeaderValue> headers = new LinkedHashMap<>();
+            headers.put(":message-type", HeaderValue.fromString("event"));
+            headers.put(":event-type", HeaderValue.fromString("Event" + i));
+            messages.add(new Message(headers, payload).toByteBuffer().array());
+        }
+        byte[] stream = concat(messages.toArray(new byte[0][]));
+
+        List<Message> expected = new ArrayList<>();
+        MessageDecoder messageDecoder = new MessageDecoder(expected::add);
+        messageDecoder.feed(stream);
+
+        List<Message> actual = new ArrayList<>();
+        int offset = 0;
+        while (offset < stream.length) {
+            int length = Math.min(stream.length - offset, 1 + random.nextInt(16 * 1024));
+            ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+            chunk.put(stream, offset, length).flip();
+            decoder.decode(chunk).forEach(f -> actual.add(new Message(f.headers(), payload(f))));
+            offset += length;
+        }
+
+        assertThat(actual).hasSize(50).isEqualTo(expected);
+    }
+
+    @Test
+    public void decode_frameLargerThanFrameBuffer_growsBuffer() {
+        byte[] payload = new byte[100 * 1024];
+        new Random().nextBytes(payload);
+        byte[] stream = concat(message("small"), new Message(new LinkedHashMap<>(), payload).toByteBuffer().array());
+
+        List<EventStreamFrame> frames = new ArrayList<>();
+        frames.addAll(decoder.decode(ByteBuffer.wrap(stream, 0, 30)));
+        frames.addAll(decoder.decode(ByteBuffer.wrap(stream, 30, stream.length - 30)));
+
+        assertThat(frames).hasSize(2);
+        assertThat(payloadString(frames.get(0))).isEqualTo("small");
+        assertThat(payload(frames.get(1))).isEqualTo(payload);
+    }
+
+    @Test
+    public void decode_invalidMessageChecksum_throws() {
+        byte[] stream = message("payload");
+        stream[stream.length - 1] ^= 1;
+
+        assertThatThrownBy(() -> decoder.decode(ByteBuffer.wrap(stream)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Message checksum failure");
+    }
+
+    @Test
+    public void decode_invalidPreludeChecksum_throws() {
+        byte[] stream = message("payload");
+        stream[9] ^= 1;
+
+        assertThatThrownBy(() -> decoder.decode(ByteBuffer.wrap(stream)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Prelude checksum failure");
+    }
+
+    @Test
+    public void payloadInputStream_readsPayload() throws Exception {
+        List<EventStreamFrame> frames = decoder.decode(ByteBuffer.wrap(message("payload")));
+
+        assertThat(IoUtils.toUtf8String(frames.get(0).payloadInputStream())).isEqualTo("payload");
+    }
+
+    private static byte[] message(String payload) {
+        Map<String, HeaderValue> headers = new LinkedHashMap<>();
+        headers.put(":message-type", HeaderValue.fromString("event"));
+        return new Message(headers, payload.getBytes(StandardCharsets.UTF_8)).toByteBuffer().array();
+    }
+
+    private static byte[] payload(EventStreamFrame frame) {
+        ByteBuffer payload = frame.payload();
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return bytes;
+    }
+
+    private static String payloadString(EventStreamFrame frame) {
+        return new String(payload(frame), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] concat(byte[]... arrays) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] array : arrays) {
+            out.write(array, 0, array.length);
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOf(byte[] array, byte[] target) {
+        for (int i = 0; i <= array.length - target.length; i++) {
+            boolean match = true;
+            for (int j = 0; j < target.length && match; j++) {
+                match = array[i + j] == target[j];
+            }
+            if (match) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
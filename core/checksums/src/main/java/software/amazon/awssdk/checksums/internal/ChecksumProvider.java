@@ -35,7 +35,13 @@ import software.amazon.awssdk.utils.Lazy;
  *     <li>SDK-based CRC32C (fallback)</li>
  * </ul>
  *
- * <p>Supports CRT-based implementations for CRC64NVME and XXHASH algorithms (using AWS CRT library).</p>
+ * <p>Supports the following implementations for CRC64NVME:</p>
+ * <ul>
+ *     <li>CRT-based CRC64NVME (using AWS CRT library)</li>
+ *     <li>SDK-based CRC64NVME (fallback)</li>
+ * </ul>
+ *
+ * <p>Supports CRT-based implementations for XXHASH algorithms (using AWS CRT library).</p>
  *
  * <p>For internal use only ({@link SdkInternalApi}).</p>
  */
@@ -104,27 +110,36 @@ public final class ChecksumProvider {
     }
 
     /**
-     * Creates an instance of the CRT-based CRC64NVME checksum using AWS's CRT library.
+     * Creates an instance of the CRC64NVME checksum.
      * <p>
-     * Attempts to load the `CRC64NVME` implementation specified by `CRT_CRC64NVME_PATH` and, if successful,
-     * wraps it in {@link CrcCloneOnMarkChecksum}. Throws a {@link RuntimeException} if `CRC64NVME` is unavailable.
+     * Uses the CRT-based implementation if the AWS CRT library is on the classpath, and falls back to the SDK-based
+     * implementation otherwise.
      * </p>
      *
      * @return An {@link SdkChecksum} instance for CRC64NVME.
-     * @throws IllegalStateException if instantiation fails.
-     * @throws RuntimeException if the `CRC64NVME` implementation is not available.
      */
-    static SdkChecksum crc64NvmeCrtImplementation() {
+    static SdkChecksum crc64NvmeImplementation() {
+        SdkChecksum checksum = createCrtCrc64Nvme();
+        return checksum != null ? checksum : createSdkBasedCrc64Nvme();
+    }
 
+    static SdkChecksum createCrtCrc64Nvme() {
         if (!isCrc64NvmeAvailable.getValue()) {
-            throw new RuntimeException(
-                "Could not load " + CRT_CRC64NVME_PATH + ". Add dependency on '" + CRT_MODULE
-                + "' module to enable CRC64NVME feature.");
+            return null;
         }
 
         return new CrcCloneOnMarkChecksum(new CRC64NVME());
     }
 
+    /**
+     * Creates an instance of the SDK-based CRC64NVME checksum as a fallback.
+     *
+     * @return An SdkChecksum instance.
+     */
+    static SdkChecksum createSdkBasedCrc64Nvme() {
+        return new CrcCloneOnMarkChecksum(SdkCrc64NvmeChecksum.create());
+    }
+
     /**
      * Creates an instance of the CRT-based XXHASH64 checksum using AWS's CRT library.
      *
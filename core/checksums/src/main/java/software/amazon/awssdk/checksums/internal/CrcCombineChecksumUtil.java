@@ -36,13 +36,25 @@ public final class CrcCombineChecksumUtil {
     }
 
     /**
-     * Generates the combine matrices for CRC calculations.
+     * Generates the combine matrices for 32-bit CRC calculations.
      *
      * @param polynomial The CRC polynomial.
      * @return A 2D array representing the combine matrices.
      */
     public static long[][] generateCombineMatrices(long polynomial) {
-        long[][] combineMatrices = new long[CRC_SIZE][CRC_SIZE];
+        return generateCombineMatrices(polynomial, CRC_SIZE);
+    }
+
+    /**
+     * Generates the combine matrices for CRC calculations of the given width.
+     *
+     * @param polynomial The reflected CRC polynomial.
+     * @param crcSize The width of the CRC in bits, 32 or 64.
+     * @return A 2D array representing the combine matrices.
+     */
+    public static long[][] generateCombineMatrices(long polynomial, int crcSize) {
+        Validate.isTrue(crcSize == 32 || crcSize == 64, "Unsupported CRC size: %s", crcSize);
+        long[][] combineMatrices = new long[crcSize][crcSize];
         initializeFirstMatrix(combineMatrices, polynomial);
         deriveRemainingMatrices(combineMatrices);
         return combineMatrices;
@@ -75,6 +87,14 @@ public final class CrcCombineChecksumUtil {
         if (originalLengthOfCrc2 == 0) {
             return crc1;
         }
+        // The last matrix shifts by 2^(n-4) bytes, so longer lengths are consumed in chunks of that size first. For 32-bit
+        // CRCs this allows combining parts of 512 MiB and more.
+        int lengthBits = combineMatrices.length - 3;
+        long[] largestShift = combineMatrices[combineMatrices.length - 1];
+        while ((originalLengthOfCrc2 >>> lengthBits) != 0) {
+            crc1 = gf2MatrixTimes(largestShift, crc1);
+            originalLengthOfCrc2 -= 1L << (lengthBits - 1);
+        }
         int matrixIndex = 2;
         while (originalLengthOfCrc2 != 0) {
             ++matrixIndex;
@@ -103,7 +123,7 @@ public final class CrcCombineChecksumUtil {
             if ((vector & 1) != 0) {
                 sum ^= l;
             }
-            vector >>= 1;
+            vector >>>= 1;
         }
         return sum;
     }
@@ -111,7 +131,7 @@ public final class CrcCombineChecksumUtil {
     private static void initializeFirstMatrix(long[][] combineMatrices, long polynomial) {
         combineMatrices[0][0] = polynomial;
         long row = 1;
-        for (int i = 1; i < CRC_SIZE; i++) {
+        for (int i = 1; i < combineMatrices.length; i++) {
             combineMatrices[0][i] = row;
             row <<= 1;
         }
@@ -123,8 +143,9 @@ public final class CrcCombineChecksumUtil {
      * @param combineMatrices The combine matrices to be derived.
      */
     private static void deriveRemainingMatrices(long[][] combineMatrices) {
-        for (int i = 0; i < CRC_SIZE - 1; i++) {
-            for (int j = 0; j < CRC_SIZE; j++) {
+        int crcSize = combineMatrices.length;
+        for (int i = 0; i < crcSize - 1; i++) {
+            for (int j = 0; j < crcSize; j++) {
                 combineMatrices[i + 1][j] = gf2MatrixTimes(combineMatrices[i], combineMatrices[i][j]);
             }
         }
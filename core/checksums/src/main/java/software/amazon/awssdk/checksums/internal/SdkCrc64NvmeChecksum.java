@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Pure Java implementation of the CRC64NVME checksum, used when the AWS CRT library is not on the classpath.
+ * <p>
+ * This is the reflected CRC-64 with polynomial {@code 0xAD93D23594C93659} (reversed {@code 0x9A6C9329AC4BC9B5}), an initial
+ * value and a final XOR of all ones. Input is processed 16 bytes at a time using the slicing-by-16 algorithm, with lookup
+ * tables computed when the class is loaded.
+ */
+@SdkInternalApi
+public final class SdkCrc64NvmeChecksum implements Checksum, Cloneable {
+
+    private static final long POLYNOMIAL = 0x9A6C9329AC4BC9B5L;
+    private static final int SLICES = 16;
+
+    private static final long[][] COMBINE_MATRICES = CrcCombineChecksumUtil.generateCombineMatrices(POLYNOMIAL, 64);
+
+    /**
+     * T[n][b] is the CRC of byte b followed by n zero bytes.
+     */
+    private static final long[][] T = generateTables();
+
+    /**
+     * the current CRC value, bit-flipped
+     */
+    private long crc;
+
+    private SdkCrc64NvmeChecksum() {
+        reset();
+    }
+
+    private SdkCrc64NvmeChecksum(long crc) {
+        this.crc = crc;
+    }
+
+    public static SdkCrc64NvmeChecksum create() {
+        return new SdkCrc64NvmeChecksum();
+    }
+
+    /**
+     * Combines the CRCs of two parts. Please refer {@link CrcCombineChecksumUtil#combine(long, long, long, long[][])}
+     *
+     * @param crc1 The CRC of the first part.
+     * @param crc2 The CRC of the second part.
+     * @param originalLengthOfCrc2 The length of the second part's data.
+     * @return The combined CRC.
+     */
+    public static long combine(long crc1, long crc2, long originalLengthOfCrc2) {
+        return CrcCombineChecksumUtil.combine(crc1, crc2, originalLengthOfCrc2, COMBINE_MATRICES);
+    }
+
+    private static long[][] generateTables() {
+        long[][] tables = new long[SLICES][256];
+        for (int i = 0; i < 256; i++) {
+            long value = i;
+            for (int bit = 0; bit < 8; bit++) {
+                value = (value & 1) != 0 ? (value >>> 1) ^ POLYNOMIAL : value >>> 1;
+            }
+            tables[0][i] = value;
+        }
+        for (int slice = 1; slice < SLICES; slice++) {
+            for (int i = 0; i < 256; i++) {
+                long previous = tables[slice - 1][i];
+                tables[slice][i] = (previous >>> 8) ^ tables[0][(int) (previous & 0xff)];
+            }
+        }
+        return tables;
+    }
+
+    @Override
+    public long getValue() {
+        return ~crc;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0xffffffffffffffffL;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        long localCrc = crc;
+        long[] t0 = T[0];
+
+        while (len >= SLICES) {
+            long word = (b[off] & 0xffL)
+                        | (b[off + 1] & 0xffL) << 8
+                        | (b[off + 2] & 0xffL) << 16
+                        | (b[off + 3] & 0xffL) << 24
+                        | (b[off + 4] & 0xffL) << 32
+                        | (b[off + 5] & 0xffL) << 40
+                        | (b[off + 6] & 0xffL) << 48
+                        | (b[off + 7] & 0xffL) << 56;
+            word ^= localCrc;
+
+            localCrc = T[15][(int) (word & 0xff)]
+                       ^ T[14][(int) ((word >>> 8) & 0xff)]
+                       ^ T[13][(int) ((word >>> 16) & 0xff)]
+                       ^ T[12][(int) ((word >>> 24) & 0xff)]
+                       ^ T[11][(int) ((word >>> 32) & 0xff)]
+                       ^ T[10][(int) ((word >>> 40) & 0xff)]
+                       ^ T[9][(int) ((word >>> 48) & 0xff)]
+                       ^ T[8][(int) (word >>> 56)]
+                       ^ T[7][b[off + 8] & 0xff]
+                       ^ T[6][b[off + 9] & 0xff]
+                       ^ T[5][b[off + 10] & 0xff]
+                       ^ T[4][b[off + 11] & 0xff]
+                       ^ T[3][b[off + 12] & 0xff]
+                       ^ T[2][b[off + 13] & 0xff]
+                       ^ T[1][b[off + 14] & 0xff]
+                       ^ t0[b[off + 15] & 0xff];
+
+            off += SLICES;
+            len -= SLICES;
+        }
+
+        for (int index = 0; index < len; index++) {
+            localCrc = (localCrc >>> 8) ^ t0[(int) ((localCrc ^ b[off]) & 0xff)];
+            off++;
+        }
+
+        // Publish crc out to object
+        crc = localCrc;
+    }
+
+    @Override
+    public void update(int b) {
+        crc = (crc >>> 8) ^ T[0][(int) ((crc ^ b) & 0xff)];
+    }
+
+    @Override
+    public SdkCrc64NvmeChecksum clone() {
+        return new SdkCrc64NvmeChecksum(crc);
+    }
+}
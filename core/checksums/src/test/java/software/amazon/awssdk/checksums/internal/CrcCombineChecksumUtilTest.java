@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CrcCombineChecksumUtilTest {
+
+    private static final int MIB = 1024 * 1024;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, MIB, 256L * MIB, 512L * MIB, 600L * MIB})
+    void combine_crc32_matchesCrcOfConcatenatedData(long secondLength) {
+        byte[] first = "Hello world".getBytes(StandardCharsets.UTF_8);
+        CRC32 crc1 = new CRC32();
+        crc1.update(first, 0, first.length);
+
+        byte[] buffer = new byte[MIB];
+        for (int i = 0; i < buffer.length; i++) {
+            buffer[i] = (byte) (i * 31);
+        }
+        CRC32 crc2 = new CRC32();
+        CRC32 expected = new CRC32();
+        expected.update(first, 0, first.length);
+        long remaining = secondLength;
+        while (remaining > 0) {
+            int len = (int) Math.min(buffer.length, remaining);
+            crc2.update(buffer, 0, len);
+            expected.update(buffer, 0, len);
+            remaining -= len;
+        }
+
+        assertThat(SdkCrc32Checksum.combine(crc1.getValue(), crc2.getValue(), secondLength))
+            .isEqualTo(expected.getValue());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.crt.checksums.CRC64NVME;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.NumericUtils;
+
+class SdkCrc64NvmeChecksumTest {
+
+    @Test
+    void checkValue_matchesSpecification() {
+        byte[] data = "123456789".getBytes(StandardCharsets.UTF_8);
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        checksum.update(data, 0, data.length);
+        assertThat(checksum.getValue()).isEqualTo(0xAE8B14860A799888L);
+    }
+
+    @Test
+    void emptyInput_isZero() {
+        assertThat(SdkCrc64NvmeChecksum.create().getValue()).isZero();
+    }
+
+    @Test
+    void encodedBase64_matchesCrtImplementation() {
+        SdkChecksum checksum = ChecksumProvider.createSdkBasedCrc64Nvme();
+        checksum.update("abc".getBytes(StandardCharsets.UTF_8));
+        assertThat(BinaryUtils.toBase64(NumericUtils.longToByte(checksum.getValue()))).isEqualTo("BeXKuz/B+us=");
+    }
+
+    @Test
+    void markAndReset_restoresMarkedState() {
+        SdkChecksum checksum = ChecksumProvider.createSdkBasedCrc64Nvme();
+        checksum.update("alpha".getBytes(StandardCharsets.UTF_8));
+        checksum.mark(3);
+        checksum.update("beta".getBytes(StandardCharsets.UTF_8));
+        checksum.mark(5);
+        checksum.update("gamma".getBytes(StandardCharsets.UTF_8));
+        checksum.reset();
+        checksum.update("delta".getBytes(StandardCharsets.UTF_8));
+        assertThat(BinaryUtils.toBase64(NumericUtils.longToByte(checksum.getValue()))).isEqualTo("ugWp+3k2NgA=");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 15, 16, 17, 31, 32, 33, 1000, 64 * 1024 + 3})
+    void randomData_matchesCrtImplementation(int length) {
+        byte[] data = new byte[length + 2];
+        new Random(length).nextBytes(data);
+
+        Checksum expected = new CRC64NVME();
+        expected.update(data, 1, length);
+
+        SdkCrc64NvmeChecksum actual = SdkCrc64NvmeChecksum.create();
+        actual.update(data, 1, length);
+
+        assertThat(actual.getValue()).isEqualTo(expected.getValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 16, 1000, 64 * 1024 + 3})
+    void combine_matchesChecksumOfConcatenatedData(int secondPartLength) {
+        byte[] data = new byte[1000 + secondPartLength];
+        new Random(secondPartLength).nextBytes(data);
+
+        SdkCrc64NvmeChecksum whole = SdkCrc64NvmeChecksum.create();
+        whole.update(data, 0, data.length);
+        SdkCrc64NvmeChecksum firstPart = SdkCrc64NvmeChecksum.create();
+        firstPart.update(data, 0, 1000);
+        SdkCrc64NvmeChecksum secondPart = SdkCrc64NvmeChecksum.create();
+        secondPart.update(data, 1000, secondPartLength);
+
+        assertThat(SdkCrc64NvmeChecksum.combine(firstPart.getValue(), secondPart.getValue(), secondPartLength))
+            .isEqualTo(whole.getValue());
+    }
+
+    @Test
+    void singleByteAndArrayUpdates_produceSameValue() {
+        byte[] data = new byte[100];
+        new Random(100).nextBytes(data);
+
+        SdkCrc64NvmeChecksum bulk = SdkCrc64NvmeChecksum.create();
+        bulk.update(data, 0, data.length);
+
+        SdkCrc64NvmeChecksum byteByByte = SdkCrc64NvmeChecksum.create();
+        for (byte b : data) {
+            byteByByte.update(b);
+        }
+
+        assertThat(byteByByte.getValue()).isEqualTo(bulk.getValue());
+    }
+
+    @Test
+    void clone_isIndependentOfOriginal() {
+        byte[] hello = "Hello ".getBytes(StandardCharsets.UTF_8);
+        byte[] world = "world".getBytes(StandardCharsets.UTF_8);
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        checksum.update(hello, 0, hello.length);
+        SdkCrc64NvmeChecksum clone = checksum.clone();
+
+        checksum.update(world, 0, world.length);
+        clone.update(world, 0, world.length);
+
+        assertThat(clone.getValue()).isEqualTo(checksum.getValue());
+        assertThat(BinaryUtils.toBase64(NumericUtils.longToByte(checksum.getValue()))).isEqualTo("OOJZ0D8xKts=");
+    }
+}
@@ -16,7 +16,6 @@
 package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.deriveSigningKey;
-import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.hashCanonicalRequest;
 import static software.amazon.awssdk.http.auth.aws.signer.SignerConstant.AWS4_SIGNING_ALGORITHM;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -52,11 +51,10 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
         // Step 1: Create a canonical request
         V4CanonicalRequest canonicalRequest = createCanonicalRequest(requestBuilder.build(), contentHash);
 
-        String canonicalRequestString = canonicalRequest.getCanonicalRequestString();
-        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequestString);
+        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequest.getCanonicalRequestString());
 
         // Step 2: Create a hash of the canonical request
-        String canonicalRequestHash = hashCanonicalRequest(canonicalRequestString);
+        String canonicalRequestHash = canonicalRequest.getCanonicalRequestHash();
 
         // Step 2: Create a hash of the canonical request
         String stringToSign = createSignString(canonicalRequestHash);
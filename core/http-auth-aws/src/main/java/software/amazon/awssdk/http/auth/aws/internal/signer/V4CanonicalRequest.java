@@ -17,6 +17,12 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,12 +31,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.signer.SignerConstant;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.awssdk.utils.cache.FifoCache;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
@@ -45,6 +56,26 @@ public final class V4CanonicalRequest {
     private static final List<String> HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect", "transfer-encoding", "x-forwarded-for");
 
+    /**
+     * The lower-case form of the header names seen so far, or an empty string for headers that are not signed. Requests to
+     * the same service carry the same few header names, so this saves lower-casing each of them on every request.
+     */
+    private static final Map<String, String> CANONICAL_HEADER_NAMES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_HEADER_NAMES = 512;
+
+    /**
+     * The canonical URI of the paths seen so far, indexed by {@link Options#cacheIndex()}. Paths are only cached when they
+     * need to be normalized or encoded, which involves parsing the request URI.
+     */
+    private static final FifoCache<String>[] CANONICAL_URI_CACHES = newCanonicalUriCaches();
+    private static final int MAX_CACHED_URIS = 256;
+    private static final int MAX_CACHED_URI_LENGTH = 512;
+
+    /**
+     * Per-thread buffers that the canonical request is written to when it is hashed, see {@link #getCanonicalRequestHash()}.
+     */
+    private static final ThreadLocal<HashingBuffer> HASHING_BUFFER = ThreadLocal.withInitial(HashingBuffer::new);
+
     private final SdkHttpRequest request;
     private final String contentHash;
     private final Options options;
@@ -53,8 +84,6 @@ public final class V4CanonicalRequest {
     private String canonicalUri;
     private SortedMap<String, List<String>> canonicalParams;
     private List<Pair<String, List<String>>> canonicalHeaders;
-    private String canonicalQueryString;
-    private String canonicalHeadersString;
     private String signedHeadersString;
     private String canonicalRequestString;
 
@@ -87,13 +116,48 @@ public final class V4CanonicalRequest {
      */
     public String getCanonicalRequestString() {
         if (canonicalRequestString == null) {
-            canonicalRequestString = getCanonicalRequestString(request.method().toString(), canonicalUri(),
-                                                               canonicalQueryString(), canonicalHeadersString(),
-                                                               getSignedHeadersString(), contentHash);
+            StringBuilder result = new StringBuilder(2048);
+            appendCanonicalRequest(result);
+            canonicalRequestString = result.toString();
         }
         return canonicalRequestString;
     }
 
+    /**
+     * Get the hex-encoded SHA-256 hash of the canonical request string.
+     * <p>
+     * Unless the canonical request string was already requested, the canonical request is written to a buffer that is reused
+     * by the calling thread and hashed from there, without creating the intermediate strings that make up the canonical
+     * request string.
+     */
+    public String getCanonicalRequestHash() {
+        if (canonicalRequestString != null) {
+            return BinaryUtils.toHex(hash(canonicalRequestString));
+        }
+        HashingBuffer buffer = HASHING_BUFFER.get();
+        try {
+            appendCanonicalRequest(buffer.chars);
+            return BinaryUtils.toHex(buffer.hash());
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    /**
+     * Append the canonical request to the given {@link StringBuilder}. Each part of the canonical request is separated by a
+     * newline character.
+     */
+    private void appendCanonicalRequest(StringBuilder result) {
+        result.append(request.method().toString()).append(SignerConstant.LINE_SEPARATOR);
+        result.append(canonicalUri()).append(SignerConstant.LINE_SEPARATOR);
+        SdkHttpUtils.flattenQueryParameters(result, canonicalQueryParams());
+        result.append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalHeaders(result, canonicalHeaders());
+        result.append(SignerConstant.LINE_SEPARATOR);
+        result.append(getSignedHeadersString()).append(SignerConstant.LINE_SEPARATOR);
+        result.append(contentHash);
+    }
+
     private SortedMap<String, List<String>> canonicalQueryParams() {
         if (canonicalParams == null) {
             canonicalParams = getCanonicalQueryParams(request);
@@ -115,20 +179,6 @@ public final class V4CanonicalRequest {
         return canonicalUri;
     }
 
-    private String canonicalQueryString() {
-        if (canonicalQueryString == null) {
-            canonicalQueryString = getCanonicalQueryString(canonicalQueryParams());
-        }
-        return canonicalQueryString;
-    }
-
-    private String canonicalHeadersString() {
-        if (canonicalHeadersString == null) {
-            canonicalHeadersString = getCanonicalHeadersString(canonicalHeaders());
-        }
-        return canonicalHeadersString;
-    }
-
     /**
      * Get the list of headers that are to be signed.
      * <p>
@@ -140,9 +190,9 @@ public final class V4CanonicalRequest {
 
         // headers retrieved from the request are already sorted case-insensitively
         request.forEachHeader((key, value) -> {
-            String lowerCaseHeader = lowerCase(key);
-            if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
-                result.add(Pair.of(lowerCaseHeader, value));
+            String canonicalHeaderName = canonicalHeaderName(key);
+            if (canonicalHeaderName != null) {
+                result.add(Pair.of(canonicalHeaderName, value));
             }
         });
 
@@ -158,9 +208,9 @@ public final class V4CanonicalRequest {
         List<Pair<String, List<String>>> result = new ArrayList<>(headers.size());
 
         headers.forEach((key, value) -> {
-            String lowerCaseHeader = lowerCase(key);
-            if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
-                result.add(Pair.of(lowerCaseHeader, value));
+            String canonicalHeaderName = canonicalHeaderName(key);
+            if (canonicalHeaderName != null) {
+                result.add(Pair.of(canonicalHeaderName, value));
             }
         });
 
@@ -185,17 +235,38 @@ public final class V4CanonicalRequest {
         // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
         // next-highest power-of-two.
         StringBuilder result = new StringBuilder(2048);
-        canonicalHeaders.forEach(header -> {
+        appendCanonicalHeaders(result, canonicalHeaders);
+        return result.toString();
+    }
+
+    private static void appendCanonicalHeaders(StringBuilder result, List<Pair<String, List<String>>> canonicalHeaders) {
+        for (Pair<String, List<String>> header : canonicalHeaders) {
             result.append(header.left());
-            result.append(":");
+            result.append(':');
             for (String headerValue : header.right()) {
                 addAndTrim(result, headerValue);
-                result.append(",");
+                result.append(',');
             }
             result.setLength(result.length() - 1);
-            result.append("\n");
-        });
-        return result.toString();
+            result.append('\n');
+        }
+    }
+
+    /**
+     * Get the lower-case form of the given header name, or null if the header is not signed.
+     */
+    private static String canonicalHeaderName(String headerName) {
+        String cached = CANONICAL_HEADER_NAMES.get(headerName);
+        if (cached != null) {
+            return cached.isEmpty() ? null : cached;
+        }
+
+        String lowerCaseHeader = lowerCase(headerName);
+        String canonicalHeaderName = HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader) ? null : lowerCaseHeader;
+        if (CANONICAL_HEADER_NAMES.size() < MAX_CACHED_HEADER_NAMES) {
+            CANONICAL_HEADER_NAMES.put(headerName, canonicalHeaderName == null ? "" : canonicalHeaderName);
+        }
+        return canonicalHeaderName;
     }
 
     /**
@@ -214,22 +285,6 @@ public final class V4CanonicalRequest {
         return headersString.toString();
     }
 
-    /**
-     * Get the canonical request string.
-     * <p>
-     * Each {@link String} parameter is separated by a newline character.
-     */
-    private static String getCanonicalRequestString(String httpMethod, String canonicalUri, String canonicalParamsString,
-                                                    String canonicalHeadersString, String signedHeadersString,
-                                                    String contentHash) {
-        return httpMethod + SignerConstant.LINE_SEPARATOR +
-               canonicalUri + SignerConstant.LINE_SEPARATOR +
-               canonicalParamsString + SignerConstant.LINE_SEPARATOR +
-               canonicalHeadersString + SignerConstant.LINE_SEPARATOR +
-               signedHeadersString + SignerConstant.LINE_SEPARATOR +
-               contentHash;
-    }
-
     /**
      * "The addAndTrim function removes excess white space before and after values, and converts sequential spaces to a single
      * space."
@@ -296,11 +351,31 @@ public final class V4CanonicalRequest {
             return "/";
         }
 
-        if (options.normalizePath) {
-            path = request.getUri().normalize().getRawPath();
+        if (!options.normalizePath && !options.doubleUrlEncode) {
+            return path.startsWith("/") ? path : path + "/";
         }
 
+        // The canonical URI only depends on the encoded path, so it can be reused for requests to the same path.
+        boolean cacheable = path.length() <= MAX_CACHED_URI_LENGTH;
+        FifoCache<String> cache = CANONICAL_URI_CACHES[options.cacheIndex()];
+        if (cacheable) {
+            String cached = cache.get(path);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
+        String canonicalUri = normalizeAndEncodePath(request, path, options);
+        if (cacheable) {
+            cache.add(path, canonicalUri);
+        }
+        return canonicalUri;
+    }
+
+    private static String normalizeAndEncodePath(SdkHttpRequest request, String path, Options options) {
+        if (options.normalizePath) {
+            path = request.getUri().normalize().getRawPath();
+        }
 
         if (options.doubleUrlEncode) {
             path = SdkHttpUtils.urlEncodeIgnoreSlashes(path);
@@ -361,25 +436,6 @@ public final class V4CanonicalRequest {
         return sorted;
     }
 
-    /**
-     * Get the string representing query string parameters. Parameters are URL-encoded and separated by an ampersand.
-     * <p>
-     * Reserved characters are percent-encoded, names and values are encoded separately and empty parameters have an equals-sign
-     * appended before encoding.
-     * <p>
-     * After encoding, parameters are sorted alphabetically by key name.
-     * <p>
-     * If no query string is given, an empty string ("") is returned.
-     */
-    private static String getCanonicalQueryString(SortedMap<String, List<String>> canonicalParams) {
-        if (canonicalParams.isEmpty()) {
-            return "";
-        }
-        StringBuilder stringBuilder = new StringBuilder(512);
-        SdkHttpUtils.flattenQueryParameters(stringBuilder, canonicalParams);
-        return stringBuilder.toString();
-    }
-
     private static boolean isWhiteSpace(char ch) {
         switch (ch) {
             case ' ':
@@ -405,5 +461,70 @@ public final class V4CanonicalRequest {
             this.doubleUrlEncode = doubleUrlEncode;
             this.normalizePath = normalizePath;
         }
+
+        private int cacheIndex() {
+            return (doubleUrlEncode ? 1 : 0) | (normalizePath ? 2 : 0);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FifoCache<String>[] newCanonicalUriCaches() {
+        FifoCache<String>[] caches = new FifoCache[4];
+        for (int i = 0; i < caches.length; i++) {
+            caches[i] = new FifoCache<>(MAX_CACHED_URIS);
+        }
+        return caches;
+    }
+
+    private static byte[] hash(String text) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.SHA256);
+        checksum.update(text.getBytes(StandardCharsets.UTF_8));
+        return checksum.getChecksumBytes();
+    }
+
+    /**
+     * A buffer that the canonical request is written to, and which UTF-8 encodes it in chunks into the SHA-256 digest. The
+     * buffers are kept by each thread and reused across requests, unless a request grew them beyond their retained capacity.
+     */
+    private static final class HashingBuffer {
+        private static final int INITIAL_CAPACITY = 2048;
+        private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                                                                     .onMalformedInput(CodingErrorAction.REPLACE)
+                                                                     .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer bytes = ByteBuffer.allocate(4096);
+        private StringBuilder chars = new StringBuilder(INITIAL_CAPACITY);
+
+        private byte[] hash() {
+            SdkChecksum checksum = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.SHA256);
+            CharBuffer input = CharBuffer.wrap(chars);
+            encoder.reset();
+            CoderResult result;
+            do {
+                result = encoder.encode(input, bytes, true);
+                update(checksum);
+            } while (result.isOverflow());
+            while (encoder.flush(bytes).isOverflow()) {
+                update(checksum);
+            }
+            update(checksum);
+            return checksum.getChecksumBytes();
+        }
+
+        private void update(SdkChecksum checksum) {
+            bytes.flip();
+            checksum.update(bytes);
+            bytes.clear();
+        }
+
+        private void reset() {
+            if (chars.capacity() > MAX_RETAINED_CAPACITY) {
+                chars = new StringBuilder(INITIAL_CAPACITY);
+            } else {
+                chars.setLength(0);
+            }
+            bytes.clear();
+        }
     }
 }
@@ -17,12 +17,19 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.ToString;
 
 /**
@@ -59,6 +66,17 @@ public class V4CanonicalRequestTest {
         );
     }
 
+    private static final String EMPTY_PAYLOAD_HASH = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    private static SdkHttpRequest.Builder vanillaRequest() {
+        return SdkHttpRequest.builder()
+                             .protocol("https")
+                             .host("example.amazonaws.com")
+                             .method(SdkHttpMethod.GET)
+                             .putHeader("Host", "example.amazonaws.com")
+                             .putHeader("X-Amz-Date", "20150830T123600Z");
+    }
+
     private static TestCase tc(String name, String path, String expectedPath) {
         return new TestCase(name, path, expectedPath, false, true);
     }
@@ -76,6 +94,98 @@ public class V4CanonicalRequestTest {
         assertEquals(tc.expectedPath, canonicalPath);
     }
 
+    @ParameterizedTest
+    @MethodSource("data")
+    public void canonicalRequestHash_shouldMatchHashOfCanonicalRequestString(TestCase tc) {
+        String canonicalRequestHash = tc.canonicalRequest.getCanonicalRequestHash();
+
+        assertEquals(SignerUtils.hashCanonicalRequest(tc.canonicalRequest.getCanonicalRequestString()), canonicalRequestHash);
+    }
+
+    /**
+     * Requests from the SigV4 test suite, with the hash of the canonical request of each. Each request differs from the
+     * previous one in its headers, query or payload, so the per-thread buffer and the header name cache are exercised with
+     * different requests on the same thread.
+     */
+    public static Iterable<SigV4TestVector> sigV4TestVectors() {
+        return Arrays.asList(
+            new SigV4TestVector("get-vanilla",
+                                vanillaRequest().build(),
+                                EMPTY_PAYLOAD_HASH,
+                                "bb579772317eb040ac9ed261061d46c1f17a8133879d6129b6e1c25292927e63"),
+            new SigV4TestVector("get-header-value-trim",
+                                vanillaRequest().putHeader("My-Header1", " value1")
+                                                .putHeader("My-Header2", "\"a   b   c\"")
+                                                .build(),
+                                EMPTY_PAYLOAD_HASH,
+                                "a726db9b0df21c14f559d0a978e563112acb1b9e05476f0a6a1c7d68f28605c7"),
+            new SigV4TestVector("get-header-key-duplicate",
+                                vanillaRequest().appendHeader("My-Header1", "value2")
+                                                .appendHeader("My-Header1", "value2")
+                                                .appendHeader("My-Header1", "value1")
+                                                .build(),
+                                EMPTY_PAYLOAD_HASH,
+                                "dc7f04a3abfde8d472b0ab1a418b741b7c67174dad1551b4117b15527fbe966c"),
+            new SigV4TestVector("get-vanilla-query-order-key-case",
+                                vanillaRequest().putRawQueryParameter("Param2", "value2")
+                                                .putRawQueryParameter("Param1", "value1")
+                                                .build(),
+                                EMPTY_PAYLOAD_HASH,
+                                "816cd5b414d056048ba4f7c5386d6e0533120fb1fcfa93762cf0fc39e2cf19e0"),
+            new SigV4TestVector("get-vanilla-utf8-query",
+                                vanillaRequest().putRawQueryParameter("\u1234", "bar").build(),
+                                EMPTY_PAYLOAD_HASH,
+                                "eb30c5bed55734080471a834cc727ae56beb50e5f39d1bff6d0d38cb192a7073"),
+            new SigV4TestVector("post-x-www-form-urlencoded",
+                                vanillaRequest().method(SdkHttpMethod.POST)
+                                                .putHeader("Content-Type", "application/x-www-form-urlencoded")
+                                                .build(),
+                                "9095672bbd1f56dfc5b65f3e153adc8731a4a654192329106275f4c7b24d0b6e",
+                                "42a5e5bb34198acb3e84da4f085bb7927f2bc277ca766e6d19c73c2154021281")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("sigV4TestVectors")
+    public void canonicalRequestHash_sigV4TestVector_shouldMatch(SigV4TestVector vector) {
+        assertEquals(vector.expectedCanonicalRequestHash, vector.canonicalRequestHash());
+    }
+
+    @Test
+    public void canonicalRequestHash_sigV4TestVectorsOnSameThread_shouldNotReuseResultsOfPreviousRequests() {
+        List<SigV4TestVector> vectors = new ArrayList<>();
+        sigV4TestVectors().forEach(vectors::add);
+        List<SigV4TestVector> reversed = new ArrayList<>(vectors);
+        Collections.reverse(reversed);
+        vectors.addAll(reversed);
+
+        for (SigV4TestVector vector : vectors) {
+            assertEquals(vector.expectedCanonicalRequestHash, vector.canonicalRequestHash(), vector.name);
+        }
+    }
+
+    @Test
+    public void canonicalRequestHash_withNonAsciiAndLargeValues_shouldMatchHashOfCanonicalRequestString() {
+        String[] headerValues = {"caf\u00e9 \ud83d\ude00", StringUtils.repeat("a\u00e9", 3000), StringUtils.repeat("b", 70_000)};
+
+        for (String headerValue : headerValues) {
+            SdkHttpRequest request = SdkHttpRequest.builder()
+                                                   .protocol("https")
+                                                   .host("localhost")
+                                                   .encodedPath("/foo/../bar")
+                                                   .method(SdkHttpMethod.POST)
+                                                   .putHeader("X-Amz-Meta-Value", headerValue)
+                                                   .putRawQueryParameter("k\u00e9y", "v\u00e4lue")
+                                                   .build();
+            V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256", new V4CanonicalRequest.Options(true, true));
+
+            String canonicalRequestHash = cr.getCanonicalRequestHash();
+            byte[] canonicalRequestBytes = cr.getCanonicalRequestString().getBytes(StandardCharsets.UTF_8);
+
+            assertEquals(BinaryUtils.toHex(SignerUtils.hash(canonicalRequestBytes)), canonicalRequestHash);
+        }
+    }
+
     @Test
     public void canonicalRequest_WithForbiddenHeaders_shouldExcludeForbidden() {
         SdkHttpRequest request = SdkHttpRequest.builder()
@@ -218,4 +328,28 @@ public class V4CanonicalRequestTest {
                            .build();
         }
     }
+
+    private static class SigV4TestVector {
+        private final String name;
+        private final SdkHttpRequest request;
+        private final String payloadHash;
+        private final String expectedCanonicalRequestHash;
+
+        private SigV4TestVector(String name, SdkHttpRequest request, String payloadHash, String expectedCanonicalRequestHash) {
+            this.name = name;
+            this.request = request;
+            this.payloadHash = payloadHash;
+            this.expectedCanonicalRequestHash = expectedCanonicalRequestHash;
+        }
+
+        private String canonicalRequestHash() {
+            return new V4CanonicalRequest(request, payloadHash, new V4CanonicalRequest.Options(true, true))
+                .getCanonicalRequestHash();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
 }
@@ -89,4 +89,22 @@ public interface Ec2MetadataClientBuilder<B, T> extends SdkBuilder<Ec2MetadataCl
      */
     B endpointMode(EndpointMode endpointMode);
 
+    /**
+     * Define whether the client shares a cache with the other clients, sync and async, that use the same endpoint and token
+     * TTL and that enable this option. When enabled:
+     * <ul>
+     *     <li>The clients share a single session token, instead of each client requesting its own.</li>
+     *     <li>Metadata that cannot change while the instance is running, namely the instance ID, region, availability zone and
+     *     availability zone ID, is requested once and cached for the life of the process.</li>
+     *     <li>Concurrent requests for the same path are sent to IMDS once, and all callers receive the same response. This
+     *     avoids IMDS throttling when many threads request metadata at the same time, for example at startup.</li>
+     * </ul>
+     * <p>
+     * If not specified, defaults to false.
+     *
+     * @param sharedCacheEnabled Whether the client shares a cache with the other clients.
+     * @return a reference to this builder
+     */
+    B sharedCacheEnabled(Boolean sharedCacheEnabled);
+
 }
@@ -30,7 +30,9 @@ import software.amazon.awssdk.utils.Logger;
  * completed.
  * In the case where multiple call to <pre>get</pre> are made while the token is expired, all CompletableFuture returned
  * will be completed once the single refresh process completes.
- *
+ * <p>
+ * A cache created without a supplier, such as the one shared by clients through {@link SharedMetadataCache}, is refreshed
+ * with the supplier passed to {@link #get(Supplier)} by the caller that starts the refresh.
  */
 @SdkInternalApi
 final class AsyncTokenCache implements Supplier<CompletableFuture<Token>> {
@@ -66,61 +68,83 @@ final class AsyncTokenCache implements Supplier<CompletableFuture<Token>> {
 
     private final Object refreshLock = new Object();
 
+    AsyncTokenCache() {
+        this(null);
+    }
+
     AsyncTokenCache(Supplier<CompletableFuture<Token>> supplier) {
         this.supplier = supplier;
     }
 
     @Override
     public CompletableFuture<Token> get() {
+        return get(supplier);
+    }
+
+    /**
+     * Returns the cached token, using the provided supplier to refresh it if needed and if no refresh is already running.
+     * The supplier is called without holding the refresh lock, so a supplier that blocks, such as one making a synchronous
+     * token request, only blocks the caller that starts the refresh.
+     */
+    CompletableFuture<Token> get(Supplier<CompletableFuture<Token>> tokenSupplier) {
         Token currentValue = cachedToken;
         if (!needsRefresh(currentValue)) {
             log.debug(() -> "IMDS Token is not expired");
             return CompletableFuture.completedFuture(currentValue);
         }
+        CompletableFuture<Token> result = new CompletableFuture<>();
         synchronized (refreshLock) {
             // Make sure the value wasn't refreshed while we were waiting for the lock.
             currentValue = cachedToken;
             if (!needsRefresh(currentValue)) {
                 return CompletableFuture.completedFuture(currentValue);
             }
-            CompletableFuture<Token> result = new CompletableFuture<>();
             waitingFutures.add(result);
-            if (!refreshRunning.get()) {
-                startRefresh();
+            if (refreshRunning.get()) {
+                return result;
             }
-            return result;
+            refreshRunning.set(true);
         }
+        startRefresh(tokenSupplier);
+        return result;
     }
 
-    private void startRefresh() {
+    private void startRefresh(Supplier<CompletableFuture<Token>> tokenSupplier) {
         log.debug(() -> "IMDS token expired or null, starting asynchronous refresh.");
-        CompletableFuture<Token> tokenRequest = supplier.get();
-        refreshRunning.set(true); // After supplier.get(), in case that throws an exception
-        tokenRequest.whenComplete((token, throwable) -> {
-            Collection<CompletableFuture<Token>> toComplete;
-            synchronized (refreshLock) {
-                // Instead of completing the waiting future while holding the lock, we copy the list reference and
-                // release the lock before completing them. This is just in case someone (naughty) is doing something
-                // blocking on the complete calls. It's not good that they're doing that, but at least
-                // it won't block other threads trying to acquire the lock.
-                toComplete = waitingFutures;
-                waitingFutures = new ArrayList<>();
-                refreshRunning.set(false);
-                if (token != null) {
-                    log.debug(() -> "IMDS token refresh completed. Token value: " + token.value());
-                    cachedToken = token;
-                } else {
-                    log.error(() -> "IMDS token refresh completed with error.", throwable);
-                }
+        CompletableFuture<Token> tokenRequest;
+        try {
+            tokenRequest = tokenSupplier.get();
+        } catch (RuntimeException e) {
+            completeRefresh(null, e);
+            return;
+        }
+        tokenRequest.whenComplete(this::completeRefresh);
+    }
+
+    private void completeRefresh(Token token, Throwable throwable) {
+        Collection<CompletableFuture<Token>> toComplete;
+        synchronized (refreshLock) {
+            // Instead of completing the waiting future while holding the lock, we copy the list reference and
+            // release the lock before completing them. This is just in case someone (naughty) is doing something
+            // blocking on the complete calls. It's not good that they're doing that, but at least
+            // it won't block other threads trying to acquire the lock.
+            toComplete = waitingFutures;
+            waitingFutures = new ArrayList<>();
+            refreshRunning.set(false);
+            if (token != null) {
+                log.debug(() -> "IMDS token refresh completed. Token value: " + token.value());
+                cachedToken = token;
+            } else {
+                log.error(() -> "IMDS token refresh completed with error.", throwable);
             }
+        }
 
-            toComplete.forEach(future -> {
-                if (throwable == null) {
-                    future.complete(token);
-                } else {
-                    future.completeExceptionally(throwable);
-                }
-            });
+        toComplete.forEach(future -> {
+            if (throwable == null) {
+                future.complete(token);
+            } else {
+                future.completeExceptionally(throwable);
+            }
         });
     }
 
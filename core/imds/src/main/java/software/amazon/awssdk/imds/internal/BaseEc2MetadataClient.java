@@ -44,20 +44,30 @@ public abstract class BaseEc2MetadataClient {
     protected final RequestMarshaller requestMarshaller;
     protected final Duration tokenTtl;
 
+    /**
+     * The cache shared with the other clients using the same endpoint and token TTL, or null if it is not enabled.
+     */
+    protected final SharedMetadataCache sharedCache;
+
     private BaseEc2MetadataClient(Ec2MetadataRetryPolicy retryPolicy, Duration tokenTtl, URI endpoint,
-                                  EndpointMode endpointMode) {
+                                  EndpointMode endpointMode, Boolean sharedCacheEnabled) {
         this.retryPolicy = Validate.getOrDefault(retryPolicy, Ec2MetadataRetryPolicy.builder()::build);
         this.tokenTtl = Validate.getOrDefault(tokenTtl, () -> DEFAULT_TOKEN_TTL);
         this.endpoint = getEndpoint(endpoint, endpointMode);
         this.requestMarshaller = new RequestMarshaller(this.endpoint);
+        this.sharedCache = Boolean.TRUE.equals(sharedCacheEnabled)
+                           ? SharedMetadataCache.forEndpoint(this.endpoint, this.tokenTtl)
+                           : null;
     }
 
     protected BaseEc2MetadataClient(DefaultEc2MetadataClient.Ec2MetadataBuilder builder) {
-        this(builder.getRetryPolicy(), builder.getTokenTtl(), builder.getEndpoint(), builder.getEndpointMode());
+        this(builder.getRetryPolicy(), builder.getTokenTtl(), builder.getEndpoint(), builder.getEndpointMode(),
+             builder.getSharedCacheEnabled());
     }
 
     protected BaseEc2MetadataClient(DefaultEc2MetadataAsyncClient.Ec2MetadataAsyncBuilder builder) {
-        this(builder.getRetryPolicy(), builder.getTokenTtl(), builder.getEndpoint(), builder.getEndpointMode());
+        this(builder.getRetryPolicy(), builder.getTokenTtl(), builder.getEndpoint(), builder.getEndpointMode(),
+             builder.getSharedCacheEnabled());
     }
 
     private URI getEndpoint(URI builderEndpoint, EndpointMode builderEndpointMode) {
@@ -58,7 +58,7 @@ public final class DefaultEc2MetadataAsyncClient extends BaseEc2MetadataClient i
     private final ScheduledExecutorService asyncRetryScheduler;
     private final boolean httpClientIsInternal;
     private final boolean retryExecutorIsInternal;
-    private final AsyncTokenCache tokenCache;
+    private final Supplier<CompletableFuture<Token>> tokenCache;
 
     private DefaultEc2MetadataAsyncClient(Ec2MetadataAsyncBuilder builder) {
         super(builder);
@@ -84,7 +84,8 @@ public final class DefaultEc2MetadataAsyncClient extends BaseEc2MetadataClient i
             return sendAsyncTokenRequest(httpClient, baseTokenRequest);
         };
 
-        this.tokenCache = new AsyncTokenCache(tokenSupplier);
+        this.tokenCache = sharedCache != null ? () -> sharedCache.token(tokenSupplier)
+                                              : new AsyncTokenCache(tokenSupplier);
     }
 
     public static Ec2MetadataAsyncClient.Builder builder() {
@@ -93,6 +94,13 @@ public final class DefaultEc2MetadataAsyncClient extends BaseEc2MetadataClient i
 
     @Override
     public CompletableFuture<Ec2MetadataResponse> get(String path) {
+        if (sharedCache == null) {
+            return getWithRetries(path);
+        }
+        return sharedCache.get(path, () -> getWithRetries(path));
+    }
+
+    private CompletableFuture<Ec2MetadataResponse> getWithRetries(String path) {
         CompletableFuture<Ec2MetadataResponse> returnFuture = new CompletableFuture<>();
         get(path, RetryPolicyContext.builder().retriesAttempted(0).build(), returnFuture);
         return returnFuture;
@@ -155,6 +163,8 @@ public final class DefaultEc2MetadataAsyncClient extends BaseEc2MetadataClient i
 
         private EndpointMode endpointMode;
 
+        private Boolean sharedCacheEnabled;
+
         private SdkAsyncHttpClient httpClient;
 
         private SdkAsyncHttpClient.Builder<?> httpClientBuilder;
@@ -197,6 +207,12 @@ public final class DefaultEc2MetadataAsyncClient extends BaseEc2MetadataClient i
             return this;
         }
 
+        @Override
+        public Ec2MetadataAsyncBuilder sharedCacheEnabled(Boolean sharedCacheEnabled) {
+            this.sharedCacheEnabled = sharedCacheEnabled;
+            return this;
+        }
+
         @Override
         public Ec2MetadataAsyncBuilder httpClient(SdkAsyncHttpClient httpClient) {
             this.httpClient = httpClient;
@@ -231,6 +247,10 @@ public final class DefaultEc2MetadataAsyncClient extends BaseEc2MetadataClient i
             return this.endpointMode;
         }
 
+        public Boolean getSharedCacheEnabled() {
+            return this.sharedCacheEnabled;
+        }
+
         @Override
         public Ec2MetadataAsyncClient build() {
             return new DefaultEc2MetadataAsyncClient(this);
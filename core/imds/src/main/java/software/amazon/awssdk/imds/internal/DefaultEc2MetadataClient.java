@@ -23,6 +23,7 @@ import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -45,6 +46,7 @@ import software.amazon.awssdk.imds.Ec2MetadataClientException;
 import software.amazon.awssdk.imds.Ec2MetadataResponse;
 import software.amazon.awssdk.imds.Ec2MetadataRetryPolicy;
 import software.amazon.awssdk.imds.EndpointMode;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ToString;
@@ -77,11 +79,15 @@ public final class DefaultEc2MetadataClient extends BaseEc2MetadataClient implem
             .orElseGet(() -> new DefaultSdkHttpClientBuilder().buildWithDefaults(imdsHttpDefaults()));
         this.httpClientIsInternal = builder.httpClient == null;
 
-        this.tokenCache = CachedSupplier.builder(() -> RefreshResult.builder(this.getToken())
-                                                                    .staleTime(Instant.now().plus(tokenTtl))
-                                                                    .build())
-                                        .cachedValueName(toString())
-                                        .build();
+        if (sharedCache != null) {
+            this.tokenCache = () -> CompletableFutureUtils.joinLikeSync(sharedCache.token(this::getTokenAsFuture));
+        } else {
+            this.tokenCache = CachedSupplier.builder(() -> RefreshResult.builder(this.getToken())
+                                                                        .staleTime(Instant.now().plus(tokenTtl))
+                                                                        .build())
+                                            .cachedValueName(toString())
+                                            .build();
+        }
     }
 
     @Override
@@ -113,6 +119,14 @@ public final class DefaultEc2MetadataClient extends BaseEc2MetadataClient implem
      */
     @Override
     public Ec2MetadataResponse get(String path) {
+        if (sharedCache == null) {
+            return getWithRetries(path);
+        }
+        return CompletableFutureUtils.joinLikeSync(
+            sharedCache.get(path, () -> CompletableFuture.completedFuture(getWithRetries(path))));
+    }
+
+    private Ec2MetadataResponse getWithRetries(String path) {
         Throwable lastCause = null;
         // 3 retries means 4 total attempts
         Token token = null;
@@ -210,6 +224,14 @@ public final class DefaultEc2MetadataClient extends BaseEc2MetadataClient implem
         }
     }
 
+    private CompletableFuture<Token> getTokenAsFuture() {
+        try {
+            return CompletableFuture.completedFuture(getToken());
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
     private Token getToken() {
         HttpExecuteRequest httpExecuteRequest = HttpExecuteRequest.builder()
                                                                   .request(requestMarshaller.createTokenRequest(tokenTtl))
@@ -266,6 +288,8 @@ public final class DefaultEc2MetadataClient extends BaseEc2MetadataClient implem
 
         private EndpointMode endpointMode;
 
+        private Boolean sharedCacheEnabled;
+
         private SdkHttpClient httpClient;
 
         private SdkHttpClient.Builder<?> httpClientBuilder;
@@ -305,6 +329,12 @@ public final class DefaultEc2MetadataClient extends BaseEc2MetadataClient implem
             return this;
         }
 
+        @Override
+        public Ec2MetadataBuilder sharedCacheEnabled(Boolean sharedCacheEnabled) {
+            this.sharedCacheEnabled = sharedCacheEnabled;
+            return this;
+        }
+
         @Override
         public Ec2MetadataBuilder httpClient(SdkHttpClient httpClient) {
             this.httpClient = httpClient;
@@ -333,6 +363,10 @@ public final class DefaultEc2MetadataClient extends BaseEc2MetadataClient implem
             return this.endpointMode;
         }
 
+        public Boolean getSharedCacheEnabled() {
+            return this.sharedCacheEnabled;
+        }
+
         @Override
         public Ec2MetadataClient build() {
             return new DefaultEc2MetadataClient(this);
@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.imds.internal;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.imds.Ec2MetadataResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * IMDS state shared by all the clients, sync and async, that use the same endpoint and token TTL and that enabled the shared
+ * cache. It holds:
+ * <ul>
+ *     <li>The session token, in an {@link AsyncTokenCache}, so that the clients request a single token between them.</li>
+ *     <li>The responses for metadata paths that cannot change while the instance is running, such as the instance ID and
+ *     region, which are cached for the life of the process.</li>
+ *     <li>The metadata requests in flight, so that concurrent requests for the same path are sent to IMDS once.</li>
+ * </ul>
+ * Requests are always sent by the client that started them; the shared cache does not hold any client or HTTP resources.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SharedMetadataCache {
+    private static final Logger log = Logger.loggerFor(SharedMetadataCache.class);
+
+    /**
+     * Metadata paths whose value is fixed for as long as the instance, and therefore the process, is running.
+     */
+    private static final Set<String> IMMUTABLE_PATHS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "/latest/meta-data/instance-id",
+        "/latest/meta-data/placement/region",
+        "/latest/meta-data/placement/availability-zone",
+        "/latest/meta-data/placement/availability-zone-id")));
+
+    private static final Map<List<Object>, SharedMetadataCache> INSTANCES = new ConcurrentHashMap<>();
+
+    private final AsyncTokenCache tokenCache = new AsyncTokenCache();
+    private final Map<String, Ec2MetadataResponse> immutableResponses = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Ec2MetadataResponse>> requestsInFlight = new ConcurrentHashMap<>();
+
+    @SdkTestInternalApi
+    SharedMetadataCache() {
+    }
+
+    /**
+     * The cache shared by the clients using the provided endpoint and token TTL.
+     */
+    public static SharedMetadataCache forEndpoint(URI endpoint, Duration tokenTtl) {
+        return INSTANCES.computeIfAbsent(Arrays.asList(endpoint, tokenTtl), k -> new SharedMetadataCache());
+    }
+
+    /**
+     * Returns the shared token, using the provided supplier to request a new one if it is expired and no other client is
+     * already requesting one.
+     */
+    public CompletableFuture<Token> token(Supplier<CompletableFuture<Token>> tokenSupplier) {
+        return tokenCache.get(tokenSupplier);
+    }
+
+    /**
+     * Returns the response for the provided path. The response is returned from the cache if the path is immutable and was
+     * already loaded, or from the request in flight for the same path if there is one. Otherwise, the request is sent using
+     * the provided supplier.
+     * <p>
+     * Each caller receives its own future, so that cancelling it does not affect the other callers.
+     */
+    public CompletableFuture<Ec2MetadataResponse> get(String path, Supplier<CompletableFuture<Ec2MetadataResponse>> request) {
+        Ec2MetadataResponse cachedResponse = immutableResponses.get(path);
+        if (cachedResponse != null) {
+            return CompletableFuture.completedFuture(cachedResponse);
+        }
+
+        CompletableFuture<Ec2MetadataResponse> newRequest = new CompletableFuture<>();
+        CompletableFuture<Ec2MetadataResponse> requestInFlight = requestsInFlight.putIfAbsent(path, newRequest);
+        if (requestInFlight != null) {
+            log.debug(() -> "Joining the IMDS request in flight for " + path);
+            return copy(requestInFlight);
+        }
+
+        CompletableFuture<Ec2MetadataResponse> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            response = CompletableFutureUtils.failedFuture(e);
+        }
+
+        response.whenComplete((r, t) -> {
+            if (r != null && IMMUTABLE_PATHS.contains(path)) {
+                immutableResponses.put(path, r);
+            }
+            // Remove the request before completing it, so that callers reacting to the completion start a new request.
+            requestsInFlight.remove(path, newRequest);
+            if (t != null) {
+                newRequest.completeExceptionally(t);
+            } else {
+                newRequest.complete(r);
+            }
+        });
+        return copy(newRequest);
+    }
+
+    private static <T> CompletableFuture<T> copy(CompletableFuture<T> future) {
+        CompletableFuture<T> copy = new CompletableFuture<>();
+        CompletableFutureUtils.forwardResultTo(future, copy);
+        return copy;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.imds.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncTokenCacheTest {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void get_blockingSupplier_doesNotBlockOtherCallers() throws Exception {
+        AsyncTokenCache cache = new AsyncTokenCache();
+        Token token = new Token("token", Duration.ofHours(1));
+        CountDownLatch supplierCalled = new CountDownLatch(1);
+        CountDownLatch releaseSupplier = new CountDownLatch(1);
+        AtomicInteger otherSupplierCalls = new AtomicInteger();
+
+        CompletableFuture<CompletableFuture<Token>> first = CompletableFuture.supplyAsync(() -> cache.get(() -> {
+            supplierCalled.countDown();
+            awaitUninterruptibly(releaseSupplier);
+            return CompletableFuture.completedFuture(token);
+        }), executor);
+        assertThat(supplierCalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Token> second = cache.get(() -> {
+            otherSupplierCalls.incrementAndGet();
+            return CompletableFuture.completedFuture(token);
+        });
+        assertThat(second).isNotDone();
+
+        releaseSupplier.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS)).isSameAs(token);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(token);
+        assertThat(otherSupplierCalls).hasValue(0);
+    }
+
+    @Test
+    void get_supplierThrows_failsWaitingFuturesAndAllowsAnotherRefresh() {
+        AsyncTokenCache cache = new AsyncTokenCache();
+        Token token = new Token("token", Duration.ofHours(1));
+
+        CompletableFuture<Token> failed = cache.get(() -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class)
+                                        .hasCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(() -> CompletableFuture.completedFuture(token)).join()).isSameAs(token);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
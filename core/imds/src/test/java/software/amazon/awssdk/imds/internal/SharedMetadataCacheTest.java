@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.imds.internal;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.imds.TestConstants.AMI_ID_RESOURCE;
+import static software.amazon.awssdk.imds.TestConstants.EC2_METADATA_ROOT;
+import static software.amazon.awssdk.imds.TestConstants.EC2_METADATA_TOKEN_TTL_HEADER;
+import static software.amazon.awssdk.imds.TestConstants.TOKEN_RESOURCE_PATH;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.imds.Ec2MetadataAsyncClient;
+import software.amazon.awssdk.imds.Ec2MetadataClient;
+import software.amazon.awssdk.imds.Ec2MetadataResponse;
+
+/**
+ * Shared caches live for the life of the process and are keyed by endpoint and token TTL, so each test uses its own token TTL
+ * to start from an empty cache.
+ */
+@WireMockTest
+class SharedMetadataCacheTest {
+    private static final String INSTANCE_ID_RESOURCE = EC2_METADATA_ROOT + "/instance-id";
+
+    private URI endpoint;
+
+    @BeforeEach
+    public void init(WireMockRuntimeInfo wiremock) {
+        this.endpoint = URI.create("http://localhost:" + wiremock.getHttpPort());
+    }
+
+    @Test
+    void get_syncAndAsyncClients_shareOneToken() {
+        Duration tokenTtl = stubToken(Duration.ofSeconds(1001));
+        stubFor(get(urlPathEqualTo(AMI_ID_RESOURCE)).willReturn(aResponse().withBody("ami-123")));
+
+        try (Ec2MetadataClient syncClient = syncClient(tokenTtl);
+             Ec2MetadataAsyncClient asyncClient = asyncClient(tokenTtl)) {
+            assertThat(syncClient.get(AMI_ID_RESOURCE).asString()).isEqualTo("ami-123");
+            assertThat(asyncClient.get(AMI_ID_RESOURCE).join().asString()).isEqualTo("ami-123");
+        }
+
+        verify(exactly(1), putRequestedFor(urlPathEqualTo(TOKEN_RESOURCE_PATH)));
+        verify(exactly(2), getRequestedFor(urlPathEqualTo(AMI_ID_RESOURCE)));
+    }
+
+    @Test
+    void get_immutablePath_requestedOnceForAllClients() {
+        Duration tokenTtl = stubToken(Duration.ofSeconds(1002));
+        stubFor(get(urlPathEqualTo(INSTANCE_ID_RESOURCE)).willReturn(aResponse().withBody("i-123")));
+
+        try (Ec2MetadataClient first = syncClient(tokenTtl);
+             Ec2MetadataClient second = syncClient(tokenTtl)) {
+            assertThat(first.get(INSTANCE_ID_RESOURCE).asString()).isEqualTo("i-123");
+            assertThat(first.get(INSTANCE_ID_RESOURCE).asString()).isEqualTo("i-123");
+            assertThat(second.get(INSTANCE_ID_RESOURCE).asString()).isEqualTo("i-123");
+        }
+
+        verify(exactly(1), getRequestedFor(urlPathEqualTo(INSTANCE_ID_RESOURCE)));
+    }
+
+    @Test
+    void get_concurrentRequestsForSamePath_areCoalesced() {
+        Duration tokenTtl = stubToken(Duration.ofSeconds(1003));
+        stubFor(get(urlPathEqualTo(AMI_ID_RESOURCE)).willReturn(aResponse().withBody("ami-123").withFixedDelay(500)));
+
+        try (Ec2MetadataAsyncClient client = asyncClient(tokenTtl)) {
+            List<CompletableFuture<Ec2MetadataResponse>> responses = IntStream.range(0, 50)
+                                                                              .mapToObj(i -> client.get(AMI_ID_RESOURCE))
+                                                                              .collect(Collectors.toList());
+
+            responses.forEach(response -> assertThat(response.join().asString()).isEqualTo("ami-123"));
+        }
+
+        verify(exactly(1), putRequestedFor(urlPathEqualTo(TOKEN_RESOURCE_PATH)));
+        verify(exactly(1), getRequestedFor(urlPathEqualTo(AMI_ID_RESOURCE)));
+    }
+
+    @Test
+    void get_cancellingOneCaller_doesNotCancelCoalescedRequest() {
+        Duration tokenTtl = stubToken(Duration.ofSeconds(1004));
+        stubFor(get(urlPathEqualTo(AMI_ID_RESOURCE)).willReturn(aResponse().withBody("ami-123").withFixedDelay(500)));
+
+        try (Ec2MetadataAsyncClient client = asyncClient(tokenTtl)) {
+            CompletableFuture<Ec2MetadataResponse> cancelled = client.get(AMI_ID_RESOURCE);
+            CompletableFuture<Ec2MetadataResponse> other = client.get(AMI_ID_RESOURCE);
+            cancelled.cancel(true);
+
+            assertThat(other.join().asString()).isEqualTo("ami-123");
+        }
+    }
+
+    @Test
+    void get_sharedCacheNotEnabled_requestsTokenPerClient() {
+        Duration tokenTtl = stubToken(Duration.ofSeconds(1005));
+        stubFor(get(urlPathEqualTo(INSTANCE_ID_RESOURCE)).willReturn(aResponse().withBody("i-123")));
+
+        try (Ec2MetadataClient first = Ec2MetadataClient.builder().endpoint(endpoint).tokenTtl(tokenTtl).build();
+             Ec2MetadataClient second = Ec2MetadataClient.builder().endpoint(endpoint).tokenTtl(tokenTtl).build()) {
+            first.get(INSTANCE_ID_RESOURCE);
+            second.get(INSTANCE_ID_RESOURCE);
+        }
+
+        verify(exactly(2), putRequestedFor(urlPathEqualTo(TOKEN_RESOURCE_PATH)));
+        verify(exactly(2), getRequestedFor(urlPathEqualTo(INSTANCE_ID_RESOURCE)));
+    }
+
+    private static Duration stubToken(Duration tokenTtl) {
+        stubFor(put(urlPathEqualTo(TOKEN_RESOURCE_PATH)).willReturn(
+            aResponse().withBody("some-token").withHeader(EC2_METADATA_TOKEN_TTL_HEADER, String.valueOf(tokenTtl.getSeconds()))));
+        return tokenTtl;
+    }
+
+    private Ec2MetadataClient syncClient(Duration tokenTtl) {
+        return Ec2MetadataClient.builder()
+                                .endpoint(endpoint)
+                                .tokenTtl(tokenTtl)
+                                .sharedCacheEnabled(true)
+                                .build();
+    }
+
+    private Ec2MetadataAsyncClient asyncClient(Duration tokenTtl) {
+        return Ec2MetadataAsyncClient.builder()
+                                     .endpoint(endpoint)
+                                     .tokenTtl(tokenTtl)
+                                     .sharedCacheEnabled(true)
+                                     .build();
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.profiles.internal.ProfileFileCache;
 import software.amazon.awssdk.profiles.internal.ProfileFileReader;
 import software.amazon.awssdk.utils.FunctionalUtils;
 import software.amazon.awssdk.utils.IoUtils;
@@ -99,7 +100,8 @@ public final class ProfileFile {
      * {@link ProfileFileSystemSetting#AWS_PROFILE} settings or by specifying a different profile file and profile name.
      *
      * <p>
-     * The file is read each time this method is invoked.
+     * The files are parsed once and shared by every caller of this method for as long as they are not modified. The
+     * modification time of the files is checked each time this method is invoked.
      */
     public static ProfileFile defaultProfileFile() {
         return ProfileFile.aggregator()
@@ -156,18 +158,14 @@ public final class ProfileFile {
 
     private static void addCredentialsFile(ProfileFile.Aggregator builder) {
         ProfileFileLocation.credentialsFileLocation()
-                           .ifPresent(l -> builder.addFile(ProfileFile.builder()
-                                                                      .content(l)
-                                                                      .type(ProfileFile.Type.CREDENTIALS)
-                                                                      .build()));
+                           .flatMap(l -> ProfileFileCache.getInstance().load(l, ProfileFile.Type.CREDENTIALS))
+                           .ifPresent(builder::addFile);
     }
 
     private static void addConfigFile(ProfileFile.Aggregator builder) {
         ProfileFileLocation.configurationFileLocation()
-                           .ifPresent(l -> builder.addFile(ProfileFile.builder()
-                                                                      .content(l)
-                                                                      .type(ProfileFile.Type.CONFIGURATION)
-                                                                      .build()));
+                           .flatMap(l -> ProfileFileCache.getInstance().load(l, ProfileFile.Type.CONFIGURATION))
+                           .ifPresent(builder::addFile);
     }
 
     /**
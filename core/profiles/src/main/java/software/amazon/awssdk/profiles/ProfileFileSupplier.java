@@ -15,13 +15,15 @@
 
 package software.amazon.awssdk.profiles;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.profiles.internal.AggregateProfileFileSupplier;
+import software.amazon.awssdk.profiles.internal.ProfileFileCache;
 import software.amazon.awssdk.profiles.internal.ProfileFileRefresher;
+import software.amazon.awssdk.profiles.internal.ProfileFileWatcher;
+import software.amazon.awssdk.profiles.internal.WatchingProfileFileSupplier;
 
 /**
  * Encapsulates the logic for supplying either a single or multiple ProfileFile instances.
@@ -78,14 +80,8 @@ public interface ProfileFileSupplier extends Supplier<ProfileFile> {
      */
     static ProfileFileSupplier reloadWhenModified(Path path, ProfileFile.Type type) {
         return new ProfileFileSupplier() {
-            Supplier<ProfileFile> profileFileSupplier = () -> {
-                if (Files.isRegularFile(path) && Files.isReadable(path)) {
-                    return ProfileFile.builder()
-                                      .content(path)
-                                      .type(type).build();
-                }
-                return ProfileFile.empty();
-            };
+            Supplier<ProfileFile> profileFileSupplier =
+                () -> ProfileFileCache.getInstance().load(path, type).orElseGet(ProfileFile::empty);
 
             final ProfileFileRefresher refresher = ProfileFileRefresher.builder()
                                                                        .profileFile(profileFileSupplier)
@@ -100,6 +96,31 @@ public interface ProfileFileSupplier extends Supplier<ProfileFile> {
         };
     }
 
+    /**
+     * Creates a {@link ProfileFileSupplier} capable of producing multiple profile objects from a file. Unlike
+     * {@link #reloadWhenModified(Path, ProfileFile.Type)}, which checks the modification time of the file when the profile is
+     * requested, this supplier is notified of modifications by a {@link java.nio.file.WatchService}, and only accesses the disk
+     * file after it has been modified. Multiple calls to the supplier while the disk file is unchanged will return the same
+     * object.
+     *
+     * <p>
+     * The parent directory of the file is watched by a single daemon thread shared by all suppliers. Depending on the platform's
+     * watch service, modifications may take a few seconds to be observed. Modifications to the target of a symbolic link are
+     * not observed. If the parent directory cannot be watched, for example because it does not exist, this supplier behaves
+     * like {@link #reloadWhenModified(Path, ProfileFile.Type)}.
+     *
+     * @param path Path to the file to read from.
+     * @param type The type of file. See {@link ProfileFile.Type} for possible values.
+     * @return Implementation of {@link ProfileFileSupplier} that is capable of supplying a new profile when the file
+     *         has been modified.
+     */
+    static ProfileFileSupplier reloadWhenNotified(Path path, ProfileFile.Type type) {
+        return new WatchingProfileFileSupplier(ProfileFileWatcher.getInstance().watch(path).orElse(null),
+                                               () -> ProfileFileCache.getInstance().load(path, type)
+                                                                     .orElseGet(ProfileFile::empty),
+                                               reloadWhenModified(path, type));
+    }
+
     /**
      * Creates a {@link ProfileFileSupplier} that produces an existing profile.
      *
@@ -15,13 +15,13 @@
 
 package software.amazon.awssdk.profiles;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.profiles.internal.ProfileFileCache;
 import software.amazon.awssdk.profiles.internal.ProfileFileRefresher;
 
 @SdkInternalApi
@@ -34,14 +34,7 @@ final class ProfileFileSupplierBuilder {
     private Consumer<ProfileFile> onProfileFileLoad;
 
     public ProfileFileSupplierBuilder reloadWhenModified(Path path, ProfileFile.Type type) {
-        this.profileFile = () -> {
-            if (Files.isRegularFile(path) && Files.isReadable(path)) {
-                return ProfileFile.builder()
-                                  .content(path)
-                                  .type(type).build();
-            }
-            return ProfileFile.empty();
-        };
+        this.profileFile = () -> ProfileFileCache.getInstance().load(path, type).orElseGet(ProfileFile::empty);
         this.profileFilePath = path;
         this.reloadingSupplier = true;
         return this;
@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A process-wide cache of parsed profile files, keyed by path and type.
+ * <p>
+ * A cached {@link ProfileFile} is reused for as long as the file's modification time, size and file key are unchanged, so that
+ * clients and providers loading the same file only parse it once. Loading a cached file still reads the file's attributes, but
+ * not its contents.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class ProfileFileCache {
+    private static final Logger log = Logger.loggerFor(ProfileFileCache.class);
+
+    private static final ProfileFileCache INSTANCE = new ProfileFileCache();
+
+    private final Map<CacheKey, CachedProfileFile> cache = new ConcurrentHashMap<>();
+
+    @SdkTestInternalApi
+    ProfileFileCache() {
+    }
+
+    /**
+     * The process-wide instance of the cache.
+     */
+    public static ProfileFileCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Load the profile file at the provided path, parsing it only if it was modified since it was last loaded.
+     *
+     * @param path The path of the profile file.
+     * @param type The type of the profile file.
+     * @return The profile file, or empty if the path is not a readable regular file.
+     */
+    public Optional<ProfileFile> load(Path path, ProfileFile.Type type) {
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            return Optional.empty();
+        }
+
+        CacheKey key = new CacheKey(path.toAbsolutePath().normalize(), type);
+        FileStamp stamp;
+        try {
+            stamp = FileStamp.of(path);
+        } catch (NoSuchFileException e) {
+            cache.remove(key);
+            return Optional.empty();
+        } catch (IOException e) {
+            log.debug(() -> "Unable to read the attributes of " + path + ", so it will not be cached.", e);
+            return Optional.of(parse(path, type));
+        }
+
+        CachedProfileFile cached = cache.get(key);
+        if (cached != null && cached.stamp.equals(stamp)) {
+            return Optional.of(cached.profileFile);
+        }
+
+        // If the file is modified while it is parsed, the new contents are cached with the old stamp. This is safe, because the
+        // next load sees a different stamp and parses the file again.
+        ProfileFile profileFile = parse(path, type);
+        cache.put(key, new CachedProfileFile(stamp, profileFile));
+        return Optional.of(profileFile);
+    }
+
+    private static ProfileFile parse(Path path, ProfileFile.Type type) {
+        return ProfileFile.builder()
+                          .content(path)
+                          .type(type)
+                          .build();
+    }
+
+    private static final class CacheKey {
+        private final Path path;
+        private final ProfileFile.Type type;
+
+        private CacheKey(Path path, ProfileFile.Type type) {
+            this.path = path;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return path.equals(that.path) && type == that.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * path.hashCode() + type.hashCode();
+        }
+    }
+
+    /**
+     * The attributes used to detect that a file was modified. The file key, when supported, detects files that were replaced by
+     * a move within the resolution of the modification time.
+     */
+    private static final class FileStamp {
+        private final FileTime lastModifiedTime;
+        private final long size;
+        private final Object fileKey;
+
+        private FileStamp(BasicFileAttributes attributes) {
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.fileKey = attributes.fileKey();
+        }
+
+        private static FileStamp of(Path path) throws IOException {
+            return new FileStamp(Files.readAttributes(path, BasicFileAttributes.class));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FileStamp that = (FileStamp) o;
+            return size == that.size
+                   && lastModifiedTime.equals(that.lastModifiedTime)
+                   && Objects.equals(fileKey, that.fileKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = lastModifiedTime.hashCode();
+            result = 31 * result + Long.hashCode(size);
+            result = 31 * result + Objects.hashCode(fileKey);
+            return result;
+        }
+    }
+
+    private static final class CachedProfileFile {
+        private final FileStamp stamp;
+        private final ProfileFile profileFile;
+
+        private CachedProfileFile(FileStamp stamp, ProfileFile profileFile) {
+            this.stamp = stamp;
+            this.profileFile = profileFile;
+        }
+    }
+}
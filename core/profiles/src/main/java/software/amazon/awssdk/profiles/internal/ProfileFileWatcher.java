@@ -0,0 +1,198 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Watches profile files for modifications using a {@link WatchService}, so that suppliers can reload a profile file when it is
+ * modified instead of checking its modification time.
+ * <p>
+ * The parent directory of each watched file is registered with one watch service per file system, which is polled by a single
+ * daemon thread. Watching a file returns a {@link WatchedFile}, whose version is incremented each time the file may have been
+ * modified, created or deleted.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class ProfileFileWatcher {
+    private static final Logger log = Logger.loggerFor(ProfileFileWatcher.class);
+
+    private static final ProfileFileWatcher INSTANCE = new ProfileFileWatcher();
+
+    private final ThreadFactory threadFactory = new ThreadFactoryBuilder().threadNamePrefix("sdk-profile-file-watcher")
+                                                                          .daemonThreads(true)
+                                                                          .build();
+
+    private final Map<FileSystem, WatchService> watchServices = new HashMap<>();
+    private final Map<Path, Map<Path, WatchedFile>> watchedFilesByDirectory = new HashMap<>();
+
+    @SdkTestInternalApi
+    ProfileFileWatcher() {
+    }
+
+    /**
+     * The process-wide instance of the watcher.
+     */
+    public static ProfileFileWatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start watching the provided file for modifications.
+     *
+     * @return The watched file, or empty if the file cannot be watched, for example because its parent directory does not
+     * exist or the file system does not support watch services.
+     */
+    public synchronized Optional<WatchedFile> watch(Path path) {
+        Path file = path.toAbsolutePath().normalize();
+        Path directory = file.getParent();
+        if (directory == null) {
+            return Optional.empty();
+        }
+
+        Map<Path, WatchedFile> watchedFiles = watchedFilesByDirectory.get(directory);
+        if (watchedFiles == null) {
+            try {
+                directory.register(watchService(directory.getFileSystem()), ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            } catch (IOException | RuntimeException e) {
+                log.debug(() -> "Unable to watch " + directory + " for profile file modifications.", e);
+                return Optional.empty();
+            }
+            watchedFiles = new HashMap<>();
+            watchedFilesByDirectory.put(directory, watchedFiles);
+        }
+
+        return Optional.of(watchedFiles.computeIfAbsent(file, f -> new WatchedFile()));
+    }
+
+    private WatchService watchService(FileSystem fileSystem) throws IOException {
+        WatchService watchService = watchServices.get(fileSystem);
+        if (watchService == null) {
+            watchService = fileSystem.newWatchService();
+            watchServices.put(fileSystem, watchService);
+            WatchService newWatchService = watchService;
+            threadFactory.newThread(() -> pollEvents(newWatchService)).start();
+        }
+        return watchService;
+    }
+
+    private void pollEvents(WatchService watchService) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    modifiedAll(directory, false);
+                } else {
+                    modified(directory.resolve((Path) event.context()));
+                }
+            }
+
+            if (!key.reset()) {
+                log.debug(() -> directory + " can no longer be watched for profile file modifications.");
+                modifiedAll(directory, true);
+            }
+        }
+    }
+
+    private synchronized void modified(Path file) {
+        Map<Path, WatchedFile> watchedFiles = watchedFilesByDirectory.get(file.getParent());
+        WatchedFile watchedFile = watchedFiles == null ? null : watchedFiles.get(file);
+        if (watchedFile != null) {
+            watchedFile.modified();
+        }
+    }
+
+    private synchronized void modifiedAll(Path directory, boolean stopWatching) {
+        Map<Path, WatchedFile> watchedFiles = stopWatching ? watchedFilesByDirectory.remove(directory)
+                                                           : watchedFilesByDirectory.get(directory);
+        if (watchedFiles == null) {
+            return;
+        }
+
+        watchedFiles.values().forEach(watchedFile -> {
+            if (stopWatching) {
+                watchedFile.stopWatching();
+            }
+            watchedFile.modified();
+        });
+    }
+
+    /**
+     * A file watched by a {@link ProfileFileWatcher}.
+     */
+    public static final class WatchedFile {
+        private final AtomicLong version = new AtomicLong();
+        private volatile boolean watched = true;
+
+        private WatchedFile() {
+        }
+
+        /**
+         * A number that changes each time the file may have been modified.
+         */
+        public long version() {
+            return version.get();
+        }
+
+        /**
+         * Whether the file is still watched. A file stops being watched when its parent directory is deleted, after which
+         * its version no longer changes.
+         */
+        public boolean isWatched() {
+            return watched;
+        }
+
+        @SdkTestInternalApi
+        void modified() {
+            version.incrementAndGet();
+        }
+
+        private void stopWatching() {
+            watched = false;
+        }
+    }
+}
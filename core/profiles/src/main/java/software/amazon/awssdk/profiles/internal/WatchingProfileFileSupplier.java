@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.profiles.ProfileFileSupplier;
+import software.amazon.awssdk.profiles.internal.ProfileFileWatcher.WatchedFile;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link ProfileFileSupplier} that reloads a profile file when a {@link ProfileFileWatcher} reports that it was modified.
+ * While the file is unmodified, {@link #get()} returns the previously loaded profile file without accessing the file system.
+ * <p>
+ * If the file cannot be watched, or stops being watched, this delegates to a fallback supplier instead.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class WatchingProfileFileSupplier implements ProfileFileSupplier {
+    private final WatchedFile watchedFile;
+    private final Supplier<ProfileFile> profileFileLoader;
+    private final ProfileFileSupplier fallbackSupplier;
+    private volatile LoadedProfileFile loadedProfileFile;
+
+    /**
+     * @param watchedFile The watched profile file, or null if it cannot be watched.
+     * @param profileFileLoader Loads the profile file.
+     * @param fallbackSupplier The supplier to use when the profile file is not watched.
+     */
+    public WatchingProfileFileSupplier(WatchedFile watchedFile,
+                                       Supplier<ProfileFile> profileFileLoader,
+                                       ProfileFileSupplier fallbackSupplier) {
+        this.watchedFile = watchedFile;
+        this.profileFileLoader = Validate.paramNotNull(profileFileLoader, "profileFileLoader");
+        this.fallbackSupplier = Validate.paramNotNull(fallbackSupplier, "fallbackSupplier");
+    }
+
+    @Override
+    public ProfileFile get() {
+        if (watchedFile == null || !watchedFile.isWatched()) {
+            return fallbackSupplier.get();
+        }
+
+        long version = watchedFile.version();
+        LoadedProfileFile loaded = loadedProfileFile;
+        if (loaded != null && loaded.version == version) {
+            return loaded.profileFile;
+        }
+
+        // The version is read before loading the file, so a modification made while it is loaded causes another reload.
+        ProfileFile profileFile = profileFileLoader.get();
+        loadedProfileFile = new LoadedProfileFile(version, profileFile);
+        return profileFile;
+    }
+
+    private static final class LoadedProfileFile {
+        private final long version;
+        private final ProfileFile profileFile;
+
+        private LoadedProfileFile(long version, ProfileFile profileFile) {
+            this.version = version;
+            this.profileFile = profileFile;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.profiles.ProfileFile;
+
+public class ProfileFileCacheTest {
+    private static final Instant MODIFIED_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    private FileSystem jimfs;
+    private Path credentialsFile;
+    private ProfileFileCache cache;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        jimfs = Jimfs.newFileSystem();
+        credentialsFile = jimfs.getPath("credentials");
+        cache = new ProfileFileCache();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        jimfs.close();
+    }
+
+    @Test
+    void load_fileDoesNotExist_returnsEmpty() {
+        assertThat(cache.load(credentialsFile, ProfileFile.Type.CREDENTIALS)).isEmpty();
+    }
+
+    @Test
+    void load_fileUnmodified_returnsSameInstance() throws IOException {
+        writeCredentials("akid", MODIFIED_TIME);
+
+        ProfileFile first = cache.load(credentialsFile, ProfileFile.Type.CREDENTIALS).get();
+        ProfileFile second = cache.load(credentialsFile, ProfileFile.Type.CREDENTIALS).get();
+
+        assertThat(second).isSameAs(first);
+        assertThat(accessKeyId(first)).isEqualTo("akid");
+    }
+
+    @Test
+    void load_fileModified_reparsesFile() throws IOException {
+        writeCredentials("akid", MODIFIED_TIME);
+        ProfileFile first = cache.load(credentialsFile, ProfileFile.Type.CREDENTIALS).get();
+
+        writeCredentials("akid2", MODIFIED_TIME.plusSeconds(1));
+        ProfileFile second = cache.load(credentialsFile, ProfileFile.Type.CREDENTIALS).get();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(accessKeyId(second)).isEqualTo("akid2");
+    }
+
+    @Test
+    void load_fileSizeChangedWithSameModificationTime_reparsesFile() throws IOException {
+        writeCredentials("akid", MODIFIED_TIME);
+        cache.load(credentialsFile, ProfileFile.Type.CREDENTIALS);
+
+        writeCredentials("longer-akid", MODIFIED_TIME);
+
+        assertThat(accessKeyId(cache.load(credentialsFile, ProfileFile.Type.CREDENTIALS).get())).isEqualTo("longer-akid");
+    }
+
+    @Test
+    void load_differentTypes_areCachedSeparately() throws IOException {
+        Files.write(credentialsFile, "[profile foo]\nregion = us-west-2\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(cache.load(credentialsFile, ProfileFile.Type.CONFIGURATION).get().profile("foo")).isPresent();
+        assertThat(cache.load(credentialsFile, ProfileFile.Type.CREDENTIALS).get().profile("foo")).isEmpty();
+    }
+
+    @Test
+    void load_fileDeleted_returnsEmpty() throws IOException {
+        writeCredentials("akid", MODIFIED_TIME);
+        cache.load(credentialsFile, ProfileFile.Type.CREDENTIALS);
+
+        Files.delete(credentialsFile);
+
+        assertThat(cache.load(credentialsFile, ProfileFile.Type.CREDENTIALS)).isEmpty();
+    }
+
+    private void writeCredentials(String accessKeyId, Instant modifiedTime) throws IOException {
+        String contents = String.format("[default]\naws_access_key_id = %s\naws_secret_access_key = secret\n", accessKeyId);
+        Files.write(credentialsFile, contents.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(credentialsFile, FileTime.from(modifiedTime));
+    }
+
+    private static String accessKeyId(ProfileFile profileFile) {
+        return profileFile.profile("default").flatMap(p -> p.property("aws_access_key_id")).get();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.profiles.ProfileFileSupplier;
+import software.amazon.awssdk.profiles.internal.ProfileFileWatcher.WatchedFile;
+
+public class WatchingProfileFileSupplierTest {
+
+    @TempDir
+    Path testDirectory;
+
+    @Test
+    void get_fileNotModified_loadsProfileFileOnce() throws IOException {
+        Path credentialsFile = writeCredentials(testDirectory.resolve("credentials"), "akid");
+        WatchedFile watchedFile = new ProfileFileWatcher().watch(credentialsFile).get();
+        AtomicInteger loads = new AtomicInteger();
+
+        WatchingProfileFileSupplier supplier = new WatchingProfileFileSupplier(watchedFile,
+                                                                               () -> countingLoad(credentialsFile, loads),
+                                                                               failingSupplier());
+
+        ProfileFile first = supplier.get();
+        ProfileFile second = supplier.get();
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_watchedFileModified_reloadsProfileFile() throws IOException {
+        Path credentialsFile = writeCredentials(testDirectory.resolve("credentials"), "akid");
+        WatchedFile watchedFile = new ProfileFileWatcher().watch(credentialsFile).get();
+        AtomicInteger loads = new AtomicInteger();
+
+        WatchingProfileFileSupplier supplier = new WatchingProfileFileSupplier(watchedFile,
+                                                                               () -> countingLoad(credentialsFile, loads),
+                                                                               failingSupplier());
+        supplier.get();
+        watchedFile.modified();
+        supplier.get();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_fileNotWatched_usesFallbackSupplier() {
+        ProfileFile fallbackProfileFile = ProfileFile.aggregator().build();
+        WatchingProfileFileSupplier supplier = new WatchingProfileFileSupplier(null,
+                                                                               () -> {
+                                                                                   throw new AssertionError();
+                                                                               },
+                                                                               () -> fallbackProfileFile);
+
+        assertThat(supplier.get()).isSameAs(fallbackProfileFile);
+    }
+
+    @Test
+    void watch_parentDirectoryDoesNotExist_returnsEmpty() {
+        assertThat(new ProfileFileWatcher().watch(testDirectory.resolve("missing").resolve("credentials"))).isEmpty();
+    }
+
+    @Test
+    void reloadWhenNotified_fileModifiedOnDisk_reloadsProfileFile() throws Exception {
+        Path credentialsFile = writeCredentials(testDirectory.resolve("credentials"), "akid");
+        ProfileFileSupplier supplier = ProfileFileSupplier.reloadWhenNotified(credentialsFile, ProfileFile.Type.CREDENTIALS);
+
+        assertThat(accessKeyId(supplier.get())).isEqualTo("akid");
+
+        writeCredentials(credentialsFile, "modified-akid");
+
+        Instant endCheckTime = Instant.now().plus(Duration.ofSeconds(30));
+        while (!"modified-akid".equals(accessKeyId(supplier.get())) && Instant.now().isBefore(endCheckTime)) {
+            Thread.sleep(100);
+        }
+        assertThat(accessKeyId(supplier.get())).isEqualTo("modified-akid");
+    }
+
+    private static ProfileFile countingLoad(Path path, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return ProfileFile.builder().content(path).type(ProfileFile.Type.CREDENTIALS).build();
+    }
+
+    private static ProfileFileSupplier failingSupplier() {
+        return () -> {
+            throw new AssertionError("The fallback supplier should not be used.");
+        };
+    }
+
+    private static Path writeCredentials(Path path, String accessKeyId) throws IOException {
+        String contents = String.format("[default]\naws_access_key_id = %s\naws_secret_access_key = secret\n", accessKeyId);
+        return Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String accessKeyId(ProfileFile profileFile) {
+        return profileFile.profile("default").flatMap(p -> p.property("aws_access_key_id")).orElse(null);
+    }
+}
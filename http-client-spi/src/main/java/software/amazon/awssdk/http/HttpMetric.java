@@ -121,6 +121,36 @@ public final class HttpMetric {
     public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
         metric("ConcurrencyAcquireDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * Whether the request was sent on a connection that had already been used by a previous request, rather than on a
+     * connection established for this request.
+     *
+     * <p>For HTTP/2 operations, this is false only for the first stream sent on a connection.
+     */
+    public static final SdkMetric<Boolean> CONNECTION_REUSED =
+        metric("ConnectionReused", Boolean.class, MetricLevel.INFO);
+
+    /**
+     * The time taken to resolve the IP address of the remote host when establishing a new connection. This is only reported for
+     * requests that established a new connection (see {@link #CONNECTION_REUSED}).
+     */
+    public static final SdkMetric<Duration> DNS_RESOLUTION_DURATION =
+        metric("DnsResolutionDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time taken to establish the TCP connection to the remote host, excluding DNS resolution and the TLS handshake. This is
+     * only reported for requests that established a new connection (see {@link #CONNECTION_REUSED}).
+     */
+    public static final SdkMetric<Duration> TCP_CONNECT_DURATION =
+        metric("TcpConnectDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time taken to perform the TLS handshake with the remote host. This is only reported for requests that established a
+     * new connection (see {@link #CONNECTION_REUSED}) using TLS.
+     */
+    public static final SdkMetric<Duration> TLS_HANDSHAKE_DURATION =
+        metric("TlsHandshakeDuration", Duration.class, MetricLevel.INFO);
+
     private HttpMetric() {
     }
 
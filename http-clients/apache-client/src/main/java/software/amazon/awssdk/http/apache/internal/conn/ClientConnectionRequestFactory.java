@@ -27,6 +27,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
 
 @SdkInternalApi
 public final class ClientConnectionRequestFactory {
@@ -39,6 +40,18 @@ public final class ClientConnectionRequestFactory {
     private ClientConnectionRequestFactory() {
     }
 
+    /**
+     * Reports the provided metric to the request-level {@link MetricCollector} of the current thread, if there is one. This is
+     * used to report metrics from the components that establish connections, which are invoked on the thread executing the
+     * request.
+     */
+    static <T> void reportRequestMetric(SdkMetric<T> metric, T value) {
+        MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+        if (metricCollector != null) {
+            metricCollector.reportMetric(metric, value);
+        }
+    }
+
     /**
      * Returns a wrapped instance of {@link ConnectionRequest}
      * to capture the necessary performance metrics.
@@ -53,7 +66,8 @@ public final class ClientConnectionRequestFactory {
     }
 
     /**
-     * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)}.
+     * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)}, and reports whether the
+     * returned connection was already open, i.e. is being reused.
      */
     private static class InstrumentedConnectionRequest extends DelegatingConnectionRequest {
 
@@ -66,7 +80,9 @@ public final class ClientConnectionRequestFactory {
                                                                                 ConnectionPoolTimeoutException {
             Instant startTime = Instant.now();
             try {
-                return super.get(timeout, timeUnit);
+                HttpClientConnection connection = super.get(timeout, timeUnit);
+                reportRequestMetric(HttpMetric.CONNECTION_REUSED, connection.isOpen());
+                return connection;
             } finally {
                 Duration elapsed = Duration.between(startTime, Instant.now());
                 MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
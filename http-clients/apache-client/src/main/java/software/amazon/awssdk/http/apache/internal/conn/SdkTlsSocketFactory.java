@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.apache.internal.conn;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.time.Duration;
 import java.util.Arrays;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
@@ -26,6 +27,7 @@ import org.apache.http.HttpHost;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.internal.net.InputShutdownCheckingSslSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSslSocket;
@@ -36,6 +38,12 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
 
     private static final Logger log = Logger.loggerFor(SdkTlsSocketFactory.class);
 
+    /**
+     * The {@link HttpContext} attribute holding the duration of the last TLS handshake, so that it can be excluded from the
+     * TCP connect duration.
+     */
+    private static final String TLS_HANDSHAKE_DURATION_ATTRIBUTE = "aws.http.apache.tlsHandshakeDuration";
+
     public SdkTlsSocketFactory(SSLContext sslContext, HostnameVerifier hostnameVerifier) {
         super(sslContext, hostnameVerifier);
         if (sslContext == null) {
@@ -60,8 +68,22 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
             HttpContext context) throws IOException {
         log.trace(() -> String.format("Connecting to %s:%s", remoteAddress.getAddress(), remoteAddress.getPort()));
 
+        long connectStart = System.nanoTime();
+        if (context != null) {
+            context.removeAttribute(TLS_HANDSHAKE_DURATION_ATTRIBUTE);
+        }
+
         Socket connectedSocket = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
 
+        // The TLS handshake is performed as part of connecting the socket, so its duration is excluded from the TCP connect
+        // duration.
+        Duration connectDuration = Duration.ofNanos(System.nanoTime() - connectStart);
+        Object tlsHandshakeDuration = context == null ? null : context.getAttribute(TLS_HANDSHAKE_DURATION_ATTRIBUTE);
+        if (tlsHandshakeDuration instanceof Duration) {
+            connectDuration = connectDuration.minus((Duration) tlsHandshakeDuration);
+        }
+        ClientConnectionRequestFactory.reportRequestMetric(HttpMetric.TCP_CONNECT_DURATION, connectDuration);
+
         if (connectedSocket instanceof SSLSocket) {
             return new InputShutdownCheckingSslSocket(new SdkSslSocket((SSLSocket) connectedSocket));
         }
@@ -69,4 +91,17 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
         return new SdkSocket(connectedSocket);
     }
 
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+        long handshakeStart = System.nanoTime();
+        Socket layeredSocket = super.createLayeredSocket(socket, target, port, context);
+        Duration handshakeDuration = Duration.ofNanos(System.nanoTime() - handshakeStart);
+
+        if (context != null) {
+            context.setAttribute(TLS_HANDSHAKE_DURATION_ATTRIBUTE, handshakeDuration);
+        }
+        ClientConnectionRequestFactory.reportRequestMetric(HttpMetric.TLS_HANDSHAKE_DURATION, handshakeDuration);
+        return layeredSocket;
+    }
+
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import org.apache.http.conn.DnsResolver;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link DnsResolver} that reports the time taken to resolve the addresses of a host when establishing a connection.
+ */
+@SdkInternalApi
+public final class TimingDnsResolver implements DnsResolver {
+    private final DnsResolver delegate;
+
+    public TimingDnsResolver(DnsResolver delegate) {
+        this.delegate = Validate.paramNotNull(delegate, "delegate");
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        long resolveStart = System.nanoTime();
+        InetAddress[] addresses = delegate.resolve(host);
+        ClientConnectionRequestFactory.reportRequestMetric(HttpMetric.DNS_RESOLUTION_DURATION,
+                                                           Duration.ofNanos(System.nanoTime() - resolveStart));
+        return addresses;
+    }
+}
@@ -21,6 +21,10 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_REUSED;
+import static software.amazon.awssdk.http.HttpMetric.DNS_RESOLUTION_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.TCP_CONNECT_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.TLS_HANDSHAKE_DURATION;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
@@ -37,6 +41,7 @@ import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.IoUtils;
 
 
 @WireMockTest
@@ -72,6 +77,28 @@ public class ApacheMetricsTest {
         assertThat(collection.metricValues(CONCURRENCY_ACQUIRE_DURATION)).isNotEmpty();
     }
 
+    @Test
+    public void connectionMetricsAreRecordedForNewConnectionOnly() throws IOException {
+        client = ApacheHttpClient.create();
+
+        MetricCollector firstCollector = MetricCollector.create("first");
+        makeRequestWithMetrics(client, firstCollector).responseBody().ifPresent(IoUtils::drainInputStream);
+        MetricCollection firstCollection = firstCollector.collect();
+
+        assertThat(firstCollection.metricValues(CONNECTION_REUSED)).containsExactly(false);
+        assertThat(firstCollection.metricValues(DNS_RESOLUTION_DURATION)).hasSize(1);
+        assertThat(firstCollection.metricValues(TCP_CONNECT_DURATION)).hasSize(1);
+        assertThat(firstCollection.metricValues(TLS_HANDSHAKE_DURATION)).isEmpty();
+
+        MetricCollector secondCollector = MetricCollector.create("second");
+        makeRequestWithMetrics(client, secondCollector).responseBody().ifPresent(IoUtils::drainInputStream);
+        MetricCollection secondCollection = secondCollector.collect();
+
+        assertThat(secondCollection.metricValues(CONNECTION_REUSED)).containsExactly(true);
+        assertThat(secondCollection.metricValues(DNS_RESOLUTION_DURATION)).isEmpty();
+        assertThat(secondCollection.metricValues(TCP_CONNECT_DURATION)).isEmpty();
+    }
+
     private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector) throws IOException {
         SdkHttpRequest httpRequest = SdkHttpFullRequest.builder()
                                                        .method(SdkHttpMethod.GET)
@@ -47,7 +47,6 @@ import org.apache.hc.client5.http.HttpRoute;
 import org.apache.hc.client5.http.SchemePortResolver;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.TlsConfig;
-import org.apache.hc.client5.http.impl.io.DefaultHttpClientConnectionOperator;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionOperator;
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
@@ -204,7 +203,7 @@ public final class SafePoolingHttpClientConnectionManagerBuilder {
     protected HttpClientConnectionOperator createConnectionOperator(SchemePortResolver schemePortResolver,
                                                                     DnsResolver dnsResolver,
                                                                     TlsSocketStrategy tlsSocketStrategy) {
-        return new DefaultHttpClientConnectionOperator(schemePortResolver, dnsResolver,
+        return new TimingHttpClientConnectionOperator(schemePortResolver, dnsResolver,
                                                        RegistryBuilder.<TlsSocketStrategy>create()
                         .register(URIScheme.HTTPS.id, tlsSocketStrategy)
                         .build());
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5.internal.conn;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.SchemePortResolver;
+import org.apache.hc.client5.http.impl.io.DefaultHttpClientConnectionOperator;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.config.Lookup;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.net.NamedEndpoint;
+import org.apache.hc.core5.util.Timeout;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * A {@link DefaultHttpClientConnectionOperator} that reports the time taken by each phase of establishing a connection: resolving
+ * the remote address, connecting the socket and performing the TLS handshake.
+ * <p>
+ * The start of each phase is stored in the {@link HttpContext} of the request establishing the connection.
+ */
+@SdkInternalApi
+public final class TimingHttpClientConnectionOperator extends DefaultHttpClientConnectionOperator {
+    private static final String CONNECT_START_ATTRIBUTE = "aws.http.apache5.connectStart";
+    private static final String SOCKET_CONNECT_START_ATTRIBUTE = "aws.http.apache5.socketConnectStart";
+    private static final String TLS_HANDSHAKE_START_ATTRIBUTE = "aws.http.apache5.tlsHandshakeStart";
+
+    public TimingHttpClientConnectionOperator(SchemePortResolver schemePortResolver,
+                                              DnsResolver dnsResolver,
+                                              Lookup<TlsSocketStrategy> tlsSocketStrategyLookup) {
+        super(schemePortResolver, dnsResolver, tlsSocketStrategyLookup);
+    }
+
+    @Override
+    public void connect(ManagedHttpClientConnection conn,
+                        HttpHost endpointHost,
+                        NamedEndpoint endpointName,
+                        Path unixSocket,
+                        InetSocketAddress localAddress,
+                        Timeout connectTimeout,
+                        SocketConfig socketConfig,
+                        Object attachment,
+                        HttpContext context) throws IOException {
+        // The remote address is resolved before the socket connects, unless a unix domain socket is used.
+        if (context != null && unixSocket == null) {
+            context.setAttribute(CONNECT_START_ATTRIBUTE, System.nanoTime());
+        }
+        super.connect(conn, endpointHost, endpointName, unixSocket, localAddress, connectTimeout, socketConfig, attachment,
+                      context);
+    }
+
+    @Override
+    protected void onBeforeSocketConnect(HttpContext context, HttpHost endpointHost) {
+        // Only the first connection attempt follows the address resolution, so the attribute is removed once it is reported.
+        reportDuration(context, CONNECT_START_ATTRIBUTE, HttpMetric.DNS_RESOLUTION_DURATION);
+        if (context != null) {
+            context.setAttribute(SOCKET_CONNECT_START_ATTRIBUTE, System.nanoTime());
+        }
+    }
+
+    @Override
+    protected void onAfterSocketConnect(HttpContext context, HttpHost endpointHost) {
+        reportDuration(context, SOCKET_CONNECT_START_ATTRIBUTE, HttpMetric.TCP_CONNECT_DURATION);
+    }
+
+    @Override
+    protected void onBeforeTlsHandshake(HttpContext context, HttpHost endpointHost) {
+        if (context != null) {
+            context.setAttribute(TLS_HANDSHAKE_START_ATTRIBUTE, System.nanoTime());
+        }
+    }
+
+    @Override
+    protected void onAfterTlsHandshake(HttpContext context, HttpHost endpointHost) {
+        reportDuration(context, TLS_HANDSHAKE_START_ATTRIBUTE, HttpMetric.TLS_HANDSHAKE_DURATION);
+    }
+
+    private static void reportDuration(HttpContext context, String startAttribute, SdkMetric<Duration> metric) {
+        Object start = context == null ? null : context.removeAttribute(startAttribute);
+        if (start instanceof Long) {
+            ClientConnectionRequestFactory.reportRequestMetric(metric, Duration.ofNanos(System.nanoTime() - (Long) start));
+        }
+    }
+}
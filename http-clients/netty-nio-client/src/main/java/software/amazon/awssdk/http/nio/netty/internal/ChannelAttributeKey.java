@@ -73,6 +73,13 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<ChannelDiagnostics> CHANNEL_DIAGNOSTICS = NettyUtils.getOrCreateAttributeKey(
         "aws.http.nio.netty.async.channelDiagnostics");
 
+    /**
+     * The {@link ConnectionTimings} of a connection, used to report connection metrics. For HTTP/2, this is attached to the
+     * parent socket channel.
+     */
+    public static final AttributeKey<ConnectionTimings> CONNECTION_TIMINGS = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.connectionTimings");
+
     /**
      * {@link AttributeKey} to keep track of whether the streaming is completed and this is set to true when we receive the *
      * {@link LastHttpContent}.
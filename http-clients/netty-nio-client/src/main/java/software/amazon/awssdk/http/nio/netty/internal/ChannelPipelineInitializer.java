@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_DIAGNOSTICS;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CONNECTION_TIMINGS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CONNECTION;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_INITIAL_WINDOW_SIZE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
@@ -92,13 +93,26 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     public void channelCreated(Channel ch) {
         ch.attr(CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(ch));
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
+        ConnectionTimings connectionTimings = new ConnectionTimings();
+        // The pool creates the pipeline once the channel is registered with its event loop, right before the bootstrap resolves
+        // the remote address, so registration is not counted as resolution time.
+        if (ch.isRegistered()) {
+            connectionTimings.resolutionStarted();
+        }
+        ch.attr(CONNECTION_TIMINGS).set(connectionTimings);
         ChannelPipeline pipeline = ch.pipeline();
+        pipeline.addLast(new ConnectionTimingHandler(connectionTimings));
 
         boolean sslCtxPresent = sslCtx != null;
         if (sslCtxPresent) {
 
             SslHandler sslHandler = newSslHandler(sslCtx, ch.alloc(), poolKey.getHost(), poolKey.getPort(),
                                                   configuration.tlsHandshakeTimeout());
+            sslHandler.handshakeFuture().addListener(f -> {
+                if (f.isSuccess()) {
+                    connectionTimings.tlsHandshakeCompleted();
+                }
+            });
 
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
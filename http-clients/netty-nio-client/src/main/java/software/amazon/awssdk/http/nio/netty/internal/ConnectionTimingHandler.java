@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import java.net.SocketAddress;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Records when the socket of a new channel starts and finishes connecting in the channel's {@link ConnectionTimings}. The
+ * connect operation is only issued once the remote address is resolved, so it also marks the end of the address resolution.
+ * <p>
+ * The handler removes itself from the pipeline once the connect operation is issued.
+ */
+@SdkInternalApi
+public final class ConnectionTimingHandler extends ChannelDuplexHandler {
+    private final ConnectionTimings timings;
+
+    public ConnectionTimingHandler(ConnectionTimings timings) {
+        this.timings = timings;
+    }
+
+    @Override
+    public void connect(ChannelHandlerContext ctx,
+                        SocketAddress remoteAddress,
+                        SocketAddress localAddress,
+                        ChannelPromise promise) throws Exception {
+        timings.connectStarted();
+        promise.addListener(f -> {
+            if (f.isSuccess()) {
+                timings.connectCompleted();
+            }
+        });
+        super.connect(ctx, remoteAddress, localAddress, promise);
+        ctx.pipeline().remove(this);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * The time taken by each phase of establishing a connection: resolving the remote address, connecting the socket and
+ * performing the TLS handshake. The timings are reported to the first request sent on the connection, and every later request
+ * is reported as reusing the connection.
+ * <p>
+ * A phase is only reported if both its start and end were recorded.
+ */
+@SdkInternalApi
+public final class ConnectionTimings {
+    /**
+     * Marks a time that was not recorded. {@link System#nanoTime()} may return any value, including negative ones, so
+     * timestamps are compared against this marker rather than checked for being positive.
+     */
+    private static final long NOT_RECORDED = Long.MIN_VALUE;
+
+    private final AtomicBoolean used = new AtomicBoolean(false);
+
+    private volatile long resolutionStartNanos = NOT_RECORDED;
+    private volatile long connectStartNanos = NOT_RECORDED;
+    private volatile long connectEndNanos = NOT_RECORDED;
+    private volatile long tlsHandshakeEndNanos = NOT_RECORDED;
+
+    /**
+     * Invoked once the channel is registered with its event loop, when the remote address starts being resolved.
+     */
+    public void resolutionStarted() {
+        resolutionStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Invoked once the remote address is resolved, when the socket starts connecting.
+     */
+    public void connectStarted() {
+        connectStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Invoked once the socket is connected.
+     */
+    public void connectCompleted() {
+        connectEndNanos = System.nanoTime();
+    }
+
+    /**
+     * Invoked once the TLS handshake completes successfully.
+     */
+    public void tlsHandshakeCompleted() {
+        tlsHandshakeEndNanos = System.nanoTime();
+    }
+
+    /**
+     * Report the connection metrics for a request sent on this connection. The connection timings are only reported for the
+     * first request.
+     */
+    public void reportMetrics(MetricCollector metricCollector) {
+        boolean reused = !used.compareAndSet(false, true);
+        metricCollector.reportMetric(HttpMetric.CONNECTION_REUSED, reused);
+        if (reused) {
+            return;
+        }
+
+        long resolutionStart = resolutionStartNanos;
+        long connectStart = connectStartNanos;
+        long connectEnd = connectEndNanos;
+        long tlsHandshakeEnd = tlsHandshakeEndNanos;
+
+        if (isRecorded(resolutionStart) && isRecorded(connectStart)) {
+            metricCollector.reportMetric(HttpMetric.DNS_RESOLUTION_DURATION, Duration.ofNanos(connectStart - resolutionStart));
+        }
+        if (isRecorded(connectStart) && isRecorded(connectEnd)) {
+            metricCollector.reportMetric(HttpMetric.TCP_CONNECT_DURATION, Duration.ofNanos(connectEnd - connectStart));
+        }
+        if (isRecorded(connectEnd) && isRecorded(tlsHandshakeEnd)) {
+            metricCollector.reportMetric(HttpMetric.TLS_HANDSHAKE_DURATION, Duration.ofNanos(tlsHandshakeEnd - connectEnd));
+        }
+    }
+
+    private static boolean isRecorded(long nanos) {
+        return nanos != NOT_RECORDED;
+    }
+}
@@ -181,6 +181,7 @@ public final class NettyRequestExecutor {
                 try {
                     configureChannel();
                     configurePipeline();
+                    NettyRequestMetrics.publishConnectionMetrics(context.metricCollector(), channel);
                     makeRequest();
                 } catch (Throwable t) {
                     closeAndRelease(channel);
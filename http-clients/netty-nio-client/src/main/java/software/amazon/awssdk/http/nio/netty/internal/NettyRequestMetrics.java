@@ -69,6 +69,20 @@ public class NettyRequestMetrics {
             .ifPresent(http2Connection -> writeHttp2RequestMetrics(collector, channel, http2Connection)));
     }
 
+    /**
+     * Publish the connection metrics for the connection used by the provided channel, or by its parent channel for HTTP/2
+     * streams.
+     */
+    public static void publishConnectionMetrics(MetricCollector metricCollector, Channel channel) {
+        ifMetricsAreEnabled(metricCollector, collector -> {
+            Channel connection = channel.parent() == null ? channel : channel.parent();
+            ConnectionTimings timings = connection.attr(ChannelAttributeKey.CONNECTION_TIMINGS).get();
+            if (timings != null) {
+                timings.reportMetrics(collector);
+            }
+        });
+    }
+
     private static Optional<Http2Connection> getHttp2Connection(Channel channel) {
         Channel parentChannel = channel.parent();
         if (parentChannel == null) {
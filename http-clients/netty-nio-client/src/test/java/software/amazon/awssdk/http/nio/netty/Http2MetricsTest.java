@@ -125,6 +125,31 @@ public class Http2MetricsTest {
         }
     }
 
+    @Test
+    public void secondRequestOnConnectionReportsReusedConnectionWithoutConnectionTimings() {
+        try (SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder()
+                                                                .protocol(Protocol.HTTP2)
+                                                                .maxConcurrency(1)
+                                                                .build()) {
+            MetricCollector firstCollector = MetricCollector.create("first");
+            client.execute(createExecuteRequest(firstCollector)).join();
+            MetricCollection firstMetrics = firstCollector.collect();
+
+            assertThat(firstMetrics.metricValues(HttpMetric.CONNECTION_REUSED)).containsExactly(false);
+            assertThat(firstMetrics.metricValues(HttpMetric.DNS_RESOLUTION_DURATION)).hasSize(1);
+            assertThat(firstMetrics.metricValues(HttpMetric.TCP_CONNECT_DURATION).get(0)).isPositive();
+            assertThat(firstMetrics.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION)).isEmpty();
+
+            MetricCollector secondCollector = MetricCollector.create("second");
+            client.execute(createExecuteRequest(secondCollector)).join();
+            MetricCollection secondMetrics = secondCollector.collect();
+
+            assertThat(secondMetrics.metricValues(HttpMetric.CONNECTION_REUSED)).containsExactly(true);
+            assertThat(secondMetrics.metricValues(HttpMetric.DNS_RESOLUTION_DURATION)).isEmpty();
+            assertThat(secondMetrics.metricValues(HttpMetric.TCP_CONNECT_DURATION)).isEmpty();
+        }
+    }
+
     private AsyncExecuteRequest createExecuteRequest(MetricCollector metricCollector)  {
         URI uri = URI.create("http://localhost:" + SERVER.port());
         SdkHttpRequest request = createRequest(uri);
@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class ConnectionTimingsTest {
+    @Test
+    public void reportMetrics_allPhasesRecorded_reportsAllDurations() {
+        ConnectionTimings timings = new ConnectionTimings();
+        timings.resolutionStarted();
+        timings.connectStarted();
+        timings.connectCompleted();
+        timings.tlsHandshakeCompleted();
+
+        MetricCollection metrics = report(timings);
+        assertThat(metrics.metricValues(HttpMetric.CONNECTION_REUSED)).containsExactly(false);
+        assertThat(metrics.metricValues(HttpMetric.DNS_RESOLUTION_DURATION)).hasSize(1);
+        assertThat(metrics.metricValues(HttpMetric.TCP_CONNECT_DURATION)).hasSize(1);
+        assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION)).hasSize(1);
+    }
+
+    @Test
+    public void reportMetrics_resolutionStartNotRecorded_doesNotReportResolution() {
+        ConnectionTimings timings = new ConnectionTimings();
+        timings.connectStarted();
+        timings.connectCompleted();
+
+        MetricCollection metrics = report(timings);
+        assertThat(metrics.metricValues(HttpMetric.DNS_RESOLUTION_DURATION)).isEmpty();
+        assertThat(metrics.metricValues(HttpMetric.TCP_CONNECT_DURATION).get(0).isNegative()).isFalse();
+        assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION)).isEmpty();
+    }
+
+    @Test
+    public void reportMetrics_secondRequest_onlyReportsReuse() {
+        ConnectionTimings timings = new ConnectionTimings();
+        timings.resolutionStarted();
+        timings.connectStarted();
+        timings.connectCompleted();
+        report(timings);
+
+        MetricCollection metrics = report(timings);
+        assertThat(metrics.metricValues(HttpMetric.CONNECTION_REUSED)).containsExactly(true);
+        assertThat(metrics.metricValues(HttpMetric.DNS_RESOLUTION_DURATION)).isEmpty();
+        assertThat(metrics.metricValues(HttpMetric.TCP_CONNECT_DURATION)).isEmpty();
+    }
+
+    private static MetricCollection report(ConnectionTimings timings) {
+        MetricCollector collector = MetricCollector.create("test");
+        timings.reportMetrics(collector);
+        return collector.collect();
+    }
+}
@@ -51,7 +51,6 @@ import software.amazon.awssdk.metrics.MetricLevel;
 import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.MetricUploader;
-import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.task.AggregateMetricsTask;
 import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.task.UploadMetricsTasks;
 import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform.MetricCollectionAggregator;
 import software.amazon.awssdk.services.cloudwatch.CloudWatchAsyncClient;
@@ -170,8 +169,7 @@ import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 @SdkPublicApi
 public final class CloudWatchMetricPublisher implements MetricPublisher {
     /**
-     * The default maximum queue size for the internal {@link #executor} that is used to aggregate metric data and upload it to
-     * CloudWatch. If this value is too high, memory is wasted. If this value is too low, metrics could be dropped.
+     * The default maximum queue size for the internal {@link #executor} that is used to upload metric data to CloudWatch.
      */
     private static final int DEFAULT_TASK_QUEUE_SIZE = 128;
 
@@ -193,8 +191,9 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
     private final boolean closeClientWithPublisher;
 
     /**
-     * The aggregator that takes {@link MetricCollection}s and converts them into {@link PutMetricDataRequest}s. This aggregator
-     * is *not* thread safe, so it should only ever be accessed from the {@link #executor}'s thread.
+     * The aggregator that takes {@link MetricCollection}s and converts them into {@link PutMetricDataRequest}s. Metric
+     * collections are added to it directly by the threads calling {@link #publish(MetricCollection)}, and requests are only
+     * retrieved from it on the {@link #executor}'s thread.
      */
     private final MetricCollectionAggregator metricAggregator;
 
@@ -204,14 +203,14 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
     private final MetricUploader metricUploader;
 
     /**
-     * The executor that executes {@link AggregateMetricsTask}s and {@link UploadMetricsTasks}s.
+     * The executor that executes {@link UploadMetricsTasks}s.
      */
     private final ExecutorService executor;
 
     /**
      * A scheduled executor that periodically schedules a {@link UploadMetricsTasks} on the {@link #executor} thread. Note: this
-     * executor should never execute the flush task itself, because that needs access to the {@link #metricAggregator}, and the
-     * {@code metricAggregator} should only ever be accessed from the {@link #executor} thread.
+     * executor should never execute the flush task itself, so that requests are only ever retrieved from the
+     * {@link #metricAggregator} on the {@link #executor} thread, one upload at a time.
      */
     private final ScheduledExecutorService scheduledExecutor;
 
@@ -221,6 +220,12 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
      */
     private final int maximumCallsPerUpload;
 
+    /**
+     * Whether {@link #close()} has been called. Metrics published after that are dropped, because they would never be
+     * uploaded.
+     */
+    private volatile boolean closed;
+
     private CloudWatchMetricPublisher(Builder builder) {
         this.closeClientWithPublisher = resolveCloseClientWithPublisher(builder);
         this.metricAggregator = new MetricCollectionAggregator(resolveNamespace(builder),
@@ -234,10 +239,13 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().threadNamePrefix("cloud-watch-metric-publisher").build();
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
 
-        // Do not increase above 1 thread: access to MetricCollectionAggregator is not thread safe.
-        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
-                                               resolveTaskQueue(builder),
-                                               threadFactory);
+        // Do not increase above 1 thread: uploads should not overlap, so that they are made in order and at the upload frequency.
+        ThreadPoolExecutor uploadExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                                                                   resolveTaskQueue(builder),
+                                                                   threadFactory);
+        // Start the thread up front, so that every upload task goes through the task queue.
+        uploadExecutor.prestartCoreThread();
+        this.executor = uploadExecutor;
 
         long flushFrequencyInMillis = resolveUploadFrequency(builder).toMillis();
         this.scheduledExecutor.scheduleAtFixedRate(this::flushMetricsQuietly,
@@ -286,12 +294,16 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
 
     @Override
     public void publish(MetricCollection metricCollection) {
+        if (closed) {
+            METRIC_LOGGER.warn(() -> "Some AWS SDK client-side metrics have been dropped because they were published after "
+                                     + "the publisher was closed.");
+            return;
+        }
         try {
-            executor.submit(new AggregateMetricsTask(metricAggregator, metricCollection));
-        } catch (RejectedExecutionException e) {
-            METRIC_LOGGER.warn(() -> "Some AWS SDK client-side metrics have been dropped because an internal executor did not "
-                                     + "accept them. This usually occurs because your publisher has been shut down or you have "
-                                     + "generated too many requests for the publisher to handle in a timely fashion.", e);
+            metricAggregator.addCollection(metricCollection);
+        } catch (RuntimeException e) {
+            METRIC_LOGGER.warn(() -> "Some AWS SDK client-side metrics have been dropped because they could not be "
+                                     + "aggregated.", e);
         }
     }
 
@@ -326,6 +338,7 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
 
     @Override
     public void close() {
+        closed = true;
         try {
             scheduledExecutor.shutdownNow();
 
@@ -468,12 +481,12 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         }
 
         /**
-         * Configure the {@link BlockingQueue} used by the internal executor for queuing metric aggregation and upload tasks.
+         * Configure the {@link BlockingQueue} used by the internal executor for queuing metric upload tasks.
          *
          * <p>If this is not specified, a blocking queue with a capacity of 128 is used.
          *
-         * <p>High-throughput applications may need a larger queue to prevent dropped metrics. When the queue is full, new
-         * metrics are dropped and a warning is logged.
+         * <p>Metrics are aggregated by the threads that publish them, so the size of this queue does not affect whether
+         * metrics are dropped at high request rates.
          *
          * @param taskQueue the blocking queue to use for the internal executor
          * @return This object for method chaining.
@@ -15,12 +15,10 @@
 
 package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.services.cloudwatch.model.Dimension;
 import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
@@ -29,19 +27,28 @@ import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
 /**
  * An implementation of {@link MetricAggregator} that stores all values and counts for a given metric/dimension pair
  * until they can be added to a {@link MetricDatum}.
+ *
+ * <p>The counts are kept in primitive hash tables keyed by the bits of each value, to avoid boxing every value. Values are
+ * spread over several independently-locked tables, so that threads adding different values rarely contend.
  */
+@ThreadSafe
 @SdkInternalApi
 class DetailedMetricAggregator implements MetricAggregator {
+    private static final int STRIPE_COUNT = 8;
+
     private final SdkMetric<?> metric;
     private final List<Dimension> dimensions;
     private final StandardUnit unit;
 
-    private final Map<Double, DetailedMetrics> metricDetails = new HashMap<>();
+    private final ValueCounts[] stripes = new ValueCounts[STRIPE_COUNT];
 
     DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
         this.metric = key.metric();
         this.dimensions = key.dimensions();
         this.unit = unit;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ValueCounts();
+        }
     }
 
     @Override
@@ -56,7 +63,8 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
-        metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value)).metricCount++;
+        long valueBits = Double.doubleToLongBits(value);
+        stripes[spread(valueBits) & (STRIPE_COUNT - 1)].increment(valueBits);
     }
 
     @Override
@@ -64,24 +72,96 @@ class DetailedMetricAggregator implements MetricAggregator {
         return unit;
     }
 
-    public Collection<DetailedMetrics> detailedMetrics() {
-        return Collections.unmodifiableCollection(metricDetails.values());
+    /**
+     * Get the distinct values added to this aggregator, and the number of times each was added.
+     */
+    public List<DetailedMetrics> detailedMetrics() {
+        List<DetailedMetrics> result = new ArrayList<>();
+        for (ValueCounts stripe : stripes) {
+            stripe.addTo(result);
+        }
+        return result;
+    }
+
+    private static int spread(long valueBits) {
+        int hash = Long.hashCode(valueBits);
+        return hash ^ (hash >>> 16);
     }
 
     public static class DetailedMetrics {
         private final double metricValue;
-        private int metricCount = 0;
+        private final long metricCount;
 
-        private DetailedMetrics(double metricValue) {
+        private DetailedMetrics(double metricValue, long metricCount) {
             this.metricValue = metricValue;
+            this.metricCount = metricCount;
         }
 
         public double metricValue() {
             return metricValue;
         }
 
-        public int metricCount() {
+        public long metricCount() {
             return metricCount;
         }
     }
+
+    /**
+     * An open-addressing hash table from the bits of a {@code double} value to the number of times it was added.
+     */
+    private static final class ValueCounts {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private long[] counts = new long[INITIAL_CAPACITY];
+        private int size;
+
+        private synchronized void increment(long valueBits) {
+            int index = indexOf(keys, counts, valueBits);
+            if (counts[index] == 0) {
+                if ((size + 1) * 4 > keys.length * 3) {
+                    resize();
+                    index = indexOf(keys, counts, valueBits);
+                }
+                keys[index] = valueBits;
+                size++;
+            }
+            counts[index]++;
+        }
+
+        private synchronized void addTo(List<DetailedMetrics> result) {
+            for (int i = 0; i < keys.length; i++) {
+                if (counts[i] != 0) {
+                    result.add(new DetailedMetrics(Double.longBitsToDouble(keys[i]), counts[i]));
+                }
+            }
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            long[] oldCounts = counts;
+            keys = new long[oldKeys.length * 2];
+            counts = new long[oldCounts.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldCounts[i] != 0) {
+                    int index = indexOf(keys, counts, oldKeys[i]);
+                    keys[index] = oldKeys[i];
+                    counts[index] = oldCounts[i];
+                }
+            }
+        }
+
+        /**
+         * Returns the slot holding the provided value, or the empty slot where it should be inserted. Empty slots have a count
+         * of zero.
+         */
+        private static int indexOf(long[] keys, long[] counts, long valueBits) {
+            int mask = keys.length - 1;
+            int index = Long.hashCode(valueBits * 0x9E3779B97F4A7C15L) & mask;
+            while (counts[index] != 0 && keys[index] != valueBits) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+    }
 }
@@ -22,8 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
-import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.ApiName;
 import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricCollection;
@@ -42,10 +42,12 @@ import software.amazon.awssdk.utils.MetricValueNormalizer;
  * <p>It would be too expensive to upload every {@code MetricCollection} as a unique {@code PutMetricDataRequest}, so this
  * class aggregates the data so that multiple {@code MetricCollection}s can be placed in the same {@code PutMetricDataRequest}.
  *
- * <p><b>Warning:</b> This class is *not* thread-safe.
+ * <p>{@link #addCollection(MetricCollection)} can be called by any number of threads concurrently, including while
+ * {@link #getRequests()} is running. Values added concurrently with {@code getRequests()} are either included in its result
+ * or in the result of the next call.
  */
 @SdkInternalApi
-@NotThreadSafe
+@ThreadSafe
 public class MetricCollectionAggregator {
     /**
      * The maximum number of {@link MetricDatum}s allowed in {@link PutMetricDataRequest#metricData()}. This limit is imposed by
@@ -103,7 +105,7 @@ public class MetricCollectionAggregator {
         List<MetricDatum> requestMetricDatums = new ArrayList<>();
         ValuesInRequestCounter valuesInRequestCounter = new ValuesInRequestCounter();
 
-        Map<Instant, Collection<MetricAggregator>> metrics = timeBucketedMetrics.timeBucketedMetrics();
+        Map<Instant, Collection<MetricAggregator>> metrics = timeBucketedMetrics.drain();
 
         for (Map.Entry<Instant, Collection<MetricAggregator>> entry : metrics.entrySet()) {
             Instant timeBucket = entry.getKey();
@@ -117,7 +119,7 @@ public class MetricCollectionAggregator {
 
                 metric.ifDetailed(detailedAggregator -> {
                     int startIndex = 0;
-                    Collection<DetailedMetrics> detailedMetrics = detailedAggregator.detailedMetrics();
+                    List<DetailedMetrics> detailedMetrics = detailedAggregator.detailedMetrics();
 
                     while (startIndex < detailedMetrics.size()) {
                         if (valuesInRequestCounter.get() >= MAX_VALUES_PER_REQUEST) {
@@ -126,7 +128,7 @@ public class MetricCollectionAggregator {
                             valuesInRequestCounter.reset();
                         }
 
-                        MetricDatum data = detailedMetricDatum(timeBucket, detailedAggregator,
+                        MetricDatum data = detailedMetricDatum(timeBucket, detailedAggregator, detailedMetrics,
                                                                startIndex, MAX_VALUES_PER_REQUEST - valuesInRequestCounter.get());
                         int valuesAdded = data.values().size();
                         startIndex += valuesAdded;
@@ -141,22 +143,20 @@ public class MetricCollectionAggregator {
             requests.add(newPutRequest(requestMetricDatums));
         }
 
-        timeBucketedMetrics.reset();
-
         return requests;
     }
 
     private MetricDatum detailedMetricDatum(Instant timeBucket,
                                             DetailedMetricAggregator metric,
+                                            List<DetailedMetrics> metricDetails,
                                             int metricStartIndex,
                                             int maxElements) {
         List<Double> values = new ArrayList<>();
         List<Double> counts = new ArrayList<>();
 
-        Stream<DetailedMetrics> boundedMetrics = metric.detailedMetrics()
-                                                       .stream()
-                                                       .skip(metricStartIndex)
-                                                       .limit(maxElements);
+        Stream<DetailedMetrics> boundedMetrics = metricDetails.stream()
+                                                              .skip(metricStartIndex)
+                                                              .limit(maxElements);
 
         boundedMetrics.forEach(detailedMetrics -> {
             values.add(MetricValueNormalizer.normalize(detailedMetrics.metricValue()));
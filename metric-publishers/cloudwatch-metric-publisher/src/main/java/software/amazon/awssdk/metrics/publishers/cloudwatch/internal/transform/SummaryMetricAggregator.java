@@ -16,7 +16,11 @@
 package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 
 import java.util.List;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.services.cloudwatch.model.Dimension;
 import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
@@ -25,17 +29,21 @@ import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
 /**
  * An implementation of {@link MetricAggregator} that stores summary statistics for a given metric/dimension pair until the
  * summary can be added to a {@link MetricDatum}.
+ *
+ * <p>The statistics are kept in striped accumulators, so that threads adding values concurrently do not contend on a single
+ * memory location.
  */
+@ThreadSafe
 @SdkInternalApi
 class SummaryMetricAggregator implements MetricAggregator {
     private final SdkMetric<?> metric;
     private final List<Dimension> dimensions;
     private final StandardUnit unit;
 
-    private double min = Double.MAX_VALUE;
-    private double max = Double.MIN_VALUE;
-    private double sum = 0;
-    private int count = 0;
+    private final DoubleAccumulator min = new DoubleAccumulator(Double::min, Double.MAX_VALUE);
+    private final DoubleAccumulator max = new DoubleAccumulator(Double::max, Double.MIN_VALUE);
+    private final DoubleAdder sum = new DoubleAdder();
+    private final LongAdder count = new LongAdder();
 
     SummaryMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
         this.metric = key.metric();
@@ -55,10 +63,10 @@ class SummaryMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
-        min = Double.min(value, min);
-        max = Double.max(value, max);
-        sum += value;
-        ++count;
+        min.accumulate(value);
+        max.accumulate(value);
+        sum.add(value);
+        count.increment();
     }
 
     @Override
@@ -67,18 +75,18 @@ class SummaryMetricAggregator implements MetricAggregator {
     }
 
     public double min() {
-        return min;
+        return min.get();
     }
 
     public double max() {
-        return max;
+        return max.get();
     }
 
     public double sum() {
-        return sum;
+        return sum.sum();
     }
 
-    public int count() {
-        return count;
+    public long count() {
+        return count.sum();
     }
 }
@@ -22,13 +22,14 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricLevel;
@@ -41,14 +42,24 @@ import software.amazon.awssdk.utils.MetricValueNormalizer;
 /**
  * "Buckets" metrics by the minute in which they were collected. This allows all metric data for a given 1-minute period to be
  * aggregated under a specific {@link MetricAggregator}.
+ *
+ * <p>Metrics can be added by any number of threads concurrently, without locking. {@link #drain()} swaps the buckets that
+ * metrics are added to with empty ones, and waits for the threads still adding metrics to the previous buckets using a
+ * {@link WriterReaderPhaser}, so that no metric value is lost.
  */
+@ThreadSafe
 @SdkInternalApi
 class TimeBucketedMetrics {
     /**
      * A map from "the minute during which a metric value happened" to "the dimension and metric associated with the metric
      * values" to "the aggregator for the metric values that occurred within that minute and for that dimension/metric".
      */
-    private final Map<Instant, Map<MetricAggregatorKey, MetricAggregator>> timeBucketedMetrics = new HashMap<>();
+    private volatile Map<Instant, Map<MetricAggregatorKey, MetricAggregator>> timeBucketedMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Allows {@link #drain()} to wait for the threads adding metrics to the {@link #timeBucketedMetrics} it swapped out.
+     */
+    private final WriterReaderPhaser phaser = new WriterReaderPhaser();
 
     /**
      * The dimensions that should be used for aggregating metrics that occur within a given minute. These are optional values.
@@ -98,24 +109,26 @@ class TimeBucketedMetrics {
      */
     public void addMetrics(MetricCollection metrics) {
         Instant bucket = getBucket(metrics);
-        addMetricsToBucket(metrics, bucket);
-    }
-
-    /**
-     * Reset this bucket, clearing all stored values.
-     */
-    public void reset() {
-        timeBucketedMetrics.clear();
+        long phase = phaser.writerCriticalSectionEnter();
+        try {
+            addMetricsToBucket(metrics, bucket);
+        } finally {
+            phaser.writerCriticalSectionExit(phase);
+        }
     }
 
     /**
-     * Retrieve all values in this collection. The map key is the minute in which the metric values were collected, and the
-     * map value are all of the metrics that were aggregated during that minute.
+     * Retrieve all values in this collection, and reset it. The map key is the minute in which the metric values were
+     * collected, and the map value are all of the metrics that were aggregated during that minute.
      */
-    public Map<Instant, Collection<MetricAggregator>> timeBucketedMetrics() {
-        return timeBucketedMetrics.entrySet()
-                                  .stream()
-                                  .collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue().values()));
+    public synchronized Map<Instant, Collection<MetricAggregator>> drain() {
+        Map<Instant, Map<MetricAggregatorKey, MetricAggregator>> drainedMetrics = timeBucketedMetrics;
+        timeBucketedMetrics = new ConcurrentHashMap<>();
+        phaser.flipPhase();
+
+        return drainedMetrics.entrySet()
+                             .stream()
+                             .collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue().values()));
     }
 
     private Instant getBucket(MetricCollection metrics) {
@@ -123,7 +136,7 @@ class TimeBucketedMetrics {
     }
 
     private void addMetricsToBucket(MetricCollection metrics, Instant bucketId) {
-        aggregateMetrics(metrics, timeBucketedMetrics.computeIfAbsent(bucketId, i -> new HashMap<>()));
+        aggregateMetrics(metrics, timeBucketedMetrics.computeIfAbsent(bucketId, i -> new ConcurrentHashMap<>()));
     }
 
     private void aggregateMetrics(MetricCollection metrics, Map<MetricAggregatorKey, MetricAggregator> bucket) {
@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Coordinates wait-free writers with a reader that swaps out the data structure they write to, so that the reader can
+ * access the swapped-out structure once every writer is done with it.
+ *
+ * <p>Writers surround each update with {@link #writerCriticalSectionEnter()} and
+ * {@link #writerCriticalSectionExit(long)}. After making a new structure visible to writers, the reader calls
+ * {@link #flipPhase()}, which returns once all writers that may still be updating the previous structure have exited.
+ *
+ * <p>This is the writer-reader phaser described by Gil Tene for double-buffered histogram recording.
+ */
+@ThreadSafe
+@SdkInternalApi
+final class WriterReaderPhaser {
+    private static final AtomicLongFieldUpdater<WriterReaderPhaser> START_EPOCH =
+        AtomicLongFieldUpdater.newUpdater(WriterReaderPhaser.class, "startEpoch");
+    private static final AtomicLongFieldUpdater<WriterReaderPhaser> EVEN_END_EPOCH =
+        AtomicLongFieldUpdater.newUpdater(WriterReaderPhaser.class, "evenEndEpoch");
+    private static final AtomicLongFieldUpdater<WriterReaderPhaser> ODD_END_EPOCH =
+        AtomicLongFieldUpdater.newUpdater(WriterReaderPhaser.class, "oddEndEpoch");
+
+    private volatile long startEpoch = 0;
+    private volatile long evenEndEpoch = 0;
+    private volatile long oddEndEpoch = Long.MIN_VALUE;
+
+    /**
+     * Enter a writer critical section. The returned value must be passed to {@link #writerCriticalSectionExit(long)}.
+     */
+    long writerCriticalSectionEnter() {
+        return START_EPOCH.getAndIncrement(this);
+    }
+
+    /**
+     * Exit the writer critical section entered with the provided value.
+     */
+    void writerCriticalSectionExit(long criticalValueAtEnter) {
+        if (criticalValueAtEnter < 0) {
+            ODD_END_EPOCH.getAndIncrement(this);
+        } else {
+            EVEN_END_EPOCH.getAndIncrement(this);
+        }
+    }
+
+    /**
+     * Wait for all writers that entered their critical section before this call to exit it. This must not be called
+     * concurrently.
+     */
+    void flipPhase() {
+        boolean nextPhaseIsEven = startEpoch < 0;
+
+        long initialStartValue = nextPhaseIsEven ? 0 : Long.MIN_VALUE;
+        if (nextPhaseIsEven) {
+            evenEndEpoch = initialStartValue;
+        } else {
+            oddEndEpoch = initialStartValue;
+        }
+
+        long startValueAtFlip = START_EPOCH.getAndSet(this, initialStartValue);
+
+        while ((nextPhaseIsEven ? oddEndEpoch : evenEndEpoch) != startValueAtFlip) {
+            Thread.yield();
+        }
+    }
+}
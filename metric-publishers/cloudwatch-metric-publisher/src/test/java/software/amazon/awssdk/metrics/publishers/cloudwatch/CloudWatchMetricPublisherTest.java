@@ -32,6 +32,7 @@ import org.mockito.Mockito;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricLevel;
 import software.amazon.awssdk.metrics.SdkMetric;
@@ -75,6 +76,18 @@ public class CloudWatchMetricPublisherTest {
         Thread.interrupted(); // Clear interrupt flag
     }
 
+    @Test
+    public void publishAfterCloseIsDropped() {
+        CloudWatchMetricPublisher publisher = publisherBuilder.build();
+        publisher.close();
+
+        MetricCollection metricCollection = Mockito.mock(MetricCollection.class);
+        publisher.publish(metricCollection);
+
+        Mockito.verifyNoInteractions(metricCollection);
+        assertNoPutMetricCalls();
+    }
+
     @Test
     public void closeDoesNotCloseConfiguredClient() {
         CloudWatchMetricPublisher.builder().cloudWatchClient(cloudWatch).build().close();
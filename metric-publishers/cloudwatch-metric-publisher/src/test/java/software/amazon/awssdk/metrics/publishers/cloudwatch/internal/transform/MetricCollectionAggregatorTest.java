@@ -21,10 +21,14 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -36,6 +40,7 @@ import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricLevel;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.metrics.publishers.cloudwatch.FixedTimeMetricCollection;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
 import software.amazon.awssdk.services.cloudwatch.model.StatisticSet;
 
@@ -359,6 +364,55 @@ public class MetricCollectionAggregatorTest {
         assertThat(aggregator.getRequests()).isEmpty();
     }
 
+    @Test
+    public void concurrentlyAddedValuesAreNotLost() throws Exception {
+        int threadCount = 8;
+        int valuesPerThread = 10_000;
+        MetricCollectionAggregator aggregator = aggregatorWithCustomDetailedMetrics(HttpMetric.MAX_CONCURRENCY);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < valuesPerThread; i++) {
+                        MetricCollector collector = collector();
+                        collector.reportMetric(CoreMetric.SERVICE_ID, "ServiceId");
+                        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, i % 10);
+                        collector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 1);
+                        aggregator.addCollection(collectToFixedTime(collector));
+                    }
+                }));
+            }
+
+            List<PutMetricDataRequest> requests = new ArrayList<>();
+            while (!writers.stream().allMatch(Future::isDone)) {
+                requests.addAll(aggregator.getRequests());
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            requests.addAll(aggregator.getRequests());
+
+            List<MetricDatum> metricData = requests.stream()
+                                                   .flatMap(r -> r.metricData().stream())
+                                                   .collect(Collectors.toList());
+            double detailedCount = metricData.stream()
+                                             .filter(d -> d.metricName().equals(HttpMetric.MAX_CONCURRENCY.name()))
+                                             .flatMap(d -> d.counts().stream())
+                                             .mapToDouble(Double::doubleValue)
+                                             .sum();
+            double summaryCount = metricData.stream()
+                                            .filter(d -> d.metricName().equals(HttpMetric.AVAILABLE_CONCURRENCY.name()))
+                                            .mapToDouble(d -> d.statisticValues().sampleCount())
+                                            .sum();
+
+            assertThat(detailedCount).isEqualTo(threadCount * valuesPerThread);
+            assertThat(summaryCount).isEqualTo(threadCount * valuesPerThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void numberTypesAreTransformedCorrectly() {
         SdkMetric<CustomNumber> metric = someMetric(CustomNumber.class);
@@ -16,10 +16,14 @@
 package software.amazon.awssdk.metrics.publishers.emf;
 
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -29,9 +33,12 @@ import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricLevel;
 import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.emf.internal.EmfMetricAggregator;
 import software.amazon.awssdk.metrics.publishers.emf.internal.EmfMetricConfiguration;
 import software.amazon.awssdk.metrics.publishers.emf.internal.MetricEmfConverter;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * A metric publisher implementation that converts metrics into CloudWatch Embedded Metric Format (EMF).
@@ -52,6 +59,13 @@ import software.amazon.awssdk.utils.Logger;
  * monitoring and alerting.
  * </p>
  *
+ * <p>
+ * By default, one log entry is written for each published {@link MetricCollection}, which is one per API call. For
+ * applications with a high request rate, {@link Builder#aggregationInterval(Duration)} can be configured to aggregate the
+ * metric values by dimension set instead, and write one log entry per dimension set per interval from a background thread.
+ * When aggregating, make sure to {@link #close()} the publisher to log the values of the last interval.
+ * </p>
+ *
  * @snippet
  * // Create a EmfMetricLoggingPublisher using a custom namespace.
  * MetricPublisher emfMetricLoggingPublisher = EmfMetricLoggingPublisher.builder()
@@ -74,6 +88,17 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
     private static final Logger logger = Logger.loggerFor(EmfMetricLoggingPublisher.class);
     private final MetricEmfConverter metricConverter;
 
+    /**
+     * The aggregator of the published metrics, or null when each {@link MetricCollection} is logged as it is published.
+     */
+    private final EmfMetricAggregator metricAggregator;
+
+    /**
+     * Periodically logs the metrics aggregated by the {@link #metricAggregator}, or null when not aggregating.
+     */
+    private final ScheduledExecutorService scheduledExecutor;
+
+    private volatile boolean closed;
 
     private EmfMetricLoggingPublisher(Builder builder) {
         EmfMetricConfiguration config = new EmfMetricConfiguration.Builder()
@@ -86,6 +111,18 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
             .build();
 
         this.metricConverter = new MetricEmfConverter(config);
+
+        if (builder.aggregationInterval == null) {
+            this.metricAggregator = null;
+            this.scheduledExecutor = null;
+        } else {
+            long intervalInMillis = Validate.isPositive(builder.aggregationInterval, "aggregationInterval").toMillis();
+            this.metricAggregator = new EmfMetricAggregator(metricConverter);
+            this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().threadNamePrefix("emf-metric-logging-publisher").build());
+            this.scheduledExecutor.scheduleAtFixedRate(this::logAggregatedMetrics,
+                                                       intervalInMillis, intervalInMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
 
@@ -101,6 +138,16 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
             return;
         }
         try {
+            if (metricAggregator != null) {
+                if (closed) {
+                    logger.warn(() -> "Some AWS SDK client-side metrics have been dropped because they were published after "
+                                      + "the publisher was closed.");
+                    return;
+                }
+                metricAggregator.add(metricCollection);
+                return;
+            }
+
             List<String> emfStrings = metricConverter.convertMetricCollectionToEmf(metricCollection);
             for (String emfString : emfStrings) {
                 logger.info(() -> emfString);
@@ -111,11 +158,28 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
     }
 
     /**
-     * Closes this metric publisher. This implementation is empty as the EMF metric logging publisher
-     * does not maintain any resources that require explicit cleanup.
+     * Closes this metric publisher. When an {@link Builder#aggregationInterval(Duration)} is configured, this stops the
+     * background thread and logs the metrics aggregated since the last interval. Metrics published after the publisher is
+     * closed are dropped. Otherwise, this does nothing, as the EMF metric logging publisher does not maintain any resources
+     * that require explicit cleanup.
      */
     @Override
     public void close() {
+        closed = true;
+        if (scheduledExecutor != null) {
+            scheduledExecutor.shutdownNow();
+            logAggregatedMetrics();
+        }
+    }
+
+    private void logAggregatedMetrics() {
+        try {
+            for (String emfString : metricAggregator.flush()) {
+                logger.info(() -> emfString);
+            }
+        } catch (Exception e) {
+            logger.error(() -> "Failed to log aggregated metrics in EMF format", e);
+        }
     }
 
     public static final class Builder {
@@ -125,6 +189,7 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
         private Collection<MetricCategory> metricCategories;
         private MetricLevel metricLevel;
         private PropertiesFactory propertiesFactory;
+        private Duration aggregationInterval;
 
         private Builder() {
         }
@@ -241,6 +306,24 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
             return this;
         }
 
+        /**
+         * Configure the interval over which published metrics are aggregated before they are logged.
+         *
+         * <p>When this is specified, the values of each metric are aggregated per dimension set, and a background thread
+         * writes one log entry per dimension set at the end of each interval. Each metric is written as its distinct values,
+         * the number of times each value was recorded, and its minimum, maximum, sum and count. This reduces the log volume and
+         * the time spent by {@link #publish(MetricCollection)} when many API calls are made.
+         *
+         * <p>Custom properties from the {@link #propertiesFactory(PropertiesFactory)} are specific to each
+         * {@link MetricCollection}, so they are not included in aggregated log entries.
+         *
+         * <p>If this is not specified, one log entry is written for each published {@link MetricCollection}.
+         */
+        public Builder aggregationInterval(Duration aggregationInterval) {
+            this.aggregationInterval = aggregationInterval;
+            return this;
+        }
+
         /**
          * Build a {@link EmfMetricLoggingPublisher} using the configuration currently configured on this publisher.
          */
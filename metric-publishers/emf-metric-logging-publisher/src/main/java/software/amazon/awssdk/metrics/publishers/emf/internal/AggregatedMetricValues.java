@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import java.util.Map;
+import java.util.TreeMap;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
+
+/**
+ * The values recorded for one metric of one dimension set during an aggregation interval, stored as the distinct values and
+ * the number of times each was recorded, along with the statistic set (minimum, maximum, sum and count) of all values.
+ * <p>
+ * EMF allows up to 100 distinct values per metric. Once that many distinct values were recorded, a new value is counted
+ * against the closest recorded value instead. The statistic set is always exact.
+ */
+@NotThreadSafe
+@SdkInternalApi
+public final class AggregatedMetricValues {
+    /**
+     * EMF allows up to 100 elements in an array
+     */
+    private static final int MAX_DISTINCT_VALUES = 100;
+
+    private final TreeMap<Double, Long> valueCounts = new TreeMap<>();
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double sum;
+    private long count;
+
+    public void add(double value) {
+        Double key = value;
+        if (valueCounts.size() == MAX_DISTINCT_VALUES && !valueCounts.containsKey(key)) {
+            key = closestRecordedValue(value);
+        }
+        valueCounts.merge(key, 1L, Long::sum);
+
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sum += value;
+        count++;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Writes these values as an EMF metric value object, e.g.
+     * {@code {"Values":[5.0,7.0],"Counts":[2,1],"Max":7.0,"Min":5.0,"Count":3,"Sum":17.0}}.
+     */
+    public void writeTo(JsonWriter jsonWriter) {
+        jsonWriter.writeStartObject();
+
+        jsonWriter.writeFieldName("Values");
+        jsonWriter.writeStartArray();
+        for (Double value : valueCounts.keySet()) {
+            jsonWriter.writeValue(value);
+        }
+        jsonWriter.writeEndArray();
+
+        jsonWriter.writeFieldName("Counts");
+        jsonWriter.writeStartArray();
+        for (Long valueCount : valueCounts.values()) {
+            jsonWriter.writeValue(valueCount);
+        }
+        jsonWriter.writeEndArray();
+
+        jsonWriter.writeFieldName("Max");
+        jsonWriter.writeValue(max);
+        jsonWriter.writeFieldName("Min");
+        jsonWriter.writeValue(min);
+        jsonWriter.writeFieldName("Count");
+        jsonWriter.writeValue(count);
+        jsonWriter.writeFieldName("Sum");
+        jsonWriter.writeValue(sum);
+
+        jsonWriter.writeEndObject();
+    }
+
+    private Double closestRecordedValue(double value) {
+        Map.Entry<Double, Long> floor = valueCounts.floorEntry(value);
+        Map.Entry<Double, Long> ceiling = valueCounts.ceilingEntry(value);
+        if (floor == null) {
+            return ceiling.getKey();
+        }
+        if (ceiling == null) {
+            return floor.getKey();
+        }
+        return value - floor.getKey() <= ceiling.getKey() - value ? floor.getKey() : ceiling.getKey();
+    }
+}
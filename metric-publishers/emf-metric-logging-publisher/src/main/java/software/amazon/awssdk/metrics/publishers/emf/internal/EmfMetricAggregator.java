@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Aggregates the values of the {@link MetricCollection}s published during an interval by dimension set, so that a single EMF
+ * string is logged per dimension set and interval instead of one per {@link MetricCollection}.
+ * <p>
+ * The dimension set of a {@link MetricCollection} is made of the values of the configured dimensions found in it or any of
+ * its children. Only the first value found for each dimension is used, and the dimensions are sorted by name.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class EmfMetricAggregator {
+    private final MetricEmfConverter metricConverter;
+    private final Map<Map<String, String>, DimensionSetValues> dimensionSets = new ConcurrentHashMap<>();
+
+    public EmfMetricAggregator(MetricEmfConverter metricConverter) {
+        this.metricConverter = metricConverter;
+    }
+
+    /**
+     * Adds the values of the reportable numeric metrics in the provided collection and its children to the values of its
+     * dimension set.
+     */
+    public void add(MetricCollection metricCollection) {
+        Map<String, String> dimensionValues = new TreeMap<>();
+        List<MetricRecord<?>> records = new ArrayList<>();
+
+        Queue<MetricCollection> queue = new ArrayDeque<>();
+        queue.add(metricCollection);
+        while (!queue.isEmpty()) {
+            MetricCollection current = queue.poll();
+            current.stream().forEach(metricRecord -> {
+                SdkMetric<?> metric = metricRecord.metric();
+                if (metricConverter.isDimension(metric)) {
+                    if (metricRecord.value() instanceof String) {
+                        dimensionValues.putIfAbsent(metric.name(), (String) metricRecord.value());
+                    }
+                } else if (metricConverter.shouldReport(metricRecord) && metricConverter.isNumericMetric(metric)) {
+                    records.add(metricRecord);
+                }
+            });
+            queue.addAll(current.children());
+        }
+
+        if (records.isEmpty()) {
+            return;
+        }
+
+        // A dimension set being flushed no longer accepts values, in which case they are added to a new one.
+        DimensionSetValues values;
+        do {
+            values = dimensionSets.computeIfAbsent(dimensionValues, k -> new DimensionSetValues());
+        } while (!values.add(records));
+    }
+
+    /**
+     * Converts the values aggregated since the previous flush to EMF strings, and starts a new aggregation interval.
+     */
+    public List<String> flush() {
+        List<String> emfStrings = new ArrayList<>();
+        for (Map<String, String> dimensionValues : dimensionSets.keySet()) {
+            DimensionSetValues values = dimensionSets.remove(dimensionValues);
+            if (values == null) {
+                continue;
+            }
+
+            Map<SdkMetric<?>, AggregatedMetricValues> metrics = values.close();
+            if (!metrics.isEmpty()) {
+                emfStrings.addAll(metricConverter.convertAggregatedMetricsToEmf(dimensionValues, metrics));
+            }
+        }
+        return emfStrings;
+    }
+
+    private static final class DimensionSetValues {
+        private final Map<SdkMetric<?>, AggregatedMetricValues> metrics = new HashMap<>();
+        private boolean closed;
+
+        private synchronized boolean add(List<MetricRecord<?>> records) {
+            if (closed) {
+                return false;
+            }
+            for (MetricRecord<?> metricRecord : records) {
+                Double value = MetricEmfConverter.numericValue(metricRecord);
+                if (value != null) {
+                    metrics.computeIfAbsent(metricRecord.metric(), m -> new AggregatedMetricValues()).add(value);
+                }
+            }
+            return true;
+        }
+
+        private synchronized Map<SdkMetric<?>, AggregatedMetricValues> close() {
+            closed = true;
+            return metrics;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -147,6 +148,91 @@ public class MetricEmfConverter {
         return createEmfStrings(aggregatedMetrics, properties);
     }
 
+    /**
+     * Convert metric values aggregated by an {@link EmfMetricAggregator} for one dimension set to EMF Format. Each metric is
+     * written as an object holding its distinct values, the number of times each value was recorded, and its statistic set.
+     * Example Output
+     * @snippet
+     * {
+     *   "_aws": {
+     *     "Timestamp": 1672963200,
+     *     "CloudWatchMetrics": [{
+     *       "Namespace": "AwsSdk/JavaSdk2",
+     *       "Dimensions": [["ServiceId"]],
+     *       "Metrics": [{
+     *         "Name": "ApiCallDuration",
+     *         "Unit": "Milliseconds"
+     *       }]
+     *     }]
+     *   },
+     *   "ServiceId": "DynamoDB",
+     *   "ApiCallDuration": {"Values": [5.0, 7.0], "Counts": [2, 1], "Max": 7.0, "Min": 5.0, "Count": 3, "Sum": 17.0}
+     * }
+     *
+     * @param dimensionValues The name and value of each dimension of the dimension set
+     * @param metrics The aggregated values of each metric reported with the dimension set
+     * @return List of EMF-formatted metrics ready for CloudWatch
+     */
+    public List<String> convertAggregatedMetricsToEmf(Map<String, String> dimensionValues,
+                                                      Map<SdkMetric<?>, AggregatedMetricValues> metrics) {
+        List<String> emfStrings = new ArrayList<>();
+        Map<SdkMetric<?>, AggregatedMetricValues> currentMetricBatch = new HashMap<>();
+
+        for (Map.Entry<SdkMetric<?>, AggregatedMetricValues> entry : metrics.entrySet()) {
+            if (currentMetricBatch.size() == MAX_METRIC_NUM) {
+                emfStrings.add(createAggregatedEmfString(dimensionValues, currentMetricBatch));
+                currentMetricBatch = new HashMap<>();
+            }
+            currentMetricBatch.put(entry.getKey(), entry.getValue());
+        }
+
+        emfStrings.add(createAggregatedEmfString(dimensionValues, currentMetricBatch));
+        return emfStrings;
+    }
+
+    private String createAggregatedEmfString(Map<String, String> dimensionValues,
+                                             Map<SdkMetric<?>, AggregatedMetricValues> metrics) {
+        JsonWriter jsonWriter = JsonWriter.create();
+        jsonWriter.writeStartObject();
+
+        writeAwsObject(jsonWriter, dimensionValues.keySet(), metrics.keySet());
+        dimensionValues.forEach((name, value) -> {
+            jsonWriter.writeFieldName(name);
+            jsonWriter.writeValue(value);
+        });
+        metrics.forEach((metric, values) -> {
+            jsonWriter.writeFieldName(metric.name());
+            values.writeTo(jsonWriter);
+        });
+
+        jsonWriter.writeEndObject();
+        return new String(jsonWriter.getBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the value of a numeric metric record as it is written to EMF by {@code processAndWriteValue}, or null if the
+     * record has no numeric value.
+     */
+    static Double numericValue(MetricRecord<?> mRecord) {
+        Object value = mRecord.value();
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1.0 : 0.0;
+        }
+        if (value instanceof Duration) {
+            return (double) ((Duration) value).toMillis();
+        }
+        if (value instanceof Double) {
+            return MetricValueNormalizer.normalize((Double) value);
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            return ((Number) value).doubleValue();
+        }
+        return null;
+    }
+
     private Map<String, String> resolveProperties(MetricCollection metricCollection) {
         try {
             Map<String, String> result = propertiesFactory.create(metricCollection);
@@ -242,7 +328,7 @@ public class MetricEmfConverter {
         JsonWriter jsonWriter = JsonWriter.create();
         jsonWriter.writeStartObject();
 
-        writeAwsObject(jsonWriter, metrics.keySet());
+        writeAwsObject(jsonWriter, dimensions, metrics.keySet());
         writeMetricValues(jsonWriter, metrics);
         writeCustomProperties(jsonWriter, properties, metrics.keySet());
 
@@ -270,7 +356,7 @@ public class MetricEmfConverter {
         }
     }
 
-    private void writeAwsObject(JsonWriter jsonWriter, Set<SdkMetric<?>> metricNames) {
+    private void writeAwsObject(JsonWriter jsonWriter, Collection<String> dimensionNames, Set<SdkMetric<?>> metricNames) {
         jsonWriter.writeFieldName(AWS_METADATA_KEY);
         jsonWriter.writeStartObject();
 
@@ -280,34 +366,36 @@ public class MetricEmfConverter {
         jsonWriter.writeFieldName("LogGroupName");
         jsonWriter.writeValue(config.logGroupName());
 
-        writeCloudWatchMetricsArray(jsonWriter, metricNames);
+        writeCloudWatchMetricsArray(jsonWriter, dimensionNames, metricNames);
         jsonWriter.writeEndObject();
     }
 
-    private void writeCloudWatchMetricsArray(JsonWriter jsonWriter, Set<SdkMetric<?>> metricNames) {
+    private void writeCloudWatchMetricsArray(JsonWriter jsonWriter, Collection<String> dimensionNames,
+                                             Set<SdkMetric<?>> metricNames) {
         jsonWriter.writeFieldName("CloudWatchMetrics");
         jsonWriter.writeStartArray();
 
-        writeCloudWatchMetricsObjects(jsonWriter, metricNames);
+        writeCloudWatchMetricsObjects(jsonWriter, dimensionNames, metricNames);
         jsonWriter.writeEndArray();
     }
 
-    private void writeCloudWatchMetricsObjects(JsonWriter jsonWriter,  Set<SdkMetric<?>> metricNames) {
+    private void writeCloudWatchMetricsObjects(JsonWriter jsonWriter, Collection<String> dimensionNames,
+                                               Set<SdkMetric<?>> metricNames) {
         jsonWriter.writeStartObject();
         jsonWriter.writeFieldName("Namespace");
         jsonWriter.writeValue(config.namespace());
 
-        writeDimensionSetArray(jsonWriter);
+        writeDimensionSetArray(jsonWriter, dimensionNames);
 
         writeMetricDefinitionArray(jsonWriter, metricNames);
         jsonWriter.writeEndObject();
     }
 
-    private void writeDimensionSetArray(JsonWriter jsonWriter) {
+    private void writeDimensionSetArray(JsonWriter jsonWriter, Collection<String> dimensionNames) {
         jsonWriter.writeFieldName("Dimensions");
         jsonWriter.writeStartArray();
         jsonWriter.writeStartArray();
-        for (String dimension : dimensions) {
+        for (String dimension : dimensionNames) {
             jsonWriter.writeValue(dimension);
         }
         jsonWriter.writeEndArray();
@@ -374,7 +462,7 @@ public class MetricEmfConverter {
         }
     }
 
-    private boolean isNumericMetric(SdkMetric<?> metric) {
+    boolean isNumericMetric(SdkMetric<?> metric) {
         return Integer.class.isAssignableFrom(metric.valueClass())
                || Boolean.class.isAssignableFrom(metric.valueClass())
                || Long.class.isAssignableFrom(metric.valueClass())
@@ -392,7 +480,7 @@ public class MetricEmfConverter {
     }
 
 
-    private boolean isDimension(SdkMetric<?> metric) {
+    boolean isDimension(SdkMetric<?> metric) {
         return config.dimensions().contains(metric);
     }
 
@@ -404,7 +492,7 @@ public class MetricEmfConverter {
         return null;
     }
 
-    private boolean shouldReport(MetricRecord<?> metricRecord) {
+    boolean shouldReport(MetricRecord<?> metricRecord) {
         return isSupportedCategory(metricRecord) && isSupportedLevel(metricRecord);
     }
 
@@ -18,10 +18,13 @@ package software.amazon.awssdk.metrics.publishers.emf;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.Level;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -102,6 +105,67 @@ public class EmfMetricLoggingPublisherTest extends LogCaptor.LogCaptorTestBase{
         assertThat(loggedEvents()).hasSize(2);
     }
 
+    @Test
+    void publish_aggregationIntervalConfigured_logsAggregatedMetricsOnClose() {
+        EmfMetricLoggingPublisher publisher = publisherBuilder.logGroupName("/aws/lambda/emfMetricTest")
+                                                              .aggregationInterval(Duration.ofHours(1))
+                                                              .build();
+        for (int i = 0; i < 3; i++) {
+            MetricCollector metricCollector = MetricCollector.create("test");
+            metricCollector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 5);
+            publisher.publish(metricCollector.collect());
+        }
+        assertThat(emfLogs()).isEmpty();
+
+        publisher.close();
+
+        assertThat(emfLogs()).singleElement().satisfies(
+            log -> assertThat(log).contains("\"AvailableConcurrency\":{\"Values\":[5.0],\"Counts\":[3]"));
+    }
+
+    @Test
+    void publish_aggregationIntervalConfiguredAndClosed_dropsMetrics() {
+        EmfMetricLoggingPublisher publisher = publisherBuilder.logGroupName("/aws/lambda/emfMetricTest")
+                                                              .aggregationInterval(Duration.ofHours(1))
+                                                              .build();
+        publisher.close();
+
+        MetricCollector metricCollector = MetricCollector.create("test");
+        metricCollector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 5);
+        publisher.publish(metricCollector.collect());
+        publisher.close();
+
+        assertThat(emfLogs()).isEmpty();
+    }
+
+    @Test
+    void publish_aggregationIntervalElapsed_logsAggregatedMetrics() throws InterruptedException {
+        EmfMetricLoggingPublisher publisher = publisherBuilder.logGroupName("/aws/lambda/emfMetricTest")
+                                                              .aggregationInterval(Duration.ofMillis(50))
+                                                              .build();
+        try {
+            MetricCollector metricCollector = MetricCollector.create("test");
+            metricCollector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 5);
+            publisher.publish(metricCollector.collect());
+
+            Instant endCheckTime = Instant.now().plusSeconds(10);
+            while (emfLogs().isEmpty() && Instant.now().isBefore(endCheckTime)) {
+                Thread.sleep(10);
+            }
+            assertThat(emfLogs()).hasSize(1);
+        } finally {
+            publisher.close();
+        }
+    }
+
+    @Test
+    void build_nonPositiveAggregationInterval_throwsException() {
+        assertThatThrownBy(() -> publisherBuilder.logGroupName("/aws/lambda/emfMetricTest")
+                                                 .aggregationInterval(Duration.ZERO)
+                                                 .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void publish_propertiesFactoryThrowsException_publishesWithoutCustomProperties() {
         EmfMetricLoggingPublisher publisher = publisherBuilder
@@ -194,4 +258,11 @@ public class EmfMetricLoggingPublisherTest extends LogCaptor.LogCaptorTestBase{
         assertThat(emfLogs.get(0)).contains("\"InvocationCount\":\"1\"");
         assertThat(emfLogs.get(1)).contains("\"InvocationCount\":\"2\"");
     }
+
+    private List<String> emfLogs() {
+        return loggedEvents().stream()
+                             .filter(e -> e.getLevel() == Level.INFO)
+                             .map(e -> e.getMessage().getFormattedMessage())
+                             .collect(Collectors.toList());
+    }
 }
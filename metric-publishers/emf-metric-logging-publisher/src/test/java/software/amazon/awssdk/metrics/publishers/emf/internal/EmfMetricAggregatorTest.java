@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class EmfMetricAggregatorTest {
+    private final EmfMetricConfiguration config = new EmfMetricConfiguration.Builder()
+                                                      .logGroupName("my_log_group_name")
+                                                      .build();
+    private final Clock fixedClock = Clock.fixed(Instant.ofEpochMilli(12345678), ZoneOffset.UTC);
+
+    private EmfMetricAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new EmfMetricAggregator(new MetricEmfConverter(config, fixedClock));
+    }
+
+    @Test
+    void flush_sameDimensionSet_aggregatesValues() {
+        aggregator.add(apiCall("ListTables", Duration.ofMillis(5)));
+        aggregator.add(apiCall("ListTables", Duration.ofMillis(7)));
+        aggregator.add(apiCall("ListTables", Duration.ofMillis(5)));
+
+        List<String> emfLogs = aggregator.flush();
+
+        assertThat(emfLogs).containsOnly("{\"_aws\":{\"Timestamp\":12345678,\"LogGroupName\":\"my_log_group_name\","
+                                         + "\"CloudWatchMetrics\":[{\"Namespace\":\"AwsSdk/JavaSdk2\","
+                                         + "\"Dimensions\":[[\"OperationName\",\"ServiceId\"]],"
+                                         + "\"Metrics\":[{\"Name\":\"ApiCallDuration\",\"Unit\":\"Milliseconds\"}]}]},"
+                                         + "\"OperationName\":\"ListTables\",\"ServiceId\":\"DynamoDB\","
+                                         + "\"ApiCallDuration\":{\"Values\":[5.0,7.0],\"Counts\":[2,1],"
+                                         + "\"Max\":7.0,\"Min\":5.0,\"Count\":3,\"Sum\":17.0}}");
+    }
+
+    @Test
+    void flush_differentDimensionSets_logsOneEntryPerDimensionSet() {
+        aggregator.add(apiCall("ListTables", Duration.ofMillis(5)));
+        aggregator.add(apiCall("GetItem", Duration.ofMillis(7)));
+        aggregator.add(apiCall("GetItem", Duration.ofMillis(9)));
+
+        List<String> emfLogs = aggregator.flush();
+
+        assertThat(emfLogs).hasSize(2);
+        assertThat(emfLogs).anySatisfy(log -> assertThat(log).contains("\"OperationName\":\"ListTables\"", "\"Count\":1"));
+        assertThat(emfLogs).anySatisfy(log -> assertThat(log).contains("\"OperationName\":\"GetItem\"", "\"Count\":2"));
+    }
+
+    @Test
+    void flush_childCollections_aggregatesValuesWithParentDimensions() {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, "ListTables");
+        apiCall.createChild("ApiCallAttempt").reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 5);
+        apiCall.createChild("ApiCallAttempt").reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 3);
+        aggregator.add(apiCall.collect());
+
+        assertThat(aggregator.flush()).singleElement().satisfies(
+            log -> assertThat(log).contains("\"AvailableConcurrency\":{\"Values\":[3.0,5.0],\"Counts\":[1,1]"));
+    }
+
+    @Test
+    void flush_calledTwice_startsNewInterval() {
+        aggregator.add(apiCall("ListTables", Duration.ofMillis(5)));
+        aggregator.flush();
+
+        assertThat(aggregator.flush()).isEmpty();
+
+        aggregator.add(apiCall("ListTables", Duration.ofMillis(7)));
+        assertThat(aggregator.flush()).singleElement().satisfies(
+            log -> assertThat(log).contains("\"Values\":[7.0],\"Counts\":[1]"));
+    }
+
+    @Test
+    void flush_moreThanMaxDistinctValues_countsValuesAgainstClosestValue() {
+        for (int i = 0; i < 150; i++) {
+            aggregator.add(apiCall("ListTables", Duration.ofMillis(i * 10)));
+        }
+        aggregator.add(apiCall("ListTables", Duration.ofMillis(1001)));
+
+        assertThat(aggregator.flush()).singleElement().satisfies(log -> {
+            assertThat(log).contains("\"Max\":1490.0,\"Min\":0.0,\"Count\":151");
+            assertThat(log).doesNotContain("1001.0", "1010.0");
+            assertThat(log).contains("990.0]");
+        });
+    }
+
+    private static MetricCollection apiCall(String operationName, Duration duration) {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, duration);
+        return apiCall.collect();
+    }
+}
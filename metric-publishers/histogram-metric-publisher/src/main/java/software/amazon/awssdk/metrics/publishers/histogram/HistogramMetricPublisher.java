@@ -0,0 +1,251 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.internal.JmxHistogramMetrics;
+import software.amazon.awssdk.metrics.publishers.histogram.internal.MetricHistograms;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A {@link MetricPublisher} that records the {@link Duration} and numeric metrics of each API call into in-process histograms,
+ * so that latency percentiles and throughput can be read without sending the metrics to an external service.
+ * <p>
+ * Metrics are recorded separately for each {@link CoreMetric#SERVICE_ID service}, {@link CoreMetric#OPERATION_NAME operation}
+ * and {@link CoreMetric#ERROR_TYPE error type}. The histograms are lock-free, and recording a value into a histogram only
+ * performs a few atomic operations, so this publisher can be used on latency-sensitive paths. Each histogram uses a fixed
+ * amount of memory, no matter how many values are recorded.
+ * <p>
+ * The recorded metrics are available:
+ * <ul>
+ *     <li>From {@link #snapshot()}, as {@link OperationMetricsSnapshot}s.</li>
+ *     <li>Through JMX, when {@link Builder#jmxEnabled(Boolean)} is set, under the object name
+ *     {@code software.amazon.awssdk.metrics:type=HistogramMetricPublisher,name=<jmxName>}.</li>
+ * </ul>
+ * Metrics are recorded from the creation of the publisher, or from the last call to {@link #reset()}.
+ * <p>
+ * <b>Example: Reading the p99 latency of the DynamoDB GetItem operation</b>
+ * <pre>{@code
+ * HistogramMetricPublisher metricPublisher = HistogramMetricPublisher.create();
+ * DynamoDbClient dynamoDb = DynamoDbClient.builder()
+ *                                         .overrideConfiguration(c -> c.addMetricPublisher(metricPublisher))
+ *                                         .build();
+ *
+ * // ... make calls ...
+ *
+ * metricPublisher.snapshot()
+ *                .stream()
+ *                .filter(s -> s.operationName().equals("GetItem") && !s.errorType().isPresent())
+ *                .forEach(s -> System.out.println(Duration.ofNanos(s.histogram(CoreMetric.API_CALL_DURATION).get().p99())));
+ * }</pre>
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class HistogramMetricPublisher implements MetricPublisher {
+    private static final Logger log = Logger.loggerFor(HistogramMetricPublisher.class);
+
+    private static final String JMX_DOMAIN = "software.amazon.awssdk.metrics";
+    private static final String DEFAULT_JMX_NAME = "default";
+    private static final Set<MetricCategory> DEFAULT_METRIC_CATEGORIES = Collections.singleton(MetricCategory.ALL);
+    private static final MetricLevel DEFAULT_METRIC_LEVEL = MetricLevel.INFO;
+
+    private final MetricHistograms histograms;
+    private final ObjectName jmxObjectName;
+
+    private HistogramMetricPublisher(Builder builder) {
+        this.histograms = new MetricHistograms(resolveMetricCategories(builder), resolveMetricLevel(builder));
+        this.jmxObjectName = Boolean.TRUE.equals(builder.jmxEnabled) ? registerMBean(resolveJmxName(builder)) : null;
+    }
+
+    /**
+     * Create a new {@link Builder} that can be used to create {@link HistogramMetricPublisher}s.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a {@link HistogramMetricPublisher} using all default values.
+     */
+    public static HistogramMetricPublisher create() {
+        return builder().build();
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        try {
+            histograms.record(metricCollection);
+        } catch (RuntimeException e) {
+            log.warn(() -> "Failed to record the metrics of an API call.", e);
+        }
+    }
+
+    /**
+     * Return a snapshot of the metrics recorded for each combination of service, operation and error type.
+     */
+    public List<OperationMetricsSnapshot> snapshot() {
+        return histograms.snapshot();
+    }
+
+    /**
+     * Discard all the recorded metrics. Metrics published while the publisher is reset may be discarded too.
+     */
+    public void reset() {
+        histograms.reset();
+    }
+
+    /**
+     * Unregister the publisher from JMX, if it was registered. The recorded metrics remain available from {@link #snapshot()}.
+     */
+    @Override
+    public void close() {
+        if (jmxObjectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(jmxObjectName);
+        } catch (JMException e) {
+            log.warn(() -> "Failed to unregister " + jmxObjectName + " from JMX.", e);
+        }
+    }
+
+    private ObjectName registerMBean(String jmxName) {
+        ObjectName objectName = objectName(jmxName);
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            mbeanServer.registerMBean(new JmxHistogramMetrics(histograms), objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register " + objectName + " with JMX. If another publisher is already "
+                                            + "registered, configure a different jmxName.", e);
+        }
+        return objectName;
+    }
+
+    private static ObjectName objectName(String jmxName) {
+        try {
+            return new ObjectName(JMX_DOMAIN + ":type=HistogramMetricPublisher,name=" + ObjectName.quote(jmxName));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Invalid jmxName: " + jmxName, e);
+        }
+    }
+
+    private static Set<MetricCategory> resolveMetricCategories(Builder builder) {
+        return builder.metricCategories == null ? DEFAULT_METRIC_CATEGORIES : new HashSet<>(builder.metricCategories);
+    }
+
+    private static MetricLevel resolveMetricLevel(Builder builder) {
+        return builder.metricLevel == null ? DEFAULT_METRIC_LEVEL : builder.metricLevel;
+    }
+
+    private static String resolveJmxName(Builder builder) {
+        return builder.jmxName == null ? DEFAULT_JMX_NAME : builder.jmxName;
+    }
+
+    /**
+     * Builder class to construct {@link HistogramMetricPublisher} instances. See the individual properties for which
+     * configuration settings are available.
+     */
+    public static final class Builder {
+        private Collection<MetricCategory> metricCategories;
+        private MetricLevel metricLevel;
+        private Boolean jmxEnabled;
+        private String jmxName;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the {@link MetricCategory}s that should be recorded.
+         *
+         * <p>If this is not specified, {@link MetricCategory#ALL} is used.
+         *
+         * <p>All {@link SdkMetric}s are associated with at least one {@code MetricCategory}. Any metrics
+         * {@link #publish(MetricCollection)}ed that do not fall under these configured categories are ignored.
+         */
+        public Builder metricCategories(Collection<MetricCategory> metricCategories) {
+            this.metricCategories = new ArrayList<>(metricCategories);
+            return this;
+        }
+
+        /**
+         * @see #metricCategories(Collection)
+         */
+        public Builder metricCategories(MetricCategory... metricCategories) {
+            return metricCategories(Arrays.asList(metricCategories));
+        }
+
+        /**
+         * Configure the {@link MetricLevel} that should be recorded.
+         *
+         * <p>If this is not specified, {@link MetricLevel#INFO} is used.
+         *
+         * <p>All {@link SdkMetric}s are associated with one {@code MetricLevel}. Any metrics {@link #publish(MetricCollection)}ed
+         * that do not fall under this configured level are ignored.
+         */
+        public Builder metricLevel(MetricLevel metricLevel) {
+            this.metricLevel = metricLevel;
+            return this;
+        }
+
+        /**
+         * Configure whether the recorded metrics should be exposed through JMX, using the platform MBean server.
+         *
+         * <p>If this is not specified, the metrics are not exposed through JMX.
+         */
+        public Builder jmxEnabled(Boolean jmxEnabled) {
+            this.jmxEnabled = jmxEnabled;
+            return this;
+        }
+
+        /**
+         * Configure the name under which the publisher is registered with JMX, when {@link #jmxEnabled(Boolean)} is set. Each
+         * publisher registered with JMX at the same time must use a different name.
+         *
+         * <p>If this is not specified, {@code default} is used.
+         */
+        public Builder jmxName(String jmxName) {
+            this.jmxName = jmxName;
+            return this;
+        }
+
+        /**
+         * Build a {@link HistogramMetricPublisher} using the configuration currently configured on this builder.
+         */
+        public HistogramMetricPublisher build() {
+            return new HistogramMetricPublisher(this);
+        }
+    }
+}
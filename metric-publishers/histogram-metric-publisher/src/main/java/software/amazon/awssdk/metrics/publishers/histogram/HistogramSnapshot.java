@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * A point-in-time view of the values recorded for one metric by a {@link HistogramMetricPublisher}.
+ * <p>
+ * Values are expressed in the unit of the metric: {@link Duration} metrics are recorded in nanoseconds, and other numeric
+ * metrics are recorded as their value rounded to the nearest whole number. Percentile values are accurate to within about 3%
+ * of the recorded values.
+ */
+@Immutable
+@SdkPublicApi
+public interface HistogramSnapshot {
+    /**
+     * The number of values recorded.
+     */
+    long count();
+
+    /**
+     * The lowest value recorded, or 0 if no value was recorded.
+     */
+    long min();
+
+    /**
+     * The highest value recorded, or 0 if no value was recorded.
+     */
+    long max();
+
+    /**
+     * The mean of the values recorded, or 0 if no value was recorded.
+     */
+    double mean();
+
+    /**
+     * The value below which the provided percentage of the recorded values fall, or 0 if no value was recorded.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     */
+    long valueAtPercentile(double percentile);
+
+    /**
+     * The median of the values recorded.
+     */
+    default long p50() {
+        return valueAtPercentile(50);
+    }
+
+    /**
+     * The 90th percentile of the values recorded.
+     */
+    default long p90() {
+        return valueAtPercentile(90);
+    }
+
+    /**
+     * The 99th percentile of the values recorded.
+     */
+    default long p99() {
+        return valueAtPercentile(99);
+    }
+
+    /**
+     * The 99.9th percentile of the values recorded.
+     */
+    default long p999() {
+        return valueAtPercentile(99.9);
+    }
+}
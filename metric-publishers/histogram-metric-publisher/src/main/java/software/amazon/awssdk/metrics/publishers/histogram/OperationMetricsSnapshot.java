@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import java.util.Map;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * A point-in-time view of the metrics recorded by a {@link HistogramMetricPublisher} for one combination of service, operation
+ * and error type, since the publisher was created or last {@link HistogramMetricPublisher#reset() reset}.
+ */
+@Immutable
+@SdkPublicApi
+public interface OperationMetricsSnapshot {
+    /**
+     * The {@link CoreMetric#SERVICE_ID} of the API calls.
+     */
+    String serviceId();
+
+    /**
+     * The {@link CoreMetric#OPERATION_NAME} of the API calls.
+     */
+    String operationName();
+
+    /**
+     * The {@link CoreMetric#ERROR_TYPE} of the API calls or attempts whose metrics are included in this snapshot, or empty if
+     * they were successful.
+     * <p>
+     * The API call metrics are recorded with the error type of the last attempt of the call, and the metrics of each attempt
+     * are recorded with the error type of that attempt.
+     */
+    Optional<String> errorType();
+
+    /**
+     * The number of API calls whose metrics are included in this snapshot.
+     */
+    long apiCallCount();
+
+    /**
+     * The average number of API calls per second since the publisher was created or last reset, which is the period the
+     * {@link #apiCallCount()} and {@link #histograms()} cover. To compute the rate over a shorter interval, subtract the
+     * {@link #apiCallCount()} of an earlier snapshot and divide by the time between the snapshots.
+     */
+    double apiCallsPerSecond();
+
+    /**
+     * The histograms of each recorded metric.
+     */
+    Map<SdkMetric<?>, HistogramSnapshot> histograms();
+
+    /**
+     * The histogram of the provided metric, or empty if no value was recorded for it.
+     */
+    default Optional<HistogramSnapshot> histogram(SdkMetric<?> metric) {
+        return Optional.ofNullable(histograms().get(metric));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+@Immutable
+@SdkInternalApi
+public final class DefaultHistogramSnapshot implements HistogramSnapshot {
+    private final long[] bucketCounts;
+    private final long count;
+    private final long min;
+    private final long max;
+    private final long sum;
+
+    DefaultHistogramSnapshot(long[] bucketCounts, long count, long min, long max, long sum) {
+        this.bucketCounts = bucketCounts;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public long min() {
+        return min;
+    }
+
+    @Override
+    public long max() {
+        return max;
+    }
+
+    @Override
+    public double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    @Override
+    public long valueAtPercentile(double percentile) {
+        Validate.isTrue(percentile >= 0 && percentile <= 100, "The percentile must be between 0 and 100, but was %s.",
+                        percentile);
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            cumulativeCount += bucketCounts[i];
+            if (cumulativeCount >= rank) {
+                return Math.max(min, Math.min(max, LogLinearHistogram.bucketUpperBound(i)));
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HistogramSnapshot")
+                       .add("count", count)
+                       .add("min", min)
+                       .add("p50", p50())
+                       .add("p99", p99())
+                       .add("p999", p999())
+                       .add("max", max)
+                       .build();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+import software.amazon.awssdk.metrics.publishers.histogram.OperationMetricsSnapshot;
+import software.amazon.awssdk.utils.ToString;
+
+@Immutable
+@SdkInternalApi
+public final class DefaultOperationMetricsSnapshot implements OperationMetricsSnapshot {
+    private final String serviceId;
+    private final String operationName;
+    private final String errorType;
+    private final long apiCallCount;
+    private final double apiCallsPerSecond;
+    private final Map<SdkMetric<?>, HistogramSnapshot> histograms;
+
+    DefaultOperationMetricsSnapshot(String serviceId,
+                                    String operationName,
+                                    String errorType,
+                                    long apiCallCount,
+                                    double apiCallsPerSecond,
+                                    Map<SdkMetric<?>, HistogramSnapshot> histograms) {
+        this.serviceId = serviceId;
+        this.operationName = operationName;
+        this.errorType = errorType;
+        this.apiCallCount = apiCallCount;
+        this.apiCallsPerSecond = apiCallsPerSecond;
+        this.histograms = Collections.unmodifiableMap(histograms);
+    }
+
+    @Override
+    public String serviceId() {
+        return serviceId;
+    }
+
+    @Override
+    public String operationName() {
+        return operationName;
+    }
+
+    @Override
+    public Optional<String> errorType() {
+        return Optional.ofNullable(errorType);
+    }
+
+    @Override
+    public long apiCallCount() {
+        return apiCallCount;
+    }
+
+    @Override
+    public double apiCallsPerSecond() {
+        return apiCallsPerSecond;
+    }
+
+    @Override
+    public Map<SdkMetric<?>, HistogramSnapshot> histograms() {
+        return histograms;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("OperationMetricsSnapshot")
+                       .add("serviceId", serviceId)
+                       .add("operationName", operationName)
+                       .add("errorType", errorType)
+                       .add("apiCallCount", apiCallCount)
+                       .add("apiCallsPerSecond", apiCallsPerSecond)
+                       .add("histograms", histograms)
+                       .build();
+    }
+}
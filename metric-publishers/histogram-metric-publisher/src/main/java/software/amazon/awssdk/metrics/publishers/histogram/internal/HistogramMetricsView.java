@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.util.Map;
+import javax.management.MXBean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The JMX view of a {@code HistogramMetricPublisher}.
+ */
+@MXBean
+@SdkInternalApi
+public interface HistogramMetricsView {
+    /**
+     * The statistics of each recorded metric, keyed by {@code service/operation/errorType/metric/statistic}. The statistics are
+     * {@code count}, {@code min}, {@code p50}, {@code p90}, {@code p99}, {@code p999} and {@code max}. In addition,
+     * {@code service/operation/errorType/ApiCallCount} and {@code service/operation/errorType/ApiCallsPerSecond} hold the
+     * throughput of each operation.
+     */
+    Map<String, Double> getStatistics();
+
+    /**
+     * Discard all the recorded metrics.
+     */
+    void reset();
+}
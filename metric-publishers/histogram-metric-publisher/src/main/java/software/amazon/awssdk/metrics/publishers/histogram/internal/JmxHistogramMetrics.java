@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.util.Map;
+import java.util.TreeMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+import software.amazon.awssdk.metrics.publishers.histogram.OperationMetricsSnapshot;
+
+/**
+ * Exposes {@link MetricHistograms} through JMX.
+ */
+@SdkInternalApi
+public final class JmxHistogramMetrics implements HistogramMetricsView {
+    private static final String NO_ERROR = "None";
+
+    private final MetricHistograms histograms;
+
+    public JmxHistogramMetrics(MetricHistograms histograms) {
+        this.histograms = histograms;
+    }
+
+    @Override
+    public Map<String, Double> getStatistics() {
+        Map<String, Double> statistics = new TreeMap<>();
+        for (OperationMetricsSnapshot operation : histograms.snapshot()) {
+            String prefix = operation.serviceId() + "/" + operation.operationName() + "/"
+                            + operation.errorType().orElse(NO_ERROR) + "/";
+            statistics.put(prefix + "ApiCallCount", (double) operation.apiCallCount());
+            statistics.put(prefix + "ApiCallsPerSecond", operation.apiCallsPerSecond());
+
+            operation.histograms().forEach((metric, histogram) -> {
+                String metricPrefix = prefix + metric.name() + "/";
+                putStatistics(statistics, metricPrefix, histogram);
+            });
+        }
+        return statistics;
+    }
+
+    @Override
+    public void reset() {
+        histograms.reset();
+    }
+
+    private static void putStatistics(Map<String, Double> statistics, String prefix, HistogramSnapshot histogram) {
+        statistics.put(prefix + "count", (double) histogram.count());
+        statistics.put(prefix + "min", (double) histogram.min());
+        statistics.put(prefix + "p50", (double) histogram.p50());
+        statistics.put(prefix + "p90", (double) histogram.p90());
+        statistics.put(prefix + "p99", (double) histogram.p99());
+        statistics.put(prefix + "p999", (double) histogram.p999());
+        statistics.put(prefix + "max", (double) histogram.max());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+
+/**
+ * A lock-free histogram of non-negative {@code long} values, with log-linear buckets.
+ * <p>
+ * Values are grouped by magnitude (their highest set bit), and each magnitude is divided into {@value #SUB_BUCKET_COUNT}
+ * linear sub-buckets, so the value reported for a percentile is within about 3% of the recorded value. Values below
+ * {@value #SUB_BUCKET_COUNT} are counted exactly.
+ * <p>
+ * The counts of a magnitude are only allocated when the first value of that magnitude is recorded. Recording a value is
+ * otherwise allocation free, and only performs atomic increments and, for new minimum or maximum values, compare-and-set
+ * operations.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class LogLinearHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Magnitude 0 holds the values below {@link #SUB_BUCKET_COUNT}. Magnitude {@code m > 0} holds the values in
+     * {@code [2^(m + SUB_BUCKET_BITS - 1), 2^(m + SUB_BUCKET_BITS))}, up to {@link Long#MAX_VALUE}.
+     */
+    private static final int MAGNITUDE_COUNT = Long.SIZE - SUB_BUCKET_BITS;
+
+    private final AtomicReferenceArray<AtomicLongArray> counts = new AtomicReferenceArray<>(MAGNITUDE_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Record a value. Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        int magnitude = magnitude(v);
+
+        AtomicLongArray magnitudeCounts = counts.get(magnitude);
+        if (magnitudeCounts == null) {
+            counts.compareAndSet(magnitude, null, new AtomicLongArray(SUB_BUCKET_COUNT));
+            magnitudeCounts = counts.get(magnitude);
+        }
+        magnitudeCounts.incrementAndGet(subBucket(v, magnitude));
+
+        sum.add(v);
+        updateMin(v);
+        updateMax(v);
+    }
+
+    /**
+     * Return a point-in-time copy of this histogram. Values recorded while the snapshot is taken may or may not be included.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] bucketCounts = new long[MAGNITUDE_COUNT * SUB_BUCKET_COUNT];
+        long totalCount = 0;
+        for (int magnitude = 0; magnitude < MAGNITUDE_COUNT; magnitude++) {
+            AtomicLongArray magnitudeCounts = counts.get(magnitude);
+            if (magnitudeCounts == null) {
+                continue;
+            }
+            for (int subBucket = 0; subBucket < SUB_BUCKET_COUNT; subBucket++) {
+                long count = magnitudeCounts.get(subBucket);
+                bucketCounts[magnitude * SUB_BUCKET_COUNT + subBucket] = count;
+                totalCount += count;
+            }
+        }
+
+        if (totalCount == 0) {
+            return new DefaultHistogramSnapshot(bucketCounts, 0, 0, 0, 0);
+        }
+        return new DefaultHistogramSnapshot(bucketCounts, totalCount, min.get(), max.get(), sum.sum());
+    }
+
+    /**
+     * The highest value that is counted in the bucket with the provided index, as used by {@link #snapshot()}.
+     */
+    static long bucketUpperBound(int bucketIndex) {
+        int magnitude = bucketIndex / SUB_BUCKET_COUNT;
+        int subBucket = bucketIndex % SUB_BUCKET_COUNT;
+        if (magnitude == 0) {
+            return subBucket;
+        }
+        int shift = magnitude - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private static int magnitude(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return 0;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        return highestBit - SUB_BUCKET_BITS + 1;
+    }
+
+    private static int subBucket(long value, int magnitude) {
+        if (magnitude == 0) {
+            return (int) value;
+        }
+        return (int) (value >>> (magnitude - 1)) - SUB_BUCKET_COUNT;
+    }
+
+    private void updateMin(long value) {
+        long current = min.get();
+        while (value < current && !min.compareAndSet(current, value)) {
+            current = min.get();
+        }
+    }
+
+    private void updateMax(long value) {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+}
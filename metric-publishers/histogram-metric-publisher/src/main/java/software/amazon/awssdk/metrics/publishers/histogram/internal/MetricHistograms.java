@@ -0,0 +1,170 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.OperationMetricsSnapshot;
+
+/**
+ * Records the metrics of API calls into {@link OperationHistograms}, keyed by service, operation and error type.
+ * <p>
+ * The histograms are found with lookups in nested concurrent maps, keyed by the metric values reported by the SDK, so that
+ * recording the metrics of an API call does not take a lock once the histograms for its service, operation and error type
+ * exist.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class MetricHistograms {
+    private static final String UNKNOWN = "Unknown";
+    private static final String NO_ERROR = "";
+    private static final String OTHER_ERROR = "Other";
+
+    private final Set<MetricCategory> metricCategories;
+    private final boolean metricCategoriesContainsAll;
+    private final MetricLevel metricLevel;
+
+    private final Map<String, Map<String, Map<String, OperationHistograms>>> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * When the histograms were created or last reset. The API call rates are averaged from this time, like the histograms.
+     */
+    private volatile long startNanos = System.nanoTime();
+
+    public MetricHistograms(Set<MetricCategory> metricCategories, MetricLevel metricLevel) {
+        this.metricCategories = metricCategories;
+        this.metricCategoriesContainsAll = metricCategories.contains(MetricCategory.ALL);
+        this.metricLevel = metricLevel;
+    }
+
+    /**
+     * Record the metrics of an API call, and of its attempts.
+     */
+    public void record(MetricCollection apiCallMetrics) {
+        String serviceId = firstValue(apiCallMetrics, CoreMetric.SERVICE_ID, UNKNOWN);
+        String operationName = firstValue(apiCallMetrics, CoreMetric.OPERATION_NAME, UNKNOWN);
+        String errorType = apiCallErrorType(apiCallMetrics);
+
+        OperationHistograms apiCallHistograms = histograms(serviceId, operationName, errorType);
+        apiCallHistograms.recordApiCall();
+        record(apiCallMetrics, serviceId, operationName, errorType, apiCallHistograms);
+    }
+
+    /**
+     * Take a snapshot of the recorded metrics. Taking a snapshot does not modify them, so snapshots taken through the publisher
+     * and through JMX do not affect each other.
+     */
+    public List<OperationMetricsSnapshot> snapshot() {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        List<OperationMetricsSnapshot> snapshots = new ArrayList<>();
+        for (Map<String, Map<String, OperationHistograms>> operations : histograms.values()) {
+            for (Map<String, OperationHistograms> errorTypes : operations.values()) {
+                errorTypes.values().forEach(h -> snapshots.add(h.snapshot(elapsedNanos)));
+            }
+        }
+        return snapshots;
+    }
+
+    public void reset() {
+        startNanos = System.nanoTime();
+        histograms.clear();
+    }
+
+    private void record(MetricCollection metrics,
+                        String serviceId,
+                        String operationName,
+                        String errorType,
+                        OperationHistograms operationHistograms) {
+        for (MetricRecord<?> metricRecord : metrics) {
+            if (isSupportedCategory(metricRecord.metric()) && metricLevel.includesLevel(metricRecord.metric().level())) {
+                operationHistograms.record(metricRecord.metric(), metricRecord.value());
+            }
+        }
+
+        for (MetricCollection child : metrics.children()) {
+            // Attempts report their own error type. Other collections, such as the HTTP client metrics of an attempt, use the
+            // error type of their parent.
+            String childErrorType = firstValue(child, CoreMetric.ERROR_TYPE, errorType);
+            OperationHistograms childHistograms = childErrorType.equals(errorType)
+                                                  ? operationHistograms
+                                                  : histograms(serviceId, operationName, childErrorType);
+            record(child, serviceId, operationName, childErrorType, childHistograms);
+        }
+    }
+
+    private OperationHistograms histograms(String serviceId, String operationName, String errorType) {
+        Map<String, Map<String, OperationHistograms>> operations = histograms.get(serviceId);
+        if (operations == null) {
+            operations = histograms.computeIfAbsent(serviceId, s -> new ConcurrentHashMap<>());
+        }
+
+        Map<String, OperationHistograms> errorTypes = operations.get(operationName);
+        if (errorTypes == null) {
+            errorTypes = operations.computeIfAbsent(operationName, o -> new ConcurrentHashMap<>());
+        }
+
+        OperationHistograms operationHistograms = errorTypes.get(errorType);
+        if (operationHistograms == null) {
+            operationHistograms = errorTypes.computeIfAbsent(errorType, e -> new OperationHistograms(
+                serviceId, operationName, NO_ERROR.equals(errorType) ? null : errorType));
+        }
+        return operationHistograms;
+    }
+
+    /**
+     * The error type of a failed API call is the error type of its last attempt.
+     */
+    private static String apiCallErrorType(MetricCollection apiCallMetrics) {
+        List<Boolean> successful = apiCallMetrics.metricValues(CoreMetric.API_CALL_SUCCESSFUL);
+        if (successful.isEmpty() || successful.get(0)) {
+            return NO_ERROR;
+        }
+
+        String errorType = OTHER_ERROR;
+        for (MetricCollection child : apiCallMetrics.children()) {
+            errorType = firstValue(child, CoreMetric.ERROR_TYPE, errorType);
+        }
+        return errorType;
+    }
+
+    private static String firstValue(MetricCollection metrics, SdkMetric<String> metric, String defaultValue) {
+        List<String> values = metrics.metricValues(metric);
+        return values.isEmpty() ? defaultValue : values.get(0);
+    }
+
+    private boolean isSupportedCategory(SdkMetric<?> metric) {
+        if (metricCategoriesContainsAll) {
+            return true;
+        }
+        for (MetricCategory category : metric.categories()) {
+            if (metricCategories.contains(category)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
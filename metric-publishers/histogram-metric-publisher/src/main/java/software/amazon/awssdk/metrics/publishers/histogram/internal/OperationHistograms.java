@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+import software.amazon.awssdk.metrics.publishers.histogram.OperationMetricsSnapshot;
+
+/**
+ * The histograms of the metrics recorded for one combination of service, operation and error type.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class OperationHistograms {
+    private final String serviceId;
+    private final String operationName;
+    private final String errorType;
+    private final LongAdder apiCallCount = new LongAdder();
+    private final Map<SdkMetric<?>, LogLinearHistogram> histograms = new ConcurrentHashMap<>();
+
+    OperationHistograms(String serviceId, String operationName, String errorType) {
+        this.serviceId = serviceId;
+        this.operationName = operationName;
+        this.errorType = errorType;
+    }
+
+    void recordApiCall() {
+        apiCallCount.increment();
+    }
+
+    /**
+     * Record the value of a metric. Only {@link Duration} and {@link Number} values are recorded.
+     */
+    void record(SdkMetric<?> metric, Object value) {
+        long recordedValue;
+        if (value instanceof Duration) {
+            recordedValue = ((Duration) value).toNanos();
+        } else if (value instanceof Double || value instanceof Float) {
+            recordedValue = Math.round(((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            recordedValue = ((Number) value).longValue();
+        } else {
+            return;
+        }
+
+        LogLinearHistogram histogram = histograms.get(metric);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(metric, m -> new LogLinearHistogram());
+        }
+        histogram.record(recordedValue);
+    }
+
+    /**
+     * Take a snapshot of the recorded metrics, without modifying them.
+     *
+     * @param elapsedNanos The time the metrics were recorded over, which the API call rate is averaged over.
+     */
+    OperationMetricsSnapshot snapshot(long elapsedNanos) {
+        long count = apiCallCount.sum();
+        double apiCallsPerSecond = count / (Math.max(elapsedNanos, 1) / 1_000_000_000.0);
+
+        Map<SdkMetric<?>, HistogramSnapshot> histogramSnapshots = new HashMap<>();
+        histograms.forEach((metric, histogram) -> histogramSnapshots.put(metric, histogram.snapshot()));
+
+        return new DefaultOperationMetricsSnapshot(serviceId, operationName, errorType, count, apiCallsPerSecond,
+                                                   histogramSnapshots);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class HistogramMetricPublisherTest {
+
+    @Test
+    public void publish_successfulCalls_recordedPerOperation() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            for (int i = 1; i <= 100; i++) {
+                publisher.publish(apiCall("GetItem", Duration.ofMillis(i), null));
+            }
+            publisher.publish(apiCall("PutItem", Duration.ofMillis(5), null));
+
+            OperationMetricsSnapshot getItem = operation(publisher.snapshot(), "GetItem", null);
+            HistogramSnapshot apiCallDuration = getItem.histogram(CoreMetric.API_CALL_DURATION).get();
+
+            assertThat(getItem.serviceId()).isEqualTo("DynamoDB");
+            assertThat(getItem.apiCallCount()).isEqualTo(100);
+            assertThat(getItem.apiCallsPerSecond()).isPositive();
+            assertThat(apiCallDuration.count()).isEqualTo(100);
+            assertThat(apiCallDuration.max()).isEqualTo(Duration.ofMillis(100).toNanos());
+            assertThat(Duration.ofNanos(apiCallDuration.p99()))
+                .isBetween(Duration.ofMillis(96), Duration.ofMillis(100));
+            assertThat(getItem.histogram(CoreMetric.SERVICE_CALL_DURATION).get().count()).isEqualTo(100);
+
+            assertThat(operation(publisher.snapshot(), "PutItem", null).apiCallCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void snapshot_apiCallsPerSecond_averagedSinceCreation() throws InterruptedException {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            publisher.publish(apiCall("GetItem", Duration.ofMillis(1), null));
+            double first = operation(publisher.snapshot(), "GetItem", null).apiCallsPerSecond();
+            assertThat(first).isPositive();
+
+            Thread.sleep(10);
+            OperationMetricsSnapshot idle = operation(publisher.snapshot(), "GetItem", null);
+            assertThat(idle.apiCallCount()).isEqualTo(1);
+            assertThat(idle.apiCallsPerSecond()).isPositive().isLessThan(first);
+        }
+    }
+
+    @Test
+    public void snapshot_doesNotAffectLaterSnapshots() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            publisher.publish(apiCall("GetItem", Duration.ofMillis(1), null));
+            publisher.snapshot();
+            publisher.snapshot();
+
+            OperationMetricsSnapshot getItem = operation(publisher.snapshot(), "GetItem", null);
+            assertThat(getItem.apiCallCount()).isEqualTo(1);
+            assertThat(getItem.apiCallsPerSecond()).isPositive();
+            assertThat(getItem.histogram(CoreMetric.API_CALL_DURATION).get().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void publish_failedCall_recordedWithErrorTypeOfLastAttempt() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            publisher.publish(apiCall("GetItem", Duration.ofMillis(10), "Throttling"));
+
+            List<OperationMetricsSnapshot> snapshot = publisher.snapshot();
+
+            assertThat(snapshot).hasSize(1);
+            assertThat(snapshot.get(0).errorType()).hasValue("Throttling");
+            assertThat(snapshot.get(0).apiCallCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void publish_nonNumericMetrics_notRecorded() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            publisher.publish(apiCall("GetItem", Duration.ofMillis(10), null));
+
+            OperationMetricsSnapshot getItem = publisher.snapshot().get(0);
+
+            assertThat(getItem.histogram(CoreMetric.SERVICE_ID)).isEmpty();
+            assertThat(getItem.histogram(CoreMetric.API_CALL_SUCCESSFUL)).isEmpty();
+        }
+    }
+
+    @Test
+    public void publish_metricCategoryNotConfigured_notRecorded() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                          .metricCategories(MetricCategory.HTTP_CLIENT)
+                                                                          .build()) {
+            publisher.publish(apiCall("GetItem", Duration.ofMillis(10), null));
+
+            OperationMetricsSnapshot getItem = publisher.snapshot().get(0);
+
+            assertThat(getItem.histogram(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)).isPresent();
+            assertThat(getItem.histogram(CoreMetric.API_CALL_DURATION)).isEmpty();
+        }
+    }
+
+    @Test
+    public void reset_discardsRecordedMetrics() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            publisher.publish(apiCall("GetItem", Duration.ofMillis(10), null));
+
+            publisher.reset();
+
+            assertThat(publisher.snapshot()).isEmpty();
+        }
+    }
+
+    @Test
+    public void jmxEnabled_exposesStatisticsUntilClosed() throws Exception {
+        ObjectName objectName =
+            new ObjectName("software.amazon.awssdk.metrics:type=HistogramMetricPublisher,name=\"jmx-test\"");
+
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                          .jmxEnabled(true)
+                                                                          .jmxName("jmx-test")
+                                                                          .build()) {
+            publisher.publish(apiCall("GetItem", Duration.ofMillis(10), null));
+
+            Object statistics = ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Statistics");
+            assertThat(statistics.toString()).contains("DynamoDB/GetItem/None/ApiCallDuration/p99");
+
+            assertThatThrownBy(() -> HistogramMetricPublisher.builder().jmxEnabled(true).jmxName("jmx-test").build())
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)).isFalse();
+    }
+
+    private static OperationMetricsSnapshot operation(List<OperationMetricsSnapshot> snapshots,
+                                                      String operationName,
+                                                      String errorType) {
+        return snapshots.stream()
+                        .filter(s -> s.operationName().equals(operationName))
+                        .filter(s -> s.errorType().orElse(null) == errorType)
+                        .findAny()
+                        .get();
+    }
+
+    private static MetricCollection apiCall(String operationName, Duration duration, String errorType) {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, errorType == null);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, duration);
+
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, duration);
+        if (errorType != null) {
+            attempt.reportMetric(CoreMetric.ERROR_TYPE, errorType);
+        }
+
+        MetricCollector httpClient = attempt.createChild("HttpClient");
+        httpClient.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(1));
+
+        return apiCall.collect();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.publishers.histogram.HistogramSnapshot;
+
+public class LogLinearHistogramTest {
+
+    @Test
+    public void snapshot_noValues_reportsZeros() {
+        HistogramSnapshot snapshot = new LogLinearHistogram().snapshot();
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.min()).isZero();
+        assertThat(snapshot.max()).isZero();
+        assertThat(snapshot.mean()).isZero();
+        assertThat(snapshot.p99()).isZero();
+    }
+
+    @Test
+    public void snapshot_smallValues_areExact() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        LongStream.rangeClosed(1, 10).forEach(histogram::record);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(10);
+        assertThat(snapshot.min()).isEqualTo(1);
+        assertThat(snapshot.max()).isEqualTo(10);
+        assertThat(snapshot.mean()).isEqualTo(5.5);
+        assertThat(snapshot.p50()).isEqualTo(5);
+        assertThat(snapshot.p90()).isEqualTo(9);
+        assertThat(snapshot.valueAtPercentile(100)).isEqualTo(10);
+    }
+
+    @Test
+    public void snapshot_largeValues_percentilesWithinRelativeError() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        LongStream.rangeClosed(1, 100_000).forEach(i -> histogram.record(i * 1_000));
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.p50()).isCloseTo(50_000_000L, within(50_000_000L / 32));
+        assertThat(snapshot.p99()).isCloseTo(99_000_000L, within(99_000_000L / 32));
+        assertThat(snapshot.p999()).isCloseTo(99_900_000L, within(99_900_000L / 32));
+        assertThat(snapshot.max()).isEqualTo(100_000_000L);
+    }
+
+    @Test
+    public void record_extremeValues_areClampedAndCounted() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(2);
+        assertThat(snapshot.min()).isZero();
+        assertThat(snapshot.valueAtPercentile(100)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void valueAtPercentile_outOfRange_throws() {
+        HistogramSnapshot snapshot = new LogLinearHistogram().snapshot();
+
+        assertThatThrownBy(() -> snapshot.valueAtPercentile(100.1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> snapshot.valueAtPercentile(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void record_concurrently_countsAllValues() throws InterruptedException {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> LongStream.range(0, 100_000).forEach(histogram::record));
+            }
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(800_000);
+        assertThat(snapshot.min()).isZero();
+        assertThat(snapshot.max()).isEqualTo(99_999);
+    }
+}
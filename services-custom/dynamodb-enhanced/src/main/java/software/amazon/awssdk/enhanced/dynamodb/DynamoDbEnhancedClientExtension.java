@@ -21,9 +21,11 @@ import software.amazon.awssdk.enhanced.dynamodb.extensions.ReadModification;
 import software.amazon.awssdk.enhanced.dynamodb.extensions.WriteModification;
 
 /**
- * Interface for extending the DynamoDb Enhanced client. Two hooks are provided, one that is called just before a record
+ * Interface for extending the DynamoDb Enhanced client. Two main hooks are provided, one that is called just before a record
  * is written to the database, and one called just after a record is read from the database. This gives the extension the
  * opportunity to act as an invisible layer between the application and the database and transform the data accordingly.
+ * A third hook is called just before a single record is read by its primary key, giving the extension the opportunity to
+ * supply the record itself, for instance from a local cache.
  * <p>
  * Multiple extensions can be used with the enhanced client, but the order in which they are loaded is important. For
  * instance one extension may overwrite the value of an attribute that another extension then includes in a checksum
@@ -55,4 +57,19 @@ public interface DynamoDbEnhancedClientExtension {
     default ReadModification afterRead(DynamoDbExtensionContext.AfterRead context) {
         return ReadModification.builder().build();
     }
+
+    /**
+     * This hook is called just before an operation is going to read a single item from the database by its primary key
+     * (eg: GetItem). The extension that implements this method can choose to supply the item itself, in which case the call
+     * to the database is skipped and the supplied item is treated as if it had been read from the database, including being
+     * passed to {@link #afterRead}. This hook is not called for strongly consistent reads.
+     *
+     * @param context The {@link DynamoDbExtensionContext.BeforeRead} context containing the state of the execution. The
+     *                items of the context are the primary key attributes of the item about to be read.
+     * @return A {@link ReadModification} object whose transformed item, if present, is used instead of reading the item
+     * from the database.
+     */
+    default ReadModification beforeRead(DynamoDbExtensionContext.BeforeRead context) {
+        return ReadModification.builder().build();
+    }
 }
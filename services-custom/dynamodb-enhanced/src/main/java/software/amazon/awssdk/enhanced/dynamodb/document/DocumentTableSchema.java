@@ -111,8 +111,19 @@ public final class DocumentTableSchema implements TableSchema<EnhancedDocument>
         if (item == null) {
             return null;
         }
+        return new LinkedHashMap<>(withMergedConverterProviders(item).toMap());
+    }
+
+    /**
+     * Returns the item itself if it already uses the converter providers of this schema, as documents read through this schema
+     * do, so that the attributes it already converted are not converted again.
+     */
+    private EnhancedDocument withMergedConverterProviders(EnhancedDocument item) {
         List<AttributeConverterProvider> providers = mergeAttributeConverterProviders(item);
-        return item.toBuilder().attributeConverterProviders(providers).build().toMap();
+        if (providers.equals(item.attributeConverterProviders())) {
+            return item;
+        }
+        return item.toBuilder().attributeConverterProviders(providers).build();
     }
 
     private List<AttributeConverterProvider> mergeAttributeConverterProviders(EnhancedDocument item) {
@@ -130,8 +141,7 @@ public final class DocumentTableSchema implements TableSchema<EnhancedDocument>
         if (item.toMap() == null) {
             return null;
         }
-        List<AttributeConverterProvider> providers = mergeAttributeConverterProviders(item);
-        return item.toBuilder().attributeConverterProviders(providers).build().toMap().entrySet()
+        return withMergedConverterProviders(item).toMap().entrySet()
                    .stream()
                    .filter(entry -> attributes.contains(entry.getKey()))
                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
@@ -143,12 +153,7 @@ public final class DocumentTableSchema implements TableSchema<EnhancedDocument>
         if (item == null) {
             return null;
         }
-        List<AttributeConverterProvider> providers = mergeAttributeConverterProviders(item);
-        return item.toBuilder()
-                   .attributeConverterProviders(providers)
-                   .build()
-                   .toMap()
-                   .get(attributeName);
+        return withMergedConverterProviders(item).get(attributeName, EnhancedType.of(AttributeValue.class));
     }
 
     @Override
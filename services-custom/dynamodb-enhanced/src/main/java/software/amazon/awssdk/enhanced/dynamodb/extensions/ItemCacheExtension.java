@@ -0,0 +1,333 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.extensions;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isNullAttributeValue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbExtensionContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.OperationName;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * This extension keeps a bounded, time-limited local cache of items read with GetItem, keyed by table name and primary key,
+ * so that repeated reads of hot, rarely changing items are served without calling DynamoDb.
+ * <p>
+ * This extension is not loaded by default when you instantiate a
+ * {@link software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient}. It should be registered as the <b>last</b>
+ * extension, so that it sees the raw item read from the database before other extensions transform it, and the final item
+ * written to the database after other extensions, such as the {@link VersionedRecordExtension}, have modified it:
+ * <code>DynamoDbEnhancedClient.builder().extensions(VersionedRecordExtension.builder().build(),
+ * ItemCacheExtension.create()).build();</code>
+ * <p>
+ * Cached items are returned for GetItem requests that are not strongly consistent. Strongly consistent reads always go
+ * to the database, and the item they return is cached like any other GetItem result. Other read operations, such as
+ * Query, Scan, BatchGetItem and TransactGetItems, are not served from the cache.
+ * <p>
+ * Entries are invalidated when an item is written with PutItem or UpdateItem through the same enhanced client, including
+ * puts and updates that are part of a batch or transaction, and when an item is deleted with DeleteItem. Deletes that are
+ * part of a batch or transaction, and writes made by other clients, are only reflected once the cached entry expires.
+ * <p>
+ * After an item is invalidated, it is not cached again until its time to live has passed, unless the table has a
+ * version attribute managed by the {@link VersionedRecordExtension}. In that case, an item read after the invalidation
+ * is cached again as soon as its version is at least the version that was written, so reads that were in flight while
+ * the item was written never put a stale item back into the cache.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ItemCacheExtension implements DynamoDbEnhancedClientExtension {
+    private static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final int maximumSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Object lock = new Object();
+    private final Map<CacheKey, CacheEntry> entries;
+
+    private ItemCacheExtension(Builder builder) {
+        this.maximumSize = builder.maximumSize == null ? DEFAULT_MAXIMUM_SIZE
+                                                       : Validate.isPositive(builder.maximumSize, "maximumSize");
+        this.timeToLive = builder.timeToLive == null ? DEFAULT_TIME_TO_LIVE
+                                                     : Validate.isPositive(builder.timeToLive, "timeToLive");
+        this.clock = builder.clock == null ? Clock.systemUTC() : builder.clock;
+        this.entries = new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Create a builder that can be used to create a {@link ItemCacheExtension}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create an {@link ItemCacheExtension} that caches up to 1000 items for one minute each.
+     */
+    public static ItemCacheExtension create() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the extension object.
+     */
+    public Builder toBuilder() {
+        return builder().maximumSize(maximumSize).timeToLive(timeToLive).clock(clock);
+    }
+
+    /**
+     * Removes all items from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (lock) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public ReadModification beforeRead(DynamoDbExtensionContext.BeforeRead context) {
+        if (context.operationName() != OperationName.GET_ITEM) {
+            return ReadModification.builder().build();
+        }
+
+        CacheKey key = new CacheKey(context.operationContext().tableName(), context.items());
+        Instant now = clock.instant();
+
+        synchronized (lock) {
+            CacheEntry entry = entries.get(key);
+            if (entry == null || entry.isExpired(now)) {
+                return ReadModification.builder().build();
+            }
+            return ReadModification.builder().transformedItem(entry.item).build();
+        }
+    }
+
+    @Override
+    public ReadModification afterRead(DynamoDbExtensionContext.AfterRead context) {
+        if (context.operationName() == OperationName.GET_ITEM) {
+            cacheItem(context.operationContext().tableName(), context.tableMetadata(), context.items());
+        } else if (context.operationName() == OperationName.DELETE_ITEM) {
+            Long deletedVersion = version(context.tableMetadata(), context.items());
+            invalidate(context.operationContext().tableName(), context.tableMetadata(), context.items(),
+                       deletedVersion == null ? null : deletedVersion + 1);
+        }
+        return ReadModification.builder().build();
+    }
+
+    @Override
+    public WriteModification beforeWrite(DynamoDbExtensionContext.BeforeWrite context) {
+        if (context.operationName() == OperationName.PUT_ITEM || context.operationName() == OperationName.UPDATE_ITEM) {
+            invalidate(context.operationContext().tableName(), context.tableMetadata(), context.items(),
+                       version(context.tableMetadata(), context.items()));
+        }
+        return WriteModification.builder().build();
+    }
+
+    private void cacheItem(String tableName, TableMetadata tableMetadata, Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> primaryKey = primaryKey(tableMetadata, item);
+        if (primaryKey == null) {
+            return;
+        }
+
+        CacheKey key = new CacheKey(tableName, primaryKey);
+        Long version = version(tableMetadata, item);
+        Instant now = clock.instant();
+
+        synchronized (lock) {
+            CacheEntry existing = entries.get(key);
+            if (existing != null && !existing.isExpired(now) && !existing.isReplaceableBy(version)) {
+                return;
+            }
+            entries.put(key, CacheEntry.item(item, version, now.plus(timeToLive)));
+        }
+    }
+
+    private void invalidate(String tableName, TableMetadata tableMetadata, Map<String, AttributeValue> item,
+                            Long minimumVersion) {
+        Map<String, AttributeValue> primaryKey = primaryKey(tableMetadata, item);
+        if (primaryKey == null) {
+            return;
+        }
+
+        CacheKey key = new CacheKey(tableName, primaryKey);
+        Instant expiry = clock.instant().plus(timeToLive);
+
+        synchronized (lock) {
+            entries.put(key, CacheEntry.invalidated(minimumVersion, expiry));
+        }
+    }
+
+    private static Map<String, AttributeValue> primaryKey(TableMetadata tableMetadata, Map<String, AttributeValue> item) {
+        if (item == null) {
+            return null;
+        }
+
+        Map<String, AttributeValue> primaryKey = new LinkedHashMap<>();
+        for (String keyName : tableMetadata.primaryKeys()) {
+            AttributeValue keyValue = item.get(keyName);
+            if (keyValue == null) {
+                return null;
+            }
+            primaryKey.put(keyName, keyValue);
+        }
+        return Collections.unmodifiableMap(primaryKey);
+    }
+
+    private static Long version(TableMetadata tableMetadata, Map<String, AttributeValue> item) {
+        return VersionedRecordExtension.versionAttributeName(tableMetadata)
+                                       .map(item::get)
+                                       .filter(value -> !isNullAttributeValue(value) && value.n() != null)
+                                       .map(value -> Long.parseLong(value.n()))
+                                       .orElse(null);
+    }
+
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer maximumSize;
+        private Duration timeToLive;
+        private Clock clock;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of items, across all tables, that the cache holds. When the cache is full, the least
+         * recently used item is evicted.
+         * Default value - {@code 1000}.
+         *
+         * @param maximumSize the maximum number of cached items, must be greater than 0
+         * @return the builder instance
+         */
+        public Builder maximumSize(Integer maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long an item is served from the cache after it was read from the database, and how long an invalidated
+         * item is kept out of the cache when the table has no version attribute.
+         * Default value - one minute.
+         *
+         * @param timeToLive the time to live of cached items, must be positive
+         * @return the builder instance
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to expire cached items.
+         * Default value - {@link Clock#systemUTC()}.
+         *
+         * @param clock the clock used to expire cached items
+         * @return the builder instance
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ItemCacheExtension build() {
+            return new ItemCacheExtension(this);
+        }
+    }
+
+    private static final class CacheKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> primaryKey;
+
+        private CacheKey(String tableName, Map<String, AttributeValue> primaryKey) {
+            this.tableName = tableName;
+            this.primaryKey = primaryKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            CacheKey that = (CacheKey) o;
+            return Objects.equals(tableName, that.tableName) && Objects.equals(primaryKey, that.primaryKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = tableName != null ? tableName.hashCode() : 0;
+            result = 31 * result + (primaryKey != null ? primaryKey.hashCode() : 0);
+            return result;
+        }
+    }
+
+    /**
+     * Either a cached item, or a marker left by a write that keeps older versions of the item out of the cache.
+     */
+    private static final class CacheEntry {
+        private final Map<String, AttributeValue> item;
+        private final Long version;
+        private final Instant expiry;
+
+        private CacheEntry(Map<String, AttributeValue> item, Long version, Instant expiry) {
+            this.item = item;
+            this.version = version;
+            this.expiry = expiry;
+        }
+
+        private static CacheEntry item(Map<String, AttributeValue> item, Long version, Instant expiry) {
+            return new CacheEntry(item, version, expiry);
+        }
+
+        private static CacheEntry invalidated(Long minimumVersion, Instant expiry) {
+            return new CacheEntry(null, minimumVersion, expiry);
+        }
+
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiry);
+        }
+
+        /**
+         * Whether an item with the given version read from the database may replace this live entry. A cached item is only
+         * replaced by a newer version, and an invalidated entry only by an item at least as new as the version written.
+         */
+        private boolean isReplaceableBy(Long itemVersion) {
+            if (version == null || itemVersion == null) {
+                return false;
+            }
+            return item == null ? itemVersion >= version : itemVersion > version;
+        }
+    }
+}
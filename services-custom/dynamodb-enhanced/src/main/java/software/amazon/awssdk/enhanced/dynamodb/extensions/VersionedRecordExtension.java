@@ -32,6 +32,7 @@ import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbExtensionContext;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTag;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableMetadata;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -225,6 +226,13 @@ public final class VersionedRecordExtension implements DynamoDbEnhancedClientExt
                                 .build();
     }
 
+    /**
+     * Returns the name of the version attribute of the given table, if the table has one.
+     */
+    static Optional<String> versionAttributeName(TableMetadata tableMetadata) {
+        return tableMetadata.customMetadataObject(CUSTOM_METADATA_KEY, String.class);
+    }
+
     @NotThreadSafe
     public static final class Builder {
         private Long startAt;
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -57,6 +58,10 @@ import software.amazon.awssdk.utils.Validate;
  * value map. Custom objects or collections are saved in the enhancedTypeMap to preserve the generic class information. Note that
  * no default ConverterProviders are assigned, so ConverterProviders must be passed in the builder when creating enhanced
  * documents.
+ * <p>
+ * Single attribute accessors such as {@link #get(String, EnhancedType)} only convert the requested attribute, so reading a few
+ * attributes out of a wide item does not pay for converting the whole item. The full AttributeValueMap is only built when
+ * {@link #toMap()} or {@link #toJson()} is called.
  */
 @Immutable
 @SdkInternalApi
@@ -74,6 +79,7 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
     private final List<AttributeConverterProvider> attributeConverterProviders;
     private final ChainConverterProvider attributeConverterChain;
     private final Lazy<Map<String, AttributeValue>> attributeValueMap = new Lazy<>(this::initializeAttributeValueMap);
+    private final Map<String, AttributeValue> resolvedAttributeValues = new ConcurrentHashMap<>();
 
     public DefaultEnhancedDocument(DefaultBuilder builder) {
         this.nonAttributeValueMap = unmodifiableMap(new LinkedHashMap<>(builder.nonAttributeValueMap));
@@ -131,7 +137,7 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
 
     @Override
     public <T> T get(String attributeName, EnhancedType<T> type) {
-        AttributeValue attributeValue = attributeValueMap.getValue().get(attributeName);
+        AttributeValue attributeValue = attributeValue(attributeName);
         if (attributeValue == null) {
             return null;
         }
@@ -187,7 +193,7 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
 
     @Override
     public String getJson(String attributeName) {
-        AttributeValue attributeValue = attributeValueMap.getValue().get(attributeName);
+        AttributeValue attributeValue = attributeValue(attributeName);
         if (attributeValue == null) {
             return null;
         }
@@ -201,7 +207,7 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
 
     @Override
     public List<AttributeValue> getListOfUnknownType(String attributeName) {
-        AttributeValue attributeValue = attributeValueMap.getValue().get(attributeName);
+        AttributeValue attributeValue = attributeValue(attributeName);
         if (attributeValue == null) {
             return null;
         }
@@ -213,7 +219,7 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
 
     @Override
     public Map<String, AttributeValue> getMapOfUnknownType(String attributeName) {
-        AttributeValue attributeValue = attributeValueMap.getValue().get(attributeName);
+        AttributeValue attributeValue = attributeValue(attributeName);
         if (attributeValue == null) {
             return null;
         }
@@ -236,20 +242,37 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
         return attributeValueMap.getValue();
     }
 
+    /**
+     * Returns the AttributeValue of a single attribute, converting only that attribute if the full AttributeValueMap has not
+     * been built yet.
+     */
+    private AttributeValue attributeValue(String attributeName) {
+        if (attributeValueMap.hasValue()) {
+            return attributeValueMap.getValue().get(attributeName);
+        }
+        if (!nonAttributeValueMap.containsKey(attributeName)) {
+            return null;
+        }
+        return resolvedAttributeValues.computeIfAbsent(attributeName,
+                                                       k -> resolveAttributeValue(k, nonAttributeValueMap.get(k)));
+    }
+
     private Map<String, AttributeValue> initializeAttributeValueMap() {
         Map<String, AttributeValue> result = new LinkedHashMap<>(this.nonAttributeValueMap.size());
         this.nonAttributeValueMap.forEach((k, v) -> {
-            if (v == null) {
-                result.put(k, NULL_ATTRIBUTE_VALUE);
-            } else {
-
-                result.put(k, toAttributeValue(v, enhancedTypeMap.getOrDefault(k, EnhancedType.of(v.getClass()))));
-            }
-
+            AttributeValue resolved = resolvedAttributeValues.get(k);
+            result.put(k, resolved != null ? resolved : resolveAttributeValue(k, v));
         });
         return result;
     }
 
+    private AttributeValue resolveAttributeValue(String attributeName, Object value) {
+        if (value == null) {
+            return NULL_ATTRIBUTE_VALUE;
+        }
+        return toAttributeValue(value, enhancedTypeMap.getOrDefault(attributeName, EnhancedType.of(value.getClass())));
+    }
+
     private <T> AttributeValue toAttributeValue(T value, EnhancedType<T> enhancedType) {
         if (value instanceof AttributeValue) {
             return (AttributeValue) value;
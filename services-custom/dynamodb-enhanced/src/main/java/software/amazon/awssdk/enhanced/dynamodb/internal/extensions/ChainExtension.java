@@ -55,6 +55,10 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
  * This is designed to create a layered pattern when dealing with multiple extensions. One thing to note is that
  * UpdateItem acts as both a write operation and a read operation so the chain will be called both ways within a
  * single operation.
+ *
+ * <p>
+ * The beforeRead() method is also called in reverse order, and the first extension that supplies an item short-circuits
+ * the rest of the chain.
  */
 @SdkInternalApi
 public final class ChainExtension implements DynamoDbEnhancedClientExtension {
@@ -171,6 +175,7 @@ public final class ChainExtension implements DynamoDbEnhancedClientExtension {
                                                .operationContext(context.operationContext())
                                                .tableMetadata(context.tableMetadata())
                                                .tableSchema(context.tableSchema())
+                                               .operationName(context.operationName())
                                                .build();
 
             ReadModification readModification = iterator.next().afterRead(afterRead);
@@ -184,4 +189,26 @@ public final class ChainExtension implements DynamoDbEnhancedClientExtension {
                                .transformedItem(transformedItem)
                                .build();
     }
+
+    /**
+     * Implementation of the {@link DynamoDbEnhancedClientExtension} interface that will call the chained extensions in
+     * reverse order until one of them supplies an item, which is then returned without calling the remaining extensions.
+     *
+     * @param context A {@link DynamoDbExtensionContext.BeforeRead} context
+     * @return A {@link ReadModification} containing the item supplied by one of the chained extensions, if any.
+     */
+    @Override
+    public ReadModification beforeRead(DynamoDbExtensionContext.BeforeRead context) {
+        Iterator<DynamoDbEnhancedClientExtension> iterator = extensionChain.descendingIterator();
+
+        while (iterator.hasNext()) {
+            ReadModification readModification = iterator.next().beforeRead(context);
+
+            if (readModification != null && readModification.transformedItem() != null) {
+                return readModification;
+            }
+        }
+
+        return ReadModification.builder().build();
+    }
 }
@@ -103,7 +103,7 @@ public class DeleteItemOperation<T>
                                                      OperationContext operationContext,
                                                      DynamoDbEnhancedClientExtension extension) {
         T attributes = EnhancedClientUtils.readAndTransformSingleItem(response.attributes(), tableSchema, operationContext,
-                                                                      extension);
+                                                                      extension, operationName());
         return DeleteItemEnhancedResponse.<T>builder(null)
                                          .attributes(attributes)
                                          .consumedCapacity(response.consumedCapacity())
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -23,15 +24,19 @@ import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.ReadModification;
 import software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils;
+import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.Get;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.TransactGetItem;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 @SdkInternalApi
 public class GetItemOperation<T> implements TableOperation<T, GetItemRequest, GetItemResponse, GetItemEnhancedResponse<T>>,
@@ -84,13 +89,53 @@ public class GetItemOperation<T> implements TableOperation<T, GetItemRequest, Ge
                                                         TableSchema<T> tableSchema,
                                                         OperationContext context,
                                                         DynamoDbEnhancedClientExtension extension) {
-        T attributes = EnhancedClientUtils.readAndTransformSingleItem(response.item(), tableSchema, context, extension);
+        T attributes = EnhancedClientUtils.readAndTransformSingleItem(response.item(), tableSchema, context, extension,
+                                                                      operationName());
         return GetItemEnhancedResponse.<T>builder()
                                       .attributes(attributes)
                                       .consumedCapacity(response.consumedCapacity())
                                       .build();
     }
 
+    /**
+     * Executes the operation as described in {@link CommonOperation#execute}, except that the database is not called if the
+     * extension supplies the item from its {@link DynamoDbEnhancedClientExtension#beforeRead} hook.
+     */
+    @Override
+    public GetItemEnhancedResponse<T> execute(TableSchema<T> tableSchema,
+                                              OperationContext context,
+                                              DynamoDbEnhancedClientExtension extension,
+                                              DynamoDbClient dynamoDbClient) {
+        GetItemRequest request = generateRequest(tableSchema, context, extension);
+        Map<String, AttributeValue> suppliedItem = itemSuppliedByExtension(request, tableSchema, context, extension);
+        GetItemResponse response = suppliedItem != null ? GetItemResponse.builder().item(suppliedItem).build()
+                                                        : serviceCall(dynamoDbClient).apply(request);
+        return transformResponse(response, tableSchema, context, extension);
+    }
+
+    /**
+     * Executes the operation as described in {@link CommonOperation#executeAsync}, except that the database is not called if
+     * the extension supplies the item from its {@link DynamoDbEnhancedClientExtension#beforeRead} hook. A failure in that hook
+     * is returned as an exceptionally completed future rather than thrown.
+     */
+    @Override
+    public CompletableFuture<GetItemEnhancedResponse<T>> executeAsync(TableSchema<T> tableSchema,
+                                                                      OperationContext context,
+                                                                      DynamoDbEnhancedClientExtension extension,
+                                                                      DynamoDbAsyncClient dynamoDbAsyncClient) {
+        GetItemRequest request = generateRequest(tableSchema, context, extension);
+        Map<String, AttributeValue> suppliedItem;
+        try {
+            suppliedItem = itemSuppliedByExtension(request, tableSchema, context, extension);
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+        CompletableFuture<GetItemResponse> response =
+            suppliedItem != null ? CompletableFuture.completedFuture(GetItemResponse.builder().item(suppliedItem).build())
+                                 : asyncServiceCall(dynamoDbAsyncClient).apply(request);
+        return response.thenApply(r -> transformResponse(r, tableSchema, context, extension));
+    }
+
     @Override
     public Function<GetItemRequest, GetItemResponse> serviceCall(DynamoDbClient dynamoDbClient) {
         return dynamoDbClient::getItem;
@@ -115,4 +160,23 @@ public class GetItemOperation<T> implements TableOperation<T, GetItemRequest, Ge
                               .build();
     }
 
+    private Map<String, AttributeValue> itemSuppliedByExtension(GetItemRequest request,
+                                                                TableSchema<T> tableSchema,
+                                                                OperationContext context,
+                                                                DynamoDbEnhancedClientExtension extension) {
+        if (extension == null || Boolean.TRUE.equals(request.consistentRead())) {
+            return null;
+        }
+
+        ReadModification readModification = extension.beforeRead(
+            DefaultDynamoDbExtensionContext.builder()
+                                           .items(request.key())
+                                           .tableSchema(tableSchema)
+                                           .operationContext(context)
+                                           .tableMetadata(tableSchema.tableMetadata())
+                                           .operationName(operationName())
+                                           .build());
+
+        return readModification != null ? readModification.transformedItem() : null;
+    }
 }
@@ -125,7 +125,7 @@ public class PutItemOperation<T>
         T attributes = null;
         if (response.hasAttributes()) {
             attributes = EnhancedClientUtils.readAndTransformSingleItem(response.attributes(), tableSchema, operationContext,
-                                                                        extension);
+                                                                        extension, operationName());
         }
 
         return PutItemEnhancedResponse.<T>builder(null)
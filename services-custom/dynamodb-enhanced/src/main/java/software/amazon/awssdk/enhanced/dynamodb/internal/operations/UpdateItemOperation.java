@@ -219,7 +219,8 @@ public class UpdateItemOperation<T>
                                OperationContext operationContext,
                                DynamoDbEnhancedClientExtension extension) {
         try {
-            T attributes = readAndTransformSingleItem(response.attributes(), tableSchema, operationContext, extension);
+            T attributes = readAndTransformSingleItem(response.attributes(), tableSchema, operationContext, extension,
+                                                      operationName());
 
             return UpdateItemEnhancedResponse.<T>builder(null)
                 .attributes(attributes)
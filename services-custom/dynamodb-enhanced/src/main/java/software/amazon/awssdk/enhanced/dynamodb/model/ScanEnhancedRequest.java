@@ -29,6 +29,7 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.NestedAttributeName;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
@@ -500,6 +501,26 @@ public final class ScanEnhancedRequest {
             return this;
         }
 
+        /**
+         * Adds the attributes mapped by the given {@link TableSchema} to the attributes to be retrieved from the database.
+         * This allows a class that maps only a subset of an item's attributes, such as a smaller bean or immutable class, to
+         * be used as a projection so that DynamoDB only reads and returns the attributes that the class actually uses.
+         * <p>
+         * Attributes that cannot be known ahead of time, such as the keys of a flattened map, are not included.
+         * <p>
+         * This method is additive, so calling it multiple times will add to the list of attribute names.
+         *
+         * @param projectionSchema The table schema whose mapped attributes should be retrieved from the database.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        public Builder addAttributesToProject(TableSchema<?> projectionSchema) {
+            Validate.paramNotNull(projectionSchema, "projectionSchema");
+            return addNestedAttributesToProject(projectionSchema.attributeNames()
+                                                                .stream()
+                                                                .map(NestedAttributeName::create)
+                                                                .collect(Collectors.toList()));
+        }
+
         /**
          * Whether to return the capacity consumed by this operation.
          *
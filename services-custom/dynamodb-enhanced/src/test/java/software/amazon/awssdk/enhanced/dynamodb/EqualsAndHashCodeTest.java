@@ -167,6 +167,7 @@ public class EqualsAndHashCodeTest {
                                                       "attributeValueMap",
                                                       "attributeConverterProviders",
                                                       "attributeConverterChain")
+                                   .withIgnoredFields("resolvedAttributeValues")
                                    .usingGetClass();
                 break;
             }
@@ -18,6 +18,7 @@ package software.amazon.awssdk.enhanced.dynamodb.document;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static software.amazon.awssdk.enhanced.dynamodb.AttributeConverterProvider.defaultProvider;
 import static software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocumentTestData.defaultDocBuilder;
 
@@ -314,4 +315,35 @@ class DefaultEnhancedDocumentTest {
             .isInstanceOf(java.lang.IllegalArgumentException.class)
             .hasMessageContaining("Could not parse argument json");
     }
+
+    @Test
+    void get_onSingleAttribute_onlyConvertsRequestedAttribute() {
+        DefaultEnhancedDocument document = (DefaultEnhancedDocument) DefaultEnhancedDocument.builder()
+                                                                                            .attributeConverterProviders(defaultProvider())
+                                                                                            .putString("stringKey", "stringValue")
+                                                                                            .put("customKey", new UnconvertibleValue(),
+                                                                                                 UnconvertibleValue.class)
+                                                                                            .build();
+
+        assertThat(document.getString("stringKey")).isEqualTo("stringValue");
+        assertThatIllegalStateException().isThrownBy(document::toMap)
+                                         .withMessageContaining("Converter not found");
+    }
+
+    @Test
+    void toMap_afterSingleAttributeAccess_containsAllAttributes() {
+        DefaultEnhancedDocument document = (DefaultEnhancedDocument) defaultDocBuilder()
+            .putString("stringKey", "stringValue")
+            .putNumber("numberKey", 10)
+            .putNull("nullKey")
+            .build();
+
+        assertThat(document.getNumber("numberKey").intValue()).isEqualTo(10);
+        assertThat(document.toMap()).containsExactly(entry("stringKey", AttributeValue.fromS("stringValue")),
+                                                     entry("numberKey", AttributeValue.fromN("10")),
+                                                     entry("nullKey", AttributeValue.fromNul(true)));
+    }
+
+    private static final class UnconvertibleValue {
+    }
 }
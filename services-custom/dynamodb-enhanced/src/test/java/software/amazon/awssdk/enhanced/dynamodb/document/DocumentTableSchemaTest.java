@@ -313,7 +313,8 @@ class DocumentTableSchemaTest {
         EnhancedDocument.Builder mockBuilder = mock(EnhancedDocument.Builder.class);
         EnhancedDocument builtItem = mock(EnhancedDocument.class);
 
-        when(mockItem.attributeConverterProviders()).thenReturn(Arrays.asList(defaultProvider()));
+        when(mockItem.attributeConverterProviders())
+            .thenReturn(Arrays.asList(CustomAttributeForDocumentConverterProvider.create()));
         when(mockItem.toBuilder()).thenReturn(mockBuilder);
         when(mockBuilder.attributeConverterProviders((List<AttributeConverterProvider>) any()))
             .thenReturn(mockBuilder);
@@ -349,4 +350,33 @@ class DocumentTableSchemaTest {
 
         assertThat(result).hasSize(1).containsKey("key1");
     }
-}
\ No newline at end of file
+
+    @Test
+    void attributeValue_itemUsingSchemaConverterProviders_doesNotConvertOtherAttributes() {
+        DocumentTableSchema schema = DocumentTableSchema.builder().attributeConverterProviders(defaultProvider()).build();
+        EnhancedDocument item = EnhancedDocument.builder()
+                                                .attributeConverterProviders(defaultProvider())
+                                                .putString("key", "value")
+                                                .put("unconvertible", new UnconvertibleValue(), UnconvertibleValue.class)
+                                                .build();
+
+        assertThat(schema.attributeValue(item, "key")).isEqualTo(AttributeValue.fromS("value"));
+        assertThat(schema.attributeValue(item, "missing")).isNull();
+    }
+
+    @Test
+    void itemToMap_itemReadThroughSchema_returnsCopyOfItemAttributes() {
+        DocumentTableSchema schema = DocumentTableSchema.builder().attributeConverterProviders(defaultProvider()).build();
+        Map<String, AttributeValue> attributes = new LinkedHashMap<>();
+        attributes.put("key", AttributeValue.fromS("value"));
+        EnhancedDocument item = schema.mapToItem(attributes);
+
+        Map<String, AttributeValue> result = schema.itemToMap(item, false);
+        result.put("other", AttributeValue.fromS("other"));
+
+        assertThat(item.toMap()).containsOnlyKeys("key");
+    }
+
+    private static final class UnconvertibleValue {
+    }
+}
@@ -279,6 +279,38 @@ public class ChainExtensionTest {
         assertThat(result.transformedItem(), is(nullValue()));
     }
 
+    @Test
+    public void beforeRead_multipleExtensions_firstSuppliedItemInReverseOrderWins() {
+        ChainExtension extension = ChainExtension.create(mockExtension1, mockExtension2, mockExtension3);
+        ReadModification readModification2 = ReadModification.builder().transformedItem(fakeItems.get(2)).build();
+        ReadModification readModification3 = ReadModification.builder().build();
+        when(mockExtension2.beforeRead(any(DynamoDbExtensionContext.BeforeRead.class))).thenReturn(readModification2);
+        when(mockExtension3.beforeRead(any(DynamoDbExtensionContext.BeforeRead.class))).thenReturn(readModification3);
+
+        ReadModification result = extension.beforeRead(getReadExtensionContext(0));
+
+        assertThat(result.transformedItem(), is(fakeItems.get(2)));
+        InOrder inOrder = Mockito.inOrder(mockExtension1, mockExtension2, mockExtension3);
+        inOrder.verify(mockExtension3).beforeRead(getReadExtensionContext(0));
+        inOrder.verify(mockExtension2).beforeRead(getReadExtensionContext(0));
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void beforeRead_multipleExtensions_noSuppliedItem() {
+        ChainExtension extension = ChainExtension.create(mockExtension1, mockExtension2, mockExtension3);
+        when(mockExtension1.beforeRead(any(DynamoDbExtensionContext.BeforeRead.class)))
+            .thenReturn(ReadModification.builder().build());
+        when(mockExtension2.beforeRead(any(DynamoDbExtensionContext.BeforeRead.class)))
+            .thenReturn(ReadModification.builder().build());
+        when(mockExtension3.beforeRead(any(DynamoDbExtensionContext.BeforeRead.class)))
+            .thenReturn(ReadModification.builder().build());
+
+        ReadModification result = extension.beforeRead(getReadExtensionContext(0));
+
+        assertThat(result.transformedItem(), is(nullValue()));
+    }
+
     private DefaultDynamoDbExtensionContext getWriteExtensionContext(int i) {
         return getExtensionContext(i, OperationName.BATCH_WRITE_ITEM);
     }
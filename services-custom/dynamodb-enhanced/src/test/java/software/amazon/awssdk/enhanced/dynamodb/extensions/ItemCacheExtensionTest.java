@@ -0,0 +1,308 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.extensions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem.createUniqueFakeItem;
+import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort.createUniqueFakeItemWithSort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAmount;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort;
+import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.OperationName;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class ItemCacheExtensionTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final OperationContext PRIMARY_CONTEXT =
+        DefaultOperationContext.create(TABLE_NAME, TableMetadata.primaryIndexName());
+    private static final OperationContext OTHER_TABLE_CONTEXT =
+        DefaultOperationContext.create("other-table-name", TableMetadata.primaryIndexName());
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private final AdjustableClock clock = new AdjustableClock();
+    private final ItemCacheExtension extension = ItemCacheExtension.builder()
+                                                                   .timeToLive(TIME_TO_LIVE)
+                                                                   .clock(clock)
+                                                                   .build();
+
+    @Test
+    void beforeRead_itemNotRead_returnsNoItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isNull();
+    }
+
+    @Test
+    void beforeRead_afterGetItem_returnsCachedItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isEqualTo(item);
+    }
+
+    @Test
+    void beforeRead_afterTimeToLive_returnsNoItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM);
+
+        clock.tickForward(TIME_TO_LIVE);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isNull();
+    }
+
+    @Test
+    void beforeRead_itemCachedForOtherTable_returnsNoItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        extension.afterRead(context(FakeItem.getTableSchema(), item, OperationName.GET_ITEM)
+                                .operationContext(OTHER_TABLE_CONTEXT)
+                                .build());
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isNull();
+    }
+
+    @Test
+    void afterRead_fromQuery_doesNotCacheItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.QUERY);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.NONE);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isNull();
+    }
+
+    @Test
+    void afterRead_doesNotTransformItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+
+        assertThat(afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM))
+            .isEqualTo(ReadModification.builder().build());
+    }
+
+    @Test
+    void beforeWrite_doesNotModifyWrite() {
+        Map<String, AttributeValue> item = versionedItem(1);
+
+        assertThat(beforeWrite(FakeItem.getTableSchema(), item, OperationName.PUT_ITEM))
+            .isEqualTo(WriteModification.builder().build());
+    }
+
+    @Test
+    void beforeWrite_putItem_invalidatesCachedItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM);
+
+        beforeWrite(FakeItem.getTableSchema(), withVersion(item, 2), OperationName.PUT_ITEM);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isNull();
+    }
+
+    @Test
+    void beforeWrite_updateItem_invalidatesCachedItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM);
+
+        beforeWrite(FakeItem.getTableSchema(), withVersion(item, 2), OperationName.UPDATE_ITEM);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isNull();
+    }
+
+    @Test
+    void afterRead_deleteItem_invalidatesCachedItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM);
+
+        afterRead(FakeItem.getTableSchema(), item, OperationName.DELETE_ITEM);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isNull();
+    }
+
+    @Test
+    void afterRead_versionOlderThanWrittenVersion_doesNotCacheStaleItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        beforeWrite(FakeItem.getTableSchema(), withVersion(item, 2), OperationName.PUT_ITEM);
+
+        afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isNull();
+    }
+
+    @Test
+    void afterRead_versionOfWrittenItem_cachesItemAgain() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        Map<String, AttributeValue> newItem = withVersion(item, 2);
+        beforeWrite(FakeItem.getTableSchema(), newItem, OperationName.PUT_ITEM);
+
+        afterRead(FakeItem.getTableSchema(), newItem, OperationName.GET_ITEM);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isEqualTo(newItem);
+    }
+
+    @Test
+    void afterRead_deletedVersion_doesNotCacheStaleItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.DELETE_ITEM);
+
+        afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isNull();
+    }
+
+    @Test
+    void afterRead_newerVersion_replacesCachedItem() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        Map<String, AttributeValue> newItem = withVersion(item, 2);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM);
+
+        afterRead(FakeItem.getTableSchema(), newItem, OperationName.GET_ITEM);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM);
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isEqualTo(newItem);
+    }
+
+    @Test
+    void afterRead_unversionedItemInvalidated_notCachedUntilTimeToLivePassed() {
+        Map<String, AttributeValue> item =
+            FakeItemWithSort.getTableSchema().itemToMap(createUniqueFakeItemWithSort(), true);
+        beforeWrite(FakeItemWithSort.getTableSchema(), item, OperationName.PUT_ITEM);
+
+        afterRead(FakeItemWithSort.getTableSchema(), item, OperationName.GET_ITEM);
+        assertThat(beforeRead(FakeItemWithSort.getTableSchema(), item).transformedItem()).isNull();
+
+        clock.tickForward(TIME_TO_LIVE);
+        afterRead(FakeItemWithSort.getTableSchema(), item, OperationName.GET_ITEM);
+        assertThat(beforeRead(FakeItemWithSort.getTableSchema(), item).transformedItem()).isEqualTo(item);
+    }
+
+    @Test
+    void afterRead_cacheFull_evictsLeastRecentlyUsedItem() {
+        ItemCacheExtension smallCache = extension.toBuilder().maximumSize(2).build();
+        Map<String, AttributeValue> item1 = versionedItem(1);
+        Map<String, AttributeValue> item2 = versionedItem(1);
+        Map<String, AttributeValue> item3 = versionedItem(1);
+        smallCache.afterRead(context(FakeItem.getTableSchema(), item1, OperationName.GET_ITEM).build());
+        smallCache.afterRead(context(FakeItem.getTableSchema(), item2, OperationName.GET_ITEM).build());
+        smallCache.beforeRead(context(FakeItem.getTableSchema(), keyOf(item1), OperationName.GET_ITEM).build());
+
+        smallCache.afterRead(context(FakeItem.getTableSchema(), item3, OperationName.GET_ITEM).build());
+
+        assertThat(smallCache.beforeRead(context(FakeItem.getTableSchema(), keyOf(item1), OperationName.GET_ITEM).build())
+                             .transformedItem()).isEqualTo(item1);
+        assertThat(smallCache.beforeRead(context(FakeItem.getTableSchema(), keyOf(item2), OperationName.GET_ITEM).build())
+                             .transformedItem()).isNull();
+        assertThat(smallCache.beforeRead(context(FakeItem.getTableSchema(), keyOf(item3), OperationName.GET_ITEM).build())
+                             .transformedItem()).isEqualTo(item3);
+    }
+
+    @Test
+    void invalidateAll_removesCachedItems() {
+        Map<String, AttributeValue> item = versionedItem(1);
+        afterRead(FakeItem.getTableSchema(), item, OperationName.GET_ITEM);
+
+        extension.invalidateAll();
+
+        assertThat(beforeRead(FakeItem.getTableSchema(), item).transformedItem()).isNull();
+    }
+
+    @Test
+    void build_invalidConfiguration_throwsException() {
+        assertThatThrownBy(() -> ItemCacheExtension.builder().maximumSize(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ItemCacheExtension.builder().timeToLive(Duration.ZERO).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ReadModification beforeRead(TableSchema<?> tableSchema, Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        tableSchema.tableMetadata().primaryKeys().forEach(name -> key.put(name, item.get(name)));
+        return extension.beforeRead(context(tableSchema, key, OperationName.GET_ITEM).build());
+    }
+
+    private ReadModification afterRead(TableSchema<?> tableSchema, Map<String, AttributeValue> item,
+                                       OperationName operationName) {
+        return extension.afterRead(context(tableSchema, item, operationName).build());
+    }
+
+    private WriteModification beforeWrite(TableSchema<?> tableSchema, Map<String, AttributeValue> item,
+                                          OperationName operationName) {
+        return extension.beforeWrite(context(tableSchema, item, operationName).build());
+    }
+
+    private static DefaultDynamoDbExtensionContext.Builder context(TableSchema<?> tableSchema,
+                                                                   Map<String, AttributeValue> item,
+                                                                   OperationName operationName) {
+        return DefaultDynamoDbExtensionContext.builder()
+                                              .items(item)
+                                              .tableSchema(tableSchema)
+                                              .tableMetadata(tableSchema.tableMetadata())
+                                              .operationContext(PRIMARY_CONTEXT)
+                                              .operationName(operationName);
+    }
+
+    private static Map<String, AttributeValue> versionedItem(int version) {
+        FakeItem fakeItem = createUniqueFakeItem();
+        fakeItem.setVersion(version);
+        return FakeItem.getTableSchema().itemToMap(fakeItem, true);
+    }
+
+    private static Map<String, AttributeValue> withVersion(Map<String, AttributeValue> item, int version) {
+        Map<String, AttributeValue> newItem = new HashMap<>(item);
+        newItem.put("version", AttributeValue.builder().n(Integer.toString(version)).build());
+        return newItem;
+    }
+
+    private static Map<String, AttributeValue> keyOf(Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put("id", item.get("id"));
+        return key;
+    }
+
+    private static final class AdjustableClock extends Clock {
+        private Instant time = Instant.now();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return time;
+        }
+
+        private void tickForward(TemporalAmount amount) {
+            time = time.plus(amount);
+        }
+    }
+}
@@ -459,6 +459,7 @@ public class DeleteItemOperationTest {
                                                                                              .tableMetadata(FakeItem.getTableMetadata())
                                                                                              .operationContext(PRIMARY_CONTEXT)
                                                                                              .tableSchema(FakeItem.getTableSchema())
+                                                                                             .operationName(OperationName.DELETE_ITEM)
                                                                                              .items(baseFakeItemMap).build());
     }
 
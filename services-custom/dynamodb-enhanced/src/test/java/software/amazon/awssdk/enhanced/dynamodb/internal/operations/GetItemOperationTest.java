@@ -16,7 +16,9 @@
 package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -28,6 +30,8 @@ import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.Fa
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -44,6 +48,7 @@ import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemW
 import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
@@ -61,6 +66,9 @@ public class GetItemOperationTest {
     @Mock
     private DynamoDbClient mockDynamoDbClient;
 
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
     @Mock
     private DynamoDbEnhancedClientExtension mockDynamoDbEnhancedClientExtension;
 
@@ -271,7 +279,68 @@ public class GetItemOperationTest {
                                                               .tableMetadata(FakeItem.getTableMetadata())
                                                               .operationContext(PRIMARY_CONTEXT)
                                                               .tableSchema(FakeItem.getTableSchema())
+                                                              .operationName(OperationName.GET_ITEM)
                                                               .items(baseFakeItemMap).build());
     }
 
+    @Test
+    public void execute_withExtensionSupplyingItem_doesNotCallDynamoDb() {
+        FakeItem fakeItem = createUniqueFakeItem();
+        Map<String, AttributeValue> fakeItemMap = FakeItem.getTableSchema().itemToMap(fakeItem, false);
+        GetItemOperation<FakeItem> getItemOperation =
+            GetItemOperation.create(GetItemEnhancedRequest.builder().key(k -> k.partitionValue(fakeItem.getId())).build());
+        when(mockDynamoDbEnhancedClientExtension.beforeRead(any(DynamoDbExtensionContext.BeforeRead.class)))
+            .thenReturn(ReadModification.builder().transformedItem(fakeItemMap).build());
+        when(mockDynamoDbEnhancedClientExtension.afterRead(any(DynamoDbExtensionContext.AfterRead.class)))
+            .thenReturn(ReadModification.builder().build());
+
+        GetItemEnhancedResponse<FakeItem> response = getItemOperation.execute(FakeItem.getTableSchema(), PRIMARY_CONTEXT,
+                                                                              mockDynamoDbEnhancedClientExtension,
+                                                                              mockDynamoDbClient);
+
+        assertThat(response.attributes()).isEqualTo(fakeItem);
+        verify(mockDynamoDbClient, never()).getItem(any(GetItemRequest.class));
+        verify(mockDynamoDbEnhancedClientExtension).beforeRead(
+            DefaultDynamoDbExtensionContext.builder()
+                                           .tableMetadata(FakeItem.getTableMetadata())
+                                           .operationContext(PRIMARY_CONTEXT)
+                                           .tableSchema(FakeItem.getTableSchema())
+                                           .operationName(OperationName.GET_ITEM)
+                                           .items(singletonMap("id", AttributeValue.builder().s(fakeItem.getId()).build()))
+                                           .build());
+    }
+
+    @Test
+    public void execute_consistentRead_doesNotCallBeforeRead() {
+        FakeItem fakeItem = createUniqueFakeItem();
+        GetItemOperation<FakeItem> getItemOperation =
+            GetItemOperation.create(GetItemEnhancedRequest.builder()
+                                                          .key(k -> k.partitionValue(fakeItem.getId()))
+                                                          .consistentRead(true)
+                                                          .build());
+        when(mockDynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+
+        getItemOperation.execute(FakeItem.getTableSchema(), PRIMARY_CONTEXT, mockDynamoDbEnhancedClientExtension,
+                                 mockDynamoDbClient);
+
+        verify(mockDynamoDbEnhancedClientExtension, never()).beforeRead(any(DynamoDbExtensionContext.BeforeRead.class));
+        verify(mockDynamoDbClient).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    public void executeAsync_beforeReadThrows_returnsFailedFuture() {
+        FakeItem fakeItem = createUniqueFakeItem();
+        GetItemOperation<FakeItem> getItemOperation =
+            GetItemOperation.create(GetItemEnhancedRequest.builder().key(k -> k.partitionValue(fakeItem.getId())).build());
+        IllegalStateException failure = new IllegalStateException("boom");
+        when(mockDynamoDbEnhancedClientExtension.beforeRead(any(DynamoDbExtensionContext.BeforeRead.class)))
+            .thenThrow(failure);
+
+        CompletableFuture<GetItemEnhancedResponse<FakeItem>> response =
+            getItemOperation.executeAsync(FakeItem.getTableSchema(), PRIMARY_CONTEXT, mockDynamoDbEnhancedClientExtension,
+                                          mockDynamoDbAsyncClient);
+
+        assertThatThrownBy(response::join).isInstanceOf(CompletionException.class).hasCause(failure);
+        verify(mockDynamoDbAsyncClient, never()).getItem(any(GetItemRequest.class));
+    }
 }
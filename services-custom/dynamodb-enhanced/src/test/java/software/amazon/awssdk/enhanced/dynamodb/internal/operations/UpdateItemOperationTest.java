@@ -646,7 +646,8 @@ public class UpdateItemOperationTest {
         FakeItem resultItem = transformResponse(baseFakeItem);
 
         assertThat(resultItem, is(fakeItem));
-        verify(mockDynamoDbEnhancedClientExtension).afterRead(extensionContext(baseFakeMap));
+        verify(mockDynamoDbEnhancedClientExtension)
+            .afterRead(extensionContext(baseFakeMap, b -> b.operationName(OperationName.UPDATE_ITEM)));
     }
 
     @Test
@@ -660,7 +661,8 @@ public class UpdateItemOperationTest {
         FakeItem resultItem = transformResponse(baseFakeItem);
 
         assertThat(resultItem, is(baseFakeItem));
-        verify(mockDynamoDbEnhancedClientExtension).afterRead(extensionContext(baseFakeMap));
+        verify(mockDynamoDbEnhancedClientExtension)
+            .afterRead(extensionContext(baseFakeMap, b -> b.operationName(OperationName.UPDATE_ITEM)));
     }
 
     @Test(expected = IllegalStateException.class)
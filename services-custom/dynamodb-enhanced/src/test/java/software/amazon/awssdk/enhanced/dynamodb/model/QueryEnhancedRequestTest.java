@@ -20,6 +20,7 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.NestedAttributeName;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.*;
@@ -174,6 +175,25 @@ public class QueryEnhancedRequestTest {
                                                      .build()).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    public void addAttributesToProject_fromTableSchema_projectsMappedAttributes() {
+        QueryEnhancedRequest builtObject = QueryEnhancedRequest.builder()
+                                                         .addAttributeToProject("one")
+                                                         .addAttributesToProject(FakeItem.getTableSchema())
+                                                         .build();
+
+        List<String> attributesToProject = new ArrayList<>();
+        attributesToProject.add("one");
+        attributesToProject.addAll(FakeItem.getTableSchema().attributeNames());
+        assertThat(builtObject.attributesToProject(), is(attributesToProject));
+    }
+
+    @Test
+    public void addAttributesToProject_nullTableSchema_throws() {
+        assertThatThrownBy(() -> QueryEnhancedRequest.builder().addAttributesToProject(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
     @Test
     public void toBuilder() {
         QueryEnhancedRequest builtObject = QueryEnhancedRequest.builder().build();
@@ -33,6 +33,7 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.NestedAttributeName;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -188,6 +189,25 @@ public class ScanEnhancedRequestTest {
                                                     .build()).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    public void addAttributesToProject_fromTableSchema_projectsMappedAttributes() {
+        ScanEnhancedRequest builtObject = ScanEnhancedRequest.builder()
+                                                         .addAttributeToProject("one")
+                                                         .addAttributesToProject(FakeItem.getTableSchema())
+                                                         .build();
+
+        List<String> attributesToProject = new ArrayList<>();
+        attributesToProject.add("one");
+        attributesToProject.addAll(FakeItem.getTableSchema().attributeNames());
+        assertThat(builtObject.attributesToProject(), is(attributesToProject));
+    }
+
+    @Test
+    public void addAttributesToProject_nullTableSchema_throws() {
+        assertThatThrownBy(() -> ScanEnhancedRequest.builder().addAttributesToProject(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
     @Test
     public void toBuilder() {
         ScanEnhancedRequest builtObject = ScanEnhancedRequest.builder().exclusiveStartKey(null).build();
@@ -901,6 +901,33 @@ public interface S3TransferManager extends SdkAutoCloseable {
          */
         Builder transferDirectoryMaxConcurrency(Integer transferDirectoryMaxConcurrency);
 
+        /**
+         * Specifies the executor used to calculate the checksum of the file before it is uploaded in
+         * {@link S3TransferManager#uploadFile} operation. When set, the file is split into segments that are checksummed
+         * concurrently on this executor, and the combined checksum is sent with the upload instead of being calculated
+         * while the file is uploaded. This can increase throughput for large files, because calculating the checksum while
+         * uploading is limited to a single thread.
+         *
+         * <p>
+         * The checksum is only calculated ahead of the upload for the CRC32, CRC32C and CRC64NVME algorithms, and when the
+         * {@link PutObjectRequest} does not already include a checksum value. CRC32 is used if the request does not specify a
+         * checksum algorithm, unless the request checksum calculation of the S3 client is
+         * {@link software.amazon.awssdk.core.checksums.RequestChecksumCalculation#WHEN_REQUIRED}, in which case no checksum
+         * is calculated for such requests. This setting has no effect when the transfer manager uses a CRT-based S3 client, which
+         * calculates checksums natively.
+         *
+         * <p>
+         * Default to not set, in which case the checksum is calculated while the file is uploaded.
+         *
+         * <p>
+         * <b>This executor must be shut down by the user when it is ready to be disposed. The SDK will not close the executor
+         * when the s3 transfer manager is closed.</b>
+         *
+         * @param uploadFileChecksumExecutor the executor used to calculate file checksums
+         * @return This builder for method chaining.
+         */
+        Builder uploadFileChecksumExecutor(Executor uploadFileChecksumExecutor);
+
         /**
          * Builds an instance of {@link S3TransferManager} based on the settings supplied to this builder
          *
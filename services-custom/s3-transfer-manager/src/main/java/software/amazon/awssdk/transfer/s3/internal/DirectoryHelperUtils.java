@@ -15,7 +15,13 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.Validate;
 
@@ -59,4 +65,52 @@ final class DirectoryHelperUtils {
         return stripped.substring(1);
     }
 
+    /**
+     * Opens the journal at the given checkpoint file. The file must not be within the directory being transferred, where it
+     * would be uploaded, or deleted as a file not in the source.
+     */
+    static DirectoryTransferJournal openJournal(Path checkpointFile, Path directory) {
+        Validate.isTrue(!checkpointFile.toAbsolutePath().normalize().startsWith(directory.toAbsolutePath().normalize()),
+                        "The checkpoint file provided (%s) must not be within the directory being transferred (%s)",
+                        checkpointFile, directory);
+        return DirectoryTransferJournal.open(checkpointFile);
+    }
+
+    /**
+     * Whether the destination object of a directory upload is unchanged from its source file: the object must have the same
+     * size as the file and must have been last modified no earlier than the file.
+     */
+    static boolean isUnchanged(Path sourceFile, S3Object destinationObject) {
+        return isSameSizeAndNotOlder(sourceFile, destinationObject, true);
+    }
+
+    /**
+     * Whether the destination file of a directory download is unchanged from its source object: the file must exist, have the
+     * same size as the object and must have been last modified no earlier than the object.
+     */
+    static boolean isUnchanged(S3Object sourceObject, Path destinationFile) {
+        return isSameSizeAndNotOlder(destinationFile, sourceObject, false);
+    }
+
+    /**
+     * Last-modified times are compared at second precision, because S3 does not keep sub-second precision.
+     */
+    private static boolean isSameSizeAndNotOlder(Path file, S3Object object, boolean objectIsDestination) {
+        if (object == null || object.size() == null || object.lastModified() == null) {
+            return false;
+        }
+
+        try {
+            if (!Files.isRegularFile(file) || Files.size(file) != object.size()) {
+                return false;
+            }
+
+            Instant fileLastModified = Files.getLastModifiedTime(file).toInstant().truncatedTo(ChronoUnit.SECONDS);
+            Instant objectLastModified = object.lastModified().truncatedTo(ChronoUnit.SECONDS);
+            return objectIsDestination ? !objectLastModified.isBefore(fileLastModified)
+                                       : !fileLastModified.isBefore(objectLastModified);
+        } catch (IOException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * An append-only journal of the files or objects a directory transfer has completed, used to resume the transfer after the
+ * process was interrupted.
+ * <p>
+ * Each line records the key of a completed transfer and a fingerprint of its source, so that a source that changed after it
+ * was transferred is transferred again. Entries are written to the file as they are recorded, and synced to the storage
+ * device every {@link #ENTRIES_PER_SYNC} entries and when the journal is closed. Entries that were not synced when the
+ * process crashed are lost, and the corresponding files or objects are transferred again when the transfer is resumed.
+ */
+@SdkInternalApi
+final class DirectoryTransferJournal implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+    private static final int ENTRIES_PER_SYNC = 100;
+    private static final char SEPARATOR = ' ';
+
+    private final Path path;
+    private final Map<String, String> completedTransfers;
+    private final Object lock = new Object();
+    private final FileChannel channel;
+    private final Writer writer;
+    private int unsyncedEntries;
+    private boolean writeFailed;
+    private boolean closed;
+
+    private DirectoryTransferJournal(Path path, Map<String, String> completedTransfers, FileChannel channel) {
+        this.path = path;
+        this.completedTransfers = completedTransfers;
+        this.channel = channel;
+        this.writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Opens the journal at the given path, loading the entries recorded by previous attempts of the transfer if it exists.
+     */
+    static DirectoryTransferJournal open(Path path) {
+        Map<String, String> completedTransfers = new ConcurrentHashMap<>();
+        try {
+            if (Files.exists(path)) {
+                readEntries(path, completedTransfers);
+            }
+            boolean endsWithIncompleteLine = endsWithIncompleteLine(path);
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                   StandardOpenOption.APPEND);
+            if (endsWithIncompleteLine) {
+                // Start a new line so that the next entry is not appended to the incomplete one
+                channel.write(ByteBuffer.wrap(new byte[] {'\n'}));
+            }
+            log.debug(() -> String.format("Opened checkpoint file (%s) with %d completed transfers", path,
+                                          completedTransfers.size()));
+            return new DirectoryTransferJournal(path, completedTransfers, channel);
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to open checkpoint file " + path, e);
+        }
+    }
+
+    private static void readEntries(Path path, Map<String, String> completedTransfers) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(path),
+                                                                              StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separatorIndex = line.indexOf(SEPARATOR);
+                if (separatorIndex <= 0) {
+                    // The last line may be incomplete if the process crashed while writing it
+                    continue;
+                }
+                try {
+                    completedTransfers.put(decode(line.substring(0, separatorIndex)), decode(line.substring(separatorIndex + 1)));
+                } catch (IllegalArgumentException e) {
+                    log.debug(() -> "Ignoring malformed entry in checkpoint file " + path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the last line of the file is incomplete, which happens if the process crashed while writing it.
+     */
+    private static boolean endsWithIncompleteLine(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return false;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.read(lastByte, size - 1);
+            return lastByte.get(0) != '\n';
+        }
+    }
+
+    /**
+     * Whether a previous attempt of the transfer recorded the given key as completed with the same source fingerprint.
+     */
+    boolean isCompleted(String key, String fingerprint) {
+        return Objects.equals(completedTransfers.get(key), fingerprint);
+    }
+
+    /**
+     * Records that the transfer of the given key completed. Failing to write the entry does not fail the transfer, which has
+     * completed: the failure is logged, and no further entries are written, so that the key is transferred again if the
+     * transfer is resumed.
+     */
+    void recordCompleted(String key, String fingerprint) {
+        synchronized (lock) {
+            if (closed || writeFailed) {
+                return;
+            }
+            try {
+                writer.write(encode(key));
+                writer.write(SEPARATOR);
+                writer.write(encode(fingerprint));
+                writer.write('\n');
+                if (++unsyncedEntries >= ENTRIES_PER_SYNC) {
+                    sync();
+                }
+            } catch (IOException e) {
+                writeFailed = true;
+                log.warn(() -> "Failed to write to checkpoint file " + path + ", no further transfers will be recorded", e);
+            }
+        }
+    }
+
+    /**
+     * Closes the journal and deletes its file. Called once the transfer completed without any failure.
+     */
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn(() -> "Failed to delete checkpoint file " + path, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                sync();
+                writer.close();
+            } catch (IOException e) {
+                log.warn(() -> "Failed to close checkpoint file " + path, e);
+            }
+        }
+    }
+
+    private void sync() throws IOException {
+        writer.flush();
+        channel.force(false);
+        unsyncedEntries = 0;
+    }
+
+    private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+}
@@ -23,12 +23,17 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.OptionalInt;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -102,41 +107,123 @@ public class DownloadDirectoryHelper {
                                 .applyMutation(downloadDirectoryRequest.listObjectsRequestTransformer())
                                 .build();
 
+        Path destinationDirectory = downloadDirectoryRequest.destination();
+        DirectoryTransferJournal journal =
+            downloadDirectoryRequest.checkpointFile()
+                                    .map(file -> DirectoryHelperUtils.openJournal(file, destinationDirectory))
+                                    .orElse(null);
+        if (journal != null) {
+            returnFuture.whenComplete((r, t) -> journal.close());
+        }
+
         Queue<FailedFileDownload> failedFileDownloads = new ConcurrentLinkedQueue<>();
+        Set<Path> destinationPaths = downloadDirectoryRequest.deleteFilesNotInSource().orElse(false)
+                                     ? ConcurrentHashMap.newKeySet() : null;
 
         CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
         AsyncBufferingSubscriber<S3Object> asyncBufferingSubscriber =
             new AsyncBufferingSubscriber<>(downloadSingleFile(returnFuture, downloadDirectoryRequest, request,
-                                                              failedFileDownloads),
+                                                              failedFileDownloads, destinationPaths, journal),
                                            allOfFutures,
                                            transferConfiguration.option(
                                                TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY
                                            ));
-        listObjectsHelper.listS3ObjectsRecursively(request)
-                         .filter(downloadDirectoryRequest.filter())
-                         .subscribe(asyncBufferingSubscriber);
+        listObjects(downloadDirectoryRequest, request)
+            .filter(s3Object -> isAdmitted(downloadDirectoryRequest, request, destinationPaths, s3Object))
+            .subscribe(asyncBufferingSubscriber);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
 
-        allOfFutures.whenComplete((r, t) -> {
-            if (t != null) {
-                returnFuture.completeExceptionally(SdkClientException.create("Failed to send request", t));
-            } else {
-                returnFuture.complete(CompletedDirectoryDownload.builder()
-                                                                .failedTransfers(failedFileDownloads)
-                                                                .build());
+        allOfFutures.thenCompose(r -> deleteFilesNotInSourceIfNeeded(downloadDirectoryRequest, destinationPaths))
+                    .whenComplete((r, t) -> {
+                        if (t != null) {
+                            Throwable cause = t instanceof CompletionException ? t.getCause() : t;
+                            returnFuture.completeExceptionally(SdkClientException.create("Failed to send request", cause));
+                        } else {
+                            if (journal != null && failedFileDownloads.isEmpty()) {
+                                journal.delete();
+                            }
+                            returnFuture.complete(CompletedDirectoryDownload.builder()
+                                                                            .failedTransfers(failedFileDownloads)
+                                                                            .build());
+                        }
+                    });
+    }
+
+    /**
+     * Applies the filter of the request. If destinationPaths is not null, the destination of an object the filter excludes is
+     * still added to it, so that the file is not deleted as a file not in the source.
+     */
+    private boolean isAdmitted(DownloadDirectoryRequest downloadDirectoryRequest,
+                               ListObjectsV2Request listRequest,
+                               Set<Path> destinationPaths,
+                               S3Object s3Object) {
+        if (downloadDirectoryRequest.filter().test(s3Object)) {
+            return true;
+        }
+        if (destinationPaths != null) {
+            try {
+                destinationPaths.add(determineDestinationPath(downloadDirectoryRequest, listRequest, s3Object)
+                                         .toAbsolutePath().normalize());
+            } catch (SdkClientException e) {
+                // the key resolves outside the destination directory, where no files are deleted
+                log.debug(() -> "Ignoring excluded object " + s3Object.key(), e);
+            }
+        }
+        return false;
+    }
+
+    private SdkPublisher<S3Object> listObjects(DownloadDirectoryRequest downloadDirectoryRequest,
+                                               ListObjectsV2Request listRequest) {
+        OptionalInt listObjectsMaxConcurrency = downloadDirectoryRequest.listObjectsMaxConcurrency();
+        if (listObjectsMaxConcurrency.isPresent()) {
+            return listObjectsHelper.listS3ObjectsRecursively(listRequest, listObjectsMaxConcurrency.getAsInt());
+        }
+        return listObjectsHelper.listS3ObjectsRecursively(listRequest);
+    }
+
+    /**
+     * Deletes the regular files within the destination directory that are not the destination of any listed object.
+     */
+    private CompletableFuture<Void> deleteFilesNotInSourceIfNeeded(DownloadDirectoryRequest downloadDirectoryRequest,
+                                                                   Set<Path> destinationPaths) {
+        if (destinationPaths == null || !Files.isDirectory(downloadDirectoryRequest.destination())) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture.runAsync(() -> {
+            try (Stream<Path> files = Files.walk(downloadDirectoryRequest.destination())) {
+                files.filter(Files::isRegularFile)
+                     .filter(path -> !destinationPaths.contains(path.toAbsolutePath().normalize()))
+                     .forEach(DownloadDirectoryHelper::deleteFile);
+            } catch (IOException e) {
+                throw SdkClientException.create("Failed to list files within the destination directory: "
+                                                + downloadDirectoryRequest.destination(), e);
             }
-        });
+        }, transferConfiguration.option(TransferConfigurationOption.EXECUTOR));
+    }
+
+    private static void deleteFile(Path path) {
+        log.debug(() -> String.format("Deleting file (%s) since it is not in the source bucket", path));
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to delete file " + path, e);
+        }
     }
 
     private Function<S3Object, CompletableFuture<?>> downloadSingleFile(
         CompletableFuture<CompletedDirectoryDownload> returnFuture,
         DownloadDirectoryRequest downloadDirectoryRequest,
         ListObjectsV2Request listRequest,
-        Queue<FailedFileDownload> failedFileDownloads) {
+        Queue<FailedFileDownload> failedFileDownloads,
+        Set<Path> destinationPaths,
+        DirectoryTransferJournal journal) {
 
         return s3Object -> doDownloadSingleFile(returnFuture,
                                             downloadDirectoryRequest,
                                             failedFileDownloads,
+                                            destinationPaths,
+                                            journal,
                                             listRequest,
                                             s3Object);
     }
@@ -164,6 +251,8 @@ public class DownloadDirectoryHelper {
         CompletableFuture<CompletedDirectoryDownload> returnFuture,
         DownloadDirectoryRequest downloadDirectoryRequest,
         Collection<FailedFileDownload> failedFileDownloads,
+        Set<Path> destinationPaths,
+        DirectoryTransferJournal journal,
         ListObjectsV2Request listRequest,
         S3Object s3Object) {
 
@@ -176,6 +265,24 @@ public class DownloadDirectoryHelper {
 
         DownloadFileRequest downloadFileRequest = downloadFileRequest(downloadDirectoryRequest, s3Object, destinationPath);
 
+        if (destinationPaths != null) {
+            destinationPaths.add(downloadFileRequest.destination().toAbsolutePath().normalize());
+        }
+
+        if (downloadDirectoryRequest.skipUnchangedObjects().orElse(false)
+            && DirectoryHelperUtils.isUnchanged(s3Object, downloadFileRequest.destination())) {
+            log.debug(() -> String.format("Skipping download for object (%s) since it is unchanged", s3Object.key()));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String fingerprint = objectFingerprint(s3Object);
+        if (journal != null && journal.isCompleted(s3Object.key(), fingerprint)
+            && isDownloaded(s3Object, downloadFileRequest.destination())) {
+            log.debug(() -> String.format("Skipping download for object (%s) since it was downloaded before the transfer was "
+                                          + "interrupted", s3Object.key()));
+            return CompletableFuture.completedFuture(null);
+        }
+
         try {
             log.debug(() -> "Sending download request " + downloadFileRequest);
             createParentDirectoriesIfNeeded(destinationPath);
@@ -188,6 +295,8 @@ public class DownloadDirectoryHelper {
                                                               .exception(t instanceof CompletionException ? t.getCause() : t)
                                                               .request(downloadFileRequest)
                                                               .build());
+                } else if (journal != null) {
+                    journal.recordCompleted(s3Object.key(), fingerprint);
                 }
             });
             CompletableFutureUtils.forwardExceptionTo(future, executionFuture);
@@ -203,6 +312,26 @@ public class DownloadDirectoryHelper {
     }
 
 
+    /**
+     * Identifies the content of an object by its ETag, size and last-modified time, so that an object that changed after it
+     * was recorded in the journal is downloaded again.
+     */
+    private static String objectFingerprint(S3Object s3Object) {
+        return s3Object.eTag() + ":" + s3Object.size() + ":" + s3Object.lastModified();
+    }
+
+    /**
+     * Whether the destination file of an object recorded in the journal still exists with the size of the object, so that a
+     * file that was deleted or truncated after it was recorded is downloaded again.
+     */
+    private static boolean isDownloaded(S3Object s3Object, Path destination) {
+        try {
+            return Files.isRegularFile(destination) && (s3Object.size() == null || Files.size(destination) == s3Object.size());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     private static String getRelativePath(FileSystem fileSystem, String delimiter, String key) {
         if (delimiter == null) {
             return key;
@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.internal.checksums.CombinableCrcAlgorithm;
+import software.amazon.awssdk.services.s3.internal.multipart.S3ChecksumUtils;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Calculates the full-object CRC checksum of a file before it is uploaded, by checksumming fixed-size segments of the file
+ * concurrently and combining the segment checksums.
+ * <p>
+ * Each segment is memory-mapped and checksummed by a separate task on the configured executor, so the calculation is spread
+ * over as many threads as the executor allows.
+ */
+@SdkInternalApi
+final class FileChecksumCalculator {
+    private static final Logger log = Logger.loggerFor(FileChecksumCalculator.class);
+    private static final long DEFAULT_SEGMENT_SIZE_IN_BYTES = 64 * MB;
+
+    private final Executor executor;
+    private final long segmentSizeInBytes;
+
+    FileChecksumCalculator(Executor executor) {
+        this(executor, DEFAULT_SEGMENT_SIZE_IN_BYTES);
+    }
+
+    @SdkTestInternalApi
+    FileChecksumCalculator(Executor executor, long segmentSizeInBytes) {
+        this.executor = executor;
+        this.segmentSizeInBytes = segmentSizeInBytes;
+    }
+
+    /**
+     * Returns the request with the checksum of the file set, or the request unchanged if it already includes a checksum value
+     * or its checksum algorithm is not a CRC that can be combined. A request without a checksum algorithm gets a CRC32
+     * checksum only if calculateDefaultChecksum is true, i.e. if the client calculates checksums when they are supported
+     * rather than only when they are required.
+     */
+    CompletableFuture<PutObjectRequest> addChecksum(PutObjectRequest putObjectRequest, Path file,
+                                                    boolean calculateDefaultChecksum) {
+        if (S3ChecksumUtils.checksumValueSpecified(putObjectRequest)
+            || (putObjectRequest.checksumAlgorithm() == null && !calculateDefaultChecksum)) {
+            return CompletableFuture.completedFuture(putObjectRequest);
+        }
+
+        CombinableCrcAlgorithm algorithm = algorithm(putObjectRequest);
+        if (algorithm == null) {
+            log.debug(() -> "Not calculating the checksum ahead of the upload because the checksum algorithm "
+                            + putObjectRequest.checksumAlgorithm() + " cannot be combined");
+            return CompletableFuture.completedFuture(putObjectRequest);
+        }
+
+        return calculate(file, algorithm).thenApply(checksum -> {
+            return setChecksum(putObjectRequest.toBuilder(), algorithm, BinaryUtils.toBase64(checksum)).build();
+        });
+    }
+
+    CompletableFuture<byte[]> calculate(Path file, CombinableCrcAlgorithm algorithm) {
+        FileChannel channel;
+        long size;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            size = channel.size();
+        } catch (IOException e) {
+            return CompletableFutureUtils.failedFuture(
+                SdkClientException.create("Failed to calculate the checksum of " + file, e));
+        }
+
+        int segmentCount = (int) ((size + segmentSizeInBytes - 1) / segmentSizeInBytes);
+        CompletableFuture<?>[] segmentFutures = new CompletableFuture<?>[segmentCount];
+        long[] segmentChecksums = new long[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int segment = i;
+            long position = segment * segmentSizeInBytes;
+            long length = Math.min(segmentSizeInBytes, size - position);
+            segmentFutures[segment] = CompletableFuture.runAsync(() -> {
+                segmentChecksums[segment] = checksumSegment(channel, position, length, algorithm, file);
+            }, executor);
+        }
+
+        CompletableFuture<byte[]> result = CompletableFutureUtils.allOfExceptionForwarded(segmentFutures).thenApply(ignored -> {
+            long checksum = 0;
+            for (int segment = 0; segment < segmentCount; segment++) {
+                long length = Math.min(segmentSizeInBytes, size - segment * segmentSizeInBytes);
+                checksum = algorithm.combine(checksum, segmentChecksums[segment], length);
+            }
+            return algorithm.toBytes(checksum);
+        });
+        result.whenComplete((r, t) -> IoUtils.closeQuietlyV2(channel, log));
+        return result;
+    }
+
+    private static long checksumSegment(FileChannel channel, long position, long length, CombinableCrcAlgorithm algorithm,
+                                        Path file) {
+        try {
+            SdkChecksum checksum = algorithm.newChecksum();
+            checksum.update(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+            return checksum.getValue();
+        } catch (IOException e) {
+            throw new CompletionException(SdkClientException.create("Failed to calculate the checksum of " + file, e));
+        }
+    }
+
+    /**
+     * Returns the algorithm of the request, CRC32 if the request does not specify one, or null if its checksums cannot be
+     * combined.
+     */
+    private static CombinableCrcAlgorithm algorithm(PutObjectRequest putObjectRequest) {
+        if (putObjectRequest.checksumAlgorithm() == null) {
+            return CombinableCrcAlgorithm.CRC32;
+        }
+        return CombinableCrcAlgorithm.fromChecksumAlgorithm(putObjectRequest.checksumAlgorithm());
+    }
+
+    private static PutObjectRequest.Builder setChecksum(PutObjectRequest.Builder builder, CombinableCrcAlgorithm algorithm,
+                                                        String checksum) {
+        switch (algorithm) {
+            case CRC32:
+                return builder.checksumCRC32(checksum);
+            case CRC32C:
+                return builder.checksumCRC32C(checksum);
+            case CRC64NVME:
+                return builder.checksumCRC64NVME(checksum);
+            default:
+                throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
+}
@@ -23,9 +23,11 @@ import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionA
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.RESUME_TOKEN;
 import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toDownloadFileRequestAndTransformer;
 
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
@@ -33,10 +35,12 @@ import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
 import software.amazon.awssdk.services.s3.internal.multipart.MultipartDownloadResumeContext;
 import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
@@ -100,6 +104,7 @@ class GenericS3TransferManager implements S3TransferManager {
     private final UploadDirectoryHelper uploadDirectoryHelper;
     private final DownloadDirectoryHelper downloadDirectoryHelper;
     private final boolean isDefaultS3AsyncClient;
+    private final FileChecksumCalculator fileChecksumCalculator;
 
     private final TransferManagerConfiguration transferConfiguration;
 
@@ -108,12 +113,16 @@ class GenericS3TransferManager implements S3TransferManager {
                              boolean isDefaultS3AsyncClient) {
         this.s3AsyncClient = s3AsyncClient;
         this.transferConfiguration = transferConfiguration;
-        uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile);
         ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3AsyncClient::listObjectsV2);
+        uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration,
+                                                          this::uploadFile,
+                                                          listObjectsHelper,
+                                                          s3AsyncClient::deleteObjects);
         downloadDirectoryHelper = new DownloadDirectoryHelper(transferConfiguration,
                                                               listObjectsHelper,
                                                               this::downloadFile);
         this.isDefaultS3AsyncClient = isDefaultS3AsyncClient;
+        this.fileChecksumCalculator = fileChecksumCalculator(transferConfiguration);
     }
 
     @SdkTestInternalApi
@@ -126,6 +135,12 @@ class GenericS3TransferManager implements S3TransferManager {
         this.transferConfiguration = configuration;
         this.uploadDirectoryHelper = uploadDirectoryHelper;
         this.downloadDirectoryHelper = downloadDirectoryHelper;
+        this.fileChecksumCalculator = fileChecksumCalculator(configuration);
+    }
+
+    private static FileChecksumCalculator fileChecksumCalculator(TransferManagerConfiguration configuration) {
+        Executor checksumExecutor = configuration.option(TransferConfigurationOption.UPLOAD_FILE_CHECKSUM_EXECUTOR);
+        return checksumExecutor == null ? null : new FileChecksumCalculator(checksumExecutor);
     }
 
     @Override
@@ -235,7 +250,7 @@ class GenericS3TransferManager implements S3TransferManager {
             assertNotUnsupportedArn(putObjectRequest.bucket(), "upload");
 
             CompletableFuture<PutObjectResponse> putObjectFuture =
-                s3AsyncClient.putObject(putObjectRequest, requestBody);
+                putFileObject(putObjectRequest, requestBody, uploadFileRequest.source());
 
             // Forward upload cancellation to putObjectFuture
             CompletableFutureUtils.forwardExceptionTo(returnFuture, putObjectFuture);
@@ -250,6 +265,48 @@ class GenericS3TransferManager implements S3TransferManager {
         return new DefaultFileUpload(returnFuture, progressUpdater.progress(), pauseObservable, uploadFileRequest);
     }
 
+    /**
+     * Uploads the file, first calculating its checksum if an upload file checksum executor is configured.
+     */
+    private CompletableFuture<PutObjectResponse> putFileObject(PutObjectRequest putObjectRequest,
+                                                               AsyncRequestBody requestBody,
+                                                               Path source) {
+        if (fileChecksumCalculator == null) {
+            return s3AsyncClient.putObject(putObjectRequest, requestBody);
+        }
+
+        CompletableFuture<PutObjectResponse> putObjectFuture = new CompletableFuture<>();
+        CompletableFuture<PutObjectRequest> checksumFuture =
+            fileChecksumCalculator.addChecksum(putObjectRequest, source, isChecksumCalculatedWhenSupported());
+        CompletableFutureUtils.forwardExceptionTo(putObjectFuture, checksumFuture);
+        checksumFuture.whenComplete((requestWithChecksum, throwable) -> {
+            if (throwable != null) {
+                putObjectFuture.completeExceptionally(throwable instanceof CompletionException ? throwable.getCause()
+                                                                                               : throwable);
+                return;
+            }
+            CompletableFuture<PutObjectResponse> future = s3AsyncClient.putObject(requestWithChecksum, requestBody);
+            CompletableFutureUtils.forwardExceptionTo(putObjectFuture, future);
+            CompletableFutureUtils.forwardResultTo(future, putObjectFuture);
+        });
+        return putObjectFuture;
+    }
+
+    /**
+     * Whether the client calculates a checksum for requests that do not specify a checksum algorithm, i.e. whether its
+     * request checksum calculation is {@link RequestChecksumCalculation#WHEN_SUPPORTED}, the default.
+     */
+    private boolean isChecksumCalculatedWhenSupported() {
+        S3ServiceClientConfiguration clientConfiguration;
+        try {
+            clientConfiguration = s3AsyncClient.serviceClientConfiguration();
+        } catch (UnsupportedOperationException e) {
+            return true;
+        }
+        return clientConfiguration == null
+               || clientConfiguration.requestChecksumCalculation() != RequestChecksumCalculation.WHEN_REQUIRED;
+    }
+
     @Override
     public final FileUpload resumeUploadFile(ResumableFileUpload resumableFileUpload) {
         Validate.paramNotNull(resumableFileUpload, "resumableFileUpload");
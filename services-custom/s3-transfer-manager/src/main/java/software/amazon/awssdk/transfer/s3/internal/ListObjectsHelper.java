@@ -15,13 +15,16 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
@@ -34,6 +37,9 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.SimplePublisher;
 
 /**
  * A helper class that returns all objects within a bucket given a {@link ListObjectsV2Request} recursively.
@@ -55,6 +61,26 @@ public class ListObjectsHelper {
                                       .iteratorFunction(objectsIteratorFunction).isLastPage(false).build();
     }
 
+    /**
+     * Returns all objects within the bucket given a {@link ListObjectsV2Request}, listing up to {@code maxConcurrency}
+     * prefixes at a time. The common prefixes returned for the delimiter of the request, or {@code "/"} if it has none, are
+     * listed concurrently with each other, so the objects are not published in lexicographical order.
+     * <p>
+     * If {@code maxConcurrency} is 1, this is equivalent to {@link #listS3ObjectsRecursively(ListObjectsV2Request)}.
+     */
+    public SdkPublisher<S3Object> listS3ObjectsRecursively(ListObjectsV2Request firstRequest, int maxConcurrency) {
+        Validate.isPositive(maxConcurrency, "maxConcurrency");
+        if (maxConcurrency == 1) {
+            return listS3ObjectsRecursively(firstRequest);
+        }
+
+        ListObjectsV2Request partitionedRequest =
+            StringUtils.isEmpty(firstRequest.delimiter())
+            ? firstRequest.toBuilder().delimiter(TransferConfigurationOption.DEFAULT_DELIMITER).build()
+            : firstRequest;
+        return subscriber -> new ConcurrentPrefixLister(partitionedRequest, maxConcurrency).subscribe(subscriber);
+    }
+
     private static final class S3ObjectsIteratorFunction implements Function<ListObjectsV2Response, Iterator<S3Object>> {
 
         @Override
@@ -74,6 +100,143 @@ public class ListObjectsHelper {
         }
     }
 
+    /**
+     * Lists the prefixes discovered through the delimiter concurrently. Each prefix is listed page by page, and the next page
+     * is only requested once the objects of the previous page have been delivered to the subscriber, so at most
+     * {@code maxConcurrency} pages are buffered at a time.
+     */
+    private final class ConcurrentPrefixLister {
+        private final Object lock = new Object();
+        private final SimplePublisher<S3Object> publisher = new SimplePublisher<>();
+        private final Deque<ListObjectsV2Request> pendingRequests = new ArrayDeque<>();
+        private final int maxConcurrency;
+        private final AtomicLong listedObjects = new AtomicLong();
+        private final long startTime = System.nanoTime();
+        private int activeListings;
+        private boolean done;
+
+        private ConcurrentPrefixLister(ListObjectsV2Request firstRequest, int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            this.pendingRequests.add(firstRequest);
+        }
+
+        private void subscribe(Subscriber<? super S3Object> subscriber) {
+            publisher.subscribe(subscriber);
+            startPendingListings();
+        }
+
+        private void startPendingListings() {
+            boolean complete = false;
+            Deque<ListObjectsV2Request> toStart = new ArrayDeque<>();
+            synchronized (lock) {
+                if (done) {
+                    return;
+                }
+                while (activeListings < maxConcurrency && !pendingRequests.isEmpty()) {
+                    activeListings++;
+                    toStart.add(pendingRequests.poll());
+                }
+                if (activeListings == 0 && pendingRequests.isEmpty()) {
+                    done = true;
+                    complete = true;
+                }
+            }
+
+            if (complete) {
+                logListingCompleted();
+                publisher.complete();
+                return;
+            }
+            toStart.forEach(this::listPage);
+        }
+
+        private void listPage(ListObjectsV2Request request) {
+            CompletableFuture<ListObjectsV2Response> future;
+            try {
+                future = listObjectsFunction.apply(request);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+
+            future.whenComplete((response, t) -> {
+                if (t != null) {
+                    fail(t);
+                    return;
+                }
+                try {
+                    onPageListed(request, response);
+                } catch (Throwable failure) {
+                    fail(failure);
+                }
+            });
+        }
+
+        private void onPageListed(ListObjectsV2Request request, ListObjectsV2Response response) {
+            synchronized (lock) {
+                for (CommonPrefix commonPrefix : response.commonPrefixes()) {
+                    pendingRequests.add(request.toBuilder()
+                                               .prefix(commonPrefix.prefix())
+                                               .continuationToken(null)
+                                               .build());
+                }
+            }
+            // Start listing the newly discovered prefixes while the objects of this page are being delivered
+            startPendingListings();
+
+            CompletableFuture<Void> lastSend = CompletableFuture.completedFuture(null);
+            Iterator<S3Object> objects = objectsIteratorFunction.apply(response);
+            while (objects.hasNext()) {
+                lastSend = publisher.send(objects.next());
+                listedObjects.incrementAndGet();
+            }
+
+            lastSend.whenComplete((r, sendFailure) -> {
+                if (sendFailure != null) {
+                    // The subscriber cancelled the subscription
+                    synchronized (lock) {
+                        done = true;
+                    }
+                    return;
+                }
+                try {
+                    onPageDelivered(request, response);
+                } catch (Throwable failure) {
+                    fail(failure);
+                }
+            });
+        }
+
+        private void onPageDelivered(ListObjectsV2Request request, ListObjectsV2Response response) {
+            if (PaginatorUtils.isOutputTokenAvailable(response.nextContinuationToken())) {
+                listPage(request.toBuilder().continuationToken(response.nextContinuationToken()).build());
+                return;
+            }
+
+            synchronized (lock) {
+                activeListings--;
+            }
+            startPendingListings();
+        }
+
+        private void fail(Throwable t) {
+            synchronized (lock) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            publisher.error(t);
+        }
+
+        private void logListingCompleted() {
+            long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+            logger.debug(() -> String.format("Listed %d objects in %d ms (%d objects per second) with up to %d concurrent "
+                                             + "list requests", listedObjects.get(), elapsedMillis,
+                                             listedObjects.get() * 1000 / elapsedMillis, maxConcurrency));
+        }
+    }
+
     private final class ListObjectsV2ResponseFetcher implements AsyncPageFetcher<ListObjectsV2Response> {
         private final Deque<String> commonPrefixes = new ConcurrentLinkedDeque<>();
         private volatile ListObjectsV2Request firstRequest;
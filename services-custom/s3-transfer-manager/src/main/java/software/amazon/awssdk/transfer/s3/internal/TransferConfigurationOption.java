@@ -38,6 +38,9 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final TransferConfigurationOption<Executor> EXECUTOR =
         new TransferConfigurationOption<>("Executor", Executor.class);
 
+    public static final TransferConfigurationOption<Executor> UPLOAD_FILE_CHECKSUM_EXECUTOR =
+        new TransferConfigurationOption<>("UploadFileChecksumExecutor", Executor.class);
+
     public static final String DEFAULT_DELIMITER = "/";
     public static final String DEFAULT_PREFIX = "";
     public static final int DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY = 100;
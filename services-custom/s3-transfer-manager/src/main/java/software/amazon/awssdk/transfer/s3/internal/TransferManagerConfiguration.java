@@ -45,6 +45,10 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         standardOptions.put(UPLOAD_DIRECTORY_MAX_DEPTH, builder.uploadDirectoryMaxDepth);
         standardOptions.put(DIRECTORY_TRANSFER_MAX_CONCURRENCY, builder.transferDirectoryMaxConcurrency);
         finalizeExecutor(builder, standardOptions);
+        if (builder.uploadFileChecksumExecutor != null) {
+            standardOptions.put(TransferConfigurationOption.UPLOAD_FILE_CHECKSUM_EXECUTOR,
+                                ExecutorUtils.unmanagedExecutor(builder.uploadFileChecksumExecutor));
+        }
         options = standardOptions.build().merge(TRANSFER_MANAGER_DEFAULTS);
     }
 
@@ -101,7 +105,7 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         private Integer uploadDirectoryMaxDepth;
         private Integer transferDirectoryMaxConcurrency;
         private Executor executor;
-
+        private Executor uploadFileChecksumExecutor;
 
         public Builder uploadDirectoryFollowSymbolicLinks(Boolean uploadDirectoryFollowSymbolicLinks) {
             this.uploadDirectoryFollowSymbolicLinks = uploadDirectoryFollowSymbolicLinks;
@@ -123,6 +127,11 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
             return this;
         }
 
+        public Builder uploadFileChecksumExecutor(Executor uploadFileChecksumExecutor) {
+            this.uploadFileChecksumExecutor = uploadFileChecksumExecutor;
+            return this;
+        }
+
         public TransferManagerConfiguration build() {
             return new TransferManagerConfiguration(this);
         }
@@ -88,6 +88,7 @@ public final class TransferManagerFactory {
         transferConfigBuilder.uploadDirectoryMaxDepth(tmBuilder.uploadDirectoryMaxDepth);
         transferConfigBuilder.transferDirectoryMaxConcurrency(tmBuilder.transferDirectoryMaxConcurrency);
         transferConfigBuilder.executor(tmBuilder.executor);
+        transferConfigBuilder.uploadFileChecksumExecutor(tmBuilder.uploadFileChecksumExecutor);
         return transferConfigBuilder.build();
     }
 
@@ -97,6 +98,7 @@ public final class TransferManagerFactory {
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
         private Integer transferDirectoryMaxConcurrency;
+        private Executor uploadFileChecksumExecutor;
 
         @Override
         public DefaultBuilder s3Client(S3AsyncClient s3AsyncClient) {
@@ -152,6 +154,12 @@ public final class TransferManagerFactory {
             return transferDirectoryMaxConcurrency;
         }
 
+        @Override
+        public DefaultBuilder uploadFileChecksumExecutor(Executor uploadFileChecksumExecutor) {
+            this.uploadFileChecksumExecutor = uploadFileChecksumExecutor;
+            return this;
+        }
+
         @Override
         public S3TransferManager build() {
             return createTransferManager(this);
@@ -21,18 +21,31 @@ import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationO
 import java.io.IOException;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
@@ -42,6 +55,7 @@ import software.amazon.awssdk.transfer.s3.model.FailedFileUpload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
+import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.StringUtils;
@@ -50,19 +64,30 @@ import software.amazon.awssdk.utils.Validate;
 /**
  * An internal helper class that traverses the file tree and send the upload request
  * for each file.
+ * <p>
+ * If the request asks to skip unchanged files or to delete objects not in the source directory, the objects under the
+ * prefix are listed before the file tree is traversed, and each file is compared with the object of the same key.
  */
 @SdkInternalApi
 public class UploadDirectoryHelper {
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+    private static final int MAX_KEYS_PER_DELETE = 1000;
 
     private final TransferManagerConfiguration transferConfiguration;
     private final Function<UploadFileRequest, FileUpload> uploadFunction;
+    private final ListObjectsHelper listObjectsHelper;
+    private final Function<DeleteObjectsRequest, CompletableFuture<DeleteObjectsResponse>> deleteObjectsFunction;
 
     public UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
-                                 Function<UploadFileRequest, FileUpload> uploadFunction) {
+                                 Function<UploadFileRequest, FileUpload> uploadFunction,
+                                 ListObjectsHelper listObjectsHelper,
+                                 Function<DeleteObjectsRequest, CompletableFuture<DeleteObjectsResponse>>
+                                     deleteObjectsFunction) {
 
         this.transferConfiguration = transferConfiguration;
         this.uploadFunction = uploadFunction;
+        this.listObjectsHelper = listObjectsHelper;
+        this.deleteObjectsFunction = deleteObjectsFunction;
     }
 
     public DirectoryUpload uploadDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
@@ -84,10 +109,51 @@ public class UploadDirectoryHelper {
     private void doUploadDirectory(CompletableFuture<CompletedDirectoryUpload> returnFuture,
                                    UploadDirectoryRequest uploadDirectoryRequest) {
 
-        Path directory = uploadDirectoryRequest.source();
-
         validateDirectory(uploadDirectoryRequest);
 
+        Path sourceDirectory = uploadDirectoryRequest.source();
+        DirectoryTransferJournal journal =
+            uploadDirectoryRequest.checkpointFile()
+                                  .map(file -> DirectoryHelperUtils.openJournal(file, sourceDirectory))
+                                  .orElse(null);
+        if (journal != null) {
+            returnFuture.whenComplete((r, t) -> journal.close());
+        }
+
+        if (!isSyncRequested(uploadDirectoryRequest)) {
+            uploadFiles(returnFuture, uploadDirectoryRequest, null, journal);
+            return;
+        }
+
+        CompletableFuture<Map<String, S3Object>> existingObjectsFuture = listExistingObjects(uploadDirectoryRequest);
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, existingObjectsFuture);
+
+        // traversing the file tree blocks, so move off the thread that completed the listing
+        existingObjectsFuture.whenCompleteAsync((existingObjects, t) -> {
+            if (t != null) {
+                returnFuture.completeExceptionally(SdkClientException.create("Failed to list existing objects", t));
+                return;
+            }
+            uploadFiles(returnFuture, uploadDirectoryRequest, existingObjects, journal);
+        }, transferConfiguration.option(TransferConfigurationOption.EXECUTOR)).whenComplete((r, t) -> {
+            if (t != null) {
+                returnFuture.completeExceptionally(t);
+            }
+        });
+    }
+
+    /**
+     * Uploads the files within the source directory. If existingObjects is not null, the entry for each visited file is
+     * removed from it, so the entries left once all files have been visited are the objects with no corresponding file. If
+     * journal is not null, files it records as uploaded are skipped, and uploaded files are recorded in it.
+     */
+    private void uploadFiles(CompletableFuture<CompletedDirectoryUpload> returnFuture,
+                             UploadDirectoryRequest uploadDirectoryRequest,
+                             Map<String, S3Object> existingObjects,
+                             DirectoryTransferJournal journal) {
+
+        Path directory = uploadDirectoryRequest.source();
+
         Collection<FailedFileUpload> failedFileUploads = new ConcurrentLinkedQueue<>();
 
         Stream<Path> stream = listFiles(directory, uploadDirectoryRequest);
@@ -100,7 +166,8 @@ public class UploadDirectoryHelper {
         CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
 
         AsyncBufferingSubscriber<Path> bufferingSubscriber =
-            new AsyncBufferingSubscriber<>(path -> uploadSingleFile(uploadDirectoryRequest, failedFileUploads, path),
+            new AsyncBufferingSubscriber<>(path -> uploadSingleFile(uploadDirectoryRequest, failedFileUploads, existingObjects,
+                                                                    journal, path),
                                            allOfFutures, 
                                            transferConfiguration.option(
                                                TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY
@@ -109,14 +176,129 @@ public class UploadDirectoryHelper {
         iterablePublisher.subscribe(bufferingSubscriber);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
 
-        allOfFutures.whenComplete((r, t) -> {
+        allOfFutures.thenCompose(r -> deleteObjectsNotInSourceIfNeeded(uploadDirectoryRequest, existingObjects))
+                    .whenComplete((r, t) -> {
+                        if (t != null) {
+                            Throwable cause = t instanceof CompletionException ? t.getCause() : t;
+                            returnFuture.completeExceptionally(SdkClientException.create("Failed to send request", cause));
+                            return;
+                        }
+                        if (journal != null && failedFileUploads.isEmpty()) {
+                            journal.delete();
+                        }
+                        returnFuture.complete(CompletedDirectoryUpload.builder()
+                                                                      .failedTransfers(failedFileUploads)
+                                                                      .build());
+                    });
+    }
+
+    private static boolean isSyncRequested(UploadDirectoryRequest uploadDirectoryRequest) {
+        return uploadDirectoryRequest.skipUnchangedFiles().orElse(false)
+               || uploadDirectoryRequest.deleteObjectsNotInSource().orElse(false);
+    }
+
+    private CompletableFuture<Map<String, S3Object>> listExistingObjects(UploadDirectoryRequest uploadDirectoryRequest) {
+        // Delimiter is not set so that all objects under the prefix are listed, regardless of their depth
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                                                               .bucket(uploadDirectoryRequest.bucket())
+                                                               .prefix(resolvePrefix(uploadDirectoryRequest))
+                                                               .build();
+
+        Map<String, S3Object> existingObjects = new ConcurrentHashMap<>();
+        return listObjectsHelper.listS3ObjectsRecursively(listRequest)
+                                .subscribe(s3Object -> existingObjects.put(s3Object.key(), s3Object))
+                                .thenApply(ignore -> existingObjects);
+    }
+
+    private CompletableFuture<Void> deleteObjectsNotInSourceIfNeeded(UploadDirectoryRequest uploadDirectoryRequest,
+                                                                     Map<String, S3Object> objectsNotInSource) {
+        if (!uploadDirectoryRequest.deleteObjectsNotInSource().orElse(false) || objectsNotInSource.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // checking for the files blocks, so move off the thread that completed the uploads
+        return CompletableFuture.supplyAsync(() -> objectsWithoutSourceFile(uploadDirectoryRequest, objectsNotInSource.keySet()),
+                                             transferConfiguration.option(TransferConfigurationOption.EXECUTOR))
+                                .thenCompose(objectsToDelete -> deleteObjectsInBatches(uploadDirectoryRequest, objectsToDelete));
+    }
+
+    /**
+     * Returns the objects for which the source directory has no file at the path their key maps to. Files that were not
+     * visited, such as files deeper than the max depth, still keep their objects from being deleted.
+     */
+    private static List<ObjectIdentifier> objectsWithoutSourceFile(UploadDirectoryRequest uploadDirectoryRequest,
+                                                                   Collection<String> keys) {
+        Path source = uploadDirectoryRequest.source();
+        String prefix = resolvePrefix(uploadDirectoryRequest);
+        String delimiter = resolveDelimiter(uploadDirectoryRequest);
+        String separator = source.getFileSystem().getSeparator();
+
+        return keys.stream()
+                   .filter(key -> !sourceFileExists(source, key.substring(prefix.length()), delimiter, separator))
+                   .map(key -> ObjectIdentifier.builder().key(key).build())
+                   .collect(Collectors.toList());
+    }
+
+    private static boolean sourceFileExists(Path source, String relativeKey, String delimiter, String separator) {
+        String relativePathName = delimiter.equals(separator) ? relativeKey
+                                                              : StringUtils.replace(relativeKey, delimiter, separator);
+        try {
+            return Files.exists(source.resolve(relativePathName));
+        } catch (InvalidPathException e) {
+            return false;
+        }
+    }
+
+    private CompletableFuture<Void> deleteObjectsInBatches(UploadDirectoryRequest uploadDirectoryRequest,
+                                                           List<ObjectIdentifier> objectsToDelete) {
+        if (objectsToDelete.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<List<ObjectIdentifier>> batches = new ArrayList<>();
+        for (int i = 0; i < objectsToDelete.size(); i += MAX_KEYS_PER_DELETE) {
+            batches.add(objectsToDelete.subList(i, Math.min(i + MAX_KEYS_PER_DELETE, objectsToDelete.size())));
+        }
+
+        log.debug(() -> String.format("Deleting %d objects that are not in the source directory", objectsToDelete.size()));
+
+        Queue<Throwable> deleteFailures = new ConcurrentLinkedQueue<>();
+        CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
+        AsyncBufferingSubscriber<List<ObjectIdentifier>> bufferingSubscriber =
+            new AsyncBufferingSubscriber<>(batch -> deleteObjects(uploadDirectoryRequest.bucket(), batch, deleteFailures),
+                                           allOfFutures,
+                                           transferConfiguration.option(
+                                               TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY
+                                           ));
+        SdkPublisher.fromIterable(batches).subscribe(bufferingSubscriber);
+
+        return allOfFutures.thenApply(r -> {
+            if (!deleteFailures.isEmpty()) {
+                throw SdkClientException.create("Failed to delete objects that are not in the source directory",
+                                                deleteFailures.peek());
+            }
+            return r;
+        });
+    }
+
+    private CompletableFuture<DeleteObjectsResponse> deleteObjects(String bucket,
+                                                                   List<ObjectIdentifier> objects,
+                                                                   Queue<Throwable> deleteFailures) {
+        DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                                                                        .bucket(bucket)
+                                                                        .delete(d -> d.objects(objects).quiet(true))
+                                                                        .build();
+        return deleteObjectsFunction.apply(deleteObjectsRequest).thenApply(response -> {
+            if (!CollectionUtils.isNullOrEmpty(response.errors())) {
+                S3Error error = response.errors().get(0);
+                throw SdkClientException.create(String.format("Failed to delete %d objects, the first of which is %s: %s",
+                                                              response.errors().size(), error.key(), error.message()));
+            }
+            return response;
+        }).whenComplete((r, t) -> {
             if (t != null) {
-                returnFuture.completeExceptionally(SdkClientException.create("Failed to send request", t));
-                return;
+                deleteFailures.add(t instanceof CompletionException ? t.getCause() : t);
             }
-            returnFuture.complete(CompletedDirectoryUpload.builder()
-                                                          .failedTransfers(failedFileUploads)
-                                                          .build());
         });
     }
 
@@ -136,9 +318,25 @@ public class UploadDirectoryHelper {
 
     private CompletableFuture<CompletedFileUpload> uploadSingleFile(UploadDirectoryRequest uploadDirectoryRequest,
                                                                     Collection<FailedFileUpload> failedFileUploads,
+                                                                    Map<String, S3Object> existingObjects,
+                                                                    DirectoryTransferJournal journal,
                                                                     Path path) {
         int nameCount = uploadDirectoryRequest.source().getNameCount();
         UploadFileRequest uploadFileRequest = constructUploadRequest(uploadDirectoryRequest, nameCount, path);
+
+        if (existingObjects != null && isUnchanged(uploadDirectoryRequest, existingObjects, uploadFileRequest)) {
+            log.debug(() -> String.format("Skipping upload for path (%s) since it is unchanged", path));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String key = uploadFileRequest.putObjectRequest().key();
+        String fingerprint = journal == null ? null : fileFingerprint(uploadFileRequest.source());
+        if (fingerprint != null && journal.isCompleted(key, fingerprint)) {
+            log.debug(() -> String.format("Skipping upload for path (%s) since it was uploaded before the transfer was "
+                                          + "interrupted", path));
+            return CompletableFuture.completedFuture(null);
+        }
+
         log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest, path));
         CompletableFuture<CompletedFileUpload> executionFuture = uploadFunction.apply(uploadFileRequest).completionFuture();
         CompletableFuture<CompletedFileUpload> future = executionFuture.whenComplete((r, t) -> {
@@ -147,12 +345,43 @@ public class UploadDirectoryHelper {
                                                       .exception(t instanceof CompletionException ? t.getCause() : t)
                                                       .request(uploadFileRequest)
                                                       .build());
+            } else if (fingerprint != null) {
+                journal.recordCompleted(key, fingerprint);
             }
         });
         CompletableFutureUtils.forwardExceptionTo(future, executionFuture);
         return future;
     }
 
+    /**
+     * Removes the object the file is uploaded to from existingObjects, and returns whether it is unchanged from the file. Files
+     * the request transformer uploads to another bucket are never unchanged, and leave existingObjects as is.
+     */
+    private static boolean isUnchanged(UploadDirectoryRequest uploadDirectoryRequest,
+                                       Map<String, S3Object> existingObjects,
+                                       UploadFileRequest uploadFileRequest) {
+        PutObjectRequest putObjectRequest = uploadFileRequest.putObjectRequest();
+        if (!uploadDirectoryRequest.bucket().equals(putObjectRequest.bucket())) {
+            return false;
+        }
+        S3Object existingObject = existingObjects.remove(putObjectRequest.key());
+        return uploadDirectoryRequest.skipUnchangedFiles().orElse(false)
+               && DirectoryHelperUtils.isUnchanged(uploadFileRequest.source(), existingObject);
+    }
+
+    /**
+     * Identifies the content of a file by its size and last-modified time, so that a file that changed after it was recorded
+     * in the journal is uploaded again.
+     */
+    private static String fileFingerprint(Path path) {
+        try {
+            return Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            log.debug(() -> "Failed to read the attributes of " + path, e);
+            return null;
+        }
+    }
+
     private Stream<Path> listFiles(Path directory, UploadDirectoryRequest request) {
 
         try {
@@ -190,6 +419,19 @@ public class UploadDirectoryHelper {
         return prefix.endsWith(delimiter) ? prefix : prefix + delimiter;
     }
 
+    private static String resolvePrefix(UploadDirectoryRequest uploadDirectoryRequest) {
+        String delimiter = resolveDelimiter(uploadDirectoryRequest);
+        return uploadDirectoryRequest.s3Prefix()
+                                     .map(s -> normalizePrefix(s, delimiter))
+                                     .orElse(DEFAULT_PREFIX);
+    }
+
+    private static String resolveDelimiter(UploadDirectoryRequest uploadDirectoryRequest) {
+        return uploadDirectoryRequest.s3Delimiter()
+                                     .filter(s -> !s.isEmpty())
+                                     .orElse(DEFAULT_DELIMITER);
+    }
+
     private String getRelativePathName(Path source, int directoryNameCount, Path path, String delimiter) {
         String relativePathName = path.subpath(directoryNameCount,
                                                path.getNameCount()).toString();
@@ -208,14 +450,9 @@ public class UploadDirectoryHelper {
     private UploadFileRequest constructUploadRequest(UploadDirectoryRequest uploadDirectoryRequest,
                                                      int directoryNameCount,
                                                      Path path) {
-        String delimiter =
-            uploadDirectoryRequest.s3Delimiter()
-                                  .filter(s -> !s.isEmpty())
-                                  .orElse(DEFAULT_DELIMITER);
-
-        String prefix = uploadDirectoryRequest.s3Prefix()
-                                              .map(s -> normalizePrefix(s, delimiter))
-                                              .orElse(DEFAULT_PREFIX);
+        String delimiter = resolveDelimiter(uploadDirectoryRequest);
+
+        String prefix = resolvePrefix(uploadDirectoryRequest);
 
         String relativePathName = getRelativePathName(uploadDirectoryRequest.source(),
                                                       directoryNameCount,
@@ -18,6 +18,8 @@ package software.amazon.awssdk.transfer.s3.model;
 
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -44,6 +46,10 @@ public final class DownloadDirectoryRequest
     private final DownloadFilter filter;
     private final Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
     private final Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+    private final Boolean skipUnchangedObjects;
+    private final Boolean deleteFilesNotInSource;
+    private final Integer listObjectsMaxConcurrency;
+    private final Path checkpointFile;
 
     public DownloadDirectoryRequest(DefaultBuilder builder) {
         this.destination = Validate.paramNotNull(builder.destination, "destination");
@@ -51,6 +57,10 @@ public final class DownloadDirectoryRequest
         this.filter = builder.filter;
         this.downloadFileRequestTransformer = builder.downloadFileRequestTransformer;
         this.listObjectsRequestTransformer = builder.listObjectsRequestTransformer;
+        this.skipUnchangedObjects = builder.skipUnchangedObjects;
+        this.deleteFilesNotInSource = builder.deleteFilesNotInSource;
+        this.listObjectsMaxConcurrency = builder.listObjectsMaxConcurrency;
+        this.checkpointFile = builder.checkpointFile;
     }
 
     /**
@@ -97,6 +107,38 @@ public final class DownloadDirectoryRequest
         return downloadFileRequestTransformer == null ? ignore -> { } : downloadFileRequestTransformer;
     }
 
+    /**
+     * @return whether to skip objects that are unchanged from the files already in the destination directory
+     * @see Builder#skipUnchangedObjects(Boolean)
+     */
+    public Optional<Boolean> skipUnchangedObjects() {
+        return Optional.ofNullable(skipUnchangedObjects);
+    }
+
+    /**
+     * @return whether to delete files in the destination directory that have no corresponding object
+     * @see Builder#deleteFilesNotInSource(Boolean)
+     */
+    public Optional<Boolean> deleteFilesNotInSource() {
+        return Optional.ofNullable(deleteFilesNotInSource);
+    }
+
+    /**
+     * @return the maximum number of prefixes to list concurrently
+     * @see Builder#listObjectsMaxConcurrency(Integer)
+     */
+    public OptionalInt listObjectsMaxConcurrency() {
+        return listObjectsMaxConcurrency == null ? OptionalInt.empty() : OptionalInt.of(listObjectsMaxConcurrency);
+    }
+
+    /**
+     * @return the optional file in which completed transfers are recorded
+     * @see Builder#checkpointFile(Path)
+     */
+    public Optional<Path> checkpointFile() {
+        return Optional.ofNullable(checkpointFile);
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -133,6 +175,18 @@ public final class DownloadDirectoryRequest
         if (!Objects.equals(listObjectsRequestTransformer, that.listObjectsRequestTransformer)) {
             return false;
         }
+        if (!Objects.equals(skipUnchangedObjects, that.skipUnchangedObjects)) {
+            return false;
+        }
+        if (!Objects.equals(deleteFilesNotInSource, that.deleteFilesNotInSource)) {
+            return false;
+        }
+        if (!Objects.equals(listObjectsMaxConcurrency, that.listObjectsMaxConcurrency)) {
+            return false;
+        }
+        if (!Objects.equals(checkpointFile, that.checkpointFile)) {
+            return false;
+        }
         return Objects.equals(filter, that.filter);
     }
 
@@ -143,6 +197,10 @@ public final class DownloadDirectoryRequest
         result = 31 * result + (filter != null ? filter.hashCode() : 0);
         result = 31 * result + (downloadFileRequestTransformer != null ? downloadFileRequestTransformer.hashCode() : 0);
         result = 31 * result + (listObjectsRequestTransformer != null ? listObjectsRequestTransformer.hashCode() : 0);
+        result = 31 * result + (skipUnchangedObjects != null ? skipUnchangedObjects.hashCode() : 0);
+        result = 31 * result + (deleteFilesNotInSource != null ? deleteFilesNotInSource.hashCode() : 0);
+        result = 31 * result + (listObjectsMaxConcurrency != null ? listObjectsMaxConcurrency.hashCode() : 0);
+        result = 31 * result + (checkpointFile != null ? checkpointFile.hashCode() : 0);
         return result;
     }
 
@@ -154,6 +212,10 @@ public final class DownloadDirectoryRequest
                        .add("filter", filter)
                        .add("downloadFileRequestTransformer", downloadFileRequestTransformer)
                        .add("listObjectsRequestTransformer", listObjectsRequestTransformer)
+                       .add("skipUnchangedObjects", skipUnchangedObjects)
+                       .add("deleteFilesNotInSource", deleteFilesNotInSource)
+                       .add("listObjectsMaxConcurrency", listObjectsMaxConcurrency)
+                       .add("checkpointFile", checkpointFile)
                        .build();
     }
 
@@ -328,6 +390,64 @@ public final class DownloadDirectoryRequest
          */
         Builder listObjectsV2RequestTransformer(Consumer<ListObjectsV2Request.Builder> listObjectsV2RequestTransformer);
 
+        /**
+         * Specifies whether to skip downloading objects that are unchanged from the files already in the destination
+         * directory. An object is considered unchanged if the destination file exists, has the same size as the object, and
+         * was last modified no earlier than the object. This makes repeated downloads of the same bucket only transfer the
+         * objects that were added or changed since the previous download.
+         *
+         * <p>
+         * Default to false
+         *
+         * @param skipUnchangedObjects whether to skip unchanged objects
+         * @return This builder for method chaining.
+         */
+        Builder skipUnchangedObjects(Boolean skipUnchangedObjects);
+
+        /**
+         * Specifies whether to delete the files in the destination directory that have no corresponding object in the
+         * bucket once all objects have been downloaded. Files whose objects were excluded by the {@link #filter(DownloadFilter)}
+         * are kept, but files whose objects were not listed because of the {@link #listObjectsV2RequestTransformer(Consumer)}
+         * are deleted. Files are not deleted if the download directory operation fails.
+         *
+         * <p>
+         * Default to false
+         *
+         * @param deleteFilesNotInSource whether to delete files that have no corresponding object
+         * @return This builder for method chaining.
+         */
+        Builder deleteFilesNotInSource(Boolean deleteFilesNotInSource);
+
+        /**
+         * Specifies the maximum number of prefixes to list concurrently. If greater than 1, the bucket is partitioned into
+         * prefixes using the delimiter of the {@link ListObjectsV2Request}, or {@code "/"} if none is configured, and the
+         * prefixes are listed concurrently while the objects already listed are downloaded. This speeds up downloading
+         * buckets with a large number of objects spread across many prefixes, where listing objects one page at a time
+         * would take longer than downloading them. Objects are not downloaded in lexicographical order when this is
+         * greater than 1. Must be positive.
+         *
+         * <p>
+         * Default to 1, which lists one page of objects at a time
+         *
+         * @param listObjectsMaxConcurrency the maximum number of prefixes to list concurrently
+         * @return This builder for method chaining.
+         */
+        Builder listObjectsMaxConcurrency(Integer listObjectsMaxConcurrency);
+
+        /**
+         * Specifies a file in which the transfer records each object it has downloaded, so that the transfer can be resumed if
+         * the process is interrupted. Entries are appended to the file as transfers complete, and synced to disk in batches.
+         *
+         * <p>
+         * To resume an interrupted transfer, send a request for the same bucket and destination directory with the same
+         * checkpoint file: the objects recorded in the file are not transferred again, unless they changed since they were
+         * transferred. The file is deleted once the transfer completes without any failed transfer. The last few objects
+         * transferred before the process was interrupted may not have been synced to the file yet, and are transferred again.
+         *
+         * @param checkpointFile the file in which completed transfers are recorded
+         * @return This builder for method chaining.
+         */
+        Builder checkpointFile(Path checkpointFile);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -337,6 +457,10 @@ public final class DownloadDirectoryRequest
         private DownloadFilter filter;
         private Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
         private Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+        private Boolean skipUnchangedObjects;
+        private Boolean deleteFilesNotInSource;
+        private Integer listObjectsMaxConcurrency;
+        private Path checkpointFile;
 
         private DefaultBuilder() {
         }
@@ -347,6 +471,10 @@ public final class DownloadDirectoryRequest
             this.filter = request.filter;
             this.downloadFileRequestTransformer = request.downloadFileRequestTransformer;
             this.listObjectsRequestTransformer = request.listObjectsRequestTransformer;
+            this.skipUnchangedObjects = request.skipUnchangedObjects;
+            this.deleteFilesNotInSource = request.deleteFilesNotInSource;
+            this.listObjectsMaxConcurrency = request.listObjectsMaxConcurrency;
+            this.checkpointFile = request.checkpointFile;
         }
 
         @Override
@@ -403,6 +531,62 @@ public final class DownloadDirectoryRequest
             return filter;
         }
 
+        @Override
+        public Builder skipUnchangedObjects(Boolean skipUnchangedObjects) {
+            this.skipUnchangedObjects = skipUnchangedObjects;
+            return this;
+        }
+
+        public void setSkipUnchangedObjects(Boolean skipUnchangedObjects) {
+            skipUnchangedObjects(skipUnchangedObjects);
+        }
+
+        public Boolean getSkipUnchangedObjects() {
+            return skipUnchangedObjects;
+        }
+
+        @Override
+        public Builder deleteFilesNotInSource(Boolean deleteFilesNotInSource) {
+            this.deleteFilesNotInSource = deleteFilesNotInSource;
+            return this;
+        }
+
+        public void setDeleteFilesNotInSource(Boolean deleteFilesNotInSource) {
+            deleteFilesNotInSource(deleteFilesNotInSource);
+        }
+
+        public Boolean getDeleteFilesNotInSource() {
+            return deleteFilesNotInSource;
+        }
+
+        @Override
+        public Builder listObjectsMaxConcurrency(Integer listObjectsMaxConcurrency) {
+            this.listObjectsMaxConcurrency = listObjectsMaxConcurrency;
+            return this;
+        }
+
+        public void setListObjectsMaxConcurrency(Integer listObjectsMaxConcurrency) {
+            listObjectsMaxConcurrency(listObjectsMaxConcurrency);
+        }
+
+        public Integer getListObjectsMaxConcurrency() {
+            return listObjectsMaxConcurrency;
+        }
+
+        @Override
+        public Builder checkpointFile(Path checkpointFile) {
+            this.checkpointFile = checkpointFile;
+            return this;
+        }
+
+        public void setCheckpointFile(Path checkpointFile) {
+            checkpointFile(checkpointFile);
+        }
+
+        public Path getCheckpointFile() {
+            return checkpointFile;
+        }
+
         @Override
         public DownloadDirectoryRequest build() {
             return new DownloadDirectoryRequest(this);
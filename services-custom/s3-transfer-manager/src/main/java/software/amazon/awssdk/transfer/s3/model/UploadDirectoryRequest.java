@@ -46,7 +46,9 @@ public final class UploadDirectoryRequest
     private final Boolean followSymbolicLinks;
     private final Integer maxDepth;
     private final Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
-
+    private final Boolean skipUnchangedFiles;
+    private final Boolean deleteObjectsNotInSource;
+    private final Path checkpointFile;
 
     public UploadDirectoryRequest(DefaultBuilder builder) {
         this.source = Validate.paramNotNull(builder.source, "source");
@@ -56,6 +58,9 @@ public final class UploadDirectoryRequest
         this.followSymbolicLinks = builder.followSymbolicLinks;
         this.maxDepth = builder.maxDepth;
         this.uploadFileRequestTransformer = builder.uploadFileRequestTransformer;
+        this.skipUnchangedFiles = builder.skipUnchangedFiles;
+        this.deleteObjectsNotInSource = builder.deleteObjectsNotInSource;
+        this.checkpointFile = builder.checkpointFile;
     }
 
     /**
@@ -119,6 +124,30 @@ public final class UploadDirectoryRequest
         return uploadFileRequestTransformer == null ? ignore -> { } : uploadFileRequestTransformer;
     }
 
+    /**
+     * @return whether to skip files that are unchanged from the objects already in the bucket
+     * @see Builder#skipUnchangedFiles(Boolean)
+     */
+    public Optional<Boolean> skipUnchangedFiles() {
+        return Optional.ofNullable(skipUnchangedFiles);
+    }
+
+    /**
+     * @return whether to delete objects under the prefix that have no corresponding file
+     * @see Builder#deleteObjectsNotInSource(Boolean)
+     */
+    public Optional<Boolean> deleteObjectsNotInSource() {
+        return Optional.ofNullable(deleteObjectsNotInSource);
+    }
+
+    /**
+     * @return the optional file in which completed transfers are recorded
+     * @see Builder#checkpointFile(Path)
+     */
+    public Optional<Path> checkpointFile() {
+        return Optional.ofNullable(checkpointFile);
+    }
+
 
     public static Builder builder() {
         return new DefaultBuilder();
@@ -162,6 +191,15 @@ public final class UploadDirectoryRequest
         if (!Objects.equals(uploadFileRequestTransformer, that.uploadFileRequestTransformer)) {
             return false;
         }
+        if (!Objects.equals(skipUnchangedFiles, that.skipUnchangedFiles)) {
+            return false;
+        }
+        if (!Objects.equals(deleteObjectsNotInSource, that.deleteObjectsNotInSource)) {
+            return false;
+        }
+        if (!Objects.equals(checkpointFile, that.checkpointFile)) {
+            return false;
+        }
         return Objects.equals(s3Delimiter, that.s3Delimiter);
     }
 
@@ -174,6 +212,9 @@ public final class UploadDirectoryRequest
         result = 31 * result + (followSymbolicLinks != null ? followSymbolicLinks.hashCode() : 0);
         result = 31 * result + (maxDepth != null ? maxDepth.hashCode() : 0);
         result = 31 * result + (uploadFileRequestTransformer != null ? uploadFileRequestTransformer.hashCode() : 0);
+        result = 31 * result + (skipUnchangedFiles != null ? skipUnchangedFiles.hashCode() : 0);
+        result = 31 * result + (deleteObjectsNotInSource != null ? deleteObjectsNotInSource.hashCode() : 0);
+        result = 31 * result + (checkpointFile != null ? checkpointFile.hashCode() : 0);
         return result;
     }
 
@@ -187,6 +228,9 @@ public final class UploadDirectoryRequest
                        .add("followSymbolicLinks", followSymbolicLinks)
                        .add("maxDepth", maxDepth)
                        .add("uploadFileRequestTransformer", uploadFileRequestTransformer)
+                       .add("skipUnchangedFiles", skipUnchangedFiles)
+                       .add("deleteObjectsNotInSource", deleteObjectsNotInSource)
+                       .add("checkpointFile", checkpointFile)
                        .build();
     }
 
@@ -331,6 +375,48 @@ public final class UploadDirectoryRequest
          */
         Builder uploadFileRequestTransformer(Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer);
 
+        /**
+         * Specifies whether to skip uploading files that are unchanged from the objects already in the bucket. The objects
+         * under the {@link #s3Prefix(String)} are listed before any file is uploaded, and a file is considered unchanged if an
+         * object exists with the same key and size, and was last modified no earlier than the file. This makes repeated
+         * uploads of the same directory only transfer the files that were added or changed since the previous upload.
+         *
+         * <p>
+         * Default to false
+         *
+         * @param skipUnchangedFiles whether to skip unchanged files
+         * @return This builder for method chaining.
+         */
+        Builder skipUnchangedFiles(Boolean skipUnchangedFiles);
+
+        /**
+         * Specifies whether to delete the objects under the {@link #s3Prefix(String)} that have no corresponding file in the
+         * source directory once all files have been uploaded. An object is only deleted if the source directory has no file at
+         * the path its key maps to, so objects whose files are deeper than {@link #maxDepth(Integer)} are kept. Objects are not
+         * deleted if the upload directory operation fails.
+         *
+         * <p>
+         * Default to false
+         *
+         * @param deleteObjectsNotInSource whether to delete objects that have no corresponding file
+         * @return This builder for method chaining.
+         */
+        Builder deleteObjectsNotInSource(Boolean deleteObjectsNotInSource);
+
+        /**
+         * Specifies a file in which the transfer records each file it has uploaded, so that the transfer can be resumed if
+         * the process is interrupted. Entries are appended to the file as transfers complete, and synced to disk in batches.
+         *
+         * <p>
+         * To resume an interrupted transfer, send a request for the same source directory with the same checkpoint file: the
+         * files recorded in the file are not transferred again, unless they changed since they were transferred. The file is
+         * deleted once the transfer completes without any failed transfer. The last few files transferred before the process
+         * was interrupted may not have been synced to the file yet, and are transferred again.
+         *
+         * @param checkpointFile the file in which completed transfers are recorded
+         * @return This builder for method chaining.
+         */
+        Builder checkpointFile(Path checkpointFile);
 
 
         @Override
@@ -347,6 +433,9 @@ public final class UploadDirectoryRequest
         private Boolean followSymbolicLinks;
         private Integer maxDepth;
         private Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
+        private Boolean skipUnchangedFiles;
+        private Boolean deleteObjectsNotInSource;
+        private Path checkpointFile;
 
         private DefaultBuilder() {
         }
@@ -359,6 +448,9 @@ public final class UploadDirectoryRequest
             this.followSymbolicLinks = request.followSymbolicLinks;
             this.maxDepth = request.maxDepth;
             this.uploadFileRequestTransformer = request.uploadFileRequestTransformer;
+            this.skipUnchangedFiles = request.skipUnchangedFiles;
+            this.deleteObjectsNotInSource = request.deleteObjectsNotInSource;
+            this.checkpointFile = request.checkpointFile;
         }
 
         @Override
@@ -459,6 +551,48 @@ public final class UploadDirectoryRequest
             this.uploadFileRequestTransformer = uploadFileRequestTransformer;
         }
 
+        @Override
+        public Builder skipUnchangedFiles(Boolean skipUnchangedFiles) {
+            this.skipUnchangedFiles = skipUnchangedFiles;
+            return this;
+        }
+
+        public void setSkipUnchangedFiles(Boolean skipUnchangedFiles) {
+            skipUnchangedFiles(skipUnchangedFiles);
+        }
+
+        public Boolean getSkipUnchangedFiles() {
+            return skipUnchangedFiles;
+        }
+
+        @Override
+        public Builder deleteObjectsNotInSource(Boolean deleteObjectsNotInSource) {
+            this.deleteObjectsNotInSource = deleteObjectsNotInSource;
+            return this;
+        }
+
+        public void setDeleteObjectsNotInSource(Boolean deleteObjectsNotInSource) {
+            deleteObjectsNotInSource(deleteObjectsNotInSource);
+        }
+
+        public Boolean getDeleteObjectsNotInSource() {
+            return deleteObjectsNotInSource;
+        }
+
+        @Override
+        public Builder checkpointFile(Path checkpointFile) {
+            this.checkpointFile = checkpointFile;
+            return this;
+        }
+
+        public void setCheckpointFile(Path checkpointFile) {
+            checkpointFile(checkpointFile);
+        }
+
+        public Path getCheckpointFile() {
+            return checkpointFile;
+        }
+
         @Override
         public UploadDirectoryRequest build() {
             return new UploadDirectoryRequest(this);
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DirectoryTransferJournalTest {
+    private FileSystem fs;
+    private Path checkpointFile;
+
+    @BeforeEach
+    public void setup() {
+        fs = Jimfs.newFileSystem();
+        checkpointFile = fs.getPath("checkpoint");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        fs.close();
+    }
+
+    @Test
+    void open_fileDoesNotExist_shouldCreateEmptyJournal() {
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            assertThat(journal.isCompleted("key", "fingerprint")).isFalse();
+        }
+
+        assertThat(checkpointFile).exists();
+    }
+
+    @Test
+    void open_afterRecordCompleted_shouldLoadCompletedTransfers() {
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            journal.recordCompleted("key1", "fingerprint1");
+            journal.recordCompleted("key with spaces\nand newline", "fingerprint2");
+        }
+
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            assertThat(journal.isCompleted("key1", "fingerprint1")).isTrue();
+            assertThat(journal.isCompleted("key with spaces\nand newline", "fingerprint2")).isTrue();
+            assertThat(journal.isCompleted("key1", "otherFingerprint")).isFalse();
+            assertThat(journal.isCompleted("key2", "fingerprint1")).isFalse();
+        }
+    }
+
+    @Test
+    void open_afterReopen_shouldAppendToExistingEntries() {
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            journal.recordCompleted("key1", "fingerprint1");
+        }
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            journal.recordCompleted("key2", "fingerprint2");
+        }
+
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            assertThat(journal.isCompleted("key1", "fingerprint1")).isTrue();
+            assertThat(journal.isCompleted("key2", "fingerprint2")).isTrue();
+        }
+    }
+
+    @Test
+    void open_incompleteLastLine_shouldIgnoreIt() throws IOException {
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            journal.recordCompleted("key1", "fingerprint1");
+        }
+        Files.write(checkpointFile, "a2V5Mg".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            assertThat(journal.isCompleted("key1", "fingerprint1")).isTrue();
+            journal.recordCompleted("key3", "fingerprint3");
+        }
+
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            assertThat(journal.isCompleted("key1", "fingerprint1")).isTrue();
+            assertThat(journal.isCompleted("key3", "fingerprint3")).isTrue();
+        }
+    }
+
+    @Test
+    void delete_shouldDeleteFile() {
+        DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile);
+        journal.recordCompleted("key1", "fingerprint1");
+
+        journal.delete();
+
+        assertThat(checkpointFile).doesNotExist();
+    }
+}
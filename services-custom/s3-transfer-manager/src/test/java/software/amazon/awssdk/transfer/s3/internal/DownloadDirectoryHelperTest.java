@@ -18,7 +18,9 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,16 +28,19 @@ import static software.amazon.awssdk.transfer.s3.util.S3ApiCallMockUtils.stubSuc
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -538,6 +543,202 @@ public class DownloadDirectoryHelperTest {
         assertThatThrownBy(downloadDirectory.completionFuture()::join).hasCause(exception);
     }
 
+    @Test
+    void downloadDirectory_withListObjectsMaxConcurrency_shouldListConcurrently() throws Exception {
+        List<S3Object> s3Objects = Arrays.asList(S3Object.builder().key("a/key1").size(100L).build(),
+                                                 S3Object.builder().key("b/key2").size(100L).build());
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class), eq(8)))
+            .thenReturn(SdkPublisher.adapt(Flowable.fromIterable(s3Objects)));
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(completedDownload());
+
+        downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                          .destination(directory)
+                                                                          .bucket("bucket")
+                                                                          .listObjectsMaxConcurrency(8)
+                                                                          .build())
+                               .completionFuture().get(5, TimeUnit.SECONDS);
+
+        verify(listObjectsHelper, never()).listS3ObjectsRecursively(any(ListObjectsV2Request.class));
+        verify(singleDownloadFunction, times(2)).apply(any(DownloadFileRequest.class));
+    }
+
+    @Test
+    void downloadDirectory_skipUnchangedObjects_shouldOnlyDownloadChangedObjects() throws Exception {
+        Instant lastModified = Instant.parse("2024-01-01T00:00:00Z");
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("key1"), new byte[100]);
+        Files.setLastModifiedTime(directory.resolve("key1"), FileTime.from(lastModified));
+        Files.write(directory.resolve("key2"), new byte[100]);
+        Files.setLastModifiedTime(directory.resolve("key2"), FileTime.from(lastModified));
+        stubSuccessfulListObjects(listObjectsHelper,
+                                  S3Object.builder().key("key1").size(100L).lastModified(lastModified.minusSeconds(60)).build(),
+                                  S3Object.builder().key("key2").size(100L).lastModified(lastModified.plusSeconds(60)).build(),
+                                  S3Object.builder().key("key3").size(100L).lastModified(lastModified).build());
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(completedDownload());
+
+        CompletedDirectoryDownload completedDirectoryDownload =
+            downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                              .destination(directory)
+                                                                              .bucket("bucket")
+                                                                              .skipUnchangedObjects(true)
+                                                                              .build())
+                                   .completionFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<DownloadFileRequest> argumentCaptor = ArgumentCaptor.forClass(DownloadFileRequest.class);
+        verify(singleDownloadFunction, times(2)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getAllValues()).extracting(r -> r.getObjectRequest().key())
+                                                 .containsExactlyInAnyOrder("key2", "key3");
+        assertThat(completedDirectoryDownload.failedTransfers()).isEmpty();
+    }
+
+    @Test
+    void downloadDirectory_deleteFilesNotInSource_shouldDeleteFilesWithNoObject() throws Exception {
+        Files.createDirectories(directory.resolve("sub"));
+        Files.write(directory.resolve("key1"), new byte[1]);
+        Files.write(directory.resolve("stale"), new byte[1]);
+        Files.write(directory.resolve("sub").resolve("key2"), new byte[1]);
+        Files.write(directory.resolve("sub").resolve("stale"), new byte[1]);
+        stubSuccessfulListObjects(listObjectsHelper, "key1", "sub/key2");
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(completedDownload());
+
+        downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                          .destination(directory)
+                                                                          .bucket("bucket")
+                                                                          .deleteFilesNotInSource(true)
+                                                                          .build())
+                               .completionFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(directory.resolve("key1")).exists();
+        assertThat(directory.resolve("sub").resolve("key2")).exists();
+        assertThat(directory.resolve("stale")).doesNotExist();
+        assertThat(directory.resolve("sub").resolve("stale")).doesNotExist();
+    }
+
+    @Test
+    void downloadDirectory_deleteFilesNotInSourceWithFilter_shouldKeepFilesOfExcludedObjects() throws Exception {
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("key1"), new byte[1]);
+        Files.write(directory.resolve("excluded"), new byte[1]);
+        Files.write(directory.resolve("stale"), new byte[1]);
+        stubSuccessfulListObjects(listObjectsHelper, "key1", "excluded");
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(completedDownload());
+
+        downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                          .destination(directory)
+                                                                          .bucket("bucket")
+                                                                          .filter(o -> !o.key().equals("excluded"))
+                                                                          .deleteFilesNotInSource(true)
+                                                                          .build())
+                               .completionFuture().get(5, TimeUnit.SECONDS);
+
+        verify(singleDownloadFunction, times(1)).apply(any(DownloadFileRequest.class));
+        assertThat(directory.resolve("key1")).exists();
+        assertThat(directory.resolve("excluded")).exists();
+        assertThat(directory.resolve("stale")).doesNotExist();
+    }
+
+    @Test
+    void downloadDirectory_deleteFilesNotInSourceDownloadFails_shouldNotDeleteFiles() {
+        Path staleFile = directory.resolve("stale");
+        try {
+            Files.createDirectories(directory);
+            Files.write(staleFile, new byte[1]);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        SdkPublisher<S3Object> failingPublisher = s -> {
+            throw new IllegalStateException("listing failed");
+        };
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class))).thenReturn(failingPublisher);
+
+        CompletableFuture<CompletedDirectoryDownload> future =
+            downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                              .destination(directory)
+                                                                              .bucket("bucket")
+                                                                              .deleteFilesNotInSource(true)
+                                                                              .build())
+                                   .completionFuture();
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("listing failed");
+        assertThat(staleFile).exists();
+    }
+
+    @Test
+    void downloadDirectory_withCheckpointFile_shouldSkipRecordedObjectsAndDeleteFileOnSuccess() throws Exception {
+        Path checkpointFile = fs.getPath("checkpoint");
+        S3Object downloadedObject = S3Object.builder().key("key1").eTag("etag1").size(100L).build();
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("key1"), new byte[100]);
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            journal.recordCompleted("key1", "etag1:100:null");
+        }
+        stubSuccessfulListObjects(listObjectsHelper, downloadedObject,
+                                  S3Object.builder().key("key2").eTag("etag2").size(100L).build());
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(completedDownload());
+
+        downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                          .destination(directory)
+                                                                          .bucket("bucket")
+                                                                          .checkpointFile(checkpointFile)
+                                                                          .build())
+                               .completionFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<DownloadFileRequest> argumentCaptor = ArgumentCaptor.forClass(DownloadFileRequest.class);
+        verify(singleDownloadFunction, times(1)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().getObjectRequest().key()).isEqualTo("key2");
+        assertThat(checkpointFile).doesNotExist();
+    }
+
+    @Test
+    void downloadDirectory_withCheckpointFileDestinationFileTruncated_shouldDownloadAgain() throws Exception {
+        Path checkpointFile = fs.getPath("checkpoint");
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("key1"), new byte[10]);
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            journal.recordCompleted("key1", "etag1:100:null");
+            journal.recordCompleted("key2", "etag2:100:null");
+        }
+        stubSuccessfulListObjects(listObjectsHelper,
+                                  S3Object.builder().key("key1").eTag("etag1").size(100L).build(),
+                                  S3Object.builder().key("key2").eTag("etag2").size(100L).build());
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(completedDownload());
+
+        downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                          .destination(directory)
+                                                                          .bucket("bucket")
+                                                                          .checkpointFile(checkpointFile)
+                                                                          .build())
+                               .completionFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<DownloadFileRequest> argumentCaptor = ArgumentCaptor.forClass(DownloadFileRequest.class);
+        verify(singleDownloadFunction, times(2)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getAllValues()).extracting(r -> r.getObjectRequest().key())
+                                                 .containsExactlyInAnyOrder("key1", "key2");
+    }
+
+    @Test
+    void downloadDirectory_withCheckpointFileObjectChanged_shouldDownloadAgain() throws Exception {
+        Path checkpointFile = fs.getPath("checkpoint");
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            journal.recordCompleted("key1", "oldEtag:100:null");
+        }
+        stubSuccessfulListObjects(listObjectsHelper, S3Object.builder().key("key1").eTag("newEtag").size(100L).build());
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(newFailedDownload(
+            SdkClientException.create("failed")));
+
+        CompletedDirectoryDownload completedDirectoryDownload =
+            downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                              .destination(directory)
+                                                                              .bucket("bucket")
+                                                                              .checkpointFile(checkpointFile)
+                                                                              .build())
+                                   .completionFuture().get(5, TimeUnit.SECONDS);
+
+        verify(singleDownloadFunction, times(1)).apply(any(DownloadFileRequest.class));
+        assertThat(completedDirectoryDownload.failedTransfers()).hasSize(1);
+        assertThat(checkpointFile).exists();
+    }
+
     private static DefaultFileDownload completedDownload() {
         return new DefaultFileDownload(CompletableFuture.completedFuture(CompletedFileDownload.builder()
                                                                                               .response(GetObjectResponse.builder().build())
@@ -0,0 +1,179 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.internal.checksums.CombinableCrcAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+class FileChecksumCalculatorTest {
+    private static final int SEGMENT_SIZE = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    private ExecutorService executor;
+    private FileChecksumCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        calculator = new FileChecksumCalculator(executor, SEGMENT_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "CRC32, 0", "CRC32, 1", "CRC32, 1000", "CRC32, 5500",
+        "CRC32C, 0", "CRC32C, 999", "CRC32C, 1001", "CRC32C, 5500",
+        "CRC64NVME, 0", "CRC64NVME, 1", "CRC64NVME, 2000", "CRC64NVME, 5500"
+    })
+    void calculate_matchesChecksumOfWholeFile(CombinableCrcAlgorithm algorithm, int fileSize) throws IOException {
+        byte[] content = randomBytes(fileSize);
+        Path file = writeFile(content);
+
+        byte[] checksum = calculator.calculate(file, algorithm).join();
+
+        assertThat(checksum).isEqualTo(expectedChecksum(algorithm, content));
+    }
+
+    @Test
+    void addChecksum_noChecksumAlgorithm_shouldAddCrc32() throws IOException {
+        byte[] content = randomBytes(3000);
+        Path file = writeFile(content);
+        PutObjectRequest request = PutObjectRequest.builder().bucket("bucket").key("key").build();
+
+        PutObjectRequest result = calculator.addChecksum(request, file, true).join();
+
+        assertThat(result.checksumCRC32())
+            .isEqualTo(BinaryUtils.toBase64(expectedChecksum(CombinableCrcAlgorithm.CRC32, content)));
+        assertThat(result.checksumAlgorithm()).isNull();
+    }
+
+    @Test
+    void addChecksum_noChecksumAlgorithmAndChecksumOnlyWhenRequired_shouldReturnRequestUnchanged() throws IOException {
+        Path file = writeFile(randomBytes(3000));
+        PutObjectRequest request = PutObjectRequest.builder().bucket("bucket").key("key").build();
+
+        assertThat(calculator.addChecksum(request, file, false).join()).isSameAs(request);
+    }
+
+    @Test
+    void addChecksum_checksumAlgorithmAndChecksumOnlyWhenRequired_shouldAddChecksum() throws IOException {
+        byte[] content = randomBytes(3000);
+        Path file = writeFile(content);
+        PutObjectRequest request = PutObjectRequest.builder().bucket("bucket").key("key")
+                                                   .checksumAlgorithm(ChecksumAlgorithm.CRC32_C).build();
+
+        PutObjectRequest result = calculator.addChecksum(request, file, false).join();
+
+        assertThat(result.checksumCRC32C())
+            .isEqualTo(BinaryUtils.toBase64(expectedChecksum(CombinableCrcAlgorithm.CRC32C, content)));
+    }
+
+    @Test
+    void addChecksum_crc64NvmeAlgorithm_shouldAddCrc64Nvme() throws IOException {
+        byte[] content = randomBytes(3000);
+        Path file = writeFile(content);
+        PutObjectRequest request = PutObjectRequest.builder()
+                                                   .bucket("bucket")
+                                                   .key("key")
+                                                   .checksumAlgorithm(ChecksumAlgorithm.CRC64_NVME)
+                                                   .build();
+
+        PutObjectRequest result = calculator.addChecksum(request, file, true).join();
+
+        assertThat(result.checksumCRC64NVME())
+            .isEqualTo(BinaryUtils.toBase64(expectedChecksum(CombinableCrcAlgorithm.CRC64NVME, content)));
+        assertThat(result.checksumCRC32()).isNull();
+    }
+
+    @Test
+    void addChecksum_nonCrcAlgorithm_shouldReturnRequestUnchanged() throws IOException {
+        Path file = writeFile(randomBytes(10));
+        PutObjectRequest request = PutObjectRequest.builder()
+                                                   .bucket("bucket")
+                                                   .key("key")
+                                                   .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                                                   .build();
+
+        assertThat(calculator.addChecksum(request, file, true).join()).isSameAs(request);
+    }
+
+    @Test
+    void addChecksum_checksumValueAlreadySet_shouldReturnRequestUnchanged() throws IOException {
+        Path file = writeFile(randomBytes(10));
+        PutObjectRequest request = PutObjectRequest.builder()
+                                                   .bucket("bucket")
+                                                   .key("key")
+                                                   .checksumCRC32C("AAAAAA==")
+                                                   .build();
+
+        assertThat(calculator.addChecksum(request, file, true).join()).isSameAs(request);
+    }
+
+    @Test
+    void calculate_fileDoesNotExist_shouldFail() {
+        assertThatThrownBy(() -> calculator.calculate(tempDir.resolve("missing"), CombinableCrcAlgorithm.CRC32).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SdkClientException.class);
+    }
+
+    private Path writeFile(byte[] content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "file", null);
+        Files.write(file, content);
+        return file;
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] expectedChecksum(CombinableCrcAlgorithm algorithm, byte[] content) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(
+            algorithm == CombinableCrcAlgorithm.CRC32 ? DefaultChecksumAlgorithm.CRC32 :
+            algorithm == CombinableCrcAlgorithm.CRC32C ? DefaultChecksumAlgorithm.CRC32C :
+            DefaultChecksumAlgorithm.CRC64NVME);
+        checksum.update(content);
+        return checksum.getChecksumBytes();
+    }
+}
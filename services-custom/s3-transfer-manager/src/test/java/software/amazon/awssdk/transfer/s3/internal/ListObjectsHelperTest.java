@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -25,7 +26,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
@@ -127,6 +133,95 @@ class ListObjectsHelperTest {
         assertThat(actualObjects).hasSize(10);
     }
 
+    @Test
+    void listS3ObjectsConcurrently_hasNextPageAndCommonPrefixes_shouldReturnAll() {
+        Map<String, ListObjectsV2Response> responses = new ConcurrentHashMap<>();
+        responses.put("", listObjectsV2Response("nextPage", commonPrefixes("jan/", "feb/"), "1", "2"));
+        responses.put("nextPage", listObjectsV2Response(null, Collections.emptyList(), "3", "4"));
+        responses.put("jan/", listObjectsV2Response("nextPage", Collections.emptyList(), "jan/1", "jan/2"));
+        responses.put("jan/nextPage", listObjectsV2Response(null, Collections.emptyList(), "jan/3", "jan/4"));
+        responses.put("feb/", listObjectsV2Response(null, Collections.emptyList(), "feb/1", "feb/2"));
+
+        List<ListObjectsV2Request> requests = new ArrayList<>();
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class))).thenAnswer(i -> {
+            ListObjectsV2Request request = i.getArgument(0);
+            requests.add(request);
+            String prefix = request.prefix() == null ? "" : request.prefix();
+            String token = request.continuationToken() == null ? "" : request.continuationToken();
+            return CompletableFuture.completedFuture(responses.get(prefix + token));
+        });
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        listObjectsHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder().bucket("bucket").build(), 4)
+                         .subscribe(actualObjects::add).join();
+
+        assertThat(actualObjects).extracting(S3Object::key)
+                                 .containsExactlyInAnyOrder("1", "2", "3", "4", "jan/1", "jan/2", "jan/3", "jan/4",
+                                                            "feb/1", "feb/2");
+        assertThat(requests).hasSize(5).allSatisfy(r -> assertThat(r.delimiter()).isEqualTo("/"));
+    }
+
+    @Test
+    void listS3ObjectsConcurrently_moreCommonPrefixesThanMaxConcurrency_shouldBoundConcurrentRequests() {
+        Map<String, CompletableFuture<ListObjectsV2Response>> pendingResponses = new ConcurrentHashMap<>();
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class))).thenAnswer(i -> {
+            ListObjectsV2Request request = i.getArgument(0);
+            CompletableFuture<ListObjectsV2Response> future = new CompletableFuture<>();
+            pendingResponses.put(request.prefix(), future);
+            return future;
+        });
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        CompletableFuture<Void> listingFuture =
+            listObjectsHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder().bucket("bucket").prefix("").build(), 2)
+                             .subscribe(actualObjects::add);
+
+        pendingResponses.remove("").complete(listObjectsV2Response(null, commonPrefixes("a/", "b/", "c/")));
+        assertThat(pendingResponses).containsOnlyKeys("a/", "b/");
+
+        pendingResponses.remove("a/").complete(listObjectsV2Response("a/1"));
+        assertThat(pendingResponses).containsOnlyKeys("b/", "c/");
+
+        pendingResponses.remove("b/").complete(listObjectsV2Response("b/1"));
+        pendingResponses.remove("c/").complete(listObjectsV2Response("c/1"));
+        listingFuture.join();
+
+        assertThat(actualObjects).extracting(S3Object::key).containsExactlyInAnyOrder("a/1", "b/1", "c/1");
+    }
+
+    @Test
+    void listS3ObjectsConcurrently_listRequestFails_shouldFailSubscription() {
+        RuntimeException exception = new RuntimeException("boom");
+        Queue<CompletableFuture<ListObjectsV2Response>> futures = new ConcurrentLinkedQueue<>();
+        futures.add(CompletableFuture.completedFuture(listObjectsV2Response(null, commonPrefixes("a/"), "1")));
+        CompletableFuture<ListObjectsV2Response> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(exception);
+        futures.add(failedFuture);
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class))).thenAnswer(i -> futures.poll());
+
+        CompletableFuture<Void> listingFuture =
+            listObjectsHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder().bucket("bucket").build(), 2)
+                             .subscribe(o -> { });
+
+        assertThatThrownBy(listingFuture::join).hasCause(exception);
+    }
+
+    @Test
+    void listS3ObjectsConcurrently_handlingResponseFails_shouldFailSubscription() {
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class)))
+            .thenReturn(CompletableFuture.completedFuture(listObjectsV2Response(null, Collections.singletonList(null), "1")));
+
+        CompletableFuture<Void> listingFuture =
+            listObjectsHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder().bucket("bucket").build(), 2)
+                             .subscribe(o -> { });
+
+        assertThatThrownBy(() -> listingFuture.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(NullPointerException.class);
+    }
+
+    private static List<CommonPrefix> commonPrefixes(String... prefixes) {
+        return Arrays.stream(prefixes).map(p -> CommonPrefix.builder().prefix(p).build()).collect(Collectors.toList());
+    }
+
     private ListObjectsV2Response listObjectsV2Response(String... keys) {
         return listObjectsV2Response(null, null, keys);
     }
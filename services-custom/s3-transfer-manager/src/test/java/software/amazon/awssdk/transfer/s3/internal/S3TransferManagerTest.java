@@ -23,6 +23,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -30,10 +33,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
 import software.amazon.awssdk.services.s3.internal.crt.S3CrtAsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -95,6 +102,61 @@ class S3TransferManagerTest {
         assertThat(completedFileUpload.response()).isEqualTo(response);
     }
 
+    @Test
+    void uploadFile_checksumExecutorConfigured_shouldSendPrecomputedChecksum() throws Exception {
+        Path file = Files.createTempFile("uploadFile", null);
+        try {
+            Files.write(file, "Hello world".getBytes(StandardCharsets.UTF_8));
+            when(configuration.option(TransferConfigurationOption.UPLOAD_FILE_CHECKSUM_EXECUTOR))
+                .thenReturn(Runnable::run);
+            when(mockS3Crt.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+            S3TransferManager transferManager = new GenericS3TransferManager(mockS3Crt, uploadDirectoryHelper, configuration,
+                                                                             downloadDirectoryHelper);
+
+            transferManager.uploadFile(u -> u.putObjectRequest(p -> p.bucket("bucket")
+                                                                     .key("key")
+                                                                     .checksumAlgorithm(ChecksumAlgorithm.CRC32_C))
+                                             .source(file))
+                           .completionFuture()
+                           .join();
+
+            ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+            verify(mockS3Crt).putObject(requestCaptor.capture(), any(AsyncRequestBody.class));
+            assertThat(requestCaptor.getValue().checksumCRC32C()).isEqualTo("crUfeA==");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void uploadFile_checksumExecutorConfiguredAndChecksumOnlyWhenRequired_shouldNotCalculateDefaultChecksum() throws Exception {
+        Path file = Files.createTempFile("uploadFile", null);
+        try {
+            Files.write(file, "Hello world".getBytes(StandardCharsets.UTF_8));
+            when(configuration.option(TransferConfigurationOption.UPLOAD_FILE_CHECKSUM_EXECUTOR))
+                .thenReturn(Runnable::run);
+            when(mockS3Crt.serviceClientConfiguration())
+                .thenReturn(S3ServiceClientConfiguration.builder()
+                                                        .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                                                        .build());
+            when(mockS3Crt.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+            S3TransferManager transferManager = new GenericS3TransferManager(mockS3Crt, uploadDirectoryHelper, configuration,
+                                                                             downloadDirectoryHelper);
+
+            transferManager.uploadFile(u -> u.putObjectRequest(p -> p.bucket("bucket").key("key")).source(file))
+                           .completionFuture()
+                           .join();
+
+            ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+            verify(mockS3Crt).putObject(requestCaptor.capture(), any(AsyncRequestBody.class));
+            assertThat(requestCaptor.getValue().checksumCRC32()).isNull();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     @Test
     public void upload_returnsResponse() {
         PutObjectResponse response = PutObjectResponse.builder().build();
@@ -19,7 +19,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.transfer.s3.util.S3ApiCallMockUtils.stubSuccessfulListObjects;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
@@ -30,7 +34,9 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -53,8 +59,13 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.multipart.PauseObservable;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.testutils.FileUtils;
 import software.amazon.awssdk.transfer.s3.config.TransferRequestOverrideConfiguration;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultFileUpload;
@@ -78,6 +89,8 @@ public class UploadDirectoryHelperTest {
      */
     private static Path localDirectory;
     private Function<UploadFileRequest, FileUpload> singleUploadFunction;
+    private ListObjectsHelper listObjectsHelper;
+    private Function<DeleteObjectsRequest, CompletableFuture<DeleteObjectsResponse>> deleteObjectsFunction;
     private UploadDirectoryHelper uploadDirectoryHelper;
 
     public static Collection<FileSystem> fileSystems() {
@@ -105,8 +118,11 @@ public class UploadDirectoryHelperTest {
         Files.createFile(jimfs.getPath("test/2"));
 
         singleUploadFunction = mock(Function.class);
+        listObjectsHelper = mock(ListObjectsHelper.class);
+        deleteObjectsFunction = mock(Function.class);
 
-        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(), singleUploadFunction);
+        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(), singleUploadFunction,
+                                                          listObjectsHelper, deleteObjectsFunction);
     }
 
     @AfterEach
@@ -462,6 +478,207 @@ public class UploadDirectoryHelperTest {
         assertThatThrownBy(uploadFuture::join).getCause().hasCause(exception);
     }
 
+    @Test
+    void uploadDirectory_skipUnchangedFiles_shouldOnlyUploadChangedFiles() throws Exception {
+        Instant lastModified = Instant.parse("2024-01-01T00:00:00Z");
+        Files.setLastModifiedTime(jimfs.getPath("test/1"), FileTime.from(lastModified));
+        Files.setLastModifiedTime(jimfs.getPath("test/2"), FileTime.from(lastModified));
+        stubSuccessfulListObjects(listObjectsHelper,
+                                  S3Object.builder().key("1").size(0L).lastModified(lastModified.plusSeconds(60)).build(),
+                                  S3Object.builder().key("2").size(0L).lastModified(lastModified.minusSeconds(60)).build());
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+
+        CompletedDirectoryUpload completedDirectoryUpload =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .skipUnchangedFiles(true)
+                                                                        .build())
+                                 .completionFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<UploadFileRequest> argumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+        verify(singleUploadFunction, times(1)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().putObjectRequest().key()).isEqualTo("2");
+        assertThat(completedDirectoryUpload.failedTransfers()).isEmpty();
+        verifyNoInteractions(deleteObjectsFunction);
+    }
+
+    @Test
+    void uploadDirectory_skipUnchangedFilesSizeDiffers_shouldUploadFile() throws Exception {
+        Instant lastModified = Instant.parse("2024-01-01T00:00:00Z");
+        Files.write(jimfs.getPath("test/1"), "changed".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(jimfs.getPath("test/1"), FileTime.from(lastModified));
+        stubSuccessfulListObjects(listObjectsHelper,
+                                  S3Object.builder().key("1").size(0L).lastModified(lastModified.plusSeconds(60)).build());
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+
+        uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                    .source(directory)
+                                                                    .bucket("bucket")
+                                                                    .skipUnchangedFiles(true)
+                                                                    .build())
+                             .completionFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<UploadFileRequest> argumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+        verify(singleUploadFunction, times(2)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getAllValues()).extracting(r -> r.putObjectRequest().key()).containsExactlyInAnyOrder("1", "2");
+    }
+
+    @Test
+    void uploadDirectory_deleteObjectsNotInSource_shouldDeleteObjectsWithNoFile() throws Exception {
+        stubSuccessfulListObjects(listObjectsHelper, "prefix/1", "prefix/3", "prefix/sub/4");
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+        when(deleteObjectsFunction.apply(any(DeleteObjectsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(DeleteObjectsResponse.builder().build()));
+
+        uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                    .source(directory)
+                                                                    .bucket("bucket")
+                                                                    .s3Prefix("prefix")
+                                                                    .deleteObjectsNotInSource(true)
+                                                                    .build())
+                             .completionFuture().get(5, TimeUnit.SECONDS);
+
+        verify(singleUploadFunction, times(2)).apply(any(UploadFileRequest.class));
+        ArgumentCaptor<DeleteObjectsRequest> argumentCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(deleteObjectsFunction, times(1)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().bucket()).isEqualTo("bucket");
+        assertThat(argumentCaptor.getValue().delete().objects()).extracting(ObjectIdentifier::key)
+                                                               .containsExactlyInAnyOrder("prefix/3", "prefix/sub/4");
+    }
+
+    @Test
+    void uploadDirectory_deleteObjectsNotInSourceWithMaxDepth_shouldKeepObjectsOfFilesNotVisited() throws Exception {
+        Files.createDirectory(jimfs.getPath("test/sub"));
+        Files.createFile(jimfs.getPath("test/sub/4"));
+        stubSuccessfulListObjects(listObjectsHelper, "1", "3", "sub/4");
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+        when(deleteObjectsFunction.apply(any(DeleteObjectsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(DeleteObjectsResponse.builder().build()));
+
+        uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                    .source(directory)
+                                                                    .bucket("bucket")
+                                                                    .maxDepth(1)
+                                                                    .deleteObjectsNotInSource(true)
+                                                                    .build())
+                             .completionFuture().get(5, TimeUnit.SECONDS);
+
+        verify(singleUploadFunction, times(2)).apply(any(UploadFileRequest.class));
+        ArgumentCaptor<DeleteObjectsRequest> argumentCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(deleteObjectsFunction, times(1)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().delete().objects()).extracting(ObjectIdentifier::key).containsExactly("3");
+    }
+
+    @Test
+    void uploadDirectory_skipUnchangedFilesTransformerChangesBucket_shouldUploadFile() throws Exception {
+        Instant lastModified = Instant.parse("2024-01-01T00:00:00Z");
+        Files.setLastModifiedTime(jimfs.getPath("test/1"), FileTime.from(lastModified));
+        Files.setLastModifiedTime(jimfs.getPath("test/2"), FileTime.from(lastModified));
+        stubSuccessfulListObjects(listObjectsHelper,
+                                  S3Object.builder().key("1").size(0L).lastModified(lastModified.plusSeconds(60)).build(),
+                                  S3Object.builder().key("2").size(0L).lastModified(lastModified.plusSeconds(60)).build());
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+
+        uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                    .source(directory)
+                                                                    .bucket("bucket")
+                                                                    .skipUnchangedFiles(true)
+                                                                    .uploadFileRequestTransformer(r -> r.putObjectRequest(
+                                                                        p -> p.bucket("other-bucket").key("1")))
+                                                                    .build())
+                             .completionFuture().get(5, TimeUnit.SECONDS);
+
+        verify(singleUploadFunction, times(2)).apply(any(UploadFileRequest.class));
+    }
+
+    @Test
+    void uploadDirectory_deleteObjectsNotInSourceReturnsErrors_shouldCompleteFutureExceptionally() {
+        stubSuccessfulListObjects(listObjectsHelper, "3");
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+        DeleteObjectsResponse response =
+            DeleteObjectsResponse.builder()
+                                 .errors(S3Error.builder().key("3").code("AccessDenied").message("Access Denied").build())
+                                 .build();
+        when(deleteObjectsFunction.apply(any(DeleteObjectsRequest.class))).thenReturn(CompletableFuture.completedFuture(response));
+
+        CompletableFuture<CompletedDirectoryUpload> uploadFuture =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .deleteObjectsNotInSource(true)
+                                                                        .build())
+                                 .completionFuture();
+
+        assertThatThrownBy(() -> uploadFuture.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("Failed to delete 1 objects, the "
+                                                                                            + "first of which is 3: Access "
+                                                                                            + "Denied");
+    }
+
+    @Test
+    void uploadDirectory_withCheckpointFile_shouldSkipRecordedFilesAndDeleteFileOnSuccess() throws Exception {
+        Path checkpointFile = jimfs.getPath("checkpoint");
+        Path file = jimfs.getPath("test/1");
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            journal.recordCompleted("1", Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis());
+        }
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+
+        uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                    .source(directory)
+                                                                    .bucket("bucket")
+                                                                    .checkpointFile(checkpointFile)
+                                                                    .build())
+                             .completionFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<UploadFileRequest> argumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+        verify(singleUploadFunction, times(1)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().putObjectRequest().key()).isEqualTo("2");
+        assertThat(checkpointFile).doesNotExist();
+    }
+
+    @Test
+    void uploadDirectory_withCheckpointFilePartialSuccess_shouldRecordSuccessfulUploads() throws Exception {
+        Path checkpointFile = jimfs.getPath("checkpoint");
+        CompletableFuture<CompletedFileUpload> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(SdkClientException.create("failed"));
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenAnswer(i -> {
+            UploadFileRequest request = i.getArgument(0);
+            return "1".equals(request.putObjectRequest().key()) ? completedUpload() : newUpload(failedFuture);
+        });
+
+        CompletedDirectoryUpload completedDirectoryUpload =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .checkpointFile(checkpointFile)
+                                                                        .build())
+                                 .completionFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryUpload.failedTransfers()).hasSize(1);
+        Path file = jimfs.getPath("test/1");
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(checkpointFile)) {
+            assertThat(journal.isCompleted("1", Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis())).isTrue();
+            assertThat(journal.isCompleted("2", "0:" + Files.getLastModifiedTime(jimfs.getPath("test/2")).toMillis()))
+                .isFalse();
+        }
+    }
+
+    @Test
+    void uploadDirectory_checkpointFileWithinSource_shouldCompleteFutureExceptionally() {
+        CompletableFuture<CompletedDirectoryUpload> uploadFuture =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .checkpointFile(jimfs.getPath("test/checkpoint"))
+                                                                        .build())
+                                 .completionFuture();
+
+        assertThatThrownBy(() -> uploadFuture.get(5, TimeUnit.SECONDS))
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must not be within the directory being transferred");
+    }
+
     private DefaultFileUpload completedUpload() {
         return new DefaultFileUpload(CompletableFuture.completedFuture(CompletedFileUpload.builder()
                                                                                           .response(PutObjectResponse.builder().build())
@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.fanout;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.internal.fanout.DefaultKinesisShardSubscriptionManager;
+import software.amazon.awssdk.services.kinesis.model.StartingPosition;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardEvent;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Manages enhanced fan-out subscriptions to the shards of a stream on behalf of a registered stream consumer. Create an
+ * instance using {@link #builder()}, then call {@link #subscribeToShard(String, StartingPosition)} for each shard to read.
+ * <p>
+ * A {@code SubscribeToShard} subscription expires after 5 minutes. The publisher returned for a shard hides this by
+ * subscribing again as soon as a subscription completes, starting after the last sequence number delivered, so its
+ * subscriber receives the events of the shard as one uninterrupted stream.
+ * <ul>
+ *     <li>Events are only requested from the service as the subscriber of a shard requests them, so a slow subscriber
+ *     slows down the subscription of its own shard only.</li>
+ *     <li>When a subscription fails with a retryable error, such as a network error or timeout, a throttling error or a
+ *     {@code ResourceInUseException} raised while the previous subscription is released, the shard is subscribed to again
+ *     after a backoff delay, starting after the last sequence number delivered. Other errors, and retryable errors that
+ *     persist for the configured maximum number of attempts, are signalled to the subscriber of the shard.</li>
+ *     <li>When the end of a closed shard is reached, its subscriber is completed. The last event delivered lists the child
+ *     shards to read next.</li>
+ * </ul>
+ */
+@SdkPublicApi
+public interface KinesisShardSubscriptionManager extends SdkAutoCloseable {
+
+    /**
+     * Creates a builder for configuring and creating a {@link KinesisShardSubscriptionManager}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultKinesisShardSubscriptionManager.builder();
+    }
+
+    /**
+     * Returns a publisher of the events of a shard that keeps the shard subscribed to, across subscription renewals, for as
+     * long as it is subscribed to. The shard is first subscribed to when the publisher is subscribed to, and the publisher
+     * supports a single subscriber.
+     *
+     * @param shardId The ID of the shard to read.
+     * @param startingPosition The position to start reading the shard from.
+     * @return A publisher of the events of the shard.
+     */
+    SdkPublisher<SubscribeToShardEvent> subscribeToShard(String shardId, StartingPosition startingPosition);
+
+    /**
+     * Returns a publisher of the events of a shard using a {@link Consumer} to configure the starting position.
+     *
+     * @param shardId The ID of the shard to read.
+     * @param startingPosition A {@link Consumer} to configure the position to start reading the shard from.
+     * @return A publisher of the events of the shard.
+     * @see #subscribeToShard(String, StartingPosition)
+     */
+    default SdkPublisher<SubscribeToShardEvent> subscribeToShard(String shardId,
+                                                                  Consumer<StartingPosition.Builder> startingPosition) {
+        return subscribeToShard(shardId, StartingPosition.builder().applyMutation(startingPosition).build());
+    }
+
+    /**
+     * Cancels the subscriptions of all shards and releases the resources owned by this manager. The subscribers of the shards
+     * that were not completed yet are signalled an error.
+     */
+    @Override
+    void close();
+
+    interface Builder {
+
+        /**
+         * Sets the {@link KinesisAsyncClient} used to subscribe to shards. This client must be closed by the caller.
+         *
+         * @param client The KinesisAsyncClient to use.
+         * @return This builder for method chaining.
+         */
+        Builder client(KinesisAsyncClient client);
+
+        /**
+         * Sets the ARN of the registered stream consumer shards are subscribed to on behalf of.
+         *
+         * @param consumerArn The consumer ARN.
+         * @return This builder for method chaining.
+         */
+        Builder consumerArn(String consumerArn);
+
+        /**
+         * Sets the {@link ScheduledExecutorService} used to delay subscription retries. This executor must be closed by the
+         * caller.
+         * <p>
+         * If not set, a single-threaded scheduled executor is created and closed with the manager.
+         *
+         * @param scheduledExecutor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Sets the {@link BackoffStrategy} computing the delay before a shard is subscribed to again after a retryable error.
+         * The attempt count is reset once an event is received. The default is an exponential delay with full jitter, from
+         * 100 milliseconds up to 10 seconds.
+         *
+         * @param backoffStrategy The backoff strategy to use.
+         * @return This builder for method chaining.
+         */
+        Builder backoffStrategy(BackoffStrategy backoffStrategy);
+
+        /**
+         * Sets the maximum number of consecutive attempts to subscribe to a shard that can fail with a retryable error before
+         * the error is signalled to the subscriber of the shard. The attempt count is reset once an event is received. The
+         * default is 10.
+         *
+         * @param maxSubscribeAttempts The maximum number of consecutive failed attempts.
+         * @return This builder for method chaining.
+         */
+        Builder maxSubscribeAttempts(Integer maxSubscribeAttempts);
+
+        /**
+         * Adds a {@link MetricPublisher} that is published one metric collection per event received, with the metrics defined
+         * in {@link KinesisShardSubscriptionMetric}. This publisher must be closed by the caller.
+         *
+         * @param metricPublisher The metric publisher to add.
+         * @return This builder for method chaining.
+         */
+        Builder addMetricPublisher(MetricPublisher metricPublisher);
+
+        /**
+         * Builds an instance of {@link KinesisShardSubscriptionManager} based on the supplied configurations.
+         *
+         * @return An initialized KinesisShardSubscriptionManager.
+         */
+        KinesisShardSubscriptionManager build();
+    }
+}
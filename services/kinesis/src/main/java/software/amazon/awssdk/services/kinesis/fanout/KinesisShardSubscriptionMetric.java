@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.fanout;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics reported by a {@link KinesisShardSubscriptionManager} to its metric publishers, in one metric collection per event
+ * received from a shard.
+ */
+@SdkPublicApi
+public final class KinesisShardSubscriptionMetric {
+    /**
+     * The ID of the shard the event was received from.
+     */
+    public static final SdkMetric<String> SHARD_ID =
+        metric("ShardId", String.class, MetricLevel.ERROR);
+
+    /**
+     * How far behind the tip of the stream the shard is read, as reported by the {@code MillisBehindLatest} of the event.
+     */
+    public static final SdkMetric<Duration> SHARD_LAG =
+        metric("ShardLag", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The number of records in the event.
+     */
+    public static final SdkMetric<Integer> RECORD_COUNT =
+        metric("RecordCount", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of times the shard was subscribed to before this event was received, including subscription renewals and
+     * retries. This is 1 for the events of the first subscription.
+     */
+    public static final SdkMetric<Integer> SUBSCRIPTION_COUNT =
+        metric("SubscriptionCount", Integer.class, MetricLevel.INFO);
+
+    private KinesisShardSubscriptionMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.fanout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.fanout.KinesisShardSubscriptionManager;
+import software.amazon.awssdk.services.kinesis.model.StartingPosition;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardEvent;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultKinesisShardSubscriptionManager implements KinesisShardSubscriptionManager {
+    private static final Logger log = Logger.loggerFor(DefaultKinesisShardSubscriptionManager.class);
+
+    private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+        BackoffStrategy.exponentialDelay(Duration.ofMillis(100), Duration.ofSeconds(10));
+    private static final int DEFAULT_MAX_SUBSCRIBE_ATTEMPTS = 10;
+
+    private final KinesisAsyncClient client;
+    private final String consumerArn;
+    private final BackoffStrategy backoffStrategy;
+    private final int maxSubscribeAttempts;
+    private final List<MetricPublisher> metricPublishers;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final ScheduledExecutorService ownedScheduledExecutor;
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final Set<ShardEventPublisher> publishers = ConcurrentHashMap.newKeySet();
+
+    private DefaultKinesisShardSubscriptionManager(DefaultBuilder builder) {
+        this.client = Validate.notNull(builder.client, "client cannot be null");
+        this.consumerArn = Validate.notNull(builder.consumerArn, "consumerArn cannot be null");
+        this.backoffStrategy = builder.backoffStrategy == null ? DEFAULT_BACKOFF_STRATEGY : builder.backoffStrategy;
+        this.maxSubscribeAttempts = Validate.isPositive(builder.maxSubscribeAttempts == null
+                                                        ? DEFAULT_MAX_SUBSCRIBE_ATTEMPTS
+                                                        : builder.maxSubscribeAttempts,
+                                                        "maxSubscribeAttempts");
+        this.metricPublishers = Collections.unmodifiableList(new ArrayList<>(builder.metricPublishers));
+
+        if (builder.scheduledExecutor != null) {
+            this.scheduledExecutor = builder.scheduledExecutor;
+            this.ownedScheduledExecutor = null;
+        } else {
+            this.ownedScheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().threadNamePrefix("kinesis-shard-subscription-manager").daemonThreads(true).build());
+            this.scheduledExecutor = ownedScheduledExecutor;
+        }
+    }
+
+    public static KinesisShardSubscriptionManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public SdkPublisher<SubscribeToShardEvent> subscribeToShard(String shardId, StartingPosition startingPosition) {
+        Validate.paramNotNull(shardId, "shardId");
+        Validate.paramNotNull(startingPosition, "startingPosition");
+        Validate.validState(!closed.get(), "The shard subscription manager is closed.");
+        return new ShardEventPublisher(this, shardId, startingPosition);
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (ShardEventPublisher publisher : publishers) {
+            publisher.shutdown();
+        }
+        if (ownedScheduledExecutor != null) {
+            ownedScheduledExecutor.shutdown();
+        }
+    }
+
+    KinesisAsyncClient client() {
+        return client;
+    }
+
+    String consumerArn() {
+        return consumerArn;
+    }
+
+    BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    int maxSubscribeAttempts() {
+        return maxSubscribeAttempts;
+    }
+
+    ScheduledExecutorService scheduledExecutor() {
+        return scheduledExecutor;
+    }
+
+    boolean hasMetricPublishers() {
+        return !metricPublishers.isEmpty();
+    }
+
+    /**
+     * Tracks a publisher while its shard is subscribed to, so that it is shut down with the manager. Returns false if the
+     * manager is closed.
+     */
+    boolean register(ShardEventPublisher publisher) {
+        publishers.add(publisher);
+        if (closed.get()) {
+            publishers.remove(publisher);
+            return false;
+        }
+        return true;
+    }
+
+    void deregister(ShardEventPublisher publisher) {
+        publishers.remove(publisher);
+    }
+
+    void publish(MetricCollection metricCollection) {
+        for (MetricPublisher metricPublisher : metricPublishers) {
+            try {
+                metricPublisher.publish(metricCollection);
+            } catch (RuntimeException e) {
+                log.warn(() -> "Failed to publish shard subscription metrics.", e);
+            }
+        }
+    }
+
+    public static final class DefaultBuilder implements KinesisShardSubscriptionManager.Builder {
+        private final List<MetricPublisher> metricPublishers = new ArrayList<>();
+        private KinesisAsyncClient client;
+        private String consumerArn;
+        private ScheduledExecutorService scheduledExecutor;
+        private BackoffStrategy backoffStrategy;
+        private Integer maxSubscribeAttempts;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public KinesisShardSubscriptionManager.Builder client(KinesisAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public KinesisShardSubscriptionManager.Builder consumerArn(String consumerArn) {
+            this.consumerArn = consumerArn;
+            return this;
+        }
+
+        @Override
+        public KinesisShardSubscriptionManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public KinesisShardSubscriptionManager.Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        @Override
+        public KinesisShardSubscriptionManager.Builder maxSubscribeAttempts(Integer maxSubscribeAttempts) {
+            this.maxSubscribeAttempts = maxSubscribeAttempts;
+            return this;
+        }
+
+        @Override
+        public KinesisShardSubscriptionManager.Builder addMetricPublisher(MetricPublisher metricPublisher) {
+            this.metricPublishers.add(Validate.paramNotNull(metricPublisher, "metricPublisher"));
+            return this;
+        }
+
+        @Override
+        public KinesisShardSubscriptionManager build() {
+            return new DefaultKinesisShardSubscriptionManager(this);
+        }
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.fanout;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.kinesis.fanout.KinesisShardSubscriptionMetric;
+import software.amazon.awssdk.services.kinesis.model.LimitExceededException;
+import software.amazon.awssdk.services.kinesis.model.ResourceInUseException;
+import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
+import software.amazon.awssdk.services.kinesis.model.StartingPosition;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardEvent;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardEventStream;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardResponseHandler;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Publishes the events of a shard across the successive {@code SubscribeToShard} subscriptions made to read it.
+ * <p>
+ * Each subscription is an {@link Attempt}. The demand of the subscriber that was not fulfilled yet is requested from each new
+ * attempt, and the demand the subscriber signals is forwarded to the current attempt. Once an attempt terminates, the next one
+ * starts after the continuation sequence number of the last event delivered, either immediately if the subscription simply
+ * expired, or after a backoff delay if it failed with a retryable error. The error is signalled to the subscriber instead once
+ * the configured maximum number of consecutive attempts failed with an error. Signals of an attempt that is no longer the current
+ * one are dropped, and the events they carried are received again by the next attempt.
+ * <p>
+ * State changes are guarded by {@link #lock}. Signals to the subscriber are serialized by {@link #deliveryLock}, which is never
+ * acquired while holding {@link #lock}, so that the subscriber can request more events from its {@code onNext} method.
+ */
+@SdkInternalApi
+final class ShardEventPublisher implements SdkPublisher<SubscribeToShardEvent> {
+    private static final Logger log = Logger.loggerFor(ShardEventPublisher.class);
+
+    private final DefaultKinesisShardSubscriptionManager manager;
+    private final String shardId;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    private final Object lock = new Object();
+    private final Object deliveryLock = new Object();
+
+    private Subscriber<? super SubscribeToShardEvent> subscriber;
+    private StartingPosition startingPosition;
+    private Attempt currentAttempt;
+
+    /**
+     * The number of events requested by the subscriber and not delivered yet.
+     */
+    private long demand;
+    private int subscriptionCount;
+    private int failedAttempts;
+
+    /**
+     * The number of consecutive attempts that failed with an error, which unlike {@link #failedAttempts} excludes the
+     * subscriptions that completed without delivering any event.
+     */
+    private int erroredAttempts;
+    private boolean shardEnded;
+    private boolean done;
+
+    ShardEventPublisher(DefaultKinesisShardSubscriptionManager manager, String shardId, StartingPosition startingPosition) {
+        this.manager = manager;
+        this.shardId = shardId;
+        this.startingPosition = startingPosition;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super SubscribeToShardEvent> s) {
+        if (!subscribed.compareAndSet(false, true)) {
+            s.onSubscribe(new NoOpSubscription());
+            s.onError(new IllegalStateException("The events of shard " + shardId + " can only be subscribed to once."));
+            return;
+        }
+
+        synchronized (lock) {
+            subscriber = s;
+        }
+        s.onSubscribe(new ShardSubscription());
+        if (!manager.register(this)) {
+            terminate(SdkClientException.create("The shard subscription manager is closed."));
+            return;
+        }
+        startAttempt();
+    }
+
+    /**
+     * Cancels the current subscription and signals an error to the subscriber, if it was not completed yet.
+     */
+    void shutdown() {
+        terminate(SdkClientException.create("The shard subscription manager was closed."));
+    }
+
+    private void startAttempt() {
+        Attempt attempt;
+        StartingPosition position;
+        synchronized (lock) {
+            if (done) {
+                return;
+            }
+            subscriptionCount++;
+            attempt = new Attempt(subscriptionCount);
+            currentAttempt = attempt;
+            position = startingPosition;
+        }
+
+        log.debug(() -> String.format("Subscribing to shard %s at %s.", shardId, position));
+        try {
+            CompletableFuture<Void> response =
+                manager.client().subscribeToShard(r -> r.consumerARN(manager.consumerArn())
+                                                        .shardId(shardId)
+                                                        .startingPosition(position),
+                                                  SubscribeToShardResponseHandler.builder()
+                                                                                 .onEventStream(p -> p.subscribe(attempt))
+                                                                                 .build());
+            // Errors raised before the event stream is received are not signalled to the attempt.
+            response.whenComplete((r, t) -> {
+                if (t != null) {
+                    onAttemptTerminated(attempt, t);
+                }
+            });
+        } catch (Throwable t) {
+            onAttemptTerminated(attempt, t);
+        }
+    }
+
+    private void onAttemptTerminated(Attempt attempt, Throwable error) {
+        Throwable cause = unwrap(error);
+        boolean complete = false;
+        boolean retry = false;
+        int failures;
+        synchronized (lock) {
+            if (done || currentAttempt != attempt) {
+                return;
+            }
+            currentAttempt = null;
+
+            if (shardEnded) {
+                complete = true;
+            } else if (cause == null && attempt.received) {
+                failedAttempts = 0;
+            } else if (cause == null) {
+                retry = true;
+                failedAttempts++;
+            } else if (isRetryable(cause) && ++erroredAttempts < manager.maxSubscribeAttempts()) {
+                retry = true;
+                failedAttempts++;
+            }
+            failures = failedAttempts;
+        }
+        attempt.cancel();
+
+        if (complete) {
+            terminate(null);
+        } else if (retry) {
+            Duration delay = manager.backoffStrategy().computeDelay(failures);
+            log.warn(() -> String.format("Subscription to shard %s failed, retrying in %s ms.", shardId, delay.toMillis()),
+                     cause);
+            scheduleAttempt(delay, cause);
+        } else if (cause != null) {
+            terminate(cause);
+        } else {
+            // The subscription expired, renew it off the thread that completed it.
+            scheduleAttempt(Duration.ZERO, null);
+        }
+    }
+
+    private void scheduleAttempt(Duration delay, Throwable cause) {
+        try {
+            manager.scheduledExecutor().schedule(this::startAttempt, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            terminate(cause != null ? cause : SdkClientException.create("Unable to renew the subscription to shard " + shardId,
+                                                                         e));
+        }
+    }
+
+    /**
+     * Completes the subscriber if the given error is null, and signals it the error otherwise, unless it was already
+     * terminated or it cancelled its subscription.
+     */
+    private void terminate(Throwable error) {
+        Attempt attempt;
+        synchronized (lock) {
+            if (done) {
+                return;
+            }
+            done = true;
+            attempt = currentAttempt;
+            currentAttempt = null;
+        }
+        manager.deregister(this);
+        if (attempt != null) {
+            attempt.cancel();
+        }
+
+        synchronized (deliveryLock) {
+            if (error == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onError(error);
+            }
+        }
+    }
+
+    private void deliver(Attempt attempt, SubscribeToShardEvent event) {
+        boolean lastEvent = event.continuationSequenceNumber() == null;
+        synchronized (deliveryLock) {
+            synchronized (lock) {
+                if (done || currentAttempt != attempt) {
+                    return;
+                }
+                demand--;
+                failedAttempts = 0;
+                erroredAttempts = 0;
+                attempt.received = true;
+                if (lastEvent) {
+                    shardEnded = true;
+                } else {
+                    startingPosition = StartingPosition.builder()
+                                                       .type(ShardIteratorType.AFTER_SEQUENCE_NUMBER)
+                                                       .sequenceNumber(event.continuationSequenceNumber())
+                                                       .build();
+                }
+            }
+            subscriber.onNext(event);
+        }
+        reportMetrics(attempt, event);
+
+        // The event stream may only complete once more events are requested, which is not needed after the last event.
+        if (lastEvent) {
+            log.debug(() -> String.format("Reached the end of shard %s.", shardId));
+            terminate(null);
+        }
+    }
+
+    private void reportMetrics(Attempt attempt, SubscribeToShardEvent event) {
+        if (!manager.hasMetricPublishers()) {
+            return;
+        }
+        MetricCollector metricCollector = MetricCollector.create("KinesisShardSubscription");
+        metricCollector.reportMetric(KinesisShardSubscriptionMetric.SHARD_ID, shardId);
+        if (event.millisBehindLatest() != null) {
+            metricCollector.reportMetric(KinesisShardSubscriptionMetric.SHARD_LAG,
+                                         Duration.ofMillis(event.millisBehindLatest()));
+        }
+        metricCollector.reportMetric(KinesisShardSubscriptionMetric.RECORD_COUNT, event.records().size());
+        metricCollector.reportMetric(KinesisShardSubscriptionMetric.SUBSCRIPTION_COUNT, attempt.subscriptionNumber);
+        manager.publish(metricCollector.collect());
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            return t.getCause();
+        }
+        return t;
+    }
+
+    private static boolean isRetryable(Throwable cause) {
+        if (cause instanceof ResourceInUseException || cause instanceof LimitExceededException) {
+            return true;
+        }
+        if (cause instanceof SdkServiceException) {
+            SdkServiceException serviceException = (SdkServiceException) cause;
+            return serviceException.isThrottlingException() || serviceException.statusCode() >= 500;
+        }
+        if (cause instanceof ApiCallTimeoutException || cause instanceof ApiCallAttemptTimeoutException) {
+            return true;
+        }
+        // Other client errors, such as an invalid request or a closed client, are only retried when raised by an I/O error.
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof IOException || t instanceof TimeoutException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The subscription of the subscriber, which spans all attempts.
+     */
+    private final class ShardSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                terminate(new IllegalArgumentException("Demand must be positive, but was " + n));
+                return;
+            }
+
+            Subscription upstream;
+            synchronized (lock) {
+                if (done) {
+                    return;
+                }
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                upstream = currentAttempt == null ? null : currentAttempt.subscription;
+            }
+            if (upstream != null) {
+                upstream.request(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            Attempt attempt;
+            synchronized (lock) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                attempt = currentAttempt;
+                currentAttempt = null;
+            }
+            manager.deregister(ShardEventPublisher.this);
+            if (attempt != null) {
+                attempt.cancel();
+            }
+        }
+    }
+
+    /**
+     * One {@code SubscribeToShard} subscription.
+     */
+    private final class Attempt implements Subscriber<SubscribeToShardEventStream> {
+        private final int subscriptionNumber;
+
+        /**
+         * The subscription to the event stream, guarded by {@link #lock}.
+         */
+        private Subscription subscription;
+        private boolean cancelled;
+        private boolean received;
+
+        private Attempt(int subscriptionNumber) {
+            this.subscriptionNumber = subscriptionNumber;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            long initialDemand;
+            synchronized (lock) {
+                if (cancelled || done || currentAttempt != this) {
+                    initialDemand = -1;
+                } else {
+                    subscription = s;
+                    initialDemand = demand;
+                }
+            }
+            if (initialDemand < 0) {
+                s.cancel();
+            } else if (initialDemand > 0) {
+                s.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(SubscribeToShardEventStream event) {
+            if (event instanceof SubscribeToShardEvent) {
+                deliver(this, (SubscribeToShardEvent) event);
+                return;
+            }
+
+            // Events of an unknown type do not count against the demand of the subscriber.
+            Subscription s;
+            synchronized (lock) {
+                s = subscription;
+            }
+            if (s != null) {
+                s.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            onAttemptTerminated(this, t);
+        }
+
+        @Override
+        public void onComplete() {
+            onAttemptTerminated(this, null);
+        }
+
+        private void cancel() {
+            Subscription s;
+            synchronized (lock) {
+                cancelled = true;
+                s = subscription;
+            }
+            if (s != null) {
+                s.cancel();
+            }
+        }
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.fanout;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClientBuilder;
+import software.amazon.awssdk.services.kinesis.model.ResourceInUseException;
+import software.amazon.awssdk.services.kinesis.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardEvent;
+import software.amazon.awssdk.utils.ImmutableMap;
+import software.amazon.eventstream.HeaderValue;
+import software.amazon.eventstream.Message;
+
+@WireMockTest
+public class KinesisShardSubscriptionManagerTest {
+    private static final String CONSUMER_ARN = "arn:aws:kinesis:us-west-2:123456789012:stream/test/consumer/test:1";
+    private static final String SHARD_ID = "shardId-000000000000";
+
+    private final List<MetricCollection> metrics = Collections.synchronizedList(new ArrayList<>());
+    private URI endpoint;
+    private KinesisAsyncClient client;
+    private KinesisShardSubscriptionManager manager;
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wiremock) {
+        endpoint = URI.create(wiremock.getHttpBaseUrl());
+        client = clientBuilder().build();
+        manager = managerBuilder().build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        manager.close();
+        client.close();
+    }
+
+    @Test
+    public void subscribeToShard_subscriptionExpires_renewsAfterContinuationSequenceNumber() throws Exception {
+        stubFor(post(urlPathEqualTo("/")).inScenario("renewal").whenScenarioStateIs(STARTED)
+                                         .willReturn(eventStream(event("seq-1", 2000), event("seq-2", 1000)))
+                                         .willSetStateTo("renewed"));
+        stubFor(post(urlPathEqualTo("/")).inScenario("renewal").whenScenarioStateIs("renewed")
+                                         .willReturn(eventStream(event(null, 0))));
+
+        TestSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+        assertThat(subscriber.continuationSequenceNumbers()).containsExactly("seq-1", "seq-2", null);
+
+        List<LoggedRequest> requests = findAll(postRequestedFor(urlPathEqualTo("/")));
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).getBodyAsString()).contains(SHARD_ID, "LATEST");
+        assertThat(requests.get(1).getBodyAsString()).contains(SHARD_ID, "AFTER_SEQUENCE_NUMBER", "seq-2");
+    }
+
+    @Test
+    public void subscribeToShard_retryableError_subscribesAgain() throws Exception {
+        stubFor(post(urlPathEqualTo("/")).inScenario("retry").whenScenarioStateIs(STARTED)
+                                         .willReturn(error("ResourceInUseException"))
+                                         .willSetStateTo("released"));
+        stubFor(post(urlPathEqualTo("/")).inScenario("retry").whenScenarioStateIs("released")
+                                         .willReturn(eventStream(event(null, 0))));
+
+        TestSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+        assertThat(subscriber.continuationSequenceNumbers()).containsExactly((String) null);
+        assertThat(findAll(postRequestedFor(urlPathEqualTo("/")))).hasSize(2);
+    }
+
+    @Test
+    public void subscribeToShard_nonRetryableError_signalsErrorToSubscriber() {
+        stubFor(post(urlPathEqualTo("/")).willReturn(error("ResourceNotFoundException")));
+
+        TestSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completion.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThat(findAll(postRequestedFor(urlPathEqualTo("/")))).hasSize(1);
+    }
+
+    @Test
+    public void subscribeToShard_retryableErrorPersists_signalsErrorAfterMaxSubscribeAttempts() {
+        stubFor(post(urlPathEqualTo("/")).willReturn(error("ResourceInUseException")));
+        AtomicInteger subscribeCalls = new AtomicInteger();
+        useClient(countingInterceptor(subscribeCalls, null));
+        manager = managerBuilder().maxSubscribeAttempts(3).build();
+
+        TestSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completion.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(ResourceInUseException.class);
+        assertThat(subscribeCalls).hasValue(3);
+    }
+
+    @Test
+    public void subscribeToShard_clientErrorNotCausedByIo_signalsErrorToSubscriber() {
+        AtomicInteger subscribeCalls = new AtomicInteger();
+        useClient(countingInterceptor(subscribeCalls, SdkClientException.create("Invalid request")));
+        manager = managerBuilder().build();
+
+        TestSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completion.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Invalid request");
+        assertThat(subscribeCalls).hasValue(1);
+    }
+
+    @Test
+    public void subscribeToShard_limitedDemand_deliversRequestedEventsOnly() throws Exception {
+        stubFor(post(urlPathEqualTo("/")).willReturn(eventStream(event("seq-1", 0), event("seq-2", 0), event(null, 0))));
+
+        TestSubscriber subscriber = subscribe(1);
+
+        Thread.sleep(500);
+        assertThat(subscriber.continuationSequenceNumbers()).containsExactly("seq-1");
+
+        subscriber.subscription.request(2);
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+        assertThat(subscriber.continuationSequenceNumbers()).containsExactly("seq-1", "seq-2", null);
+    }
+
+    @Test
+    public void subscribeToShard_eventReceived_reportsShardLag() throws Exception {
+        stubFor(post(urlPathEqualTo("/")).willReturn(eventStream(event(null, 1500))));
+
+        subscribe(Long.MAX_VALUE).completion.get(10, TimeUnit.SECONDS);
+
+        assertThat(metrics).singleElement().satisfies(m -> {
+            assertThat(m.metricValues(KinesisShardSubscriptionMetric.SHARD_ID)).containsExactly(SHARD_ID);
+            assertThat(m.metricValues(KinesisShardSubscriptionMetric.SHARD_LAG)).containsExactly(Duration.ofMillis(1500));
+            assertThat(m.metricValues(KinesisShardSubscriptionMetric.RECORD_COUNT)).containsExactly(1);
+            assertThat(m.metricValues(KinesisShardSubscriptionMetric.SUBSCRIPTION_COUNT)).containsExactly(1);
+        });
+    }
+
+    @Test
+    public void close_shardNotCompleted_signalsErrorToSubscriber() {
+        stubFor(post(urlPathEqualTo("/")).willReturn(eventStream(event("seq-1", 0)).withFixedDelay(5000)));
+
+        TestSubscriber subscriber = subscribe(Long.MAX_VALUE);
+        manager.close();
+
+        assertThatThrownBy(() -> subscriber.completion.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void subscribeToShard_subscribedTwice_signalsErrorToSecondSubscriber() throws Exception {
+        stubFor(post(urlPathEqualTo("/")).willReturn(eventStream(event(null, 0))));
+        TestSubscriber first = new TestSubscriber(Long.MAX_VALUE);
+        TestSubscriber second = new TestSubscriber(Long.MAX_VALUE);
+
+        SdkPublisher<SubscribeToShardEvent> publisher = manager.subscribeToShard(SHARD_ID,
+                                                                                 p -> p.type(ShardIteratorType.LATEST));
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        first.completion.get(10, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> second.completion.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private KinesisAsyncClientBuilder clientBuilder() {
+        return KinesisAsyncClient.builder()
+                                 .endpointOverride(endpoint)
+                                 .region(Region.US_WEST_2)
+                                 .credentialsProvider(StaticCredentialsProvider.create(
+                                     AwsBasicCredentials.create("akid", "skid")))
+                                 .httpClient(NettyNioAsyncHttpClient.builder().protocol(Protocol.HTTP1_1).build());
+    }
+
+    /**
+     * Replaces the client and closes the manager using the previous one, which the test must build again.
+     */
+    private void useClient(ExecutionInterceptor interceptor) {
+        manager.close();
+        client.close();
+        client = clientBuilder().overrideConfiguration(o -> o.addExecutionInterceptor(interceptor)).build();
+    }
+
+    /**
+     * Counts the {@code SubscribeToShard} calls made by the manager, excluding the retries of the client, and fails them with
+     * the given exception if not null.
+     */
+    private static ExecutionInterceptor countingInterceptor(AtomicInteger calls, RuntimeException failure) {
+        return new ExecutionInterceptor() {
+            @Override
+            public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+                calls.incrementAndGet();
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+        };
+    }
+
+    private KinesisShardSubscriptionManager.Builder managerBuilder() {
+        return KinesisShardSubscriptionManager.builder()
+                                              .client(client)
+                                              .consumerArn(CONSUMER_ARN)
+                                              .backoffStrategy(BackoffStrategy.fixedDelayWithoutJitter(Duration.ofMillis(10)))
+                                              .addMetricPublisher(new CollectingMetricPublisher(metrics));
+    }
+
+    private TestSubscriber subscribe(long initialDemand) {
+        TestSubscriber subscriber = new TestSubscriber(initialDemand);
+        manager.subscribeToShard(SHARD_ID, p -> p.type(ShardIteratorType.LATEST)).subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static String event(String continuationSequenceNumber, long millisBehindLatest) {
+        String continuation = continuationSequenceNumber == null
+                              ? "\"ChildShards\": [{\"ShardId\": \"shardId-000000000001\", \"ParentShards\": [\"" + SHARD_ID
+                                + "\"], \"HashKeyRange\": {\"StartingHashKey\": \"0\", \"EndingHashKey\": \"1\"}}]"
+                              : "\"ContinuationSequenceNumber\": \"" + continuationSequenceNumber + "\"";
+        return "{" + continuation + ", \"MillisBehindLatest\": " + millisBehindLatest + ","
+               + "\"Records\": [{\"SequenceNumber\": \"1\", \"Data\": \"Zm9vYmFy\", \"PartitionKey\": \"key\"}]}";
+    }
+
+    private static ResponseDefinitionBuilder eventStream(String... events) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        new Message(ImmutableMap.of(":message-type", HeaderValue.fromString("event"),
+                                    ":event-type", HeaderValue.fromString("initial-response")),
+                    new byte[0]).encode(body);
+        for (String event : events) {
+            new Message(ImmutableMap.of(":message-type", HeaderValue.fromString("event"),
+                                        ":event-type", HeaderValue.fromString("SubscribeToShardEvent")),
+                        event.getBytes(StandardCharsets.UTF_8)).encode(body);
+        }
+        return aResponse().withStatus(200).withBody(body.toByteArray());
+    }
+
+    private static ResponseDefinitionBuilder error(String errorType) {
+        return aResponse().withStatus(400).withHeader("x-amzn-ErrorType", errorType);
+    }
+
+    private static final class CollectingMetricPublisher implements MetricPublisher {
+        private final List<MetricCollection> metrics;
+
+        private CollectingMetricPublisher(List<MetricCollection> metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            metrics.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class TestSubscriber implements Subscriber<SubscribeToShardEvent> {
+        private final List<SubscribeToShardEvent> events = Collections.synchronizedList(new ArrayList<>());
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final long initialDemand;
+        private volatile Subscription subscription;
+
+        private TestSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            s.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(SubscribeToShardEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            completion.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+
+        private List<String> continuationSequenceNumbers() {
+            synchronized (events) {
+                return events.stream()
+                             .map(SubscribeToShardEvent::continuationSequenceNumber)
+                             .collect(Collectors.toList());
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.checksums;
+
+import static software.amazon.awssdk.utils.NumericUtils.longToByte;
+
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.checksums.internal.CrcCombineFunction;
+import software.amazon.awssdk.checksums.internal.SdkCrc32CChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc32Checksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc64NvmeChecksum;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+
+/**
+ * The checksum algorithms whose checksums of consecutive ranges of data can be combined into the checksum of all the data,
+ * without reading the data again.
+ */
+@SdkInternalApi
+public enum CombinableCrcAlgorithm {
+    CRC32(DefaultChecksumAlgorithm.CRC32, SdkCrc32Checksum::combine, Integer.BYTES),
+    CRC32C(DefaultChecksumAlgorithm.CRC32C, SdkCrc32CChecksum::combine, Integer.BYTES),
+    CRC64NVME(DefaultChecksumAlgorithm.CRC64NVME, SdkCrc64NvmeChecksum::combine, Long.BYTES);
+
+    private final software.amazon.awssdk.checksums.spi.ChecksumAlgorithm checksumAlgorithm;
+    private final CrcCombineFunction combineFunction;
+    private final int checksumSizeInBytes;
+
+    CombinableCrcAlgorithm(software.amazon.awssdk.checksums.spi.ChecksumAlgorithm checksumAlgorithm,
+                           CrcCombineFunction combineFunction, int checksumSizeInBytes) {
+        this.checksumAlgorithm = checksumAlgorithm;
+        this.combineFunction = combineFunction;
+        this.checksumSizeInBytes = checksumSizeInBytes;
+    }
+
+    /**
+     * Returns the combinable algorithm matching the given S3 checksum algorithm, or null if its checksums cannot be combined.
+     */
+    public static CombinableCrcAlgorithm fromChecksumAlgorithm(ChecksumAlgorithm checksumAlgorithm) {
+        if (checksumAlgorithm == null) {
+            return null;
+        }
+        switch (checksumAlgorithm) {
+            case CRC32:
+                return CRC32;
+            case CRC32_C:
+                return CRC32C;
+            case CRC64_NVME:
+                return CRC64NVME;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Creates a new checksum that calculates this algorithm.
+     */
+    public SdkChecksum newChecksum() {
+        return SdkChecksum.forAlgorithm(checksumAlgorithm);
+    }
+
+    /**
+     * Combines the checksum of some data with the checksum of the data that immediately follows it.
+     *
+     * @param checksum The checksum of the preceding data, or 0 if there is none.
+     * @param nextChecksum The checksum of the following data.
+     * @param nextLength The length of the following data, in bytes.
+     * @return The checksum of both ranges of data.
+     */
+    public long combine(long checksum, long nextChecksum, long nextLength) {
+        return combineFunction.combine(checksum, nextChecksum, nextLength);
+    }
+
+    /**
+     * Returns the big-endian bytes of the given checksum value, in the size S3 expects for this algorithm.
+     */
+    public byte[] toBytes(long checksum) {
+        byte[] bytes = longToByte(checksum);
+        return Arrays.copyOfRange(bytes, bytes.length - checksumSizeInBytes, bytes.length);
+    }
+}
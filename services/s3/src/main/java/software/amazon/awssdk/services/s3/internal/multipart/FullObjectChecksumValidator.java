@@ -0,0 +1,336 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.checksums.CombinableCrcAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Validates the full-object CRC checksum of a multipart download without reading the downloaded data a second time.
+ * <p>
+ * When the first part reports that the object has a {@link ChecksumType#FULL_OBJECT} checksum, the CRC of every part is
+ * calculated while its bytes are streamed to the part's {@link AsyncResponseTransformer}, and the full-object checksum is
+ * fetched with a {@code HeadObject} request sent alongside the remaining parts. Once all parts are complete, the part CRCs are
+ * combined in part order and compared with the full-object checksum. Only CRC32, CRC32C and CRC64NVME checksums can be
+ * combined; other objects are downloaded without this validation. This is a 'one-shot' class, it should <em>NOT</em> be
+ * reused for more than one multipart download.
+ */
+@SdkInternalApi
+public final class FullObjectChecksumValidator {
+    private static final Logger log = Logger.loggerFor(FullObjectChecksumValidator.class);
+
+    private final S3AsyncClient s3;
+    private final GetObjectRequest getObjectRequest;
+
+    /**
+     * False when resuming a download, since the CRCs of the parts completed before pausing are not known.
+     */
+    private final boolean enabled;
+
+    /**
+     * The CRCs calculated for each completed part, keyed by part number.
+     */
+    private final Map<Integer, PartChecksum> partChecksums = new ConcurrentHashMap<>();
+
+    /**
+     * True once the first part reported a full-object checksum.
+     */
+    private volatile boolean active;
+
+    /**
+     * The algorithm of the full-object checksum, or null while it is not known yet.
+     */
+    private volatile CombinableCrcAlgorithm algorithm;
+
+    /**
+     * The response of the {@code HeadObject} request carrying the full-object checksum, or null if it was not sent.
+     */
+    private volatile CompletableFuture<HeadObjectResponse> headObjectFuture;
+
+    public FullObjectChecksumValidator(S3AsyncClient s3, GetObjectRequest getObjectRequest, boolean enabled) {
+        this.s3 = s3;
+        this.getObjectRequest = getObjectRequest;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Wraps the transformer used for the given part so that the CRC of the part is calculated as its bytes are streamed.
+     */
+    public AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> wrap(
+        int partNumber, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer) {
+        if (!enabled) {
+            return transformer;
+        }
+        return new ChecksumCalculatingTransformer(partNumber, transformer);
+    }
+
+    /**
+     * Sends the {@code HeadObject} request for the full-object checksum once the first part of a multipart object completed,
+     * if that part reported a full-object checksum.
+     */
+    public void firstPartCompleted(GetObjectResponse firstPartResponse) {
+        if (!active || firstPartResponse.partsCount() == null || firstPartResponse.partsCount() <= 1) {
+            return;
+        }
+        HeadObjectRequest headObjectRequest =
+            HeadObjectRequest.builder()
+                             .bucket(getObjectRequest.bucket())
+                             .key(getObjectRequest.key())
+                             .versionId(getObjectRequest.versionId())
+                             .ifMatch(firstPartResponse.eTag())
+                             .expectedBucketOwner(getObjectRequest.expectedBucketOwner())
+                             .requestPayer(getObjectRequest.requestPayerAsString())
+                             .sseCustomerAlgorithm(getObjectRequest.sseCustomerAlgorithm())
+                             .sseCustomerKey(getObjectRequest.sseCustomerKey())
+                             .sseCustomerKeyMD5(getObjectRequest.sseCustomerKeyMD5())
+                             .checksumMode(ChecksumMode.ENABLED)
+                             .build();
+        log.debug(() -> "Sending HeadObjectRequest to retrieve the full object checksum");
+        headObjectFuture = s3.headObject(headObjectRequest);
+    }
+
+    /**
+     * Combines the CRCs of all parts and compares the result with the full-object checksum. The returned future completes
+     * exceptionally with an {@link SdkClientException} if the checksums do not match, and completes normally if they match or
+     * if the full-object checksum could not be validated.
+     */
+    public CompletableFuture<Void> validate(int totalParts) {
+        CompletableFuture<HeadObjectResponse> headFuture = headObjectFuture;
+        if (headFuture == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return headFuture.handle((headObjectResponse, error) -> {
+            if (error != null) {
+                log.debug(() -> "Skipping full object checksum validation, the full object checksum could not be retrieved",
+                          error);
+                return null;
+            }
+            return expectedChecksum(headObjectResponse);
+        }).thenCompose(expected -> {
+            if (expected == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return validate(expected, totalParts);
+        });
+    }
+
+    private CompletableFuture<Void> validate(ExpectedChecksum expected, int totalParts) {
+        long combined = 0;
+        for (int part = 1; part <= totalParts; part++) {
+            PartChecksum partChecksum = partChecksums.get(part);
+            Long crc = partChecksum == null ? null : partChecksum.values.get(expected.algorithm);
+            if (crc == null) {
+                int missingPart = part;
+                log.debug(() -> "Skipping full object checksum validation, no checksum was calculated for part " + missingPart);
+                return CompletableFuture.completedFuture(null);
+            }
+            combined = expected.algorithm.combine(combined, crc, partChecksum.length);
+        }
+
+        String actual = BinaryUtils.toBase64(expected.algorithm.toBytes(combined));
+        if (!actual.equals(expected.value)) {
+            return CompletableFutureUtils.failedFuture(SdkClientException.create(String.format(
+                "Full object checksum validation failed for the multipart download. The %s checksum of the downloaded parts "
+                + "was %s, but the object's checksum is %s.", expected.algorithm, actual, expected.value)));
+        }
+        log.debug(() -> String.format("Validated the full object %s checksum of %d parts", expected.algorithm, totalParts));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private ExpectedChecksum expectedChecksum(HeadObjectResponse headObjectResponse) {
+        if (headObjectResponse.checksumType() != ChecksumType.FULL_OBJECT) {
+            return null;
+        }
+        CombinableCrcAlgorithm knownAlgorithm = algorithm;
+        for (CombinableCrcAlgorithm candidate : CombinableCrcAlgorithm.values()) {
+            String value = headObjectChecksum(headObjectResponse, candidate);
+            if (value != null && (knownAlgorithm == null || knownAlgorithm == candidate)) {
+                algorithm = candidate;
+                return new ExpectedChecksum(candidate, value);
+            }
+        }
+        return null;
+    }
+
+    private void firstPartResponseReceived(GetObjectResponse response) {
+        if (response.checksumType() != ChecksumType.FULL_OBJECT) {
+            return;
+        }
+        active = true;
+        for (CombinableCrcAlgorithm candidate : CombinableCrcAlgorithm.values()) {
+            if (getObjectChecksum(response, candidate) != null) {
+                algorithm = candidate;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the algorithms to calculate for a part: the algorithm of the full-object checksum if it is known already, or all
+     * of them otherwise.
+     */
+    private Set<CombinableCrcAlgorithm> algorithmsToCalculate() {
+        if (!active) {
+            return Collections.emptySet();
+        }
+        CombinableCrcAlgorithm knownAlgorithm = algorithm;
+        return knownAlgorithm == null ? EnumSet.allOf(CombinableCrcAlgorithm.class) : EnumSet.of(knownAlgorithm);
+    }
+
+    private final class ChecksumCalculatingTransformer
+        implements AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> {
+        private final int partNumber;
+        private final AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> delegate;
+        private volatile Map<CombinableCrcAlgorithm, SdkChecksum> checksums;
+        private final AtomicLong length = new AtomicLong();
+
+        private ChecksumCalculatingTransformer(int partNumber,
+                                               AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> delegate) {
+            this.partNumber = partNumber;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletableFuture<GetObjectResponse> prepare() {
+            // prepare is called again for each retry of the part, so the checksums are recalculated from scratch
+            checksums = null;
+            length.set(0);
+            CompletableFuture<GetObjectResponse> future = delegate.prepare();
+            CompletableFuture<GetObjectResponse> result = future.thenApply(response -> {
+                recordChecksums();
+                return response;
+            });
+            return CompletableFutureUtils.forwardExceptionTo(result, future);
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+            if (partNumber == 1) {
+                firstPartResponseReceived(response);
+            }
+            Set<CombinableCrcAlgorithm> algorithms = algorithmsToCalculate();
+            if (!algorithms.isEmpty()) {
+                Map<CombinableCrcAlgorithm, SdkChecksum> partChecksums = new EnumMap<>(CombinableCrcAlgorithm.class);
+                algorithms.forEach(a -> partChecksums.put(a, a.newChecksum()));
+                checksums = partChecksums;
+            }
+            delegate.onResponse(response);
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            Map<CombinableCrcAlgorithm, SdkChecksum> partChecksums = checksums;
+            if (partChecksums == null) {
+                delegate.onStream(publisher);
+                return;
+            }
+            delegate.onStream(publisher.map(byteBuffer -> {
+                partChecksums.values().forEach(checksum -> checksum.update(byteBuffer.duplicate()));
+                length.addAndGet(byteBuffer.remaining());
+                return byteBuffer;
+            }));
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            delegate.exceptionOccurred(error);
+        }
+
+        @Override
+        public String name() {
+            return delegate.name();
+        }
+
+        private void recordChecksums() {
+            Map<CombinableCrcAlgorithm, SdkChecksum> calculated = checksums;
+            if (calculated == null) {
+                return;
+            }
+            Map<CombinableCrcAlgorithm, Long> values = new EnumMap<>(CombinableCrcAlgorithm.class);
+            calculated.forEach((a, checksum) -> values.put(a, checksum.getValue()));
+            partChecksums.put(partNumber, new PartChecksum(values, length.get()));
+        }
+    }
+
+    private static final class PartChecksum {
+        private final Map<CombinableCrcAlgorithm, Long> values;
+        private final long length;
+
+        private PartChecksum(Map<CombinableCrcAlgorithm, Long> values, long length) {
+            this.values = values;
+            this.length = length;
+        }
+    }
+
+    private static final class ExpectedChecksum {
+        private final CombinableCrcAlgorithm algorithm;
+        private final String value;
+
+        private ExpectedChecksum(CombinableCrcAlgorithm algorithm, String value) {
+            this.algorithm = algorithm;
+            this.value = value;
+        }
+    }
+
+    private static String getObjectChecksum(GetObjectResponse response, CombinableCrcAlgorithm algorithm) {
+        switch (algorithm) {
+            case CRC32:
+                return response.checksumCRC32();
+            case CRC32C:
+                return response.checksumCRC32C();
+            case CRC64NVME:
+                return response.checksumCRC64NVME();
+            default:
+                throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
+
+    private static String headObjectChecksum(HeadObjectResponse response, CombinableCrcAlgorithm algorithm) {
+        switch (algorithm) {
+            case CRC32:
+                return response.checksumCRC32();
+            case CRC32C:
+                return response.checksumCRC32C();
+            case CRC64NVME:
+                return response.checksumCRC64NVME();
+            default:
+                throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
+}
@@ -92,6 +92,11 @@ public class MultipartDownloaderSubscriber implements Subscriber<AsyncResponseTr
      */
     private final Queue<CompletableFuture<GetObjectResponse>> getObjectFutures = new ConcurrentLinkedQueue<>();
 
+    /**
+     * Validates the full-object checksum of the object from the checksums of the individual parts.
+     */
+    private final FullObjectChecksumValidator checksumValidator;
+
     public MultipartDownloaderSubscriber(S3AsyncClient s3, GetObjectRequest getObjectRequest) {
         this(s3, getObjectRequest, 0);
     }
@@ -101,6 +106,7 @@ public class MultipartDownloaderSubscriber implements Subscriber<AsyncResponseTr
         this.getObjectRequest = getObjectRequest;
         this.completedParts = new AtomicInteger(completedParts);
         this.getObjectCallCount = new AtomicInteger(completedParts);
+        this.checksumValidator = new FullObjectChecksumValidator(s3, getObjectRequest, completedParts == 0);
     }
 
     @Override
@@ -132,7 +138,8 @@ public class MultipartDownloaderSubscriber implements Subscriber<AsyncResponseTr
 
         GetObjectRequest actualRequest = nextRequest(nextPartToGet);
         log.debug(() -> "Sending GetObjectRequest for next part with partNumber=" + nextPartToGet);
-        CompletableFuture<GetObjectResponse> getObjectFuture = s3.getObject(actualRequest, asyncResponseTransformer);
+        CompletableFuture<GetObjectResponse> getObjectFuture =
+            s3.getObject(actualRequest, checksumValidator.wrap(nextPartToGet, asyncResponseTransformer));
         getObjectCallCount.incrementAndGet();
         getObjectFutures.add(getObjectFuture);
         getObjectFuture.whenComplete((response, error) -> {
@@ -168,6 +175,7 @@ public class MultipartDownloaderSubscriber implements Subscriber<AsyncResponseTr
             MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
                                   .ifPresent(ctx -> ctx.totalParts(partCount));
             totalParts = partCount;
+            checksumValidator.firstPartCompleted(response);
         }
 
         synchronized (lock) {
@@ -175,12 +183,25 @@ public class MultipartDownloaderSubscriber implements Subscriber<AsyncResponseTr
                 subscription.request(1);
             } else {
                 validatePartsCount();
-                log.debug(() -> String.format("Completing multipart download after a total of %d parts downloaded.", totalParts));
-                subscription.cancel();
+                completeAfterChecksumValidation();
             }
         }
     }
 
+    private void completeAfterChecksumValidation() {
+        int partsToValidate = totalParts == null ? 1 : totalParts;
+        checksumValidator.validate(partsToValidate).whenComplete((r, t) -> {
+            if (t != null) {
+                handleError(t);
+            }
+            synchronized (lock) {
+                log.debug(() -> String.format("Completing multipart download after a total of %d parts downloaded.",
+                                              totalParts));
+                subscription.cancel();
+            }
+        });
+    }
+
     @Override
     public void onError(Throwable t) {
         handleError(t);
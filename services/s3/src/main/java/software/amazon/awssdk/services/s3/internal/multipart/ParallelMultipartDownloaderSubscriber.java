@@ -151,6 +151,11 @@ public class ParallelMultipartDownloaderSubscriber
      */
     private final Set<Integer> initialCompletedParts;
 
+    /**
+     * Validates the full-object checksum of the object from the checksums of the individual parts.
+     */
+    private final FullObjectChecksumValidator checksumValidator;
+
     public ParallelMultipartDownloaderSubscriber(S3AsyncClient s3,
                                                  GetObjectRequest getObjectRequest,
                                                  CompletableFuture<GetObjectResponse> resultFuture,
@@ -161,6 +166,7 @@ public class ParallelMultipartDownloaderSubscriber
         this.maxInFlightParts = maxInFlightParts;
         this.initialCompletedParts = initialCompletedParts(getObjectRequest);
         this.completedParts = new AtomicInteger(initialCompletedParts.size());
+        this.checksumValidator = new FullObjectChecksumValidator(s3, getObjectRequest, initialCompletedParts.isEmpty());
 
         if (resumingDownload()) {
             int totalPartsFromInitialRequest = MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
@@ -259,7 +265,8 @@ public class ParallelMultipartDownloaderSubscriber
         GetObjectRequest request = nextRequest(currentPartNumber);
         log.debug(() -> "Sending next request for part: " + currentPartNumber);
 
-        CompletableFuture<GetObjectResponse> response = s3.getObject(request, asyncResponseTransformer);
+        CompletableFuture<GetObjectResponse> response =
+            s3.getObject(request, checksumValidator.wrap(currentPartNumber, asyncResponseTransformer));
 
         inFlightRequests.put(currentPartNumber, response);
         CompletableFutureUtils.forwardExceptionTo(resultFuture, response);
@@ -283,7 +290,13 @@ public class ParallelMultipartDownloaderSubscriber
                     resultFuture.completeExceptionally(new IllegalStateException("Total parts exceeded"));
                 } else {
                     updateResumeContextForCompletion(res);
-                    resultFuture.complete(getObjectResponse);
+                    checksumValidator.validate(totalParts).whenComplete((r, t) -> {
+                        if (t != null) {
+                            resultFuture.completeExceptionally(t);
+                        } else {
+                            resultFuture.complete(getObjectResponse);
+                        }
+                    });
                 }
 
                 synchronized (subscriptionLock) {
@@ -310,7 +323,8 @@ public class ParallelMultipartDownloaderSubscriber
     private void sendFirstRequest(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
         log.debug(() -> "Sending first request");
         GetObjectRequest request = nextRequest(1);
-        CompletableFuture<GetObjectResponse> responseFuture = s3.getObject(request, asyncResponseTransformer);
+        CompletableFuture<GetObjectResponse> responseFuture =
+            s3.getObject(request, checksumValidator.wrap(1, asyncResponseTransformer));
 
         // Propagate cancellation from user
         CompletableFutureUtils.forwardExceptionTo(resultFuture, responseFuture);
@@ -333,6 +347,7 @@ public class ParallelMultipartDownloaderSubscriber
 
             log.debug(() -> "Multipart object detected, performing multipart download");
             getObjectResponse = res;
+            checksumValidator.firstPartCompleted(res);
 
             processPendingTransformers(res.partsCount());
             MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
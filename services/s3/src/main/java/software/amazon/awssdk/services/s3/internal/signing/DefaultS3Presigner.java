@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -150,6 +151,7 @@ import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.Validate;
 
 /**
@@ -162,6 +164,12 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
     private static final String SERVICE_NAME = "s3";
     private static final String SIGNING_NAME = "s3";
 
+    /**
+     * How long a prepared request is reused by {@link #presignGetObjects(Stream)} before it is prepared again, so that
+     * refreshed credentials are picked up.
+     */
+    private static final Duration MAX_PREPARED_REQUEST_AGE = Duration.ofMinutes(1);
+
     private final S3Configuration serviceConfiguration;
     private final List<ExecutionInterceptor> clientInterceptors;
     private final GetObjectRequestMarshaller getObjectRequestMarshaller;
@@ -302,6 +310,53 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
             .build();
     }
 
+    @Override
+    public Stream<PresignedGetObjectRequest> presignGetObjects(Stream<GetObjectPresignRequest> requests) {
+        Map<Pair<GetObjectRequest, Duration>, PreparedRequest> preparedRequests = new ConcurrentHashMap<>();
+        return requests.map(request -> presignGetObject(request, preparedRequests));
+    }
+
+    /**
+     * Presign a {@link GetObjectRequest} that is part of a {@link #presignGetObjects(Stream)} call. The request is prepared,
+     * i.e. intercepted, marshalled and its auth scheme and endpoint resolved, once for all requests that only differ by their
+     * key. Each request then only marshals its own path, which is signed with the identity and signer properties of the
+     * prepared request. The signing key derived from the credentials is not cached here, since the SigV4 signer already
+     * caches it per credentials, region and service, for the signing day.
+     */
+    private PresignedGetObjectRequest presignGetObject(GetObjectPresignRequest request,
+                                                       Map<Pair<GetObjectRequest, Duration>, PreparedRequest> preparedRequests) {
+        GetObjectRequest getObjectRequest = request.getObjectRequest();
+        if (getObjectRequest.overrideConfiguration().isPresent()) {
+            return presignGetObject(request);
+        }
+
+        Instant signingInstant = Instant.now();
+        Clock signingClock = Clock.fixed(signingInstant, ZoneOffset.UTC);
+        Duration expirationDuration = request.signatureDuration();
+        Instant expiration = signingInstant.plus(expirationDuration);
+
+        Pair<GetObjectRequest, Duration> group = Pair.of(getObjectRequest.toBuilder().key(null).build(), expirationDuration);
+        PreparedRequest preparedRequest = preparedRequests.get(group);
+        if (preparedRequest == null || preparedRequest.isOlderThan(signingInstant.minus(MAX_PREPARED_REQUEST_AGE))) {
+            preparedRequest = prepare(getObjectRequest, GetObjectRequest.class, getObjectRequestMarshaller::marshall,
+                                      "GetObject", expiration, signingClock);
+            preparedRequests.put(group, preparedRequest);
+        }
+
+        String marshalledPath = getObjectRequestMarshaller.marshall(getObjectRequest).encodedPath();
+        Optional<SdkHttpFullRequest> httpRequest = preparedRequest.withMarshalledPath(marshalledPath);
+        if (!httpRequest.isPresent()) {
+            return presignGetObject(request);
+        }
+
+        SdkHttpFullRequest signedHttpRequest = sign(preparedRequest.execCtx, httpRequest.get(), signingClock,
+                                                    expirationDuration);
+
+        PresignedGetObjectRequest.Builder presignedRequest = PresignedGetObjectRequest.builder();
+        initializePresignedRequest(presignedRequest, signedHttpRequest, expiration);
+        return presignedRequest.build();
+    }
+
     @Override
     public PresignedHeadObjectRequest presignHeadObject(HeadObjectPresignRequest request) {
         return presign(PresignedHeadObjectRequest.builder(),
@@ -411,11 +466,33 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         Duration expirationDuration = presignRequest.signatureDuration();
         Instant expiration = signingInstant.plus(expirationDuration);
 
+        PreparedRequest preparedRequest = prepare(requestToPresign, requestToPresignType, requestMarshaller, operationName,
+                                                  expiration, signingClock);
+
+        SdkHttpFullRequest signedHttpRequest = sign(preparedRequest.execCtx, preparedRequest.httpRequest, signingClock,
+                                                    expirationDuration);
+
+        initializePresignedRequest(presignedRequest, signedHttpRequest, expiration);
+
+        return presignedRequest;
+    }
+
+    /**
+     * Run the interceptors, marshal the request and resolve its auth scheme and endpoint, returning the HTTP request that
+     * should be pre-signed.
+     */
+    private <U> PreparedRequest prepare(SdkRequest requestToPresign,
+                                        Class<U> requestToPresignType,
+                                        Function<U, SdkHttpFullRequest> requestMarshaller,
+                                        String operationName,
+                                        Instant expiration,
+                                        Clock signingClock) {
         ExecutionContext execCtx =
             invokeInterceptorsAndCreateExecutionContext(requestToPresign, operationName, expiration, signingClock);
 
         callBeforeMarshallingHooks(execCtx);
         marshalRequestAndUpdateContext(execCtx, requestToPresignType, requestMarshaller);
+        String marshalledPath = execCtx.interceptorContext().httpRequest().encodedPath();
         callAfterMarshallingHooks(execCtx);
         addRequestLevelHeadersAndQueryParameters(execCtx);
         callModifyHttpRequestHooksAndUpdateContext(execCtx);
@@ -426,15 +503,17 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         // Resolve endpoint
         resolveEndpointAndUpdateContext(execCtx, operationName);
 
-        SdkHttpFullRequest httpRequest = getHttpFullRequest(execCtx);
-
-        SdkHttpFullRequest signedHttpRequest = execCtx.signer() != null
-                                               ? presignRequest(execCtx, httpRequest)
-                                               : sraPresignRequest(execCtx, httpRequest, signingClock, expirationDuration);
-
-        initializePresignedRequest(presignedRequest, signedHttpRequest, expiration);
+        return new PreparedRequest(execCtx, marshalledPath, getHttpFullRequest(execCtx), signingClock.instant());
+    }
 
-        return presignedRequest;
+    /**
+     * Presign the provided HTTP request with either the signer configured on the request or the selected auth scheme.
+     */
+    private SdkHttpFullRequest sign(ExecutionContext execCtx, SdkHttpFullRequest httpRequest, Clock signingClock,
+                                    Duration expirationDuration) {
+        return execCtx.signer() != null
+               ? presignRequest(execCtx, httpRequest)
+               : sraPresignRequest(execCtx, httpRequest, signingClock, expirationDuration);
     }
 
     /**
@@ -850,6 +929,42 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         return new UseGlobalEndpointResolver(config);
     }
 
+    /**
+     * An HTTP request that was intercepted, marshalled, and had its auth scheme and endpoint resolved, ready to be signed.
+     */
+    private static final class PreparedRequest {
+        private final ExecutionContext execCtx;
+        private final String marshalledPath;
+        private final SdkHttpFullRequest httpRequest;
+        private final Instant preparedAt;
+
+        private PreparedRequest(ExecutionContext execCtx, String marshalledPath, SdkHttpFullRequest httpRequest,
+                                Instant preparedAt) {
+            this.execCtx = execCtx;
+            this.marshalledPath = marshalledPath;
+            this.httpRequest = httpRequest;
+            this.preparedAt = preparedAt;
+        }
+
+        private boolean isOlderThan(Instant instant) {
+            return preparedAt.isBefore(instant);
+        }
+
+        /**
+         * Returns this HTTP request with the path it was marshalled with replaced by another marshalled path, or empty if the
+         * request was signed with a signer configured on the request, or if the marshalled path can no longer be found
+         * after the interceptors and endpoint resolution modified the request.
+         */
+        private Optional<SdkHttpFullRequest> withMarshalledPath(String otherMarshalledPath) {
+            String path = httpRequest.encodedPath();
+            if (execCtx.signer() != null || !path.endsWith(marshalledPath)) {
+                return Optional.empty();
+            }
+            String endpointPath = path.substring(0, path.length() - marshalledPath.length());
+            return Optional.of(httpRequest.toBuilder().encodedPath(endpointPath + otherMarshalledPath).build());
+        }
+    }
+
     @SdkInternalApi
     public static final class Builder extends DefaultSdkPresigner.Builder<Builder>
         implements S3Presigner.Builder {
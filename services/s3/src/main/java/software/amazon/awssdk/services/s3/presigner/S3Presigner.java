@@ -18,6 +18,7 @@ package software.amazon.awssdk.services.s3.presigner;
 import java.net.URI;
 import java.net.URLConnection;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -349,6 +350,46 @@ public interface S3Presigner extends SdkPresigner {
         return presignGetObject(builder.build());
     }
 
+    /**
+     * Presign a stream of {@link GetObjectRequest}s, such as requests for many keys in the same bucket, so that they can be
+     * executed at a later time without requiring additional signing or authentication.
+     * <p/>
+     * The returned stream is lazy: each request is presigned when the returned stream is consumed. Requests that only differ
+     * by their key and share the same signature duration are resolved together: the interceptors, auth scheme, identity and
+     * endpoint of the first such request are reused for the others, so that only the path, canonical request and signature
+     * are computed for each key. Requests with an override configuration are presigned one by one, like with
+     * {@link #presignGetObject(GetObjectPresignRequest)}.
+     * <p/>
+     * Each presigned request is signed at the time it is presigned, and expires after its own signature duration. If the
+     * provided stream is parallel, the requests are presigned in parallel, on the stream's fork-join pool.
+     *
+     * <p/>
+     * <b>Example Usage</b>
+     * <p/>
+     *
+     * <pre>
+     * {@code
+     *     S3Presigner presigner = ...;
+     *     List<String> keys = ...;
+     *
+     *     List<URL> urls =
+     *         presigner.presignGetObjects(keys.parallelStream().map(key -> GetObjectPresignRequest.builder()
+     *                                                                       .signatureDuration(Duration.ofMinutes(10))
+     *                                                                       .getObjectRequest(r -> r.bucket("my-bucket")
+     *                                                                                               .key(key))
+     *                                                                       .build()))
+     *                  .map(PresignedGetObjectRequest::url)
+     *                  .collect(Collectors.toList());
+     * }
+     * </pre>
+     *
+     * @param requests the requests to presign
+     * @return a stream of the presigned requests, in the order of the provided requests
+     */
+    default Stream<PresignedGetObjectRequest> presignGetObjects(Stream<GetObjectPresignRequest> requests) {
+        return requests.map(this::presignGetObject);
+    }
+
     /**
      * Presign a {@link HeadObjectRequest} so that it can be executed at a later time without requiring additional
      * signing or authentication.
@@ -29,7 +29,12 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -54,6 +59,7 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.RequestPayer;
 import software.amazon.awssdk.services.s3.model.SessionCredentials;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedDeleteObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedHeadBucketRequest;
@@ -130,6 +136,119 @@ public class S3PresignerTest {
         assertThat(presigned.signedPayload()).isEmpty();
     }
 
+    @Test
+    public void presignGetObjects_keysInSameBucket_matchPresignGetObject() {
+        List<String> keys = Arrays.asList("bar", "foo/bar baz", "foo%2Fbar", "/leading-slash", "\u00fcber/k\u00e9y+1");
+
+        List<PresignedGetObjectRequest> presigned =
+            presigner.presignGetObjects(keys.stream().map(key -> getObjectPresignRequest("foo34343434", key)))
+                     .collect(Collectors.toList());
+
+        assertThat(presigned).hasSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertSamePresignedRequest(presigned.get(i),
+                                       presigner.presignGetObject(getObjectPresignRequest("foo34343434", keys.get(i))));
+        }
+    }
+
+    @Test
+    public void presignGetObjects_keysInSameBucket_prepareRequestOnce() {
+        AtomicInteger credentialResolutions = new AtomicInteger();
+        S3Presigner countingPresigner =
+            presignerBuilder().credentialsProvider(() -> {
+                credentialResolutions.incrementAndGet();
+                return AwsBasicCredentials.create("x", "x");
+            }).build();
+        List<String> keys = IntStream.range(0, 10).mapToObj(i -> "key-" + i).collect(Collectors.toList());
+
+        List<PresignedGetObjectRequest> presigned =
+            countingPresigner.presignGetObjects(keys.stream().map(key -> getObjectPresignRequest("foo34343434", key)))
+                             .collect(Collectors.toList());
+
+        assertThat(presigned).hasSize(keys.size());
+        assertThat(credentialResolutions).hasValue(1);
+
+        countingPresigner.presignGetObject(getObjectPresignRequest("foo34343434", "key-0"));
+        assertThat(credentialResolutions).hasValue(2);
+    }
+
+    @Test
+    public void presignGetObjects_pathStyleAccess_matchPresignGetObject() {
+        S3Presigner pathStylePresigner =
+            presignerBuilder().serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build()).build();
+        List<String> keys = Arrays.asList("bar", "foo/bar baz");
+
+        List<PresignedGetObjectRequest> presigned =
+            pathStylePresigner.presignGetObjects(keys.stream().map(key -> getObjectPresignRequest("foo34343434", key)))
+                              .collect(Collectors.toList());
+
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(presigned.get(i).url().getPath()).isEqualTo("/foo34343434/" + keys.get(i).replace(" ", "%20"));
+            assertSamePresignedRequest(presigned.get(i),
+                                       pathStylePresigner.presignGetObject(getObjectPresignRequest("foo34343434",
+                                                                                                   keys.get(i))));
+        }
+    }
+
+    @Test
+    public void presignGetObjects_differentBucketsDurationsAndParameters_matchPresignGetObject() {
+        List<GetObjectPresignRequest> requests = Arrays.asList(
+            getObjectPresignRequest("bucket-a", "key1"),
+            getObjectPresignRequest("bucket-b", "key1"),
+            getObjectPresignRequest("bucket-a", "key2"),
+            getObjectPresignRequest("bucket-a", "key3").toBuilder().signatureDuration(Duration.ofHours(1)).build(),
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(r -> r.bucket("bucket-a").key("key4").responseContentType("text/plain"))
+                                   .build(),
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(r -> r.bucket("bucket-a").key("key5").requestPayer(RequestPayer.REQUESTER))
+                                   .build());
+
+        List<PresignedGetObjectRequest> presigned = presigner.presignGetObjects(requests.stream())
+                                                             .collect(Collectors.toList());
+
+        for (int i = 0; i < requests.size(); i++) {
+            assertSamePresignedRequest(presigned.get(i), presigner.presignGetObject(requests.get(i)));
+        }
+        assertThat(presigned.get(3).expiration()).isAfter(presigned.get(2).expiration().plus(Duration.ofMinutes(50)));
+        assertThat(presigned.get(5).isBrowserExecutable()).isFalse();
+    }
+
+    @Test
+    public void presignGetObjects_requestWithOverrideConfiguration_usesOverrideConfiguration() {
+        AwsCredentials requestCredentials = AwsBasicCredentials.create("a", "a");
+        GetObjectPresignRequest request =
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(r -> r.bucket("foo34343434")
+                                                           .key("bar")
+                                                           .overrideConfiguration(
+                                                               c -> c.credentialsProvider(() -> requestCredentials)))
+                                   .build();
+
+        List<PresignedGetObjectRequest> presigned =
+            presigner.presignGetObjects(Stream.of(getObjectPresignRequest("foo34343434", "baz"), request))
+                     .collect(Collectors.toList());
+
+        assertThat(presigned.get(0).httpRequest().rawQueryParameters().get("X-Amz-Credential").get(0)).startsWith("x/");
+        assertThat(presigned.get(1).httpRequest().rawQueryParameters().get("X-Amz-Credential").get(0)).startsWith("a/");
+    }
+
+    @Test
+    public void presignGetObjects_parallelStream_preservesOrder() {
+        List<String> keys = IntStream.range(0, 1000).mapToObj(i -> "key-" + i).collect(Collectors.toList());
+
+        List<PresignedGetObjectRequest> presigned =
+            presigner.presignGetObjects(keys.parallelStream().map(key -> getObjectPresignRequest("foo34343434", key)))
+                     .collect(Collectors.toList());
+
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(presigned.get(i).url().getPath()).isEqualTo("/" + keys.get(i));
+        }
+    }
+
     @Test
     public void getObject_RequesterPaysIsNotUrlCompatible() {
         PresignedGetObjectRequest presigned =
@@ -1037,6 +1156,34 @@ public class S3PresignerTest {
                           .build();
     }
 
+    private static GetObjectPresignRequest getObjectPresignRequest(String bucket, String key) {
+        return GetObjectPresignRequest.builder()
+                                      .signatureDuration(Duration.ofMinutes(5))
+                                      .getObjectRequest(r -> r.bucket(bucket).key(key))
+                                      .build();
+    }
+
+    /**
+     * Asserts that two presigned requests are the same, except for their signature if they were not signed in the same second.
+     */
+    private static void assertSamePresignedRequest(PresignedGetObjectRequest actual, PresignedGetObjectRequest expected) {
+        assertThat(withoutSigningTime(actual)).isEqualTo(withoutSigningTime(expected));
+        assertThat(actual.isBrowserExecutable()).isEqualTo(expected.isBrowserExecutable());
+        assertThat(actual.signedHeaders()).isEqualTo(expected.signedHeaders());
+        if (actual.httpRequest().firstMatchingRawQueryParameter("X-Amz-Date")
+                  .equals(expected.httpRequest().firstMatchingRawQueryParameter("X-Amz-Date"))) {
+            assertThat(actual.url()).isEqualTo(expected.url());
+        }
+    }
+
+    private static URI withoutSigningTime(PresignedGetObjectRequest presigned) {
+        return presigned.httpRequest().toBuilder()
+                        .removeQueryParameter("X-Amz-Date")
+                        .removeQueryParameter("X-Amz-Signature")
+                        .build()
+                        .getUri();
+    }
+
     private CreateSessionResponse createS3ExpressSessionResponse() {
         return CreateSessionResponse.builder()
                                     .credentials(SessionCredentials.builder()
@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.services.s3.internal.checksums.CombinableCrcAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+
+class CombinableCrcAlgorithmTest {
+    private static final byte[] FIRST = "The quick brown fox ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SECOND = "jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+
+    @ParameterizedTest
+    @EnumSource(CombinableCrcAlgorithm.class)
+    void combine_consecutiveRanges_matchesChecksumOfAllData(CombinableCrcAlgorithm algorithm) {
+        SdkChecksum whole = algorithm.newChecksum();
+        whole.update(FIRST);
+        whole.update(SECOND);
+
+        long combined = algorithm.combine(algorithm.combine(0, checksum(algorithm, FIRST), FIRST.length),
+                                          checksum(algorithm, SECOND), SECOND.length);
+
+        assertThat(algorithm.toBytes(combined)).isEqualTo(whole.getChecksumBytes());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ChecksumAlgorithm.class)
+    void fromChecksumAlgorithm_onlyCrcAlgorithmsAreCombinable(ChecksumAlgorithm checksumAlgorithm) {
+        CombinableCrcAlgorithm algorithm = CombinableCrcAlgorithm.fromChecksumAlgorithm(checksumAlgorithm);
+
+        switch (checksumAlgorithm) {
+            case CRC32:
+                assertThat(algorithm).isEqualTo(CombinableCrcAlgorithm.CRC32);
+                break;
+            case CRC32_C:
+                assertThat(algorithm).isEqualTo(CombinableCrcAlgorithm.CRC32C);
+                break;
+            case CRC64_NVME:
+                assertThat(algorithm).isEqualTo(CombinableCrcAlgorithm.CRC64NVME);
+                break;
+            default:
+                assertThat(algorithm).isNull();
+        }
+    }
+
+    private static long checksum(CombinableCrcAlgorithm algorithm, byte[] data) {
+        SdkChecksum checksum = algorithm.newChecksum();
+        checksum.update(data);
+        return checksum.getValue();
+    }
+}
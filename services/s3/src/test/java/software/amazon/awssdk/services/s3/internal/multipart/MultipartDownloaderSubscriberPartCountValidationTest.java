@@ -19,7 +19,6 @@ package software.amazon.awssdk.services.s3.internal.multipart;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -70,7 +69,7 @@ public class MultipartDownloaderSubscriberPartCountValidationTest {
         CompletableFuture<GetObjectResponse> future2 = CompletableFuture.completedFuture(response2);
         CompletableFuture<GetObjectResponse> future3 = CompletableFuture.completedFuture(response3);
 
-        when(s3Client.getObject(any(GetObjectRequest.class), eq(responseTransformer)))
+        when(s3Client.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
             .thenReturn(future1, future2, future3);
 
         subscriber.onSubscribe(subscription);
@@ -91,7 +90,7 @@ public class MultipartDownloaderSubscriberPartCountValidationTest {
 
         CompletableFuture<GetObjectResponse> future1 = CompletableFuture.completedFuture(response1);
 
-        when(s3Client.getObject(any(GetObjectRequest.class), eq(responseTransformer)))
+        when(s3Client.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
             .thenReturn(future1);
 
         subscriber.onSubscribe(subscription);
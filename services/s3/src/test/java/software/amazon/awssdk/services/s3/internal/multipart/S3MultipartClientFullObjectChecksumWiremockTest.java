@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.headRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.services.s3.internal.multipart.utils.MultipartDownloadTestUtils.contentRangeHeader;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.utils.AsyncResponseTransformerTestSupplier;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+@WireMockTest
+class S3MultipartClientFullObjectChecksumWiremockTest {
+    private static final String BUCKET = "Example-Bucket";
+    private static final String KEY = "Key";
+    private static final String ETAG = "test-etag";
+    private static final int PART_COUNT = 4;
+    private static final int PART_SIZE = 1024;
+
+    private final Random random = new Random();
+    private S3AsyncClient multipartClient;
+
+    @BeforeEach
+    void setup(WireMockRuntimeInfo wm) {
+        wm.getWireMock().resetRequests();
+        wm.getWireMock().resetMappings();
+        multipartClient = S3AsyncClient.builder()
+                                       .region(Region.US_EAST_1)
+                                       .endpointOverride(URI.create(wm.getHttpBaseUrl()))
+                                       .forcePathStyle(true)
+                                       .multipartEnabled(true)
+                                       .credentialsProvider(StaticCredentialsProvider.create(
+                                           AwsBasicCredentials.create("key", "secret")))
+                                       .build();
+    }
+
+    static List<AsyncResponseTransformerTestSupplier<?>> transformers() {
+        return Arrays.asList(new AsyncResponseTransformerTestSupplier.ByteTestArtSupplier(),
+                             new AsyncResponseTransformerTestSupplier.FileArtSupplier());
+    }
+
+    @ParameterizedTest
+    @MethodSource("transformers")
+    <T> void fullObjectChecksumMatches_shouldCompleteSuccessfully(AsyncResponseTransformerTestSupplier<T> supplier) {
+        byte[] expectedBody = stubParts("FULL_OBJECT");
+        stubHeadObject("FULL_OBJECT", crc32c(expectedBody));
+
+        T response = multipartClient.getObject(b -> b.bucket(BUCKET).key(KEY), supplier.transformer()).join();
+
+        assertThat(supplier.body(response)).isEqualTo(expectedBody);
+        verify(headRequestedFor(urlEqualTo(String.format("/%s/%s", BUCKET, KEY)))
+                   .withHeader("x-amz-checksum-mode", equalTo("ENABLED"))
+                   .withHeader("If-Match", equalTo(ETAG)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("transformers")
+    <T> void fullObjectChecksumMismatch_shouldFailWithSdkClientException(AsyncResponseTransformerTestSupplier<T> supplier) {
+        byte[] expectedBody = stubParts("FULL_OBJECT");
+        byte[] otherBody = Arrays.copyOf(expectedBody, expectedBody.length);
+        otherBody[PART_SIZE + 1] ^= 1;
+        stubHeadObject("FULL_OBJECT", crc32c(otherBody));
+
+        assertThatThrownBy(() -> {
+            T response = multipartClient.getObject(b -> b.bucket(BUCKET).key(KEY), supplier.transformer()).join();
+            supplier.body(response);
+        }).isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(SdkClientException.class)
+          .hasMessageContaining("Full object checksum validation failed");
+    }
+
+    @ParameterizedTest
+    @MethodSource("transformers")
+    <T> void compositeChecksum_shouldNotRetrieveFullObjectChecksum(AsyncResponseTransformerTestSupplier<T> supplier) {
+        byte[] expectedBody = stubParts("COMPOSITE");
+
+        T response = multipartClient.getObject(b -> b.bucket(BUCKET).key(KEY), supplier.transformer()).join();
+
+        assertThat(supplier.body(response)).isEqualTo(expectedBody);
+        verify(0, headRequestedFor(urlEqualTo(String.format("/%s/%s", BUCKET, KEY))));
+    }
+
+    private byte[] stubParts(String checksumType) {
+        byte[] body = new byte[PART_COUNT * PART_SIZE];
+        random.nextBytes(body);
+        for (int part = 1; part <= PART_COUNT; part++) {
+            stubFor(get(urlEqualTo(String.format("/%s/%s?partNumber=%d", BUCKET, KEY, part))).willReturn(
+                aResponse()
+                    .withHeader("x-amz-mp-parts-count", String.valueOf(PART_COUNT))
+                    .withHeader("x-amz-content-range", contentRangeHeader(part, PART_COUNT, PART_SIZE))
+                    .withHeader("x-amz-checksum-type", checksumType)
+                    .withHeader("ETag", ETAG)
+                    .withBody(Arrays.copyOfRange(body, (part - 1) * PART_SIZE, part * PART_SIZE))));
+        }
+        return body;
+    }
+
+    private static void stubHeadObject(String checksumType, String crc32c) {
+        stubFor(head(urlEqualTo(String.format("/%s/%s", BUCKET, KEY))).willReturn(
+            aResponse()
+                .withHeader("x-amz-checksum-type", checksumType)
+                .withHeader("x-amz-checksum-crc32c", crc32c)
+                .withHeader("ETag", ETAG)));
+    }
+
+    private static String crc32c(byte[] data) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC32C);
+        checksum.update(data, 0, data.length);
+        return BinaryUtils.toBase64(checksum.getChecksumBytes());
+    }
+}
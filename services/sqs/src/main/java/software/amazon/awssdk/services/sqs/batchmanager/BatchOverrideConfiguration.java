@@ -40,6 +40,9 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
 
     private final Integer maxBatchSize;
     private final Duration sendRequestFrequency;
+    private final Boolean adaptiveBatchingEnabled;
+    private final Duration minSendRequestFrequency;
+    private final Boolean adaptiveReceivePrefetchEnabled;
     private final Duration receiveMessageVisibilityTimeout;
     private final Duration receiveMessageMinWaitDuration;
     private final List<MessageSystemAttributeName> receiveMessageSystemAttributeNames;
@@ -54,6 +57,13 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
 
         this.sendRequestFrequency = Validate.isPositiveOrNull(builder.sendRequestFrequency,
                                                                      "sendRequestFrequency");
+        this.adaptiveBatchingEnabled = builder.adaptiveBatchingEnabled;
+        this.minSendRequestFrequency = builder.minSendRequestFrequency == null ? null :
+                                       Validate.isNotNegative(builder.minSendRequestFrequency, "minSendRequestFrequency");
+        Validate.isTrue(this.minSendRequestFrequency == null || this.sendRequestFrequency == null
+                        || this.minSendRequestFrequency.compareTo(this.sendRequestFrequency) <= 0,
+                        "The minSendRequestFrequency must be less than or equal to the sendRequestFrequency.");
+        this.adaptiveReceivePrefetchEnabled = builder.adaptiveReceivePrefetchEnabled;
         this.receiveMessageVisibilityTimeout = Validate.isPositiveOrNull(builder.receiveMessageVisibilityTimeout,
                                                                          "receiveMessageVisibilityTimeout");
         this.receiveMessageMinWaitDuration = Validate.isPositiveOrNull(builder.receiveMessageMinWaitDuration,
@@ -90,6 +100,32 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
         return sendRequestFrequency;
     }
 
+    /**
+     * @return whether the duration an outgoing batch is held open is adapted to the observed request rate and batch round-trip
+     *         time of each queue, between {@link #minSendRequestFrequency()} and {@link #sendRequestFrequency()}.
+     *         The default value is false.
+     */
+    public Boolean adaptiveBatchingEnabled() {
+        return adaptiveBatchingEnabled;
+    }
+
+    /**
+     * @return the minimum duration an outgoing batch is held open for additional messages when
+     *         {@link #adaptiveBatchingEnabled()} is true. The default value is 0 milliseconds.
+     */
+    public Duration minSendRequestFrequency() {
+        return minSendRequestFrequency;
+    }
+
+    /**
+     * @return whether the number of receive requests in flight and of received batches buffered for each queue is adapted to
+     *         the rate at which messages are consumed, and the visibility timeout of buffered messages about to expire is
+     *         extended. The default value is false.
+     */
+    public Boolean adaptiveReceivePrefetchEnabled() {
+        return adaptiveReceivePrefetchEnabled;
+    }
+
     /**
      * @return the custom visibility timeout to use when retrieving messages from SQS. If not set,
      *         the default visibility timeout configured on the SQS queue will be used.
@@ -128,6 +164,9 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
         return new Builder()
             .maxBatchSize(maxBatchSize)
             .sendRequestFrequency(sendRequestFrequency)
+            .adaptiveBatchingEnabled(adaptiveBatchingEnabled)
+            .minSendRequestFrequency(minSendRequestFrequency)
+            .adaptiveReceivePrefetchEnabled(adaptiveReceivePrefetchEnabled)
             .receiveMessageVisibilityTimeout(receiveMessageVisibilityTimeout)
             .receiveMessageMinWaitDuration(receiveMessageMinWaitDuration)
             .receiveMessageSystemAttributeNames(receiveMessageSystemAttributeNames)
@@ -139,6 +178,9 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
         return ToString.builder("BatchOverrideConfiguration")
                        .add("maxBatchSize", maxBatchSize)
                        .add("sendRequestFrequency", sendRequestFrequency)
+                       .add("adaptiveBatchingEnabled", adaptiveBatchingEnabled)
+                       .add("minSendRequestFrequency", minSendRequestFrequency)
+                       .add("adaptiveReceivePrefetchEnabled", adaptiveReceivePrefetchEnabled)
                        .add("receiveMessageVisibilityTimeout", receiveMessageVisibilityTimeout)
                        .add("receiveMessageMinWaitDuration", receiveMessageMinWaitDuration)
                        .add("receiveMessageSystemAttributeNames", receiveMessageSystemAttributeNames)
@@ -164,6 +206,18 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
             that.sendRequestFrequency != null) {
             return false;
         }
+        if (adaptiveBatchingEnabled != null ? !adaptiveBatchingEnabled.equals(that.adaptiveBatchingEnabled) :
+            that.adaptiveBatchingEnabled != null) {
+            return false;
+        }
+        if (minSendRequestFrequency != null ? !minSendRequestFrequency.equals(that.minSendRequestFrequency) :
+            that.minSendRequestFrequency != null) {
+            return false;
+        }
+        if (adaptiveReceivePrefetchEnabled != null ? !adaptiveReceivePrefetchEnabled.equals(that.adaptiveReceivePrefetchEnabled) :
+            that.adaptiveReceivePrefetchEnabled != null) {
+            return false;
+        }
         if (receiveMessageVisibilityTimeout != null
             ? !receiveMessageVisibilityTimeout.equals(that.receiveMessageVisibilityTimeout) :
             that.receiveMessageVisibilityTimeout != null) {
@@ -186,6 +240,9 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
     public int hashCode() {
         int result = maxBatchSize != null ? maxBatchSize.hashCode() : 0;
         result = 31 * result + (sendRequestFrequency != null ? sendRequestFrequency.hashCode() : 0);
+        result = 31 * result + (adaptiveBatchingEnabled != null ? adaptiveBatchingEnabled.hashCode() : 0);
+        result = 31 * result + (minSendRequestFrequency != null ? minSendRequestFrequency.hashCode() : 0);
+        result = 31 * result + (adaptiveReceivePrefetchEnabled != null ? adaptiveReceivePrefetchEnabled.hashCode() : 0);
         result = 31 * result + (receiveMessageVisibilityTimeout != null ? receiveMessageVisibilityTimeout.hashCode() : 0);
         result = 31 * result + (receiveMessageMinWaitDuration != null ? receiveMessageMinWaitDuration.hashCode() : 0);
         result = 31 * result + (receiveMessageSystemAttributeNames != null ? receiveMessageSystemAttributeNames.hashCode() : 0);
@@ -197,6 +254,9 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
 
         private Integer maxBatchSize = 10;
         private Duration sendRequestFrequency ;
+        private Boolean adaptiveBatchingEnabled;
+        private Duration minSendRequestFrequency;
+        private Boolean adaptiveReceivePrefetchEnabled;
         private Duration receiveMessageVisibilityTimeout;
         private Duration receiveMessageMinWaitDuration ;
         private List<MessageSystemAttributeName> receiveMessageSystemAttributeNames = Collections.emptyList();
@@ -238,6 +298,55 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
             return this;
         }
 
+        /**
+         * Specifies whether the duration an outgoing batch is held open for additional requests is adapted to the traffic of
+         * each queue instead of being fixed to the {@code sendRequestFrequency}.
+         * When enabled, the batch manager keeps moving averages of the time between requests and of the batch round-trip time
+         * of each queue. A new batch is held open for as long as it is expected to take to fill it, but no longer than a batch
+         * round trip, and is sent after the {@code minSendRequestFrequency} when requests are too far apart for another one to
+         * join it. The duration is always between the {@code minSendRequestFrequency} and the {@code sendRequestFrequency},
+         * which bound the latency added by batching. Batches are still sent immediately once they reach the
+         * {@code maxBatchSize} or the maximum payload size of a batch request. The default value is false.
+         *
+         * @param adaptiveBatchingEnabled Whether the duration outbound batches are held open is adapted to the traffic.
+         * @return This Builder object for method chaining.
+         */
+        public Builder adaptiveBatchingEnabled(Boolean adaptiveBatchingEnabled) {
+            this.adaptiveBatchingEnabled = adaptiveBatchingEnabled;
+            return this;
+        }
+
+        /**
+         * Specifies the minimum duration an outbound batch is held open for additional requests when
+         * {@code adaptiveBatchingEnabled} is true. It must not be negative nor greater than the {@code sendRequestFrequency}.
+         * The default value is 0 milliseconds.
+         *
+         * @param minSendRequestFrequency The minimum duration an outbound batch is held open.
+         * @return This Builder object for method chaining.
+         */
+        public Builder minSendRequestFrequency(Duration minSendRequestFrequency) {
+            this.minSendRequestFrequency = minSendRequestFrequency;
+            return this;
+        }
+
+        /**
+         * Specifies whether messages are prefetched according to the rate at which they are consumed.
+         * When enabled, the batch manager keeps moving averages of the rate at which received messages are consumed from
+         * each queue and of the time it takes to receive them. It keeps enough receive requests in flight to cover what is
+         * consumed during one receive, and prefetches batches ahead of receive calls only as far as they are expected to be
+         * consumed within half of the visibility timeout, which prevents starving fast consumers while limiting duplicates
+         * caused by prefetched messages becoming visible again. The visibility timeout of buffered messages that are about to
+         * expire is also extended through change message visibility batch requests, as long as they are expected to be
+         * consumed in time. The default value is false.
+         *
+         * @param adaptiveReceivePrefetchEnabled Whether receive prefetching is adapted to the consumption rate.
+         * @return This Builder object for method chaining.
+         */
+        public Builder adaptiveReceivePrefetchEnabled(Boolean adaptiveReceivePrefetchEnabled) {
+            this.adaptiveReceivePrefetchEnabled = adaptiveReceivePrefetchEnabled;
+            return this;
+        }
+
         /**
          * Defines the custom visibility timeout to use when retrieving messages from SQS. If set to a positive value,
          * this timeout will override the default visibility timeout set on the SQS queue. If no value is set,
@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Stores message bodies that are too large to be sent to SQS, such as in an Amazon S3 bucket. When configured on an
+ * {@link SqsAsyncBatchManager} with {@link SqsAsyncBatchManager.Builder#largePayloadStore(LargePayloadStore)}, the body of a
+ * message exceeding the maximum SQS payload size is stored with {@link #storePayload(String, String)}, and the returned pointer
+ * is sent as the message body instead.
+ * <p>
+ * For example, a store backed by an S3AsyncClient would put the payload in a bucket under a random key and return a pointer
+ * made of the bucket name and key, get the object identified by the pointer when retrieving the payload, and delete it when
+ * deleting the payload.
+ * <p>
+ * Implementations must be thread-safe; the batch manager calls them concurrently for different messages.
+ */
+@SdkPublicApi
+public interface LargePayloadStore {
+
+    /**
+     * Stores the payload of a message sent to the given queue.
+     *
+     * @param queueUrl The URL of the queue the message is sent to.
+     * @param payload The message body to store.
+     * @return CompletableFuture of the pointer sent as the message body instead of the payload.
+     */
+    CompletableFuture<String> storePayload(String queueUrl, String payload);
+
+    /**
+     * Retrieves a payload stored by {@link #storePayload(String, String)}.
+     *
+     * @param payloadPointer The pointer returned when the payload was stored.
+     * @return CompletableFuture of the stored payload.
+     */
+    CompletableFuture<String> retrievePayload(String payloadPointer);
+
+    /**
+     * Deletes a payload stored by {@link #storePayload(String, String)}. Called once the message it was sent with is deleted
+     * from the queue.
+     *
+     * @param payloadPointer The pointer returned when the payload was stored.
+     * @return CompletableFuture completed once the payload is deleted.
+     */
+    CompletableFuture<Void> deletePayload(String payloadPointer);
+}
@@ -188,6 +188,28 @@ public interface SqsAsyncBatchManager extends SdkAutoCloseable {
          */
         Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
 
+        /**
+         * Sets a {@link LargePayloadStore} used to send messages exceeding the maximum SQS payload size. The body of such a
+         * message is stored in the store before the message is batched, and a pointer to it is sent instead, along with the
+         * {@code ExtendedPayloadSize} message attribute. Uploads of different messages run concurrently.
+         * <p>
+         * Received messages carrying the {@code ExtendedPayloadSize} message attribute have their payload retrieved, in
+         * parallel, before they are buffered or returned. If the payload of a message cannot be retrieved, that message is
+         * returned with the pointer as its body and keeps the {@code ExtendedPayloadSize} message attribute, while the other
+         * messages are returned normally.
+         * <p>
+         * The receipt handle of an offloaded message is modified to reference the payload, which is deleted from the store
+         * when the message is deleted through this batch manager. Such a receipt handle is not valid for the
+         * {@link SqsAsyncClient}: messages received with this batch manager must be deleted and have their visibility changed
+         * through it as well.
+         * <p>
+         * Offloading is disabled by default.
+         *
+         * @param largePayloadStore The store to use.
+         * @return This builder for method chaining.
+         */
+        Builder largePayloadStore(LargePayloadStore largePayloadStore);
+
         /**
          * Builds an instance of {@link SqsAsyncBatchManager} based on the supplied configurations.
          *
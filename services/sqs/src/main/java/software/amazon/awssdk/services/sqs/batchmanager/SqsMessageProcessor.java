@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.DefaultSqsMessageProcessor;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Listener-style processor that receives messages from a queue and invokes a message handler for each of them. Create an
+ * instance using {@link #builder()}, then call {@link #start()} to begin polling.
+ * <p>
+ * The processor is built on top of an {@link SqsAsyncBatchManager}: deletions and visibility timeout changes are sent in
+ * batches. Messages are received with the processor's visibility timeout set on each receive request, so the batch manager
+ * sends these requests directly instead of serving them from its receive buffer.
+ * <ul>
+ *     <li>At most {@link Builder#maxConcurrency(Integer)} messages are received and not yet processed at any time: receive
+ *     requests only ask for as many messages as there are free handler slots, and no messages are prefetched.</li>
+ *     <li>Messages of the same message group of a FIFO queue are handled one at a time, in the order they were received.
+ *     Messages of different groups, and messages without a group, are handled concurrently.</li>
+ *     <li>From the time a message is received until its handler completes, including while it waits for the earlier
+ *     messages of its message group, the visibility timeout of the message is periodically extended, so long-running
+ *     handlers do not cause messages to be redelivered.</li>
+ *     <li>A message is deleted once its handler completes normally. If the handler throws, the message is left in the queue
+ *     and is received again once its visibility timeout expires. For FIFO queues, the messages of the same group that were
+ *     received after it are not handled either, so that they are received again in order.</li>
+ * </ul>
+ * <p>
+ * Polling uses the receive message wait time configured on the queue; setting {@code ReceiveMessageWaitTimeSeconds} on the
+ * queue avoids polling an empty queue in a tight loop.
+ */
+@SdkPublicApi
+public interface SqsMessageProcessor extends SdkAutoCloseable {
+
+    /**
+     * Creates a builder for configuring and creating an {@link SqsMessageProcessor}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultSqsMessageProcessor.builder();
+    }
+
+    /**
+     * Starts receiving and processing messages. Calling this method more than once has no effect.
+     */
+    void start();
+
+    /**
+     * Stops receiving messages, waits up to the configured shutdown timeout for the messages being processed to be handled
+     * and deleted, and releases the resources owned by this processor. Messages received but not yet handled are received
+     * again once their visibility timeout expires.
+     */
+    @Override
+    void close();
+
+    interface Builder {
+
+        /**
+         * Sets the {@link SqsAsyncClient} used to receive, delete and change the visibility of messages. This client must be
+         * closed by the caller.
+         *
+         * @param client The SqsAsyncClient to use.
+         * @return This builder for method chaining.
+         */
+        Builder client(SqsAsyncClient client);
+
+        /**
+         * Sets the URL of the queue to process messages from.
+         *
+         * @param queueUrl The queue URL.
+         * @return This builder for method chaining.
+         */
+        Builder queueUrl(String queueUrl);
+
+        /**
+         * Sets the handler invoked for each received message. A message is deleted when the handler completes normally, and
+         * left in the queue when it throws.
+         *
+         * @param messageHandler The message handler.
+         * @return This builder for method chaining.
+         */
+        Builder messageHandler(Consumer<Message> messageHandler);
+
+        /**
+         * Sets the maximum number of messages received and not yet processed at any time, which is also the maximum number of
+         * concurrent handler invocations. The default is 10.
+         *
+         * @param maxConcurrency The maximum number of messages being processed.
+         * @return This builder for method chaining.
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
+        /**
+         * Sets the {@link Executor} the message handlers are invoked on. Handlers that block on I/O can use an executor that
+         * starts a virtual thread per task, such as {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21 and later.
+         * This executor must be closed by the caller.
+         * <p>
+         * If not set, a fixed thread pool of {@link #maxConcurrency(Integer)} threads is created and closed with the
+         * processor.
+         *
+         * @param executor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * Sets the {@link ScheduledExecutorService} used for buffer flushes, receive timeouts and visibility timeout
+         * extensions. This executor must be closed by the caller.
+         * <p>
+         * If not set, a single-threaded scheduled executor is created and closed with the processor.
+         *
+         * @param scheduledExecutor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Sets the visibility timeout messages are received with, which is also set on a message each time it is extended
+         * until its handler completes. Extensions are sent every third of this duration from the time the message is
+         * received. The default is 30 seconds.
+         *
+         * @param visibilityTimeout The visibility timeout of received messages.
+         * @return This builder for method chaining.
+         */
+        Builder visibilityTimeout(Duration visibilityTimeout);
+
+        /**
+         * Sets the maximum time {@link SqsMessageProcessor#close()} waits for the messages being processed to be handled and
+         * deleted. The default is 30 seconds.
+         *
+         * @param shutdownTimeout The shutdown timeout.
+         * @return This builder for method chaining.
+         */
+        Builder shutdownTimeout(Duration shutdownTimeout);
+
+        /**
+         * Sets custom overrides for the configuration of the underlying {@link SqsAsyncBatchManager}. The
+         * {@code MessageGroupId} and {@code SentTimestamp} system attributes are always added to the system attributes
+         * received.
+         *
+         * @param overrideConfiguration The configuration overrides.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Sets custom overrides for the configuration of the underlying {@link SqsAsyncBatchManager} using a {@link Consumer}
+         * to configure the overrides.
+         *
+         * @param overrideConfiguration A {@link Consumer} to configure the {@link BatchOverrideConfiguration}.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<BatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(BatchOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Adds a {@link MetricPublisher} that is published one metric collection per processed message, with the metrics
+         * defined in {@link SqsMessageProcessorMetric}. This publisher must be closed by the caller.
+         *
+         * @param metricPublisher The metric publisher to add.
+         * @return This builder for method chaining.
+         */
+        Builder addMetricPublisher(MetricPublisher metricPublisher);
+
+        /**
+         * Builds an instance of {@link SqsMessageProcessor} based on the supplied configurations.
+         *
+         * @return An initialized SqsMessageProcessor.
+         */
+        SqsMessageProcessor build();
+    }
+}
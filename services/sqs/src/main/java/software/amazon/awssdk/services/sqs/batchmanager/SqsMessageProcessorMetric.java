@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics reported by a {@link SqsMessageProcessor} to its metric publishers, in one metric collection per processed message.
+ * The number of collections published per interval is the throughput of the processor.
+ */
+@SdkPublicApi
+public final class SqsMessageProcessorMetric {
+    /**
+     * The URL of the queue the message was received from.
+     */
+    public static final SdkMetric<String> QUEUE_URL =
+        metric("QueueUrl", String.class, MetricLevel.ERROR);
+
+    /**
+     * True if the message handler completed normally and the message was submitted for deletion, false otherwise.
+     */
+    public static final SdkMetric<Boolean> MESSAGE_PROCESSING_SUCCESSFUL =
+        metric("MessageProcessingSuccessful", Boolean.class, MetricLevel.ERROR);
+
+    /**
+     * The time spent in the message handler.
+     */
+    public static final SdkMetric<Duration> MESSAGE_PROCESSING_DURATION =
+        metric("MessageProcessingDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time between the message being sent to the queue and the message handler being invoked. This is only reported for
+     * messages received with the {@code SentTimestamp} system attribute, which the processor requests by default.
+     */
+    public static final SdkMetric<Duration> MESSAGE_LAG =
+        metric("MessageLag", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The number of times the visibility timeout of the message was extended while it was being processed.
+     */
+    public static final SdkMetric<Integer> VISIBILITY_EXTENSION_COUNT =
+        metric("VisibilityExtensionCount", Integer.class, MetricLevel.INFO);
+
+    private SqsMessageProcessorMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Computes how long a new batch of one batch key is held open for additional requests, from moving averages of the time
+ * between requests and of the batch round-trip time of that batch key.
+ * <p>
+ * A batch is held open for as long as it is expected to take to fill it, but no longer than a batch round trip: beyond that,
+ * sending an additional batch costs less than delaying the requests already in this one. When requests are expected to arrive
+ * further apart than the maximum delay, none is expected to join the batch and it is sent after the minimum delay. The delay is
+ * always between the configured minimum and maximum, and is the maximum until a request interval has been observed.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class AdaptiveFlushDelay {
+    /**
+     * The weight of the newest sample in the moving averages.
+     */
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final int maxBatchItems;
+
+    private long lastRequestNanos;
+    private boolean hasRequest;
+    private double requestIntervalNanos = Double.NaN;
+    private double roundTripNanos = Double.NaN;
+
+    public AdaptiveFlushDelay(Duration minDelay, Duration maxDelay, int maxBatchItems) {
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxBatchItems = maxBatchItems;
+    }
+
+    /**
+     * Records a request added to a batch at the provided {@link System#nanoTime()}. Intervals longer than the maximum delay are
+     * recorded as the maximum delay, so that a long idle period does not outweigh the requests that follow it.
+     */
+    public synchronized void recordRequest(long nowNanos) {
+        if (hasRequest) {
+            long interval = Math.min(Math.max(nowNanos - lastRequestNanos, 0), maxDelayNanos);
+            requestIntervalNanos = movingAverage(requestIntervalNanos, interval);
+        }
+        lastRequestNanos = nowNanos;
+        hasRequest = true;
+    }
+
+    /**
+     * Records the time between sending a batch and receiving its response.
+     */
+    public synchronized void recordRoundTrip(long roundTripNanos) {
+        this.roundTripNanos = movingAverage(this.roundTripNanos, Math.max(roundTripNanos, 0));
+    }
+
+    /**
+     * @return the delay after which a batch that was just opened should be sent if it is not full by then.
+     */
+    public synchronized long delayNanos() {
+        if (Double.isNaN(requestIntervalNanos)) {
+            return maxDelayNanos;
+        }
+        if (requestIntervalNanos >= maxDelayNanos) {
+            return minDelayNanos;
+        }
+
+        double delay = requestIntervalNanos * (maxBatchItems - 1);
+        if (!Double.isNaN(roundTripNanos)) {
+            delay = Math.min(delay, roundTripNanos);
+        }
+        return Math.max(minDelayNanos, Math.min(maxDelayNanos, (long) delay));
+    }
+
+    private static double movingAverage(double average, long sample) {
+        return Double.isNaN(average) ? sample : average + SMOOTHING_FACTOR * (sample - average);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Sizes the receive requests in flight and the received batches buffered for one queue from moving averages of the rate at
+ * which consumers drain the buffer and of the time it takes to receive a batch of messages.
+ * <p>
+ * Enough receive requests are kept in flight for the messages they return to cover both the messages that waiting receive
+ * calls still request and what consumers drain during one receive round trip. The drain rate is measured from delivered
+ * messages, which the receive requests in flight limit, so the waiting receive calls are what grows the receive requests in
+ * flight when consumers ask for more than is delivered.
+ * <p>
+ * Batches are prefetched ahead of consumer requests only as far as consumers are expected to drain them within half of the
+ * visibility timeout, so that prefetched messages do not become visible again while they are buffered. Both are bounded by
+ * the configured maximum number of in-flight and buffered batches.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class AdaptiveReceivePrefetch {
+    /**
+     * The minimum duration over which delivered messages are counted to compute a drain rate sample.
+     */
+    private static final long RATE_WINDOW_NANOS = Duration.ofSeconds(1).toNanos();
+
+    /**
+     * The weight of the newest sample in the moving averages.
+     */
+    private static final double SMOOTHING_FACTOR = 0.3;
+
+    private final int maxInflightBatches;
+    private final int maxBufferedBatches;
+    private final int batchSize;
+
+    private long windowStartNanos;
+    private long windowMessages;
+    private double drainRatePerSecond;
+    private boolean hasDrainRateSample;
+    private double receiveLatencyNanos = Double.NaN;
+
+    public AdaptiveReceivePrefetch(int maxInflightBatches, int maxBufferedBatches, int batchSize, long nowNanos) {
+        this.maxInflightBatches = Math.max(maxInflightBatches, 1);
+        this.maxBufferedBatches = Math.max(maxBufferedBatches, 0);
+        this.batchSize = Math.max(batchSize, 1);
+        this.windowStartNanos = nowNanos;
+    }
+
+    /**
+     * Records messages handed to consumers at the provided {@link System#nanoTime()}.
+     */
+    public synchronized void recordDelivered(int messageCount, long nowNanos) {
+        closeWindowIfElapsed(nowNanos);
+        windowMessages += messageCount;
+    }
+
+    /**
+     * Records the time it took for a receive request to return messages.
+     */
+    public synchronized void recordReceiveLatency(long latencyNanos) {
+        long latency = Math.max(latencyNanos, 0);
+        receiveLatencyNanos = Double.isNaN(receiveLatencyNanos)
+                              ? latency
+                              : receiveLatencyNanos + SMOOTHING_FACTOR * (latency - receiveLatencyNanos);
+    }
+
+    /**
+     * @return the estimated number of messages consumers drain from the buffer per second.
+     */
+    public synchronized double drainRatePerSecond(long nowNanos) {
+        closeWindowIfElapsed(nowNanos);
+        return drainRatePerSecond;
+    }
+
+    /**
+     * @param waitingMessages the number of messages requested by receive calls that buffered messages do not cover.
+     * @return the number of receive requests to keep in flight, between 1 and the maximum number of in-flight batches.
+     */
+    public synchronized int desiredInflightBatches(int waitingMessages, long nowNanos) {
+        closeWindowIfElapsed(nowNanos);
+        int waitingBatches = (int) Math.ceil((double) Math.max(waitingMessages, 0) / batchSize);
+        int drainedBatches = 0;
+        if (!Double.isNaN(receiveLatencyNanos)) {
+            double messagesPerRoundTrip = drainRatePerSecond * receiveLatencyNanos / Duration.ofSeconds(1).toNanos();
+            drainedBatches = (int) Math.ceil(messagesPerRoundTrip / batchSize);
+        }
+        return clamp(Math.max(waitingBatches, drainedBatches), 1, maxInflightBatches);
+    }
+
+    /**
+     * @return the number of batches to buffer ahead of consumer requests, between 0 and the maximum number of buffered batches.
+     */
+    public synchronized int desiredBufferedBatches(Duration visibilityTimeout, long nowNanos) {
+        closeWindowIfElapsed(nowNanos);
+        double drainableMessages = drainRatePerSecond * visibilityTimeout.toMillis() / 2 / 1000;
+        return clamp((int) (drainableMessages / batchSize), 0, maxBufferedBatches);
+    }
+
+    private void closeWindowIfElapsed(long nowNanos) {
+        long elapsed = nowNanos - windowStartNanos;
+        if (elapsed < RATE_WINDOW_NANOS) {
+            return;
+        }
+        double sample = windowMessages * (double) Duration.ofSeconds(1).toNanos() / elapsed;
+        drainRatePerSecond = hasDrainRateSample
+                             ? drainRatePerSecond + SMOOTHING_FACTOR * (sample - drainRatePerSecond)
+                             : sample;
+        hasDrainRateSample = true;
+        windowStartNanos = nowNanos;
+        windowMessages = 0;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -45,9 +45,14 @@ public final class BatchingMap<RequestT, ResponseT> {
         this.maxBufferSize = overrideConfiguration.maxBufferSize();
     }
 
-    public void put(String batchKey, Supplier<ScheduledFuture<?>> scheduleFlush, RequestT request,
-                    CompletableFuture<ResponseT> response) throws IllegalStateException {
-        batchContextMap.computeIfAbsent(batchKey, k -> {
+    /**
+     * Adds the request and response pair to the buffer of the batch key, creating the buffer if needed.
+     *
+     * @return the number of entries in the buffer once the pair was added.
+     */
+    public int put(String batchKey, Supplier<ScheduledFuture<?>> scheduleFlush, RequestT request,
+                   CompletableFuture<ResponseT> response) throws IllegalStateException {
+        return batchContextMap.computeIfAbsent(batchKey, k -> {
             if (batchContextMap.size() == maxBatchKeys) {
                 throw new IllegalStateException("Reached MaxBatchKeys of: " + maxBatchKeys);
             }
@@ -81,6 +86,10 @@ public final class BatchingMap<RequestT, ResponseT> {
         return batchContextMap.get(batchKey).extractEntriesForScheduledFlush(maxBatchItems);
     }
 
+    public boolean isEmpty(String batchKey) {
+        return batchContextMap.get(batchKey).isEmpty();
+    }
+
     public void cancelScheduledFlush(String batchKey) {
         batchContextMap.get(batchKey).cancelScheduledFlush();
     }
@@ -23,6 +23,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.batchmanager.LargePayloadStore;
 import software.amazon.awssdk.services.sqs.batchmanager.SqsAsyncBatchManager;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
@@ -38,6 +39,8 @@ import software.amazon.awssdk.utils.Validate;
 public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
     private final SqsAsyncClient client;
 
+    private final PayloadOffloadingSqsAsyncClient payloadOffloadingClient;
+
     private final SendMessageBatchManager sendMessageBatchManager;
 
     private final DeleteMessageBatchManager deleteMessageBatchManager;
@@ -47,7 +50,10 @@ public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
     private final ReceiveMessageBatchManager receiveMessageBatchManager;
 
     private DefaultSqsAsyncBatchManager(DefaultBuilder builder) {
-        this.client = Validate.notNull(builder.client, "client cannot be null");
+        Validate.notNull(builder.client, "client cannot be null");
+        this.payloadOffloadingClient = builder.largePayloadStore == null
+                                       ? null : new PayloadOffloadingSqsAsyncClient(builder.client, builder.largePayloadStore);
+        this.client = payloadOffloadingClient == null ? builder.client : payloadOffloadingClient;
         ScheduledExecutorService scheduledExecutor  = Validate.notNull(builder.scheduledExecutor,
                                                                        "scheduledExecutor cannot be null");
         this.sendMessageBatchManager =
@@ -76,11 +82,15 @@ public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
         this.receiveMessageBatchManager =
             new ReceiveMessageBatchManager(client,
                                            scheduledExecutor,
-                                           ResponseBatchConfiguration.builder(builder.overrideConfiguration).build());
+                                           ResponseBatchConfiguration.builder(builder.overrideConfiguration).build(),
+                                           changeMessageVisibilityBatchManager);
     }
 
     @Override
     public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        if (payloadOffloadingClient != null) {
+            return payloadOffloadingClient.offloadIfNeeded(request).thenCompose(sendMessageBatchManager::batchRequest);
+        }
         return sendMessageBatchManager.batchRequest(request);
     }
 
@@ -115,6 +125,7 @@ public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
         private SqsAsyncClient client;
         private BatchOverrideConfiguration overrideConfiguration;
         private ScheduledExecutorService scheduledExecutor;
+        private LargePayloadStore largePayloadStore;
 
         private DefaultBuilder() {
         }
@@ -137,6 +148,12 @@ public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
             return this;
         }
 
+        @Override
+        public SqsAsyncBatchManager.Builder largePayloadStore(LargePayloadStore largePayloadStore) {
+            this.largePayloadStore = largePayloadStore;
+            return this;
+        }
+
         @Override
         public SqsAsyncBatchManager build() {
             return new DefaultSqsAsyncBatchManager(this);
@@ -0,0 +1,566 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsAsyncBatchManager;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsMessageProcessor;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsMessageProcessorMetric;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultSqsMessageProcessor implements SqsMessageProcessor {
+    private static final Logger log = Logger.loggerFor(DefaultSqsMessageProcessor.class);
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+    private static final Duration DEFAULT_VISIBILITY_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration RECEIVE_FAILURE_BACKOFF = Duration.ofSeconds(1);
+    private static final int MAX_MESSAGES_PER_RECEIVE = 10;
+    private static final List<MessageSystemAttributeName> REQUIRED_SYSTEM_ATTRIBUTES =
+        Collections.unmodifiableList(Arrays.asList(MessageSystemAttributeName.MESSAGE_GROUP_ID,
+                                                   MessageSystemAttributeName.SENT_TIMESTAMP));
+
+    private final String queueUrl;
+    private final Consumer<Message> messageHandler;
+    private final int maxConcurrentReceives;
+    private final Duration visibilityTimeout;
+    private final int visibilityTimeoutSeconds;
+    private final Duration shutdownTimeout;
+    private final List<MetricPublisher> metricPublishers;
+    private final List<MessageSystemAttributeName> systemAttributeNames;
+    private final List<String> messageAttributeNames;
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final ScheduledExecutorService ownedScheduledExecutor;
+    private final SqsAsyncBatchManager batchManager;
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private volatile boolean running;
+
+    /**
+     * The number of messages that can be received without exceeding the maximum concurrency.
+     */
+    private final AtomicInteger availableSlots;
+    private final AtomicInteger activeReceives = new AtomicInteger();
+
+    /**
+     * The messages waiting for the message being processed in their group, by message group ID. A group is present while one
+     * of its messages is being processed.
+     */
+    private final Map<String, Queue<ReceivedMessage>> messageGroups = new HashMap<>();
+    private final Set<CompletableFuture<Void>> processingMessages = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableFuture<?>> pendingDeletes = ConcurrentHashMap.newKeySet();
+
+    private DefaultSqsMessageProcessor(DefaultBuilder builder) {
+        this.queueUrl = Validate.notNull(builder.queueUrl, "queueUrl cannot be null");
+        this.messageHandler = Validate.notNull(builder.messageHandler, "messageHandler cannot be null");
+        int maxConcurrency = Validate.isPositive(builder.maxConcurrency == null ? DEFAULT_MAX_CONCURRENCY
+                                                                                : builder.maxConcurrency,
+                                                 "maxConcurrency");
+        this.availableSlots = new AtomicInteger(maxConcurrency);
+        this.maxConcurrentReceives = (maxConcurrency + MAX_MESSAGES_PER_RECEIVE - 1) / MAX_MESSAGES_PER_RECEIVE;
+        this.visibilityTimeout = builder.visibilityTimeout == null ? DEFAULT_VISIBILITY_TIMEOUT : builder.visibilityTimeout;
+        Validate.isTrue(visibilityTimeout.getSeconds() >= 1, "visibilityTimeout must be at least one second.");
+        this.visibilityTimeoutSeconds = Math.toIntExact(visibilityTimeout.getSeconds());
+        this.shutdownTimeout = Validate.isNotNegative(builder.shutdownTimeout == null ? DEFAULT_SHUTDOWN_TIMEOUT
+                                                                                      : builder.shutdownTimeout,
+                                                      "shutdownTimeout");
+        this.metricPublishers = Collections.unmodifiableList(new ArrayList<>(builder.metricPublishers));
+
+        BatchOverrideConfiguration overrideConfiguration = withRequiredSystemAttributes(builder.overrideConfiguration);
+        this.systemAttributeNames = overrideConfiguration.receiveMessageSystemAttributeNames();
+        this.messageAttributeNames = overrideConfiguration.receiveMessageAttributeNames();
+
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.ownedExecutor = null;
+        } else {
+            this.ownedExecutor = Executors.newFixedThreadPool(maxConcurrency, threadFactory("sqs-message-processor"));
+            this.executor = ownedExecutor;
+        }
+
+        if (builder.scheduledExecutor != null) {
+            this.scheduledExecutor = builder.scheduledExecutor;
+            this.ownedScheduledExecutor = null;
+        } else {
+            this.ownedScheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+                threadFactory("sqs-message-processor-scheduler"));
+            this.scheduledExecutor = ownedScheduledExecutor;
+        }
+
+        this.batchManager = SqsAsyncBatchManager.builder()
+                                                .client(Validate.notNull(builder.client, "client cannot be null"))
+                                                .scheduledExecutor(scheduledExecutor)
+                                                .overrideConfiguration(overrideConfiguration)
+                                                .build();
+    }
+
+    public static SqsMessageProcessor.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public void start() {
+        if (closed.get() || !started.compareAndSet(false, true)) {
+            return;
+        }
+        running = true;
+        pollIfNeeded();
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        running = false;
+
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        boolean completed = awaitCompletion(processingMessages, deadline) && awaitCompletion(pendingDeletes, deadline);
+        if (!completed) {
+            log.warn(() -> String.format("Timed out after %s waiting for the messages of queue %s to be processed.",
+                                         shutdownTimeout, queueUrl));
+        }
+
+        batchManager.close();
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+        if (ownedScheduledExecutor != null) {
+            ownedScheduledExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Starts receive requests for the available slots, up to the maximum number of concurrent receive requests.
+     */
+    private void pollIfNeeded() {
+        while (running) {
+            int receives = activeReceives.get();
+            if (receives >= maxConcurrentReceives) {
+                return;
+            }
+            int slots = reserveSlots();
+            if (slots == 0) {
+                return;
+            }
+            if (!activeReceives.compareAndSet(receives, receives + 1)) {
+                availableSlots.addAndGet(slots);
+                continue;
+            }
+            receive(slots);
+        }
+    }
+
+    private int reserveSlots() {
+        while (true) {
+            int available = availableSlots.get();
+            int slots = Math.min(available, MAX_MESSAGES_PER_RECEIVE);
+            if (slots <= 0) {
+                return 0;
+            }
+            if (availableSlots.compareAndSet(available, available - slots)) {
+                return slots;
+            }
+        }
+    }
+
+    /**
+     * Receives messages for the provided number of slots. The visibility timeout is set on the request so that messages are
+     * received with the visibility timeout they are extended with, which also makes the batch manager send the request
+     * directly instead of serving it from its receive buffer, so that no messages are received ahead of free slots.
+     */
+    private void receive(int slots) {
+        CompletableFuture<ReceiveMessageResponse> response;
+        try {
+            response = batchManager.receiveMessage(r -> r.queueUrl(queueUrl)
+                                                         .maxNumberOfMessages(slots)
+                                                         .visibilityTimeout(visibilityTimeoutSeconds)
+                                                         .messageSystemAttributeNames(systemAttributeNames)
+                                                         .messageAttributeNames(messageAttributeNames));
+        } catch (Throwable t) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(t);
+        }
+
+        response.whenComplete((r, t) -> {
+            if (!running) {
+                // Messages received while closing are received again once their visibility timeout expires.
+                availableSlots.addAndGet(slots);
+                activeReceives.decrementAndGet();
+                return;
+            }
+
+            List<Message> messages = t == null ? r.messages() : Collections.emptyList();
+            availableSlots.addAndGet(slots - messages.size());
+            messages.forEach(message -> dispatch(new ReceivedMessage(message)));
+            if (t != null) {
+                log.warn(() -> String.format("Failed to receive messages from queue %s. Retrying in %s.",
+                                             queueUrl, RECEIVE_FAILURE_BACKOFF), t);
+                scheduleReceive(RECEIVE_FAILURE_BACKOFF);
+            } else {
+                activeReceives.decrementAndGet();
+                pollIfNeeded();
+            }
+        });
+    }
+
+    private void scheduleReceive(Duration delay) {
+        try {
+            scheduledExecutor.schedule(() -> {
+                activeReceives.decrementAndGet();
+                pollIfNeeded();
+            }, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            activeReceives.decrementAndGet();
+            log.debug(() -> "Scheduled executor rejected the next receive request.", e);
+        }
+    }
+
+    /**
+     * Processes the message now, unless a message of the same group is being processed, in which case it is processed once
+     * the messages of its group received before it are.
+     */
+    private void dispatch(ReceivedMessage message) {
+        String groupId = message.groupId();
+        if (groupId != null) {
+            synchronized (messageGroups) {
+                Queue<ReceivedMessage> waitingMessages = messageGroups.get(groupId);
+                if (waitingMessages != null) {
+                    waitingMessages.add(message);
+                    return;
+                }
+                messageGroups.put(groupId, new ArrayDeque<>());
+            }
+        }
+        submit(message);
+    }
+
+    private void submit(ReceivedMessage message) {
+        CompletableFuture<Void> processing = new CompletableFuture<>();
+        processingMessages.add(processing);
+        try {
+            executor.execute(() -> process(message, processing));
+        } catch (RejectedExecutionException e) {
+            log.warn(() -> String.format("Executor rejected message %s of queue %s.", message.message().messageId(), queueUrl),
+                     e);
+            message.stopVisibilityExtension();
+            onProcessed(message, false, processing);
+        }
+    }
+
+    private void process(ReceivedMessage receivedMessage, CompletableFuture<Void> processing) {
+        Message message = receivedMessage.message();
+        MetricCollector metricCollector = MetricCollector.create("SqsMessageProcessing");
+        metricCollector.reportMetric(SqsMessageProcessorMetric.QUEUE_URL, queueUrl);
+        reportLag(message, metricCollector);
+
+        long start = System.nanoTime();
+        boolean successful = false;
+        try {
+            messageHandler.accept(message);
+            successful = true;
+        } catch (Throwable t) {
+            log.warn(() -> String.format("Handler failed to process message %s of queue %s.", message.messageId(), queueUrl),
+                     t);
+        } finally {
+            receivedMessage.stopVisibilityExtension();
+            metricCollector.reportMetric(SqsMessageProcessorMetric.MESSAGE_PROCESSING_DURATION,
+                                         Duration.ofNanos(System.nanoTime() - start));
+            metricCollector.reportMetric(SqsMessageProcessorMetric.MESSAGE_PROCESSING_SUCCESSFUL, successful);
+            metricCollector.reportMetric(SqsMessageProcessorMetric.VISIBILITY_EXTENSION_COUNT,
+                                         receivedMessage.visibilityExtensionCount());
+
+            if (successful) {
+                delete(message);
+            }
+            onProcessed(receivedMessage, successful, processing);
+            publish(metricCollector.collect());
+        }
+    }
+
+    private void delete(Message message) {
+        CompletableFuture<?> delete = batchManager.deleteMessage(r -> r.queueUrl(queueUrl)
+                                                                       .receiptHandle(message.receiptHandle()));
+        pendingDeletes.add(delete);
+        delete.whenComplete((r, t) -> {
+            pendingDeletes.remove(delete);
+            if (t != null) {
+                log.warn(() -> String.format("Failed to delete message %s of queue %s.", message.messageId(), queueUrl), t);
+            }
+        });
+    }
+
+    /**
+     * Releases the slot of the processed message and processes the next message of its group. If the message was not
+     * processed successfully, or if the processor is closing, the messages of its group received after it are skipped so
+     * that they are received again after it, and the visibility timeout of these skipped messages is no longer extended.
+     */
+    private void onProcessed(ReceivedMessage message, boolean successful, CompletableFuture<Void> processing) {
+        int releasedSlots = 1;
+        ReceivedMessage next = null;
+
+        String groupId = message.groupId();
+        if (groupId != null) {
+            synchronized (messageGroups) {
+                Queue<ReceivedMessage> waitingMessages = messageGroups.get(groupId);
+                if (waitingMessages != null) {
+                    next = successful && running ? waitingMessages.poll() : null;
+                    if (next == null) {
+                        releasedSlots += waitingMessages.size();
+                        waitingMessages.forEach(ReceivedMessage::stopVisibilityExtension);
+                        messageGroups.remove(groupId);
+                    }
+                }
+            }
+        }
+
+        if (next != null) {
+            submit(next);
+        }
+
+        availableSlots.addAndGet(releasedSlots);
+        processingMessages.remove(processing);
+        processing.complete(null);
+        pollIfNeeded();
+    }
+
+    private void reportLag(Message message, MetricCollector metricCollector) {
+        String sentTimestamp = message.attributes().get(MessageSystemAttributeName.SENT_TIMESTAMP);
+        if (sentTimestamp == null) {
+            return;
+        }
+        try {
+            long lagMillis = System.currentTimeMillis() - Long.parseLong(sentTimestamp);
+            metricCollector.reportMetric(SqsMessageProcessorMetric.MESSAGE_LAG, Duration.ofMillis(Math.max(0, lagMillis)));
+        } catch (NumberFormatException e) {
+            log.debug(() -> "Invalid SentTimestamp attribute: " + sentTimestamp, e);
+        }
+    }
+
+    private void publish(MetricCollection metricCollection) {
+        for (MetricPublisher metricPublisher : metricPublishers) {
+            try {
+                metricPublisher.publish(metricCollection);
+            } catch (RuntimeException e) {
+                log.warn(() -> "Failed to publish message processing metrics.", e);
+            }
+        }
+    }
+
+    private boolean awaitCompletion(Set<? extends CompletableFuture<?>> futures, long deadlineNanos) {
+        while (!futures.isEmpty()) {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return false;
+            }
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                                 .get(remainingNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (TimeoutException e) {
+                return false;
+            } catch (ExecutionException e) {
+                // Failures are logged by the futures' own callbacks; only completion matters here.
+                futures.removeIf(CompletableFuture::isDone);
+            }
+        }
+        return true;
+    }
+
+    private static BatchOverrideConfiguration withRequiredSystemAttributes(BatchOverrideConfiguration overrideConfiguration) {
+        BatchOverrideConfiguration.Builder builder = overrideConfiguration == null ? BatchOverrideConfiguration.builder()
+                                                                                   : overrideConfiguration.toBuilder();
+        Set<MessageSystemAttributeName> systemAttributeNames = new LinkedHashSet<>(REQUIRED_SYSTEM_ATTRIBUTES);
+        if (overrideConfiguration != null) {
+            systemAttributeNames.addAll(overrideConfiguration.receiveMessageSystemAttributeNames());
+        }
+        return builder.receiveMessageSystemAttributeNames(new ArrayList<>(systemAttributeNames)).build();
+    }
+
+    private static ThreadFactory threadFactory(String threadNamePrefix) {
+        return new ThreadFactoryBuilder().threadNamePrefix(threadNamePrefix).daemonThreads(true).build();
+    }
+
+    /**
+     * A received message, whose visibility timeout is extended every third of the visibility timeout from the time it is
+     * received, including while it waits for the earlier messages of its group, until its handler completes or it is skipped.
+     */
+    private final class ReceivedMessage {
+        private final Message message;
+        private final AtomicInteger visibilityExtensionCount = new AtomicInteger();
+        private final ScheduledFuture<?> visibilityExtension;
+
+        private ReceivedMessage(Message message) {
+            this.message = message;
+            long periodMillis = visibilityTimeout.toMillis() / 3;
+            this.visibilityExtension = scheduledExecutor.scheduleAtFixedRate(this::extendVisibility, periodMillis, periodMillis,
+                                                                             TimeUnit.MILLISECONDS);
+        }
+
+        private Message message() {
+            return message;
+        }
+
+        private String groupId() {
+            return message.attributes().get(MessageSystemAttributeName.MESSAGE_GROUP_ID);
+        }
+
+        private void extendVisibility() {
+            visibilityExtensionCount.incrementAndGet();
+            batchManager.changeMessageVisibility(r -> r.queueUrl(queueUrl)
+                                                       .receiptHandle(message.receiptHandle())
+                                                       .visibilityTimeout(visibilityTimeoutSeconds))
+                        .whenComplete((r, t) -> {
+                            if (t != null) {
+                                log.warn(() -> String.format("Failed to extend the visibility timeout of message %s of "
+                                                             + "queue %s.", message.messageId(), queueUrl), t);
+                            }
+                        });
+        }
+
+        private void stopVisibilityExtension() {
+            visibilityExtension.cancel(false);
+        }
+
+        private int visibilityExtensionCount() {
+            return visibilityExtensionCount.get();
+        }
+    }
+
+    public static final class DefaultBuilder implements SqsMessageProcessor.Builder {
+        private final List<MetricPublisher> metricPublishers = new ArrayList<>();
+        private SqsAsyncClient client;
+        private String queueUrl;
+        private Consumer<Message> messageHandler;
+        private Integer maxConcurrency;
+        private Executor executor;
+        private ScheduledExecutorService scheduledExecutor;
+        private Duration visibilityTimeout;
+        private Duration shutdownTimeout;
+        private BatchOverrideConfiguration overrideConfiguration;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public SqsMessageProcessor.Builder client(SqsAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public SqsMessageProcessor.Builder queueUrl(String queueUrl) {
+            this.queueUrl = queueUrl;
+            return this;
+        }
+
+        @Override
+        public SqsMessageProcessor.Builder messageHandler(Consumer<Message> messageHandler) {
+            this.messageHandler = messageHandler;
+            return this;
+        }
+
+        @Override
+        public SqsMessageProcessor.Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        @Override
+        public SqsMessageProcessor.Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Override
+        public SqsMessageProcessor.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public SqsMessageProcessor.Builder visibilityTimeout(Duration visibilityTimeout) {
+            this.visibilityTimeout = visibilityTimeout;
+            return this;
+        }
+
+        @Override
+        public SqsMessageProcessor.Builder shutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+            return this;
+        }
+
+        @Override
+        public SqsMessageProcessor.Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public SqsMessageProcessor.Builder addMetricPublisher(MetricPublisher metricPublisher) {
+            this.metricPublishers.add(Validate.paramNotNull(metricPublisher, "metricPublisher"));
+            return this;
+        }
+
+        @Override
+        public SqsMessageProcessor build() {
+            return new DefaultSqsMessageProcessor(this);
+        }
+    }
+}
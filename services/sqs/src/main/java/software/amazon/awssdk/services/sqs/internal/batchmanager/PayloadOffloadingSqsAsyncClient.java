@@ -0,0 +1,274 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import static software.amazon.awssdk.services.sqs.internal.batchmanager.ResponseBatchConfiguration.MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.batchmanager.LargePayloadStore;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Wraps the {@link SqsAsyncClient} used by the batch managers to offload large message bodies to a {@link LargePayloadStore}.
+ * <p>
+ * Send requests are offloaded with {@link #offloadIfNeeded(SendMessageRequest)} before they are buffered, so that batches
+ * are sized on the pointers rather than the payloads. Receive responses have their payloads retrieved in parallel before they
+ * are returned to the receive buffer. A message whose payload cannot be retrieved is returned unresolved, with the pointer as
+ * its body and the {@value #PAYLOAD_SIZE_ATTRIBUTE} message attribute, without failing the other messages of the response.
+ * <p>
+ * The receipt handles of offloaded messages returned to callers embed the payload pointer, so that the payload can be deleted
+ * with the message. The pointer is removed again before delete and change message visibility requests are sent, which makes
+ * these receipt handles only valid through the batch manager.
+ * <p>
+ * Offloaded messages carry the {@value #PAYLOAD_SIZE_ATTRIBUTE} message attribute, as used by the Amazon SQS Extended Client
+ * Library for Java.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class PayloadOffloadingSqsAsyncClient implements SqsAsyncClient {
+    public static final String PAYLOAD_SIZE_ATTRIBUTE = "ExtendedPayloadSize";
+
+    private static final Logger log = Logger.loggerFor(PayloadOffloadingSqsAsyncClient.class);
+    private static final String RECEIPT_HANDLE_MARKER = "-..payload-pointer..-";
+    private static final List<String> ALL_MESSAGE_ATTRIBUTES = Arrays.asList("All", ".*");
+
+    private final SqsAsyncClient delegate;
+    private final LargePayloadStore payloadStore;
+
+    public PayloadOffloadingSqsAsyncClient(SqsAsyncClient delegate, LargePayloadStore payloadStore) {
+        this.delegate = delegate;
+        this.payloadStore = payloadStore;
+    }
+
+    /**
+     * Stores the body of the request in the payload store and replaces it with the returned pointer if the message, body and
+     * message attributes, exceeds the maximum SQS payload size. Other requests are returned unchanged.
+     */
+    public CompletableFuture<SendMessageRequest> offloadIfNeeded(SendMessageRequest request) {
+        int messageSize = RequestPayloadCalculator.calculateSerializedMessageSize(request);
+        if (messageSize <= MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES) {
+            return CompletableFuture.completedFuture(request);
+        }
+
+        int payloadSize = request.messageBody().getBytes(StandardCharsets.UTF_8).length;
+        return payloadStore.storePayload(request.queueUrl(), request.messageBody()).thenApply(pointer -> {
+            Map<String, MessageAttributeValue> messageAttributes = new HashMap<>(request.messageAttributes());
+            messageAttributes.put(PAYLOAD_SIZE_ATTRIBUTE, MessageAttributeValue.builder()
+                                                                               .dataType("Number")
+                                                                               .stringValue(String.valueOf(payloadSize))
+                                                                               .build());
+            return request.toBuilder()
+                          .messageBody(pointer)
+                          .messageAttributes(messageAttributes)
+                          .build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        return delegate.receiveMessage(withPayloadSizeAttribute(request))
+                       .thenCompose(response -> {
+                           if (response.messages().stream().noneMatch(PayloadOffloadingSqsAsyncClient::isOffloaded)) {
+                               return CompletableFuture.completedFuture(response);
+                           }
+                           List<CompletableFuture<Message>> messages = response.messages()
+                                                                               .stream()
+                                                                               .map(this::retrievePayload)
+                                                                               .collect(Collectors.toList());
+                           return CompletableFuture.allOf(messages.toArray(new CompletableFuture[0]))
+                                                   .thenApply(r -> response.toBuilder()
+                                                                           .messages(messages.stream()
+                                                                                             .map(CompletableFuture::join)
+                                                                                             .collect(Collectors.toList()))
+                                                                           .build());
+                       });
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageBatchResponse> deleteMessageBatch(DeleteMessageBatchRequest request) {
+        Map<String, String> payloadPointers = new HashMap<>();
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>();
+        for (DeleteMessageBatchRequestEntry entry : request.entries()) {
+            String pointer = payloadPointer(entry.receiptHandle());
+            if (pointer != null) {
+                payloadPointers.put(entry.id(), pointer);
+                entries.add(entry.toBuilder().receiptHandle(originalReceiptHandle(entry.receiptHandle())).build());
+            } else {
+                entries.add(entry);
+            }
+        }
+        if (payloadPointers.isEmpty()) {
+            return delegate.deleteMessageBatch(request);
+        }
+
+        return delegate.deleteMessageBatch(request.toBuilder().entries(entries).build())
+                       .thenCompose(response -> {
+                           CompletableFuture<?>[] payloadDeletions =
+                               response.successful()
+                                       .stream()
+                                       .map(DeleteMessageBatchResultEntry::id)
+                                       .map(payloadPointers::get)
+                                       .filter(pointer -> pointer != null)
+                                       .map(this::deletePayload)
+                                       .toArray(CompletableFuture[]::new);
+                           return CompletableFuture.allOf(payloadDeletions).thenApply(r -> response);
+                       });
+    }
+
+    @Override
+    public CompletableFuture<ChangeMessageVisibilityBatchResponse> changeMessageVisibilityBatch(
+        ChangeMessageVisibilityBatchRequest request) {
+        if (request.entries().stream().noneMatch(entry -> payloadPointer(entry.receiptHandle()) != null)) {
+            return delegate.changeMessageVisibilityBatch(request);
+        }
+        return delegate.changeMessageVisibilityBatch(
+            request.toBuilder()
+                   .entries(request.entries()
+                                   .stream()
+                                   .map(entry -> entry.toBuilder()
+                                                      .receiptHandle(originalReceiptHandle(entry.receiptHandle()))
+                                                      .build())
+                                   .collect(Collectors.toList()))
+                   .build());
+    }
+
+    @Override
+    public CompletableFuture<SendMessageBatchResponse> sendMessageBatch(SendMessageBatchRequest request) {
+        return delegate.sendMessageBatch(request);
+    }
+
+    @Override
+    public CompletableFuture<GetQueueAttributesResponse> getQueueAttributes(GetQueueAttributesRequest request) {
+        return delegate.getQueueAttributes(request);
+    }
+
+    @Override
+    public String serviceName() {
+        return delegate.serviceName();
+    }
+
+    /**
+     * The wrapped client is owned by the caller of the batch manager.
+     */
+    @Override
+    public void close() {
+    }
+
+    private CompletableFuture<Message> retrievePayload(Message message) {
+        if (!isOffloaded(message)) {
+            return CompletableFuture.completedFuture(message);
+        }
+        String pointer = message.body();
+        String receiptHandle = embedPayloadPointer(pointer, message.receiptHandle());
+        CompletableFuture<String> payload;
+        try {
+            payload = payloadStore.retrievePayload(pointer);
+        } catch (RuntimeException e) {
+            payload = new CompletableFuture<>();
+            payload.completeExceptionally(e);
+        }
+        return payload.handle((retrievedPayload, t) -> {
+            if (t != null) {
+                log.warn(() -> String.format("Failed to retrieve the stored payload of message %s. It is returned with the "
+                                             + "payload pointer as its body.", message.messageId()), t);
+                return message.toBuilder().receiptHandle(receiptHandle).build();
+            }
+            Map<String, MessageAttributeValue> messageAttributes = new HashMap<>(message.messageAttributes());
+            messageAttributes.remove(PAYLOAD_SIZE_ATTRIBUTE);
+            return message.toBuilder()
+                          .body(retrievedPayload)
+                          .receiptHandle(receiptHandle)
+                          .messageAttributes(messageAttributes)
+                          .build();
+        });
+    }
+
+    private CompletableFuture<Void> deletePayload(String pointer) {
+        return payloadStore.deletePayload(pointer).handle((r, t) -> {
+            if (t != null) {
+                log.warn(() -> "Failed to delete the stored payload of a deleted message: " + pointer, t);
+            }
+            return null;
+        });
+    }
+
+    private static boolean isOffloaded(Message message) {
+        return message.messageAttributes().containsKey(PAYLOAD_SIZE_ATTRIBUTE);
+    }
+
+    private static ReceiveMessageRequest withPayloadSizeAttribute(ReceiveMessageRequest request) {
+        List<String> attributeNames = request.messageAttributeNames();
+        if (attributeNames.contains(PAYLOAD_SIZE_ATTRIBUTE)
+            || attributeNames.stream().anyMatch(ALL_MESSAGE_ATTRIBUTES::contains)) {
+            return request;
+        }
+        List<String> withPayloadSize = new ArrayList<>(attributeNames);
+        withPayloadSize.add(PAYLOAD_SIZE_ATTRIBUTE);
+        return request.toBuilder().messageAttributeNames(withPayloadSize).build();
+    }
+
+    private static String embedPayloadPointer(String pointer, String receiptHandle) {
+        String encodedPointer = Base64.getUrlEncoder().withoutPadding().encodeToString(pointer.getBytes(StandardCharsets.UTF_8));
+        return RECEIPT_HANDLE_MARKER + encodedPointer + RECEIPT_HANDLE_MARKER + receiptHandle;
+    }
+
+    private static String payloadPointer(String receiptHandle) {
+        int end = pointerEnd(receiptHandle);
+        if (end < 0) {
+            return null;
+        }
+        byte[] pointer = Base64.getUrlDecoder().decode(receiptHandle.substring(RECEIPT_HANDLE_MARKER.length(), end));
+        return new String(pointer, StandardCharsets.UTF_8);
+    }
+
+    private static String originalReceiptHandle(String receiptHandle) {
+        int end = pointerEnd(receiptHandle);
+        return end < 0 ? receiptHandle : receiptHandle.substring(end + RECEIPT_HANDLE_MARKER.length());
+    }
+
+    private static int pointerEnd(String receiptHandle) {
+        if (receiptHandle == null || !receiptHandle.startsWith(RECEIPT_HANDLE_MARKER)) {
+            return -1;
+        }
+        return receiptHandle.indexOf(RECEIPT_HANDLE_MARKER, RECEIPT_HANDLE_MARKER.length());
+    }
+}
@@ -38,6 +38,11 @@ public class ReceiveBatchManager implements SdkAutoCloseable {
 
     public ReceiveBatchManager(SqsAsyncClient sqsClient, ScheduledExecutorService executor, ResponseBatchConfiguration config,
                                String queueUrl) {
+        this(sqsClient, executor, config, queueUrl, null);
+    }
+
+    public ReceiveBatchManager(SqsAsyncClient sqsClient, ScheduledExecutorService executor, ResponseBatchConfiguration config,
+                               String queueUrl, ChangeMessageVisibilityBatchManager changeMessageVisibilityBatchManager) {
         this.sqsClient = sqsClient;
         this.executor = executor;
         this.config = config;
@@ -48,7 +53,9 @@ public class ReceiveBatchManager implements SdkAutoCloseable {
                                                     .sqsClient(sqsClient)
                                                     .config(config)
                                                     .queueUrl(queueUrl)
-                                                    .queueAttributesManager(queueAttributesManager).build();
+                                                    .queueAttributesManager(queueAttributesManager)
+                                                    .changeMessageVisibilityBatchManager(changeMessageVisibilityBatchManager)
+                                                    .build();
     }
 
     public CompletableFuture<ReceiveMessageResponse> processRequest(ReceiveMessageRequest rq) {
@@ -34,16 +34,23 @@ public class ReceiveMessageBatchManager implements SdkAutoCloseable {
     private final SqsAsyncClient sqsClient;
     private final ScheduledExecutorService executor;
     private final ResponseBatchConfiguration config;
+    private final ChangeMessageVisibilityBatchManager changeMessageVisibilityBatchManager;
     private final Map<String, ReceiveBatchManager> receiveBatchManagerMap = new ConcurrentHashMap<>();
 
     public ReceiveMessageBatchManager(SqsAsyncClient sqsClient,
                                       ScheduledExecutorService executor,
                                       ResponseBatchConfiguration config) {
+        this(sqsClient, executor, config, null);
+    }
+
+    public ReceiveMessageBatchManager(SqsAsyncClient sqsClient,
+                                      ScheduledExecutorService executor,
+                                      ResponseBatchConfiguration config,
+                                      ChangeMessageVisibilityBatchManager changeMessageVisibilityBatchManager) {
         this.sqsClient = sqsClient;
         this.executor = executor;
         this.config = config;
-
-
+        this.changeMessageVisibilityBatchManager = changeMessageVisibilityBatchManager;
     }
 
     public CompletableFuture<ReceiveMessageResponse> batchRequest(ReceiveMessageRequest request) {
@@ -70,7 +77,7 @@ public class ReceiveMessageBatchManager implements SdkAutoCloseable {
     }
 
     private ReceiveBatchManager createReceiveBatchManager(ReceiveMessageRequest request) {
-        return new ReceiveBatchManager(sqsClient, executor, config, request.queueUrl());
+        return new ReceiveBatchManager(sqsClient, executor, config, request.queueUrl(), changeMessageVisibilityBatchManager);
     }
 
     @Override
@@ -17,6 +17,7 @@ package software.amazon.awssdk.services.sqs.internal.batchmanager;
 
 import static software.amazon.awssdk.services.sqs.internal.batchmanager.ResponseBatchConfiguration.MAX_SUPPORTED_SQS_RECEIVE_MSG;
 
+import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -24,22 +25,36 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 @SdkInternalApi
 public class ReceiveQueueBuffer implements SdkAutoCloseable {
 
+    private static final Logger log = Logger.loggerFor(ReceiveQueueBuffer.class);
+
+    private static final long MIN_VISIBILITY_CHECK_PERIOD_MILLIS = 1_000;
+    private static final long MAX_VISIBILITY_CHECK_PERIOD_MILLIS = 30_000;
+
     private final ScheduledExecutorService executor;
     private final SqsAsyncClient sqsClient;
     private final ResponseBatchConfiguration config;
     private final String queueUrl;
     private final  QueueAttributesManager queueAttributesManager;
+    private final ChangeMessageVisibilityBatchManager changeMessageVisibilityBatchManager;
+
+    /**
+     * Sizes the in-flight receive requests and buffered batches when adaptive prefetch is enabled, null otherwise.
+     */
+    private final AdaptiveReceivePrefetch adaptivePrefetch;
 
     private final Queue<ReceiveSqsMessageHelper> finishedTasks = new ConcurrentLinkedQueue<>();
     private final Queue<FutureRequestWrapper> futures = new ConcurrentLinkedQueue<>();
@@ -49,12 +64,23 @@ public class ReceiveQueueBuffer implements SdkAutoCloseable {
 
     private final AtomicBoolean processingFutures = new AtomicBoolean(false);
 
+    private final AtomicBoolean visibilityExtensionStarted = new AtomicBoolean(false);
+    private volatile ScheduledFuture<?> visibilityExtension;
+    private volatile Duration visibilityTimeout;
+
     private ReceiveQueueBuffer(Builder builder) {
         this.executor = builder.executor;
         this.sqsClient = builder.sqsClient;
         this.config = builder.config;
         this.queueUrl = builder.queueUrl;
         this.queueAttributesManager = builder.queueAttributesManager;
+        this.changeMessageVisibilityBatchManager = builder.changeMessageVisibilityBatchManager;
+        this.adaptivePrefetch = config.adaptivePrefetchEnabled()
+                                ? new AdaptiveReceivePrefetch(config.maxInflightReceiveBatches(),
+                                                              config.maxDoneReceiveBatches(),
+                                                              config.maxBatchItems(),
+                                                              System.nanoTime())
+                                : null;
     }
 
     public static Builder builder() {
@@ -74,6 +100,10 @@ public class ReceiveQueueBuffer implements SdkAutoCloseable {
     @Override
     public void close() {
         if (this.shutDown.compareAndSet(false, true)) {
+            ScheduledFuture<?> extension = visibilityExtension;
+            if (extension != null) {
+                extension.cancel(false);
+            }
             while (!finishedTasks.isEmpty()) {
                 ReceiveSqsMessageHelper batch = finishedTasks.poll();
                 if (inflightReceiveMessageBatches.get() > 0) {
@@ -107,18 +137,52 @@ public class ReceiveQueueBuffer implements SdkAutoCloseable {
         }
 
         queueAttributesManager.getVisibilityTimeout().thenAccept(visibilityTimeout -> {
-            int max = Math.max(config.maxInflightReceiveBatches(), 1);
+            this.visibilityTimeout = visibilityTimeout;
+            startVisibilityExtension(visibilityTimeout);
+            int max = maxInflightReceiveBatches();
             int toSpawn = max - inflightReceiveMessageBatches.get();
             if (toSpawn > 0) {
                 ReceiveSqsMessageHelper receiveSqsMessageHelper = new ReceiveSqsMessageHelper(
                     queueUrl, sqsClient, visibilityTimeout, config);
                 inflightReceiveMessageBatches.incrementAndGet();
+                long receiveStartNanos = System.nanoTime();
                 receiveSqsMessageHelper.asyncReceiveMessage()
-                                       .whenComplete((response, exception) -> reportBatchFinished(response));
+                                       .whenComplete((response, exception) -> {
+                                           recordReceiveLatency(response, receiveStartNanos);
+                                           reportBatchFinished(response);
+                                       });
             }
         });
     }
 
+    private int maxInflightReceiveBatches() {
+        if (adaptivePrefetch != null) {
+            return adaptivePrefetch.desiredInflightBatches(waitingMessages(), System.nanoTime());
+        }
+        return Math.max(config.maxInflightReceiveBatches(), 1);
+    }
+
+    /**
+     * The number of messages requested by pending receive calls that the buffered batches do not cover.
+     */
+    private int waitingMessages() {
+        int requested = futures.stream()
+                               .filter(future -> !future.getFuture().isDone())
+                               .mapToInt(FutureRequestWrapper::getRequestedSize)
+                               .sum();
+        int buffered = finishedTasks.stream()
+                                    .mapToInt(ReceiveSqsMessageHelper::bufferedMessageCount)
+                                    .sum();
+        return Math.max(requested - buffered, 0);
+    }
+
+    private void recordReceiveLatency(ReceiveSqsMessageHelper batch, long receiveStartNanos) {
+        // Empty long polls wait for the whole wait time, which says nothing about how fast messages can be received.
+        if (adaptivePrefetch != null && batch != null && batch.getException() == null && !batch.isEmpty()) {
+            adaptivePrefetch.recordReceiveLatency(System.nanoTime() - receiveStartNanos);
+        }
+    }
+
     private int determineDesiredBatches() {
         int desiredBatches = Math.max(config.maxDoneReceiveBatches(), 1);
         int totalRequested = futures.stream()
@@ -127,9 +191,70 @@ public class ReceiveQueueBuffer implements SdkAutoCloseable {
         int batchesNeededToFulfillFutures = (int) Math.ceil((float) totalRequested / MAX_SUPPORTED_SQS_RECEIVE_MSG);
         desiredBatches = Math.min(batchesNeededToFulfillFutures, desiredBatches);
 
+        if (adaptivePrefetch != null) {
+            desiredBatches = Math.max(desiredBatches, prefetchedBatches());
+        }
         return desiredBatches;
     }
 
+    /**
+     * The number of batches to buffer ahead of receive calls. Nothing is prefetched while the oldest buffered batch has used
+     * up half of its visibility timeout, since the buffer is then not drained fast enough for more messages.
+     */
+    private int prefetchedBatches() {
+        Duration currentVisibilityTimeout = visibilityTimeout;
+        if (currentVisibilityTimeout == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        ReceiveSqsMessageHelper oldestBatch = finishedTasks.peek();
+        if (oldestBatch != null && oldestBatch.visibilityDeadlineNanos() - now < currentVisibilityTimeout.toNanos() / 2) {
+            return 0;
+        }
+        return adaptivePrefetch.desiredBufferedBatches(currentVisibilityTimeout, now);
+    }
+
+    private void startVisibilityExtension(Duration visibilityTimeout) {
+        if (adaptivePrefetch == null || changeMessageVisibilityBatchManager == null
+            || !visibilityExtensionStarted.compareAndSet(false, true)) {
+            return;
+        }
+        long periodMillis = Math.max(MIN_VISIBILITY_CHECK_PERIOD_MILLIS,
+                                     Math.min(MAX_VISIBILITY_CHECK_PERIOD_MILLIS, visibilityTimeout.toMillis() / 6));
+        long expiryThresholdNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(2 * periodMillis), visibilityTimeout.toNanos() / 2);
+        visibilityExtension = executor.scheduleWithFixedDelay(() -> extendExpiringBatches(expiryThresholdNanos),
+                                                              periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        if (shutDown.get()) {
+            visibilityExtension.cancel(false);
+        }
+    }
+
+    /**
+     * Extends the visibility timeout of the buffered batches that expire within the provided threshold, if consumers are
+     * expected to drain them before the extended visibility timeout expires. Other batches are left to expire and become
+     * visible to other consumers again.
+     */
+    private void extendExpiringBatches(long expiryThresholdNanos) {
+        try {
+            long now = System.nanoTime();
+            double drainRatePerSecond = adaptivePrefetch.drainRatePerSecond(now);
+            long messagesAhead = 0;
+            for (ReceiveSqsMessageHelper batch : finishedTasks) {
+                messagesAhead += batch.bufferedMessageCount();
+                long remainingNanos = batch.visibilityDeadlineNanos() - now;
+                if (remainingNanos <= 0 || remainingNanos > expiryThresholdNanos) {
+                    continue;
+                }
+                double secondsToDrain = drainRatePerSecond > 0 ? messagesAhead / drainRatePerSecond : Double.MAX_VALUE;
+                if (secondsToDrain * 1000 < batch.visibilityTimeout().toMillis()) {
+                    batch.extendVisibility(changeMessageVisibilityBatchManager);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn(() -> "Failed to extend the visibility timeout of buffered messages for queueUrl: " + queueUrl, e);
+        }
+    }
+
     private void fulfillFuture(FutureRequestWrapper futureWrapper) {
         ReceiveSqsMessageHelper peekedMessage = finishedTasks.peek();
         List<Message> messages = new LinkedList<>();
@@ -157,6 +282,9 @@ public class ReceiveQueueBuffer implements SdkAutoCloseable {
         if (batchDone) {
             finishedTasks.poll();
         }
+        if (adaptivePrefetch != null) {
+            adaptivePrefetch.recordDelivered(messages.size(), System.nanoTime());
+        }
         futureWrapper.getFuture().complete(ReceiveMessageResponse.builder().messages(messages).build());
     }
 
@@ -213,6 +341,7 @@ public class ReceiveQueueBuffer implements SdkAutoCloseable {
         private ResponseBatchConfiguration config;
         private String queueUrl;
         private QueueAttributesManager queueAttributesManager;
+        private ChangeMessageVisibilityBatchManager changeMessageVisibilityBatchManager;
 
         public Builder executor(ScheduledExecutorService executor) {
             this.executor = executor;
@@ -239,6 +368,15 @@ public class ReceiveQueueBuffer implements SdkAutoCloseable {
             return this;
         }
 
+        /**
+         * The batch manager used to extend the visibility timeout of buffered messages when adaptive prefetch is enabled.
+         * Visibility timeouts are not extended if not set.
+         */
+        public Builder changeMessageVisibilityBatchManager(ChangeMessageVisibilityBatchManager visibilityBatchManager) {
+            this.changeMessageVisibilityBatchManager = visibilityBatchManager;
+            return this;
+        }
+
         public ReceiveQueueBuffer build() {
             return new ReceiveQueueBuffer(this);
         }
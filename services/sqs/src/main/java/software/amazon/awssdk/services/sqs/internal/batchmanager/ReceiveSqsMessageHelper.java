@@ -19,11 +19,13 @@ package software.amazon.awssdk.services.sqs.internal.batchmanager;
 import static software.amazon.awssdk.services.sqs.internal.batchmanager.RequestBatchManager.USER_AGENT_APPLIER;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -32,6 +34,7 @@ import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -45,7 +48,8 @@ import software.amazon.awssdk.utils.NumericUtils;
  * It manages message visibility timeout by tracking the visibility deadline and expiring messages if not processed in time,
  * ensuring unhandled messages return to the queue for reprocessing.
  * <p>
- * Additionally, the class supports clearing messages in the batch and changing their visibility as needed.
+ * Additionally, the class supports clearing messages in the batch and changing their visibility as needed, including extending
+ * the visibility timeout of buffered messages that are about to expire.
  */
 
 @SdkInternalApi
@@ -59,6 +63,7 @@ public class ReceiveSqsMessageHelper {
     private volatile Throwable exception;
     private Queue<Message> messages = new ConcurrentLinkedQueue<>();
     private volatile long visibilityDeadlineNano;
+    private final AtomicBoolean extendingVisibility = new AtomicBoolean(false);
 
     public ReceiveSqsMessageHelper(String queueUrl,
                                    SqsAsyncClient asyncClient,
@@ -123,6 +128,62 @@ public class ReceiveSqsMessageHelper {
         return System.nanoTime() > visibilityDeadlineNano;
     }
 
+    /**
+     * @return the {@link System#nanoTime()} after which the buffered messages may have become visible again in the queue.
+     */
+    public long visibilityDeadlineNanos() {
+        return visibilityDeadlineNano;
+    }
+
+    public Duration visibilityTimeout() {
+        return visibilityTimeout;
+    }
+
+    /**
+     * @return a snapshot of the number of messages in this batch that were not handed to a consumer yet.
+     */
+    public int bufferedMessageCount() {
+        return messages.size();
+    }
+
+    /**
+     * Resets the visibility timeout of the messages in this batch that were not handed to a consumer yet, and moves the
+     * visibility deadline accordingly once all of them were changed. Does nothing if an extension is already in progress.
+     *
+     * @param changeMessageVisibilityBatchManager the batch manager sending the change message visibility requests.
+     * @return a future completed once the extension completes, successfully or not.
+     */
+    public CompletableFuture<Void> extendVisibility(ChangeMessageVisibilityBatchManager changeMessageVisibilityBatchManager) {
+        List<Message> bufferedMessages = new ArrayList<>(messages);
+        if (bufferedMessages.isEmpty() || isExpired() || !extendingVisibility.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long extensionStartNanos = System.nanoTime();
+        int visibilityTimeoutSeconds = NumericUtils.saturatedCast(visibilityTimeout.getSeconds());
+        CompletableFuture<?>[] changes =
+            bufferedMessages.stream()
+                            .map(message -> ChangeMessageVisibilityRequest.builder()
+                                                                          .queueUrl(queueUrl)
+                                                                          .receiptHandle(message.receiptHandle())
+                                                                          .visibilityTimeout(visibilityTimeoutSeconds)
+                                                                          .build())
+                            .map(changeMessageVisibilityBatchManager::batchRequest)
+                            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(changes).handle((r, throwable) -> {
+            if (throwable == null) {
+                visibilityDeadlineNano = extensionStartNanos + visibilityTimeout.toNanos();
+            } else {
+                log.debug(() -> String.format("Failed to extend the visibility timeout of buffered messages for queueUrl: %s. "
+                                              + "They will be released once their current visibility timeout expires.",
+                                              queueUrl), throwable);
+            }
+            extendingVisibility.set(false);
+            return null;
+        });
+    }
+
 
     public void clear() {
         if (!isEmpty()) {
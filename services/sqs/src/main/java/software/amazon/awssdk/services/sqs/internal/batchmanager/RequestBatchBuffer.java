@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.services.sqs.internal.batchmanager;
 
+import static software.amazon.awssdk.services.sqs.internal.batchmanager.ResponseBatchConfiguration.ATTRIBUTE_MAPS_PAYLOAD_BYTES;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -49,7 +50,7 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
     private int nextBatchEntry;
 
     /**
-     * The scheduled flush tasks associated with this batchBuffer.
+     * The scheduled flush tasks associated with this batchBuffer, or null if none has been scheduled yet.
      */
     private ScheduledFuture<?> scheduledFlush;
 
@@ -66,7 +67,7 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
 
     public Map<String, BatchingExecutionContext<RequestT, ResponseT>> extractBatchIfReady() {
         synchronized (flushLock) {
-            return (isByteSizeThresholdCrossed(0) || isMaxBatchSizeLimitReached())
+            return (isByteSizeThresholdCrossed(0) || isByteSizeLimitReached() || isMaxBatchSizeLimitReached())
                    ? extractEntries(maxBatchItems)
                    : Collections.emptyMap();
         }
@@ -93,11 +94,26 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
         if (maxBatchSizeInBytes < 0) {
             return false;
         }
-        int totalPayloadSize = idToBatchContext.values().stream()
-                                               .map(BatchingExecutionContext::responsePayloadByteSize)
-                                               .mapToInt(opt -> opt.orElse(0))
-                                               .sum() + incomingRequestBytes;
-        return totalPayloadSize > maxBatchSizeInBytes;
+        return totalPayloadSize() + incomingRequestBytes > maxBatchSizeInBytes;
+    }
+
+    /**
+     * Checks whether the entries leave no room for another request in the same batch, in which case holding the batch open any
+     * longer only delays it. Every request is at least {@link ResponseBatchConfiguration#ATTRIBUTE_MAPS_PAYLOAD_BYTES} large.
+     */
+    private boolean isByteSizeLimitReached() {
+        if (maxBatchSizeInBytes < 0) {
+            return false;
+        }
+        int totalPayloadSize = totalPayloadSize();
+        return totalPayloadSize > 0 && totalPayloadSize + ATTRIBUTE_MAPS_PAYLOAD_BYTES > maxBatchSizeInBytes;
+    }
+
+    private int totalPayloadSize() {
+        return idToBatchContext.values().stream()
+                               .map(BatchingExecutionContext::responsePayloadByteSize)
+                               .mapToInt(opt -> opt.orElse(0))
+                               .sum();
     }
 
     public Map<String, BatchingExecutionContext<RequestT, ResponseT>> extractEntriesForScheduledFlush(int maxBatchItems) {
@@ -120,7 +136,12 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
         return requestEntries;
     }
 
-    public void put(RequestT request, CompletableFuture<ResponseT> response) {
+    /**
+     * Adds the request and response pair to the buffer.
+     *
+     * @return the number of entries in the buffer once the pair was added, which is 1 if it opened a new batch.
+     */
+    public int put(RequestT request, CompletableFuture<ResponseT> response) {
         synchronized (this) {
             if (idToBatchContext.size() == maxBufferSize) {
                 throw new IllegalStateException("Reached MaxBufferSize of: " + maxBufferSize);
@@ -131,9 +152,14 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
             }
             String id = Integer.toString(nextId++);
             idToBatchContext.put(id, new BatchingExecutionContext<>(request, response));
+            return idToBatchContext.size();
         }
     }
 
+    public boolean isEmpty() {
+        return idToBatchContext.isEmpty();
+    }
+
     private boolean hasNextBatchEntry() {
         return idToBatchContext.containsKey(Integer.toString(nextBatchEntry));
     }
@@ -157,7 +183,9 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
 
     public void cancelScheduledFlush() {
         synchronized (scheduledFlushLock) {
-            scheduledFlush.cancel(false);
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+            }
         }
     }
 
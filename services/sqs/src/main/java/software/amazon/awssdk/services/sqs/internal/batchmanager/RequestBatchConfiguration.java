@@ -27,12 +27,15 @@ public final class RequestBatchConfiguration {
     public static final int DEFAULT_MAX_BATCH_KEYS = 10000;
     public static final int DEFAULT_MAX_BUFFER_SIZE = 500;
     public static final Duration DEFAULT_MAX_BATCH_OPEN_IN_MS = Duration.ofMillis(200);
+    public static final Duration DEFAULT_MIN_BATCH_OPEN = Duration.ZERO;
 
     private final Integer maxBatchItems;
     private final Integer maxBatchKeys;
     private final Integer maxBufferSize;
     private final Duration sendRequestFrequency;
     private final Integer maxBatchBytesSize;
+    private final boolean adaptiveBatchingEnabled;
+    private final Duration minSendRequestFrequency;
 
     private RequestBatchConfiguration(Builder builder) {
 
@@ -43,6 +46,9 @@ public final class RequestBatchConfiguration {
                                                   builder.sendRequestFrequency :
                                          DEFAULT_MAX_BATCH_OPEN_IN_MS;
         this.maxBatchBytesSize = builder.maxBatchBytesSize != null ? builder.maxBatchBytesSize : DEFAULT_MAX_BATCH_BYTES_SIZE;
+        this.adaptiveBatchingEnabled = Boolean.TRUE.equals(builder.adaptiveBatchingEnabled);
+        this.minSendRequestFrequency = builder.minSendRequestFrequency != null ? builder.minSendRequestFrequency
+                                                                               : DEFAULT_MIN_BATCH_OPEN;
 
     }
 
@@ -55,7 +61,8 @@ public final class RequestBatchConfiguration {
             return new Builder()
                 .maxBatchItems(configuration.maxBatchSize())
                 .sendRequestFrequency(configuration.sendRequestFrequency())
-                .maxBatchBytesSize(configuration.maxBatchSize());
+                .adaptiveBatchingEnabled(configuration.adaptiveBatchingEnabled())
+                .minSendRequestFrequency(configuration.minSendRequestFrequency());
         }
         return new Builder();
     }
@@ -80,6 +87,14 @@ public final class RequestBatchConfiguration {
         return maxBatchBytesSize;
     }
 
+    public boolean adaptiveBatchingEnabled() {
+        return adaptiveBatchingEnabled;
+    }
+
+    public Duration minSendRequestFrequency() {
+        return minSendRequestFrequency;
+    }
+
     public static final class Builder {
 
         private Integer maxBatchItems;
@@ -87,6 +102,8 @@ public final class RequestBatchConfiguration {
         private Integer maxBufferSize;
         private Duration sendRequestFrequency;
         private Integer maxBatchBytesSize;
+        private Boolean adaptiveBatchingEnabled;
+        private Duration minSendRequestFrequency;
 
         private Builder() {
         }
@@ -116,6 +133,16 @@ public final class RequestBatchConfiguration {
             return this;
         }
 
+        public Builder adaptiveBatchingEnabled(Boolean adaptiveBatchingEnabled) {
+            this.adaptiveBatchingEnabled = adaptiveBatchingEnabled;
+            return this;
+        }
+
+        public Builder minSendRequestFrequency(Duration minSendRequestFrequency) {
+            this.minSendRequestFrequency = minSendRequestFrequency;
+            return this;
+        }
+
         public RequestBatchConfiguration build() {
             return new RequestBatchConfiguration(this);
         }
@@ -49,6 +49,9 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
     private final ScheduledExecutorService scheduledExecutor;
     private final Set<CompletableFuture<BatchResponseT>> pendingBatchResponses ;
     private final Set<CompletableFuture<ResponseT>> pendingResponses ;
+    private final boolean adaptiveBatchingEnabled;
+    private final Duration minSendRequestFrequency;
+    private final Map<String, AdaptiveFlushDelay> flushDelays;
 
 
     protected RequestBatchManager(RequestBatchConfiguration overrideConfiguration,
@@ -60,6 +63,11 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
         pendingBatchResponses = ConcurrentHashMap.newKeySet();
         pendingResponses = ConcurrentHashMap.newKeySet();
         this.requestsAndResponsesMaps = new BatchingMap<>(overrideConfiguration);
+        this.adaptiveBatchingEnabled = batchConfiguration.adaptiveBatchingEnabled();
+        this.minSendRequestFrequency = batchConfiguration.minSendRequestFrequency().compareTo(sendRequestFrequency) < 0
+                                       ? batchConfiguration.minSendRequestFrequency()
+                                       : sendRequestFrequency;
+        this.flushDelays = new ConcurrentHashMap<>();
 
     }
 
@@ -78,12 +86,22 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
             }
 
             // Add request and response to the map, scheduling a flush if necessary
-            requestsAndResponsesMaps.put(batchKey,
-                                         () -> scheduleBufferFlush(batchKey,
-                                                                   sendRequestFrequency.toMillis(),
-                                                                   scheduledExecutor),
-                                         request,
-                                         response);
+            if (adaptiveBatchingEnabled) {
+                flushDelay(batchKey).recordRequest(System.nanoTime());
+                // A new buffer starts without a scheduled flush: the request that opens each batch schedules it below.
+                int bufferedRequests = requestsAndResponsesMaps.put(batchKey, () -> null, request, response);
+                // The request opened a new batch, which is sent once its adaptive delay elapses unless it fills up before.
+                if (bufferedRequests == 1) {
+                    requestsAndResponsesMaps.cancelAndReplaceScheduledFlush(batchKey, scheduleAdaptiveBufferFlush(batchKey));
+                }
+            } else {
+                requestsAndResponsesMaps.put(batchKey,
+                                             () -> scheduleBufferFlush(batchKey,
+                                                                       sendRequestFrequency.toMillis(),
+                                                                       scheduledExecutor),
+                                             request,
+                                             response);
+            }
 
             // Immediately flush if the batch is full
             Optional.of(requestsAndResponsesMaps.extractBatchIfReady(batchKey))
@@ -108,6 +126,14 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
     private void manualFlushBuffer(String batchKey,
                                    Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests) {
         flushBuffer(batchKey, flushableRequests);
+        if (adaptiveBatchingEnabled) {
+            // The scheduled flush of an emptied buffer is left in place. It either finds nothing to send, or is replaced by the
+            // flush that the next request to open a batch schedules.
+            if (!requestsAndResponsesMaps.isEmpty(batchKey)) {
+                requestsAndResponsesMaps.cancelAndReplaceScheduledFlush(batchKey, scheduleAdaptiveBufferFlush(batchKey));
+            }
+            return;
+        }
         requestsAndResponsesMaps.cancelAndReplaceScheduledFlush(batchKey,
                                                                 scheduleBufferFlush(batchKey,
                                                                        sendRequestFrequency.toMillis(),
@@ -119,9 +145,13 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
         flushableRequests.forEach((contextId, batchExecutionContext) ->
                                       requestEntries.add(new IdentifiableMessage<>(contextId, batchExecutionContext.request())));
         if (!requestEntries.isEmpty()) {
+            long sendStartNanos = System.nanoTime();
             CompletableFuture<BatchResponseT> pendingBatchingRequest = batchAndSend(requestEntries, batchKey);
             pendingBatchResponses.add(pendingBatchingRequest);
             pendingBatchingRequest.whenComplete((result, ex) -> {
+                if (adaptiveBatchingEnabled && ex == null) {
+                    flushDelay(batchKey).recordRoundTrip(System.nanoTime() - sendStartNanos);
+                }
                 handleAndCompleteResponses(result, ex, flushableRequests);
                 pendingBatchResponses.remove(pendingBatchingRequest);
             });
@@ -160,6 +190,26 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
         }
     }
 
+    private ScheduledFuture<?> scheduleAdaptiveBufferFlush(String batchKey) {
+        return scheduledExecutor.schedule(() -> performAdaptiveScheduledFlush(batchKey),
+                                          flushDelay(batchKey).delayNanos(),
+                                          TimeUnit.NANOSECONDS);
+    }
+
+    private void performAdaptiveScheduledFlush(String batchKey) {
+        performScheduledFlush(batchKey);
+        // Requests left over from a batch are the start of the next one.
+        if (!requestsAndResponsesMaps.isEmpty(batchKey)) {
+            requestsAndResponsesMaps.cancelAndReplaceScheduledFlush(batchKey, scheduleAdaptiveBufferFlush(batchKey));
+        }
+    }
+
+    private AdaptiveFlushDelay flushDelay(String batchKey) {
+        return flushDelays.computeIfAbsent(batchKey, k -> new AdaptiveFlushDelay(minSendRequestFrequency,
+                                                                                 sendRequestFrequency,
+                                                                                 maxBatchItems));
+    }
+
     public void close() {
         requestsAndResponsesMaps.forEach((batchKey, batchBuffer) -> {
             requestsAndResponsesMaps.cancelScheduledFlush(batchKey);
@@ -174,6 +224,7 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
         pendingBatchResponses.forEach(future -> future.cancel(true));
         pendingResponses.forEach(future -> future.cancel(true));
         requestsAndResponsesMaps.clear();
+        flushDelays.clear();
     }
 
 }
\ No newline at end of file
@@ -18,8 +18,10 @@ package software.amazon.awssdk.services.sqs.internal.batchmanager;
 import static software.amazon.awssdk.services.sqs.internal.batchmanager.ResponseBatchConfiguration.ATTRIBUTE_MAPS_PAYLOAD_BYTES;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
 @SdkInternalApi
@@ -45,6 +47,34 @@ public final class RequestPayloadCalculator {
         return Optional.of(totalSize);
     }
 
+    /**
+     * Evaluates the size SQS counts against the maximum message size for a SendMessageRequest: the message body, and the name,
+     * data type and value of each message attribute. Unlike {@link #calculateMessageSize(Object)}, no allowance is made for
+     * the attribute maps.
+     *
+     * @param request the request to evaluate
+     * @return the size of the message in bytes
+     */
+    public static int calculateSerializedMessageSize(SendMessageRequest request) {
+        int totalSize = calculateBodySize(request);
+        for (Map.Entry<String, MessageAttributeValue> attribute : request.messageAttributes().entrySet()) {
+            totalSize += utf8Length(attribute.getKey()) + calculateAttributeValueSize(attribute.getValue());
+        }
+        return totalSize;
+    }
+
+    private static int calculateAttributeValueSize(MessageAttributeValue value) {
+        int size = utf8Length(value.dataType()) + utf8Length(value.stringValue());
+        if (value.binaryValue() != null) {
+            size += value.binaryValue().asByteArrayUnsafe().length;
+        }
+        return size;
+    }
+
+    private static int utf8Length(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
     private static int calculateBodySize(SendMessageRequest request) {
         return request.messageBody() != null ? request.messageBody().getBytes(StandardCharsets.UTF_8).length : 0;
     }
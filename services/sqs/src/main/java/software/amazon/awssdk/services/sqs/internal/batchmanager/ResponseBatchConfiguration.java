@@ -52,6 +52,7 @@ public final class ResponseBatchConfiguration {
     private final Integer maxBatchItems;
     private final Integer maxInflightReceiveBatches;
     private final Integer maxDoneReceiveBatches;
+    private final boolean adaptivePrefetchEnabled;
 
     private ResponseBatchConfiguration(Builder builder) {
         this.visibilityTimeout = builder.visibilityTimeout != null
@@ -81,6 +82,8 @@ public final class ResponseBatchConfiguration {
         this.maxDoneReceiveBatches = builder.maxDoneReceiveBatches != null
                                      ? builder.maxDoneReceiveBatches
                                      : MAX_DONE_RECEIVE_BATCHES_DEFAULT;
+
+        this.adaptivePrefetchEnabled = Boolean.TRUE.equals(builder.adaptivePrefetchEnabled);
     }
 
 
@@ -112,13 +115,18 @@ public final class ResponseBatchConfiguration {
         return maxDoneReceiveBatches;
     }
 
+    public boolean adaptivePrefetchEnabled() {
+        return adaptivePrefetchEnabled;
+    }
+
     public static Builder builder(BatchOverrideConfiguration overrideConfiguration) {
         Builder builder = new Builder();
         if (overrideConfiguration != null) {
             builder.messageMinWaitDuration(overrideConfiguration.receiveMessageMinWaitDuration())
                    .receiveMessageAttributeNames(overrideConfiguration.receiveMessageAttributeNames())
                    .messageSystemAttributeNames(overrideConfiguration.receiveMessageSystemAttributeNames())
-                   .visibilityTimeout(overrideConfiguration.receiveMessageVisibilityTimeout());
+                   .visibilityTimeout(overrideConfiguration.receiveMessageVisibilityTimeout())
+                   .adaptivePrefetchEnabled(overrideConfiguration.adaptiveReceivePrefetchEnabled());
         }
         return builder;
     }
@@ -135,6 +143,7 @@ public final class ResponseBatchConfiguration {
         private Integer maxBatchItems;
         private Integer maxInflightReceiveBatches;
         private Integer maxDoneReceiveBatches;
+        private Boolean adaptivePrefetchEnabled;
 
         public Builder visibilityTimeout(Duration visibilityTimeout) {
             this.visibilityTimeout = visibilityTimeout;
@@ -171,6 +180,11 @@ public final class ResponseBatchConfiguration {
             return this;
         }
 
+        public Builder adaptivePrefetchEnabled(Boolean adaptivePrefetchEnabled) {
+            this.adaptivePrefetchEnabled = adaptivePrefetchEnabled;
+            return this;
+        }
+
         public ResponseBatchConfiguration build() {
             return new ResponseBatchConfiguration(this);
         }
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.AdaptiveFlushDelay;
+
+class AdaptiveFlushDelayTest {
+
+    private static final long MIN_NANOS = Duration.ofMillis(1).toNanos();
+    private static final long MAX_NANOS = Duration.ofMillis(200).toNanos();
+
+    private final AdaptiveFlushDelay flushDelay = new AdaptiveFlushDelay(Duration.ofMillis(1), Duration.ofMillis(200), 10);
+
+    @Test
+    void delay_noRequestInterval_isMaxDelay() {
+        flushDelay.recordRequest(0);
+
+        assertEquals(MAX_NANOS, flushDelay.delayNanos());
+    }
+
+    @Test
+    void delay_requestsFurtherApartThanMaxDelay_isMinDelay() {
+        recordRequests(Duration.ofSeconds(1).toNanos(), 5);
+
+        assertEquals(MIN_NANOS, flushDelay.delayNanos());
+    }
+
+    @Test
+    void delay_frequentRequests_isTimeToFillBatch() {
+        recordRequests(Duration.ofMillis(2).toNanos(), 5);
+
+        assertEquals(Duration.ofMillis(18).toNanos(), flushDelay.delayNanos());
+    }
+
+    @Test
+    void delay_roundTripShorterThanTimeToFillBatch_isRoundTrip() {
+        recordRequests(Duration.ofMillis(10).toNanos(), 5);
+        flushDelay.recordRoundTrip(Duration.ofMillis(30).toNanos());
+
+        assertEquals(Duration.ofMillis(30).toNanos(), flushDelay.delayNanos());
+    }
+
+    @Test
+    void delay_timeToFillBatchLongerThanMaxDelay_isMaxDelay() {
+        recordRequests(Duration.ofMillis(100).toNanos(), 5);
+
+        assertEquals(MAX_NANOS, flushDelay.delayNanos());
+    }
+
+    @Test
+    void delay_simultaneousRequests_isMinDelay() {
+        recordRequests(0, 5);
+
+        assertEquals(MIN_NANOS, flushDelay.delayNanos());
+    }
+
+    @Test
+    void delay_trafficIncreases_followsNewRequestInterval() {
+        recordRequests(Duration.ofSeconds(1).toNanos(), 5);
+        long sparseDelay = flushDelay.delayNanos();
+
+        for (int i = 0; i < 50; i++) {
+            flushDelay.recordRequest(Duration.ofSeconds(10).toNanos() + i * Duration.ofMillis(2).toNanos());
+        }
+
+        assertEquals(MIN_NANOS, sparseDelay);
+        assertEquals(Duration.ofMillis(18).toNanos(), flushDelay.delayNanos(), Duration.ofMillis(1).toNanos());
+    }
+
+    private void recordRequests(long intervalNanos, int count) {
+        for (int i = 0; i < count; i++) {
+            flushDelay.recordRequest(i * intervalNanos);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.AdaptiveReceivePrefetch;
+
+class AdaptiveReceivePrefetchTest {
+
+    private static final long SECOND_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final Duration VISIBILITY_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AdaptiveReceivePrefetch prefetch = new AdaptiveReceivePrefetch(10, 10, 10, 0);
+
+    @Test
+    void noConsumption_keepsOneReceiveInFlightAndPrefetchesNothing() {
+        assertEquals(1, prefetch.desiredInflightBatches(0, SECOND_NANOS));
+        assertEquals(0, prefetch.desiredBufferedBatches(VISIBILITY_TIMEOUT, 2 * SECOND_NANOS));
+    }
+
+    @Test
+    void drainRate_isMessagesDeliveredPerSecond() {
+        prefetch.recordDelivered(30, SECOND_NANOS / 2);
+        prefetch.recordDelivered(20, SECOND_NANOS - 1);
+
+        assertEquals(50, prefetch.drainRatePerSecond(SECOND_NANOS), 0.01);
+    }
+
+    @Test
+    void drainRate_consumersStop_decreases() {
+        prefetch.recordDelivered(50, SECOND_NANOS / 2);
+        prefetch.drainRatePerSecond(SECOND_NANOS);
+
+        assertEquals(35, prefetch.drainRatePerSecond(2 * SECOND_NANOS), 0.01);
+    }
+
+    @Test
+    void desiredInflightBatches_coversMessagesDrainedDuringOneReceive() {
+        prefetch.recordDelivered(100, SECOND_NANOS / 2);
+        prefetch.recordReceiveLatency(Duration.ofMillis(250).toNanos());
+
+        // 100 messages per second over 250 milliseconds is 25 messages, or 3 batches of 10.
+        assertEquals(3, prefetch.desiredInflightBatches(0, SECOND_NANOS));
+    }
+
+    @Test
+    void desiredInflightBatches_boundedByMaxInflightBatches() {
+        prefetch.recordDelivered(10_000, SECOND_NANOS / 2);
+        prefetch.recordReceiveLatency(SECOND_NANOS);
+
+        assertEquals(10, prefetch.desiredInflightBatches(0, SECOND_NANOS));
+    }
+
+    @Test
+    void desiredInflightBatches_noDrainRateYet_coversWaitingMessages() {
+        assertEquals(4, prefetch.desiredInflightBatches(35, SECOND_NANOS));
+    }
+
+    @Test
+    void desiredInflightBatches_waitingMessagesExceedDrainRate_coversWaitingMessages() {
+        prefetch.recordDelivered(10, SECOND_NANOS / 2);
+        prefetch.recordReceiveLatency(Duration.ofMillis(250).toNanos());
+
+        // Draining 10 messages per second needs a single receive in flight, but 50 messages are waiting.
+        assertEquals(5, prefetch.desiredInflightBatches(50, SECOND_NANOS));
+        assertEquals(10, prefetch.desiredInflightBatches(500, SECOND_NANOS));
+    }
+
+    @Test
+    void desiredBufferedBatches_limitedToWhatIsDrainedInHalfTheVisibilityTimeout() {
+        prefetch.recordDelivered(2, SECOND_NANOS / 2);
+
+        // 2 messages per second over 15 seconds is 30 messages, or 3 batches of 10.
+        assertEquals(3, prefetch.desiredBufferedBatches(VISIBILITY_TIMEOUT, SECOND_NANOS));
+    }
+
+    @Test
+    void desiredBufferedBatches_boundedByMaxBufferedBatches() {
+        prefetch.recordDelivered(1_000, SECOND_NANOS / 2);
+
+        assertEquals(10, prefetch.desiredBufferedBatches(VISIBILITY_TIMEOUT, SECOND_NANOS));
+    }
+}
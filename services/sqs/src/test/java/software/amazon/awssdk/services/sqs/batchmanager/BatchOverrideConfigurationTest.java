@@ -114,6 +114,19 @@ class BatchOverrideConfigurationTest {
         assertEquals(originalConfig.receiveMessageSystemAttributeNames(), builder.build().receiveMessageSystemAttributeNames());
     }
 
+    @Test
+    void testMinSendRequestFrequencyGreaterThanSendRequestFrequencyThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            BatchOverrideConfiguration.builder()
+                                      .sendRequestFrequency(Duration.ofMillis(100))
+                                      .minSendRequestFrequency(Duration.ofMillis(200))
+                                      .build();
+        });
+
+        assertEquals("The minSendRequestFrequency must be less than or equal to the sendRequestFrequency.",
+                     exception.getMessage());
+    }
+
     @Test
     void testMaxBatchSizeExceedsLimitThrowsException() {
         // Act & Assert
@@ -0,0 +1,280 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+/**
+ * In-memory stand-in for a single SQS queue, supporting the operations used by {@link SqsAsyncBatchManager}. Messages become
+ * invisible when received, and messages of a message group are not received while an earlier message of the group is
+ * invisible, as in a FIFO queue. Receive requests wait for messages up to the receive message wait time, and only return the
+ * message attributes they request.
+ */
+public class InMemorySqsAsyncClient implements SqsAsyncClient {
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private final int visibilityTimeoutSeconds;
+    private final int receiveMessageWaitTimeSeconds;
+    private final List<StoredMessage> messages = new ArrayList<>();
+    private final ExecutorService receiveExecutor = Executors.newCachedThreadPool();
+    private final AtomicInteger sendMessageBatchCalls = new AtomicInteger();
+    private final AtomicInteger deleteMessageBatchCalls = new AtomicInteger();
+    private final AtomicInteger changedVisibilities = new AtomicInteger();
+    private final AtomicInteger receivedMessages = new AtomicInteger();
+
+    public InMemorySqsAsyncClient(int visibilityTimeoutSeconds, int receiveMessageWaitTimeSeconds) {
+        this.visibilityTimeoutSeconds = visibilityTimeoutSeconds;
+        this.receiveMessageWaitTimeSeconds = receiveMessageWaitTimeSeconds;
+    }
+
+    public synchronized int size() {
+        return messages.size();
+    }
+
+    public synchronized List<String> bodies() {
+        return messages.stream().map(m -> m.body).collect(Collectors.toList());
+    }
+
+    public int sendMessageBatchCalls() {
+        return sendMessageBatchCalls.get();
+    }
+
+    public int deleteMessageBatchCalls() {
+        return deleteMessageBatchCalls.get();
+    }
+
+    public int changedVisibilities() {
+        return changedVisibilities.get();
+    }
+
+    public int receivedMessages() {
+        return receivedMessages.get();
+    }
+
+    @Override
+    public synchronized CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        String messageId = store(request.messageBody(), request.messageGroupId(), request.messageAttributes());
+        return CompletableFuture.completedFuture(SendMessageResponse.builder().messageId(messageId).build());
+    }
+
+    @Override
+    public synchronized CompletableFuture<SendMessageBatchResponse> sendMessageBatch(SendMessageBatchRequest request) {
+        sendMessageBatchCalls.incrementAndGet();
+        List<SendMessageBatchResultEntry> successful = new ArrayList<>();
+        for (SendMessageBatchRequestEntry entry : request.entries()) {
+            String messageId = store(entry.messageBody(), entry.messageGroupId(), entry.messageAttributes());
+            successful.add(SendMessageBatchResultEntry.builder().id(entry.id()).messageId(messageId).build());
+        }
+        return CompletableFuture.completedFuture(SendMessageBatchResponse.builder().successful(successful).build());
+    }
+
+    @Override
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        int maxMessages = request.maxNumberOfMessages() == null ? 1 : request.maxNumberOfMessages();
+        int visibilityTimeout = request.visibilityTimeout() == null ? visibilityTimeoutSeconds : request.visibilityTimeout();
+        int waitTimeSeconds = request.waitTimeSeconds() == null ? receiveMessageWaitTimeSeconds : request.waitTimeSeconds();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(waitTimeSeconds);
+
+        return CompletableFuture.supplyAsync(() -> {
+            List<Message> received = receive(maxMessages, visibilityTimeout, request.messageAttributeNames());
+            while (received.isEmpty() && System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(POLL_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                received = receive(maxMessages, visibilityTimeout, request.messageAttributeNames());
+            }
+            return ReceiveMessageResponse.builder().messages(received).build();
+        }, receiveExecutor);
+    }
+
+    @Override
+    public synchronized CompletableFuture<DeleteMessageBatchResponse> deleteMessageBatch(DeleteMessageBatchRequest request) {
+        deleteMessageBatchCalls.incrementAndGet();
+        List<DeleteMessageBatchResultEntry> successful = new ArrayList<>();
+        List<BatchResultErrorEntry> failed = new ArrayList<>();
+        for (DeleteMessageBatchRequestEntry entry : request.entries()) {
+            StoredMessage message = find(entry.receiptHandle());
+            if (message == null) {
+                failed.add(invalidReceiptHandle(entry.id()));
+            } else {
+                messages.remove(message);
+                successful.add(DeleteMessageBatchResultEntry.builder().id(entry.id()).build());
+            }
+        }
+        return CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder()
+                                                                           .successful(successful)
+                                                                           .failed(failed)
+                                                                           .build());
+    }
+
+    @Override
+    public synchronized CompletableFuture<ChangeMessageVisibilityBatchResponse> changeMessageVisibilityBatch(
+        ChangeMessageVisibilityBatchRequest request) {
+        List<ChangeMessageVisibilityBatchResultEntry> successful = new ArrayList<>();
+        List<BatchResultErrorEntry> failed = new ArrayList<>();
+        for (ChangeMessageVisibilityBatchRequestEntry entry : request.entries()) {
+            StoredMessage message = find(entry.receiptHandle());
+            if (message == null) {
+                failed.add(invalidReceiptHandle(entry.id()));
+            } else {
+                message.invisibleUntilNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(entry.visibilityTimeout());
+                changedVisibilities.incrementAndGet();
+                successful.add(ChangeMessageVisibilityBatchResultEntry.builder().id(entry.id()).build());
+            }
+        }
+        return CompletableFuture.completedFuture(ChangeMessageVisibilityBatchResponse.builder()
+                                                                                     .successful(successful)
+                                                                                     .failed(failed)
+                                                                                     .build());
+    }
+
+    @Override
+    public CompletableFuture<GetQueueAttributesResponse> getQueueAttributes(GetQueueAttributesRequest request) {
+        Map<QueueAttributeName, String> attributes = new HashMap<>();
+        attributes.put(QueueAttributeName.VISIBILITY_TIMEOUT, String.valueOf(visibilityTimeoutSeconds));
+        attributes.put(QueueAttributeName.RECEIVE_MESSAGE_WAIT_TIME_SECONDS, String.valueOf(receiveMessageWaitTimeSeconds));
+        return CompletableFuture.completedFuture(GetQueueAttributesResponse.builder().attributes(attributes).build());
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        receiveExecutor.shutdownNow();
+    }
+
+    private String store(String body, String groupId, Map<String, MessageAttributeValue> messageAttributes) {
+        StoredMessage message = new StoredMessage(UUID.randomUUID().toString(), body, groupId, messageAttributes,
+                                                  System.currentTimeMillis());
+        messages.add(message);
+        return message.messageId;
+    }
+
+    private synchronized List<Message> receive(int maxMessages, int visibilityTimeout, List<String> messageAttributeNames) {
+        long now = System.nanoTime();
+        Set<String> blockedGroups = new HashSet<>();
+        List<Message> received = new ArrayList<>();
+        Iterator<StoredMessage> iterator = messages.iterator();
+        while (iterator.hasNext() && received.size() < maxMessages) {
+            StoredMessage message = iterator.next();
+            if (message.groupId != null && blockedGroups.contains(message.groupId)) {
+                continue;
+            }
+            if (message.invisibleUntilNanos > now) {
+                if (message.groupId != null) {
+                    blockedGroups.add(message.groupId);
+                }
+                continue;
+            }
+            message.invisibleUntilNanos = now + TimeUnit.SECONDS.toNanos(visibilityTimeout);
+            message.receiptHandle = message.messageId + "-" + UUID.randomUUID();
+            received.add(message.toMessage(messageAttributeNames));
+        }
+        receivedMessages.addAndGet(received.size());
+        return received;
+    }
+
+    private StoredMessage find(String receiptHandle) {
+        return messages.stream().filter(m -> receiptHandle.equals(m.receiptHandle)).findFirst().orElse(null);
+    }
+
+    private static BatchResultErrorEntry invalidReceiptHandle(String id) {
+        return BatchResultErrorEntry.builder().id(id).code("ReceiptHandleIsInvalid").senderFault(true).build();
+    }
+
+    private static final class StoredMessage {
+        private final String messageId;
+        private final String body;
+        private final String groupId;
+        private final Map<String, MessageAttributeValue> messageAttributes;
+        private final long sentTimestamp;
+        private long invisibleUntilNanos;
+        private String receiptHandle;
+
+        private StoredMessage(String messageId, String body, String groupId,
+                              Map<String, MessageAttributeValue> messageAttributes, long sentTimestamp) {
+            this.messageId = messageId;
+            this.body = body;
+            this.groupId = groupId;
+            this.messageAttributes = messageAttributes;
+            this.sentTimestamp = sentTimestamp;
+        }
+
+        private Message toMessage(List<String> messageAttributeNames) {
+            boolean allMessageAttributes = messageAttributeNames.contains("All") || messageAttributeNames.contains(".*");
+            Map<MessageSystemAttributeName, String> attributes = new HashMap<>();
+            attributes.put(MessageSystemAttributeName.SENT_TIMESTAMP, String.valueOf(sentTimestamp));
+            if (groupId != null) {
+                attributes.put(MessageSystemAttributeName.MESSAGE_GROUP_ID, groupId);
+            }
+            return Message.builder()
+                          .messageId(messageId)
+                          .body(body)
+                          .receiptHandle(receiptHandle)
+                          .attributes(attributes)
+                          .messageAttributes(messageAttributes.entrySet()
+                                                              .stream()
+                                                              .filter(e -> allMessageAttributes
+                                                                           || messageAttributeNames.contains(e.getKey()))
+                                                              .collect(Collectors.toMap(Map.Entry::getKey,
+                                                                                        Map.Entry::getValue)))
+                          .build();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.PayloadOffloadingSqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.StringUtils;
+
+public class LargePayloadOffloadTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/MyQueue";
+    private static final String LARGE_BODY = StringUtils.repeat("a", 300 * 1024);
+
+    private InMemorySqsAsyncClient client;
+    private InMemoryPayloadStore payloadStore;
+    private ScheduledExecutorService scheduledExecutor;
+    private SqsAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        client = new InMemorySqsAsyncClient(30, 0);
+        payloadStore = new InMemoryPayloadStore();
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        batchManager = SqsAsyncBatchManager.builder()
+                                           .client(client)
+                                           .scheduledExecutor(scheduledExecutor)
+                                           .largePayloadStore(payloadStore)
+                                           .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchManager.close();
+        client.close();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void sendMessage_largeBody_sendsPointerToStoredPayload() {
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(LARGE_BODY)).join();
+
+        assertThat(payloadStore.payloads).hasSize(1);
+        assertThat(client.bodies()).singleElement().satisfies(body -> {
+            assertThat(payloadStore.payloads).containsKey(body);
+            assertThat(payloadStore.payloads.get(body)).isEqualTo(LARGE_BODY);
+        });
+    }
+
+    @Test
+    void sendMessage_mixedSizes_onlyOffloadsLargeBodiesAndStillBatches() {
+        List<CompletableFuture<SendMessageResponse>> responses =
+            IntStream.range(0, 10)
+                     .mapToObj(i -> batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                   .messageBody(i % 5 == 0 ? LARGE_BODY : "small-" + i)))
+                     .collect(Collectors.toList());
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+
+        assertThat(payloadStore.payloads).hasSize(2);
+        assertThat(client.bodies()).hasSize(10).filteredOn(body -> body.startsWith("small-")).hasSize(8);
+        assertThat(client.sendMessageBatchCalls()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void sendMessage_bodyBelowLimit_isNotOffloaded() {
+        String body = StringUtils.repeat("a", 250 * 1024);
+
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(body)).join();
+
+        assertThat(payloadStore.payloads).isEmpty();
+        assertThat(client.bodies()).containsExactly(body);
+    }
+
+    @Test
+    void sendMessage_messageAttributesExceedLimit_isOffloaded() {
+        String body = StringUtils.repeat("a", 255 * 1024);
+        MessageAttributeValue attribute = MessageAttributeValue.builder()
+                                                               .dataType("String")
+                                                               .stringValue(StringUtils.repeat("b", 2 * 1024))
+                                                               .build();
+
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL)
+                                       .messageBody(body)
+                                       .messageAttributes(Collections.singletonMap("attribute", attribute))).join();
+
+        assertThat(payloadStore.payloads).containsValue(body);
+    }
+
+    @Test
+    void receiveMessage_payloadRetrievalFails_returnsOtherMessagesAndUnresolvedMessage() {
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(LARGE_BODY)).join();
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("small")).join();
+        payloadStore.failRetrievals = true;
+
+        List<Message> messages = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(10))
+                                             .join()
+                                             .messages();
+
+        assertThat(messages).hasSize(2);
+        assertThat(messages).filteredOn(m -> m.body().equals("small")).hasSize(1);
+        assertThat(messages).filteredOn(m -> !m.body().equals("small")).singleElement().satisfies(m -> {
+            assertThat(payloadStore.payloads).containsKey(m.body());
+            assertThat(m.messageAttributes()).containsKey(PayloadOffloadingSqsAsyncClient.PAYLOAD_SIZE_ATTRIBUTE);
+        });
+    }
+
+    @Test
+    void receiveMessage_offloadedMessage_returnsStoredPayload() {
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(LARGE_BODY)).join();
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("small")).join();
+
+        List<Message> messages = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(10))
+                                             .join()
+                                             .messages();
+
+        assertThat(messages).extracting(Message::body).containsExactlyInAnyOrder(LARGE_BODY, "small");
+        assertThat(messages).allSatisfy(m -> assertThat(m.messageAttributes()).isEmpty());
+    }
+
+    @Test
+    void receiveMessage_batchingBypassed_returnsStoredPayload() {
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(LARGE_BODY)).join();
+
+        ReceiveMessageResponse response = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).visibilityTimeout(30)).join();
+
+        assertThat(response.messages()).extracting(Message::body).containsExactly(LARGE_BODY);
+    }
+
+    @Test
+    void deleteMessage_offloadedMessage_deletesMessageAndStoredPayload() {
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(LARGE_BODY)).join();
+        Message message = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL)).join().messages().get(0);
+
+        batchManager.changeMessageVisibility(r -> r.queueUrl(QUEUE_URL).receiptHandle(message.receiptHandle())
+                                                   .visibilityTimeout(60)).join();
+        batchManager.deleteMessage(r -> r.queueUrl(QUEUE_URL).receiptHandle(message.receiptHandle())).join();
+
+        assertThat(client.size()).isZero();
+        assertThat(client.changedVisibilities()).isEqualTo(1);
+        assertThat(payloadStore.payloads).isEmpty();
+    }
+
+    private static final class InMemoryPayloadStore implements LargePayloadStore {
+        private final Map<String, String> payloads = new ConcurrentHashMap<>();
+        private volatile boolean failRetrievals;
+
+        @Override
+        public CompletableFuture<String> storePayload(String queueUrl, String payload) {
+            String pointer = "{\"s3BucketName\":\"bucket\",\"s3Key\":\"" + UUID.randomUUID() + "\"}";
+            payloads.put(pointer, payload);
+            return CompletableFuture.completedFuture(pointer);
+        }
+
+        @Override
+        public CompletableFuture<String> retrievePayload(String payloadPointer) {
+            if (failRetrievals) {
+                CompletableFuture<String> failure = new CompletableFuture<>();
+                failure.completeExceptionally(new IllegalStateException("retrieval failed"));
+                return failure;
+            }
+            return CompletableFuture.completedFuture(payloads.get(payloadPointer));
+        }
+
+        @Override
+        public CompletableFuture<Void> deletePayload(String payloadPointer) {
+            payloads.remove(payloadPointer);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
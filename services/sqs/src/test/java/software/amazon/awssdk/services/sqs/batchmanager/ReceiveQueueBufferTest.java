@@ -454,6 +454,45 @@ class ReceiveQueueBufferTest {
         }
     }
 
+    @Test
+    void testAdaptivePrefetch_prefetchesAheadOfReceiveCallsOnceConsumptionRateIsKnown() throws Exception {
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenAnswer(invocation -> CompletableFuture.completedFuture(generateMessageResponse(10)));
+        ReceiveQueueBuffer receiveQueueBuffer = receiveQueueBuffer(ResponseBatchConfiguration.builder()
+                                                                                             .adaptivePrefetchEnabled(true)
+                                                                                             .build());
+
+        // Consume 10 messages every 100 milliseconds for a bit more than the duration of a drain rate sample.
+        int receiveCalls = 12;
+        for (int i = 0; i < receiveCalls; i++) {
+            CompletableFuture<ReceiveMessageResponse> future = new CompletableFuture<>();
+            receiveQueueBuffer.receiveMessage(future, 10);
+            assertEquals(10, future.get(1, TimeUnit.SECONDS).messages().size());
+            Thread.sleep(100);
+        }
+
+        // At 100 messages per second, the whole buffer can be drained well within the visibility timeout.
+        Thread.sleep(200);
+        verify(sqsClient, atLeast(receiveCalls + 5)).receiveMessage(any(ReceiveMessageRequest.class));
+        receiveQueueBuffer.close();
+    }
+
+    @Test
+    void testAdaptivePrefetch_waitingReceiveCalls_rampUpReceivesInFlight() {
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(new CompletableFuture<>());
+        ReceiveQueueBuffer receiveQueueBuffer = receiveQueueBuffer(ResponseBatchConfiguration.builder()
+                                                                                             .adaptivePrefetchEnabled(true)
+                                                                                             .build());
+
+        // Nothing has been delivered yet, so only the waiting receive calls can grow the receives in flight.
+        for (int i = 0; i < 5; i++) {
+            receiveQueueBuffer.receiveMessage(new CompletableFuture<>(), 10);
+        }
+
+        verify(sqsClient, times(5)).receiveMessage(any(ReceiveMessageRequest.class));
+        receiveQueueBuffer.close();
+    }
+
     private ReceiveMessageResponse generateMessageResponse(int count) {
         List<Message> messages = IntStream.range(0, count)
                                           .mapToObj(i -> Message.builder().body("Message " + i).receiptHandle("handle" + i).build())
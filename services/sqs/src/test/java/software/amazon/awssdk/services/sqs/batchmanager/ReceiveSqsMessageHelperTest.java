@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -42,13 +43,17 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.ChangeMessageVisibilityBatchManager;
 import software.amazon.awssdk.services.sqs.internal.batchmanager.ReceiveSqsMessageHelper;
 import software.amazon.awssdk.services.sqs.internal.batchmanager.ResponseBatchConfiguration;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
@@ -184,6 +189,52 @@ class ReceiveSqsMessageHelperTest {
         assertTrue(receiveSqsMessageHelper.isEmpty());
     }
 
+    @Test
+    void extendVisibility_changesVisibilityOfBufferedMessagesAndMovesDeadline() throws Exception {
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(generateMessageResponse(3)));
+        receiveSqsMessageHelper.asyncReceiveMessage().get(1, TimeUnit.SECONDS);
+        receiveSqsMessageHelper.removeMessage();
+        long deadlineBeforeExtension = receiveSqsMessageHelper.visibilityDeadlineNanos();
+
+        ChangeMessageVisibilityBatchManager changeMessageVisibilityBatchManager = mock(ChangeMessageVisibilityBatchManager.class);
+        when(changeMessageVisibilityBatchManager.batchRequest(any(ChangeMessageVisibilityRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ChangeMessageVisibilityResponse.builder().build()));
+
+        receiveSqsMessageHelper.extendVisibility(changeMessageVisibilityBatchManager).get(1, TimeUnit.SECONDS);
+
+        ArgumentCaptor<ChangeMessageVisibilityRequest> requestCaptor = ArgumentCaptor.forClass(ChangeMessageVisibilityRequest.class);
+        verify(changeMessageVisibilityBatchManager, times(2)).batchRequest(requestCaptor.capture());
+        assertEquals(Arrays.asList("handle1", "handle2"),
+                     requestCaptor.getAllValues().stream()
+                                  .map(ChangeMessageVisibilityRequest::receiptHandle)
+                                  .collect(Collectors.toList()));
+        requestCaptor.getAllValues().forEach(request -> {
+            assertEquals(QUEUE_URL, request.queueUrl());
+            assertEquals(30, request.visibilityTimeout());
+        });
+        assertTrue(receiveSqsMessageHelper.visibilityDeadlineNanos() > deadlineBeforeExtension);
+    }
+
+    @Test
+    void extendVisibility_failure_keepsDeadline() throws Exception {
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(generateMessageResponse(2)));
+        receiveSqsMessageHelper.asyncReceiveMessage().get(1, TimeUnit.SECONDS);
+        long deadlineBeforeExtension = receiveSqsMessageHelper.visibilityDeadlineNanos();
+
+        ChangeMessageVisibilityBatchManager changeMessageVisibilityBatchManager = mock(ChangeMessageVisibilityBatchManager.class);
+        CompletableFuture<ChangeMessageVisibilityResponse> failedChange = new CompletableFuture<>();
+        failedChange.completeExceptionally(new RuntimeException("Change visibility failed"));
+        when(changeMessageVisibilityBatchManager.batchRequest(any(ChangeMessageVisibilityRequest.class)))
+            .thenReturn(failedChange);
+
+        receiveSqsMessageHelper.extendVisibility(changeMessageVisibilityBatchManager).get(1, TimeUnit.SECONDS);
+
+        assertEquals(deadlineBeforeExtension, receiveSqsMessageHelper.visibilityDeadlineNanos());
+        assertEquals(2, receiveSqsMessageHelper.bufferedMessageCount());
+    }
+
     private ReceiveMessageResponse generateMessageResponse(int count) {
         List<Message> messages = IntStream.range(0, count)
                                           .mapToObj(i -> Message.builder().body("Message " + i).receiptHandle("handle" + i).build())
@@ -229,6 +229,36 @@ class RequestBatchBufferTest {
         verify(newFlush, never()).cancel(false);
     }
 
+    @Test
+    void whenPayloadLeavesNoRoomForAnotherRequestThenBatchIsReady() {
+        RequestBatchBuffer<SendMessageRequest, SendMessageResponse> batchBuffer
+            = new RequestBatchBuffer<>(scheduledFlush, 5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+
+        batchBuffer.put(SendMessageRequest.builder().messageBody(createLargeString('a', 240_000)).build(),
+                        new CompletableFuture<>());
+
+        assertEquals(1, batchBuffer.extractBatchIfReady().size());
+    }
+
+    @Test
+    void whenPayloadLeavesRoomForAnotherRequestThenBatchIsNotReady() {
+        RequestBatchBuffer<SendMessageRequest, SendMessageResponse> batchBuffer
+            = new RequestBatchBuffer<>(scheduledFlush, 5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+
+        batchBuffer.put(SendMessageRequest.builder().messageBody(createLargeString('a', 200_000)).build(),
+                        new CompletableFuture<>());
+
+        assertTrue(batchBuffer.extractBatchIfReady().isEmpty());
+    }
+
+    @Test
+    void whenPutRequestThenReturnsBufferedRequestCount() {
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        assertEquals(1, batchBuffer.put("request1", new CompletableFuture<>()));
+        assertEquals(2, batchBuffer.put("request2", new CompletableFuture<>()));
+        assertFalse(batchBuffer.isEmpty());
+    }
+
     private String createLargeString(char ch, int length) {
         StringBuilder sb = new StringBuilder(length);
         for (int i = 0; i < length; i++) {
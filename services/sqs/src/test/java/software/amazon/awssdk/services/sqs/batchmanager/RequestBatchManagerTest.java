@@ -33,7 +33,9 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.mockito.AdditionalAnswers;
 import org.mockito.Mock;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.IdentifiableMessage;
 import org.mockito.MockitoAnnotations;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -234,6 +236,65 @@ class RequestBatchManagerTest {
         assertEquals(String.format("java.lang.IllegalStateException: Reached MaxBatchKeys of: %d", MAX_QUEUES_THRESHOLD), exception.getCause().toString());
     }
 
+    @Test
+    void batchRequest_AdaptiveBatchingWithDenseTraffic_sendsBatchBeforeSendRequestFrequency() throws Exception {
+        String batchKey = "testRequest";
+        when(mockClient.sendBatchAsync(any(), eq(batchKey))).thenAnswer(invocation -> {
+            List<IdentifiableMessage<String>> requests = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(new BatchResponse(
+                requests.stream()
+                        .map(r -> new BatchResponseEntry(r.id(), "testResponse" + r.id()))
+                        .collect(Collectors.toList())));
+        });
+
+        SampleBatchManager batchManager =
+            new SampleBatchManager(BatchOverrideConfiguration.builder()
+                                                             .maxBatchSize(10)
+                                                             .sendRequestFrequency(Duration.ofHours(1))
+                                                             .adaptiveBatchingEnabled(true)
+                                                             .build(),
+                                   scheduledExecutor, mockClient);
+
+        // A full batch is sent right away and provides an estimate of the time between requests.
+        List<CompletableFuture<String>> fullBatch = IntStream.range(0, 10)
+                                                             .mapToObj(i -> batchManager.batchRequest(batchKey + ":" + i))
+                                                             .collect(Collectors.toList());
+        for (CompletableFuture<String> response : fullBatch) {
+            response.get(1, TimeUnit.SECONDS);
+        }
+
+        // The next batch is held open for about the time it takes to fill, not for the whole sendRequestFrequency.
+        CompletableFuture<String> response = batchManager.batchRequest(batchKey + ":10");
+        assertEquals("testResponse10", response.get(5, TimeUnit.SECONDS));
+        verify(mockClient, times(2)).sendBatchAsync(any(), eq(batchKey));
+    }
+
+    @Test
+    void batchRequest_AdaptiveBatchingNewBatch_schedulesOneFlush() throws Exception {
+        String batchKey = "testRequest";
+        when(mockClient.sendBatchAsync(any(), eq(batchKey))).thenReturn(
+            CompletableFuture.completedFuture(batchedResponse(1, "testResponse")));
+        ScheduledExecutorService delegate = Executors.newSingleThreadScheduledExecutor();
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class, AdditionalAnswers.delegatesTo(delegate));
+
+        try {
+            SampleBatchManager batchManager =
+                new SampleBatchManager(BatchOverrideConfiguration.builder()
+                                                                 .maxBatchSize(10)
+                                                                 .sendRequestFrequency(Duration.ofMillis(200))
+                                                                 .adaptiveBatchingEnabled(true)
+                                                                 .build(),
+                                       executor, mockClient);
+
+            CompletableFuture<String> response = batchManager.batchRequest(batchKey + ":0");
+
+            verify(executor, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+            assertEquals("testResponse0", response.get(5, TimeUnit.SECONDS));
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
     @AfterAll
     public static void teardown() throws IOException {
         if (scheduledExecutor != null) {
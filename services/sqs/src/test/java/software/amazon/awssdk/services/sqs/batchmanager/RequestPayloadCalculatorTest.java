@@ -16,15 +16,20 @@
 package software.amazon.awssdk.services.sqs.batchmanager;
 
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.sqs.internal.batchmanager.RequestPayloadCalculator;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
 import java.util.Optional;
@@ -65,6 +70,25 @@ class RequestPayloadCalculatorTest {
         );
     }
 
+    @Test
+    @DisplayName("Test calculateSerializedMessageSize counts the body and message attributes")
+    void testCalculateSerializedMessageSize() {
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+        attributes.put("name", MessageAttributeValue.builder().dataType("String").stringValue("value").build());
+        attributes.put("bin", MessageAttributeValue.builder()
+                                                   .dataType("Binary")
+                                                   .binaryValue(SdkBytes.fromByteArray(new byte[3]))
+                                                   .build());
+        SendMessageRequest request = SendMessageRequest.builder()
+                                                       .messageBody("Test message")
+                                                       .messageAttributes(attributes)
+                                                       .build();
+
+        int expectedSize = "Test message".length() + "name".length() + "String".length() + "value".length()
+                           + "bin".length() + "Binary".length() + 3;
+        assertEquals(expectedSize, RequestPayloadCalculator.calculateSerializedMessageSize(request));
+    }
+
     @ParameterizedTest
     @MethodSource("provideNonSendMessageRequest")
     @DisplayName("Test calculateMessageSize with non-SendMessageRequest inputs")
@@ -0,0 +1,318 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+public class SqsMessageProcessorTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/MyQueue";
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    private InMemorySqsAsyncClient client;
+    private SqsMessageProcessor processor;
+
+    @AfterEach
+    void tearDown() {
+        if (processor != null) {
+            processor.close();
+        }
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    void start_messagesInQueue_handlesAndDeletesAllMessagesInBatches() {
+        client = new InMemorySqsAsyncClient(30, 1);
+        sendMessages(50, null);
+        Set<String> handledBodies = ConcurrentHashMap.newKeySet();
+
+        processor = processor(message -> handledBodies.add(message.body()), b -> b.maxConcurrency(20));
+        processor.start();
+
+        awaitUntil(() -> client.size() == 0);
+        assertThat(handledBodies).hasSize(50);
+        assertThat(client.deleteMessageBatchCalls()).isLessThan(50);
+    }
+
+    @Test
+    void start_slowHandler_neverExceedsMaxConcurrency() {
+        client = new InMemorySqsAsyncClient(30, 1);
+        sendMessages(20, null);
+        AtomicInteger concurrentHandlers = new AtomicInteger();
+        AtomicInteger maxConcurrentHandlers = new AtomicInteger();
+        AtomicInteger handled = new AtomicInteger();
+
+        processor = processor(message -> {
+            maxConcurrentHandlers.accumulateAndGet(concurrentHandlers.incrementAndGet(), Math::max);
+            sleep(20);
+            concurrentHandlers.decrementAndGet();
+            handled.incrementAndGet();
+        }, b -> b.maxConcurrency(3));
+        processor.start();
+
+        awaitUntil(() -> client.size() == 0);
+        assertThat(handled).hasValue(20);
+        assertThat(maxConcurrentHandlers.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void start_fifoMessages_handlesMessagesOfEachGroupSequentiallyInOrder() {
+        client = new InMemorySqsAsyncClient(30, 1);
+        List<String> groups = Arrays.asList("a", "b", "c");
+        for (int i = 0; i < 10; i++) {
+            for (String group : groups) {
+                String body = group + "-" + i;
+                client.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(body).messageGroupId(group)).join();
+            }
+        }
+        Map<String, List<String>> handledByGroup = new ConcurrentHashMap<>();
+        Set<String> activeGroups = ConcurrentHashMap.newKeySet();
+        AtomicInteger overlappingHandlers = new AtomicInteger();
+
+        processor = processor(message -> {
+            String group = message.body().substring(0, 1);
+            if (!activeGroups.add(group)) {
+                overlappingHandlers.incrementAndGet();
+            }
+            sleep(5);
+            handledByGroup.computeIfAbsent(group, g -> new CopyOnWriteArrayList<>()).add(message.body());
+            activeGroups.remove(group);
+        }, b -> b.maxConcurrency(10));
+        processor.start();
+
+        awaitUntil(() -> client.size() == 0);
+        assertThat(overlappingHandlers).hasValue(0);
+        for (String group : groups) {
+            List<String> expected = IntStream.range(0, 10).mapToObj(i -> group + "-" + i).collect(Collectors.toList());
+            assertThat(handledByGroup.get(group)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void start_handlerThrows_messageIsNotDeletedAndIsReceivedAgain() {
+        // Messages are received with the processor's visibility timeout, not the queue's.
+        client = new InMemorySqsAsyncClient(30, 1);
+        sendMessages(1, null);
+        AtomicInteger attempts = new AtomicInteger();
+        List<MetricCollection> metrics = new CopyOnWriteArrayList<>();
+
+        processor = processor(message -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("failure");
+            }
+        }, b -> b.visibilityTimeout(Duration.ofSeconds(1))
+                 .addMetricPublisher(new CollectingMetricPublisher(metrics)));
+        processor.start();
+
+        awaitUntil(() -> client.size() == 0);
+        assertThat(attempts).hasValue(2);
+        assertThat(metrics).extracting(m -> m.metricValues(SqsMessageProcessorMetric.MESSAGE_PROCESSING_SUCCESSFUL).get(0))
+                           .containsExactly(false, true);
+    }
+
+    @Test
+    void start_handlerRunsLongerThanVisibilityTimeout_extendsVisibilityTimeout() {
+        client = new InMemorySqsAsyncClient(2, 1);
+        sendMessages(1, null);
+        AtomicInteger attempts = new AtomicInteger();
+        List<MetricCollection> metrics = new CopyOnWriteArrayList<>();
+
+        processor = processor(message -> {
+            attempts.incrementAndGet();
+            sleep(3000);
+        }, b -> b.visibilityTimeout(Duration.ofSeconds(3))
+                 .addMetricPublisher(new CollectingMetricPublisher(metrics)));
+        processor.start();
+
+        awaitUntil(() -> client.size() == 0);
+        assertThat(attempts).hasValue(1);
+        assertThat(client.changedVisibilities()).isPositive();
+        assertThat(metrics).singleElement().satisfies(
+            m -> assertThat(m.metricValues(SqsMessageProcessorMetric.VISIBILITY_EXTENSION_COUNT).get(0)).isPositive());
+    }
+
+    @Test
+    void start_fifoMessageWaitingForItsGroup_extendsVisibilityTimeoutWhileWaiting() {
+        client = new InMemorySqsAsyncClient(30, 1);
+        sendMessages(2, "group");
+        List<MetricCollection> metrics = new CopyOnWriteArrayList<>();
+
+        processor = processor(message -> {
+            if (message.body().equals("message-0")) {
+                sleep(2000);
+            }
+        }, b -> b.visibilityTimeout(Duration.ofSeconds(1))
+                 .addMetricPublisher(new CollectingMetricPublisher(metrics)));
+        processor.start();
+
+        awaitUntil(() -> metrics.size() == 2);
+        assertThat(metrics).extracting(m -> m.metricValues(SqsMessageProcessorMetric.VISIBILITY_EXTENSION_COUNT).get(0))
+                           .allSatisfy(count -> assertThat(count).isPositive());
+        awaitUntil(() -> client.size() == 0);
+    }
+
+    @Test
+    void start_maxConcurrencyReached_doesNotReceiveMessagesAhead() {
+        client = new InMemorySqsAsyncClient(30, 1);
+        sendMessages(5, null);
+        CountDownLatch handlerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        processor = processor(message -> {
+            handlerBlocked.countDown();
+            await(release);
+        }, b -> b.maxConcurrency(1));
+        processor.start();
+
+        await(handlerBlocked);
+        sleep(200);
+        assertThat(client.receivedMessages()).isEqualTo(1);
+        release.countDown();
+        awaitUntil(() -> client.size() == 0);
+    }
+
+    @Test
+    void start_metricPublisher_publishesOneCollectionPerMessage() {
+        client = new InMemorySqsAsyncClient(30, 1);
+        sendMessages(3, null);
+        List<MetricCollection> metrics = new CopyOnWriteArrayList<>();
+
+        processor = processor(message -> sleep(10), b -> b.addMetricPublisher(new CollectingMetricPublisher(metrics)));
+        processor.start();
+
+        awaitUntil(() -> metrics.size() == 3);
+        assertThat(metrics).allSatisfy(m -> {
+            assertThat(m.metricValues(SqsMessageProcessorMetric.QUEUE_URL)).containsExactly(QUEUE_URL);
+            assertThat(m.metricValues(SqsMessageProcessorMetric.MESSAGE_PROCESSING_SUCCESSFUL)).containsExactly(true);
+            assertThat(m.metricValues(SqsMessageProcessorMetric.MESSAGE_PROCESSING_DURATION).get(0))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(10));
+            assertThat(m.metricValues(SqsMessageProcessorMetric.MESSAGE_LAG)).hasSize(1);
+            assertThat(m.metricValues(SqsMessageProcessorMetric.VISIBILITY_EXTENSION_COUNT)).containsExactly(0);
+        });
+    }
+
+    @Test
+    void close_messageBeingHandled_waitsForHandlerAndDelete() {
+        client = new InMemorySqsAsyncClient(30, 1);
+        sendMessages(1, null);
+        AtomicBoolean started = new AtomicBoolean();
+        AtomicInteger handled = new AtomicInteger();
+
+        processor = processor(message -> {
+            started.set(true);
+            sleep(500);
+            handled.incrementAndGet();
+        }, b -> { });
+        processor.start();
+        awaitUntil(started::get);
+
+        processor.close();
+
+        assertThat(handled).hasValue(1);
+        assertThat(client.size()).isZero();
+    }
+
+    @Test
+    void build_missingMessageHandler_throwsException() {
+        client = new InMemorySqsAsyncClient(30, 1);
+
+        assertThatThrownBy(() -> SqsMessageProcessor.builder().client(client).queueUrl(QUEUE_URL).build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("messageHandler");
+    }
+
+    private SqsMessageProcessor processor(Consumer<Message> handler, Consumer<SqsMessageProcessor.Builder> configuration) {
+        SqsMessageProcessor.Builder builder = SqsMessageProcessor.builder()
+                                                                 .client(client)
+                                                                 .queueUrl(QUEUE_URL)
+                                                                 .messageHandler(handler);
+        configuration.accept(builder);
+        return builder.build();
+    }
+
+    private void sendMessages(int count, String groupId) {
+        for (int i = 0; i < count; i++) {
+            String body = "message-" + i;
+            client.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(body).messageGroupId(groupId)).join();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("Timed out waiting for condition").isLessThan(deadline);
+            sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).as("Timed out waiting for latch").isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CollectingMetricPublisher implements MetricPublisher {
+        private final List<MetricCollection> metrics;
+
+        private CollectingMetricPublisher(List<MetricCollection> metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            metrics.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -17,14 +17,17 @@ package software.amazon.awssdk.services.sso.auth;
 
 import static software.amazon.awssdk.utils.Validate.notNull;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.internal.FileCredentialsCache;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
 import software.amazon.awssdk.services.sso.SsoClient;
 import software.amazon.awssdk.services.sso.internal.SessionCredentialsHolder;
@@ -72,6 +75,10 @@ public final class SsoCredentialsProvider implements AwsCredentialsProvider, Sdk
 
     private final Boolean asyncCredentialUpdateEnabled;
 
+    private final Boolean fileCacheEnabled;
+    private final Path fileCacheDirectory;
+    private final FileCredentialsCache fileCache;
+
     /**
      * @see #builder()
      */
@@ -87,6 +94,15 @@ public final class SsoCredentialsProvider implements AwsCredentialsProvider, Sdk
             ? PROVIDER_NAME 
             : builder.sourceChain + "," + PROVIDER_NAME;
 
+        this.fileCacheEnabled = builder.fileCacheEnabled;
+        this.fileCacheDirectory = builder.fileCacheDirectory;
+        if (Boolean.TRUE.equals(fileCacheEnabled)) {
+            this.fileCache = fileCacheDirectory != null ? FileCredentialsCache.create(fileCacheDirectory)
+                                                        : FileCredentialsCache.create();
+        } else {
+            this.fileCache = null;
+        }
+
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
         CachedSupplier.Builder<SessionCredentialsHolder> cacheBuilder =
             CachedSupplier.builder(this::updateSsoCredentials)
@@ -115,6 +131,28 @@ public final class SsoCredentialsProvider implements AwsCredentialsProvider, Sdk
     private SessionCredentialsHolder getUpdatedCredentials(SsoClient ssoClient) {
         GetRoleCredentialsRequest request = getRoleCredentialsRequestSupplier.get();
         notNull(request, "GetRoleCredentialsRequest can't be null.");
+
+        // Credentials are cached per access token, so that they are never shared between identities. Only the token's hash is
+        // part of the key.
+        String cacheKey = "GetRoleCredentials" + Arrays.asList(request.accountId(), request.roleName(),
+                                                               FileCredentialsCache.sha256Hex(request.accessToken()));
+        if (fileCache != null) {
+            Optional<AwsSessionCredentials> cachedCredentials = fileCache.load(cacheKey, Instant.now().plus(prefetchTime));
+            if (cachedCredentials.isPresent()) {
+                AwsSessionCredentials credentials = cachedCredentials.get().copy(c -> c.providerName(this.providerName));
+                return new SessionCredentialsHolder(credentials, credentials.expirationTime().get());
+            }
+        }
+
+        SessionCredentialsHolder credentials = getRoleCredentials(ssoClient, request);
+        if (fileCache != null) {
+            fileCache.store(cacheKey, credentials.sessionCredentials()
+                                                 .copy(c -> c.expirationTime(credentials.sessionCredentialsExpiration())));
+        }
+        return credentials;
+    }
+
+    private SessionCredentialsHolder getRoleCredentials(SsoClient ssoClient, GetRoleCredentialsRequest request) {
         RoleCredentials roleCredentials = ssoClient.getRoleCredentials(request).roleCredentials();
         AwsSessionCredentials sessionCredentials = AwsSessionCredentials.builder()
                                                                         .accessKeyId(roleCredentials.accessKeyId())
@@ -203,6 +241,26 @@ public final class SsoCredentialsProvider implements AwsCredentialsProvider, Sdk
          */
         Builder prefetchTime(Duration prefetchTime);
 
+        /**
+         * Configure whether the provider should cache the role credentials on disk, so that they can be reused across JVM
+         * restarts and by other processes. Before calling SSO, the provider loads the credentials cached for the same account
+         * and role, if they do not need to be refreshed before the prefetch time. Credentials received from SSO are written to
+         * the cache.
+         *
+         * <p>Cache files can only be read by the user that created them. By default, they are stored in
+         * {@code ~/.aws/sdk/cache}. See {@link #fileCacheDirectory(Path)}.</p>
+         *
+         * <p>By default, this is disabled.</p>
+         */
+        Builder fileCacheEnabled(Boolean fileCacheEnabled);
+
+        /**
+         * When {@link #fileCacheEnabled(Boolean)} is true, this configures the directory the role credentials are cached in.
+         *
+         * <p>By default, this is {@code ~/.aws/sdk/cache}.</p>
+         */
+        Builder fileCacheDirectory(Path fileCacheDirectory);
+
         /**
          * Configure the {@link GetRoleCredentialsRequest} that should be periodically sent to the SSO service to update the
          * credentials.
@@ -237,6 +295,8 @@ public final class SsoCredentialsProvider implements AwsCredentialsProvider, Sdk
         private Duration prefetchTime;
         private Supplier<GetRoleCredentialsRequest> getRoleCredentialsRequestSupplier;
         private String sourceChain;
+        private Boolean fileCacheEnabled = false;
+        private Path fileCacheDirectory;
 
         BuilderImpl() {
 
@@ -249,6 +309,8 @@ public final class SsoCredentialsProvider implements AwsCredentialsProvider, Sdk
             this.prefetchTime = provider.prefetchTime;
             this.getRoleCredentialsRequestSupplier = provider.getRoleCredentialsRequestSupplier;
             this.sourceChain = provider.sourceChain;
+            this.fileCacheEnabled = provider.fileCacheEnabled;
+            this.fileCacheDirectory = provider.fileCacheDirectory;
         }
 
         @Override
@@ -275,6 +337,18 @@ public final class SsoCredentialsProvider implements AwsCredentialsProvider, Sdk
             return this;
         }
 
+        @Override
+        public Builder fileCacheEnabled(Boolean fileCacheEnabled) {
+            this.fileCacheEnabled = fileCacheEnabled;
+            return this;
+        }
+
+        @Override
+        public Builder fileCacheDirectory(Path fileCacheDirectory) {
+            this.fileCacheDirectory = fileCacheDirectory;
+            return this;
+        }
+
         @Override
         public Builder refreshRequest(GetRoleCredentialsRequest getRoleCredentialsRequest) {
             return refreshRequest(() -> getRoleCredentialsRequest);
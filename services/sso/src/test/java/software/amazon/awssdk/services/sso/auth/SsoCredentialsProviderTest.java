@@ -21,10 +21,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
@@ -90,6 +92,60 @@ public class SsoCredentialsProviderTest {
 
 
 
+    @Test
+    public void fileCacheEnabled_credentialsReusedAcrossProviders(@TempDir Path cacheDirectory) {
+        ssoClient = mock(SsoClient.class);
+        RoleCredentials credentials = RoleCredentials.builder().accessKeyId("a").secretAccessKey("b").sessionToken("c")
+                                                     .expiration(Instant.now().plus(Duration.ofHours(1)).toEpochMilli())
+                                                     .build();
+        Supplier<GetRoleCredentialsRequest> supplier = getRequestSupplier();
+        when(ssoClient.getRoleCredentials(supplier.get())).thenReturn(getResponse(credentials));
+
+        SsoCredentialsProvider.Builder builder = SsoCredentialsProvider.builder()
+                                                                       .refreshRequest(supplier)
+                                                                       .ssoClient(ssoClient)
+                                                                       .fileCacheEnabled(true)
+                                                                       .fileCacheDirectory(cacheDirectory);
+
+        try (SsoCredentialsProvider first = builder.build()) {
+            first.resolveCredentials();
+        }
+
+        try (SsoCredentialsProvider second = builder.build()) {
+            AwsSessionCredentials actualCredentials = (AwsSessionCredentials) second.resolveCredentials();
+            assertThat(actualCredentials.accessKeyId()).isEqualTo("a");
+            assertThat(actualCredentials.sessionToken()).isEqualTo("c");
+            assertThat(actualCredentials.providerName()).isPresent().contains(BusinessMetricFeatureId.CREDENTIALS_SSO.value());
+            assertThat(actualCredentials.accountId()).isPresent().contains("123456789");
+        }
+
+        callClient(verify(ssoClient, times(1)), Mockito.any());
+    }
+
+    @Test
+    public void fileCacheEnabled_differentAccessTokens_areNotShared(@TempDir Path cacheDirectory) {
+        ssoClient = mock(SsoClient.class);
+        RoleCredentials credentials = RoleCredentials.builder().accessKeyId("a").secretAccessKey("b").sessionToken("c")
+                                                     .expiration(Instant.now().plus(Duration.ofHours(1)).toEpochMilli())
+                                                     .build();
+        when(ssoClient.getRoleCredentials(Mockito.any(GetRoleCredentialsRequest.class))).thenReturn(getResponse(credentials));
+
+        GetRoleCredentialsRequest request = GetRoleCredentialsRequest.builder().accountId("123456789").build();
+        for (String accessToken : new String[] {"firstToken", "secondToken"}) {
+            try (SsoCredentialsProvider provider =
+                     SsoCredentialsProvider.builder()
+                                           .refreshRequest(new GetRoleCredentialsRequestSupplier(request, accessToken))
+                                           .ssoClient(ssoClient)
+                                           .fileCacheEnabled(true)
+                                           .fileCacheDirectory(cacheDirectory)
+                                           .build()) {
+                provider.resolveCredentials();
+            }
+        }
+
+        callClient(verify(ssoClient, times(2)), Mockito.any());
+    }
+
     private GetRoleCredentialsRequestSupplier getRequestSupplier() {
         return new GetRoleCredentialsRequestSupplier(GetRoleCredentialsRequest.builder()
                                                                               .accountId("123456789")
@@ -18,6 +18,8 @@ package software.amazon.awssdk.services.sts.auth;
 import static software.amazon.awssdk.services.sts.internal.StsAuthUtils.accountIdFromArn;
 import static software.amazon.awssdk.services.sts.internal.StsAuthUtils.fromStsCredentials;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -25,7 +27,10 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.awscore.AwsServiceClientConfiguration;
+import software.amazon.awssdk.core.SdkServiceClientConfiguration;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
@@ -55,6 +60,8 @@ public final class StsAssumeRoleCredentialsProvider
     private final Supplier<AssumeRoleRequest> assumeRoleRequestSupplier;
     private final String sourceChain;
     private final String providerName;
+    private final Boolean sharedSessionCacheEnabled;
+    private final Object sourceCredentialsKey;
 
     /**
      * @see #builder()
@@ -65,6 +72,8 @@ public final class StsAssumeRoleCredentialsProvider
 
         this.assumeRoleRequestSupplier = builder.assumeRoleRequestSupplier;
         this.sourceChain = builder.sourceChain;
+        this.sharedSessionCacheEnabled = builder.sharedSessionCacheEnabled;
+        this.sourceCredentialsKey = builder.sourceCredentialsKey;
         this.providerName = StringUtils.isEmpty(builder.sourceChain)
             ? PROVIDER_NAME 
             : builder.sourceChain + "," + PROVIDER_NAME;
@@ -87,6 +96,29 @@ public final class StsAssumeRoleCredentialsProvider
                                   accountIdFromArn(assumeRoleResponse.assumedRoleUser()));
     }
 
+    @Override
+    String fileCacheKey() {
+        AssumeRoleRequest request = assumeRoleRequestSupplier.get();
+        if (request == null) {
+            return null;
+        }
+        // The MFA token code is single-use, so only the device serial number is part of the key
+        return fileCacheKey("AssumeRole", request.roleArn(), request.roleSessionName(), request.externalId(),
+                            request.sourceIdentity(), request.serialNumber(), request.policy(), request.policyArns(),
+                            request.tags(), request.transitiveTagKeys(), request.providedContexts(),
+                            request.durationSeconds());
+    }
+
+    @Override
+    CompletableFuture<AwsSessionCredentials> getUpdatedCredentialsAsync(StsAsyncClient stsAsyncClient) {
+        AssumeRoleRequest assumeRoleRequest = assumeRoleRequestSupplier.get();
+        Validate.notNull(assumeRoleRequest, "Assume role request must not be null.");
+        return stsAsyncClient.assumeRole(assumeRoleRequest)
+                             .thenApply(r -> fromStsCredentials(r.credentials(),
+                                                                providerName(),
+                                                                accountIdFromArn(r.assumedRoleUser())));
+    }
+
     @Override
     public String toString() {
         return ToString.builder(PROVIDER_NAME)
@@ -112,6 +144,8 @@ public final class StsAssumeRoleCredentialsProvider
     public static final class Builder extends BaseBuilder<Builder, StsAssumeRoleCredentialsProvider> {
         private Supplier<AssumeRoleRequest> assumeRoleRequestSupplier;
         private String sourceChain;
+        private Boolean sharedSessionCacheEnabled = false;
+        private Object sourceCredentialsKey;
 
         private Builder() {
             super(StsAssumeRoleCredentialsProvider::new);
@@ -121,6 +155,8 @@ public final class StsAssumeRoleCredentialsProvider
             super(StsAssumeRoleCredentialsProvider::new, provider);
             this.assumeRoleRequestSupplier = provider.assumeRoleRequestSupplier;
             this.sourceChain = provider.sourceChain;
+            this.sharedSessionCacheEnabled = provider.sharedSessionCacheEnabled;
+            this.sourceCredentialsKey = provider.sourceCredentialsKey;
         }
 
         /**
@@ -170,6 +206,71 @@ public final class StsAssumeRoleCredentialsProvider
             return this;
         }
 
+        /**
+         * Configure whether this provider should share its cached session with the other providers in this JVM that assume the
+         * same role. If this is true, providers that assume the same role ARN with the same session policies, source identity,
+         * external ID, tags, duration and MFA device, through STS in the same region and with the same source credentials,
+         * share one set of credentials and refresh it once, instead of each calling STS. This is useful when many clients are
+         * created with separate providers for the same role.
+         *
+         * <p>The role session name is not compared, so a shared session uses the name of the provider that assumed it. The
+         * source credentials are identified by {@link #sourceCredentialsKey(Object)} if it is set, and otherwise by the
+         * credentials provider instance configured on the STS client. Every provider must still be closed when it is no longer
+         * needed.</p>
+         *
+         * <p>By default, this is disabled.</p>
+         */
+        public Builder sharedSessionCacheEnabled(Boolean sharedSessionCacheEnabled) {
+            this.sharedSessionCacheEnabled = sharedSessionCacheEnabled;
+            return this;
+        }
+
+        /**
+         * Configure a value identifying the credentials the STS client uses to assume the role, when
+         * {@link #sharedSessionCacheEnabled(Boolean)} is true. Providers only share a session if their keys are equal, so
+         * the key must differ whenever the source credentials do. This allows providers with separate STS clients, such as
+         * those created from the same profile, to share a session.
+         *
+         * <p><b>Note:</b> This method is primarily intended for use by AWS SDK internal components
+         * and should not be used directly by external users.</p>
+         *
+         * @param sourceCredentialsKey A value identifying the source credentials, compared with {@link Object#equals(Object)}.
+         * @return This object for chained calls.
+         */
+        public Builder sourceCredentialsKey(Object sourceCredentialsKey) {
+            this.sourceCredentialsKey = sourceCredentialsKey;
+            return this;
+        }
+
+        @Override
+        Object sharedSessionCacheKey() {
+            if (!Boolean.TRUE.equals(sharedSessionCacheEnabled) || assumeRoleRequestSupplier == null) {
+                return null;
+            }
+            AssumeRoleRequest request = assumeRoleRequestSupplier.get();
+            if (request == null) {
+                return null;
+            }
+            // The session name is left out so that profile providers, whose default session name includes a timestamp, can
+            // share a session. The MFA token code is single-use, so only the device serial number is compared.
+            return Arrays.asList(sourceCredentialsKey(), sourceChain, request.roleArn(), request.policy(), request.policyArns(),
+                                 request.sourceIdentity(), request.externalId(), request.tags(), request.transitiveTagKeys(),
+                                 request.providedContexts(), request.durationSeconds(), request.serialNumber());
+        }
+
+        private Object sourceCredentialsKey() {
+            if (sourceCredentialsKey != null) {
+                return sourceCredentialsKey;
+            }
+            SdkServiceClientConfiguration configuration = stsClientConfiguration();
+            if (configuration instanceof AwsServiceClientConfiguration
+                && ((AwsServiceClientConfiguration) configuration).credentialsProvider() != null) {
+                return ((AwsServiceClientConfiguration) configuration).credentialsProvider();
+            }
+            // The source credentials are unknown, so only providers using this client instance can share a session
+            return stsClient();
+        }
+
         @Override
         public StsAssumeRoleCredentialsProvider build() {
             return super.build();
@@ -18,6 +18,7 @@ package software.amazon.awssdk.services.sts.auth;
 import static software.amazon.awssdk.services.sts.internal.StsAuthUtils.accountIdFromArn;
 import static software.amazon.awssdk.services.sts.internal.StsAuthUtils.fromStsCredentials;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -25,7 +26,9 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.internal.FileCredentialsCache;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithSamlRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithSamlResponse;
@@ -87,6 +90,27 @@ public final class StsAssumeRoleWithSamlCredentialsProvider
                                   accountIdFromArn(assumeRoleResponse.assumedRoleUser()));
     }
 
+    @Override
+    String fileCacheKey() {
+        AssumeRoleWithSamlRequest request = assumeRoleWithSamlRequestSupplier.get();
+        if (request == null) {
+            return null;
+        }
+        return fileCacheKey("AssumeRoleWithSAML", request.roleArn(), request.principalArn(), request.policy(),
+                            request.policyArns(), request.durationSeconds(),
+                            FileCredentialsCache.sha256Hex(request.samlAssertion()));
+    }
+
+    @Override
+    CompletableFuture<AwsSessionCredentials> getUpdatedCredentialsAsync(StsAsyncClient stsAsyncClient) {
+        AssumeRoleWithSamlRequest assumeRoleWithSamlRequest = assumeRoleWithSamlRequestSupplier.get();
+        Validate.notNull(assumeRoleWithSamlRequest, "Assume role with saml request must not be null.");
+        return stsAsyncClient.assumeRoleWithSAML(assumeRoleWithSamlRequest)
+                             .thenApply(r -> fromStsCredentials(r.credentials(),
+                                                                providerName(),
+                                                                accountIdFromArn(r.assumedRoleUser())));
+    }
+
     @Override
     public Builder toBuilder() {
         return new Builder(this);
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.services.sts.internal.StsAuthUtils.accountI
 import static software.amazon.awssdk.services.sts.internal.StsAuthUtils.fromStsCredentials;
 import static software.amazon.awssdk.utils.Validate.notNull;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -26,7 +27,9 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.internal.FileCredentialsCache;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityResponse;
@@ -55,6 +58,7 @@ public final class StsAssumeRoleWithWebIdentityCredentialsProvider
     private final Supplier<AssumeRoleWithWebIdentityRequest> assumeRoleWithWebIdentityRequest;
     private final String sourceChain;
     private final String providerName;
+    private final boolean roleSessionNameGenerated;
 
     /**
      * @see #builder()
@@ -65,6 +69,7 @@ public final class StsAssumeRoleWithWebIdentityCredentialsProvider
 
         this.assumeRoleWithWebIdentityRequest = builder.assumeRoleWithWebIdentityRequestSupplier;
         this.sourceChain = builder.sourceChain;
+        this.roleSessionNameGenerated = builder.roleSessionNameGenerated;
         this.providerName = StringUtils.isEmpty(builder.sourceChain)
             ? PROVIDER_NAME 
             : builder.sourceChain + "," + PROVIDER_NAME;
@@ -87,6 +92,29 @@ public final class StsAssumeRoleWithWebIdentityCredentialsProvider
                                   accountIdFromArn(assumeRoleResponse.assumedRoleUser()));
     }
 
+    @Override
+    String fileCacheKey() {
+        AssumeRoleWithWebIdentityRequest request = assumeRoleWithWebIdentityRequest.get();
+        if (request == null) {
+            return null;
+        }
+        // A session name generated by the SDK differs on every start, so it is left out to let the cache work across restarts
+        String roleSessionName = roleSessionNameGenerated ? null : request.roleSessionName();
+        return fileCacheKey("AssumeRoleWithWebIdentity", request.roleArn(), roleSessionName, request.providerId(),
+                            request.policy(), request.policyArns(), request.durationSeconds(),
+                            FileCredentialsCache.sha256Hex(request.webIdentityToken()));
+    }
+
+    @Override
+    CompletableFuture<AwsSessionCredentials> getUpdatedCredentialsAsync(StsAsyncClient stsAsyncClient) {
+        AssumeRoleWithWebIdentityRequest request = assumeRoleWithWebIdentityRequest.get();
+        notNull(request, "AssumeRoleWithWebIdentityRequest can't be null");
+        return stsAsyncClient.assumeRoleWithWebIdentity(request)
+                             .thenApply(r -> fromStsCredentials(r.credentials(),
+                                                                providerName(),
+                                                                accountIdFromArn(r.assumedRoleUser())));
+    }
+
     @Override
     public Builder toBuilder() {
         return new Builder(this);
@@ -105,6 +133,7 @@ public final class StsAssumeRoleWithWebIdentityCredentialsProvider
     public static final class Builder extends BaseBuilder<Builder, StsAssumeRoleWithWebIdentityCredentialsProvider> {
         private Supplier<AssumeRoleWithWebIdentityRequest> assumeRoleWithWebIdentityRequestSupplier;
         private String sourceChain;
+        private boolean roleSessionNameGenerated;
 
         private Builder() {
             super(StsAssumeRoleWithWebIdentityCredentialsProvider::new);
@@ -114,6 +143,7 @@ public final class StsAssumeRoleWithWebIdentityCredentialsProvider
             super(StsAssumeRoleWithWebIdentityCredentialsProvider::new, provider);
             this.assumeRoleWithWebIdentityRequestSupplier = provider.assumeRoleWithWebIdentityRequest;
             this.sourceChain = provider.sourceChain;
+            this.roleSessionNameGenerated = provider.roleSessionNameGenerated;
         }
 
         /**
@@ -164,6 +194,15 @@ public final class StsAssumeRoleWithWebIdentityCredentialsProvider
             return this;
         }
 
+        /**
+         * Configure whether the role session name of the refresh request was generated by the SDK rather than configured by the
+         * user, in which case it does not affect the file cache key.
+         */
+        Builder roleSessionNameGenerated(boolean roleSessionNameGenerated) {
+            this.roleSessionNameGenerated = roleSessionNameGenerated;
+            return this;
+        }
+
         @Override
         public StsAssumeRoleWithWebIdentityCredentialsProvider build() {
             return super.build();
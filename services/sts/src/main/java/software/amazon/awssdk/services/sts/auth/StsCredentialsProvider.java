@@ -15,23 +15,45 @@
 
 package software.amazon.awssdk.services.sts.auth;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.internal.FileCredentialsCache;
+import software.amazon.awssdk.auth.credentials.internal.SharedCredentialsCache;
+import software.amazon.awssdk.awscore.AwsServiceClientConfiguration;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.SdkServiceClientConfiguration;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+import software.amazon.awssdk.utils.cache.AsyncCachedSupplier;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
 import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
@@ -45,6 +67,10 @@ import software.amazon.awssdk.utils.cache.RefreshResult;
  * thread (by default) or asynchronously (if {@link #asyncCredentialUpdateEnabled} is true). If the credentials expire, this
  * class will block all calls to {@link #resolveCredentials()} until the credentials are updated.
  *
+ * If an {@link StsAsyncClient} is configured, the credentials are updated using that client instead, and
+ * {@link #resolveIdentity(ResolveIdentityRequest)} never blocks the calling thread: it returns a future that completes when the
+ * update does, and concurrent callers share a single call to STS.
+ *
  * Users of this provider must {@link #close()} it when they are finished using it.
  */
 @ThreadSafe
@@ -55,34 +81,132 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
     private static final Duration DEFAULT_STALE_TIME = Duration.ofMinutes(1);
     private static final Duration DEFAULT_PREFETCH_TIME = Duration.ofMinutes(5);
 
+    private static final SharedCredentialsCache<List<Object>, StsCredentialsProvider, SessionCache> SHARED_SESSION_CACHES =
+        new SharedCredentialsCache<>();
+
     /**
      * The STS client that should be used for periodically updating the session credentials.
      */
     final StsClient stsClient;
 
     /**
-     * The session cache that handles automatically updating the credentials when they get close to expiring.
+     * The STS async client that should be used for periodically updating the session credentials, if configured.
+     */
+    final StsAsyncClient stsAsyncClient;
+
+    /**
+     * The session cache that handles automatically updating the credentials when they get close to expiring. Null if an
+     * {@link #stsAsyncClient} is configured.
      */
     private final CachedSupplier<AwsSessionCredentials> sessionCache;
 
+    /**
+     * The session cache that updates the credentials using the {@link #stsAsyncClient}. Null if no async client is configured.
+     */
+    private final AsyncCachedSupplier<AwsSessionCredentials> asyncSessionCache;
+
+    /**
+     * The lease on the session cache shared with other providers with the same configuration. Null if the session cache is not
+     * shared.
+     */
+    private final SharedCredentialsCache.Lease<SessionCache> sharedSessionCacheLease;
+
+    /**
+     * The on-disk cache consulted before calling STS. Null if the file cache is not enabled.
+     */
+    private final FileCredentialsCache fileCache;
+
+    /**
+     * The executor the file cache is read on when the credentials are updated with the {@link #stsAsyncClient}, so that the
+     * calling thread does not block on disk. Null if the file cache is not enabled or no async client is configured.
+     */
+    private final ExecutorService fileCacheExecutor;
+
     private final Duration staleTime;
     private final Duration prefetchTime;
     private final Boolean asyncCredentialUpdateEnabled;
+    private final Boolean fileCacheEnabled;
+    private final Path fileCacheDirectory;
 
     StsCredentialsProvider(BaseBuilder<?, ?> builder, String asyncThreadName) {
-        this.stsClient = Validate.notNull(builder.stsClient, "STS client must not be null.");
+        this.stsClient = builder.stsClient;
+        this.stsAsyncClient = builder.stsAsyncClient;
+        if (stsAsyncClient == null) {
+            Validate.notNull(stsClient, "STS client must not be null.");
+        }
 
         this.staleTime = Optional.ofNullable(builder.staleTime).orElse(DEFAULT_STALE_TIME);
         this.prefetchTime = Optional.ofNullable(builder.prefetchTime).orElse(DEFAULT_PREFETCH_TIME);
 
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
+        this.fileCacheEnabled = builder.fileCacheEnabled;
+        this.fileCacheDirectory = builder.fileCacheDirectory;
+        if (Boolean.TRUE.equals(fileCacheEnabled)) {
+            this.fileCache = fileCacheDirectory != null ? FileCredentialsCache.create(fileCacheDirectory)
+                                                        : FileCredentialsCache.create();
+        } else {
+            this.fileCache = null;
+        }
+        if (fileCache != null && stsAsyncClient != null) {
+            ThreadFactory threadFactory = new ThreadFactoryBuilder().threadNamePrefix(asyncThreadName + "-file-cache")
+                                                                    .daemonThreads(true)
+                                                                    .build();
+            this.fileCacheExecutor = new ThreadPoolExecutor(0, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                                            threadFactory);
+        } else {
+            this.fileCacheExecutor = null;
+        }
+
+        Object sharedSessionCacheKey = builder.sharedSessionCacheKey();
+        SessionCache cache;
+        if (sharedSessionCacheKey == null) {
+            this.sharedSessionCacheLease = null;
+            cache = createSessionCache(() -> this, asyncThreadName);
+        } else {
+            List<Object> key = Arrays.asList(getClass(), stsRegion(builder.stsClientConfiguration()), stsAsyncClient != null,
+                                             asyncCredentialUpdateEnabled, staleTime, prefetchTime, fileCacheEnabled,
+                                             fileCacheDirectory, sharedSessionCacheKey);
+            this.sharedSessionCacheLease =
+                SHARED_SESSION_CACHES.acquire(key, this, owners -> createSessionCache(owners, asyncThreadName));
+            cache = sharedSessionCacheLease.value();
+        }
+        this.sessionCache = cache.sessionCache;
+        this.asyncSessionCache = cache.asyncSessionCache;
+    }
+
+    /**
+     * Create the session cache, which updates the credentials through the provider returned by the owner supplier. This is
+     * this provider, unless the cache is shared with other providers.
+     */
+    private SessionCache createSessionCache(Supplier<StsCredentialsProvider> owner, String asyncThreadName) {
+        if (stsAsyncClient != null) {
+            return new SessionCache(null,
+                                    AsyncCachedSupplier.builder(() -> currentOwner(owner).updateSessionCredentialsAsync())
+                                                       .cachedValueName(toString())
+                                                       .build());
+        }
+
         CachedSupplier.Builder<AwsSessionCredentials> cacheBuilder =
-            CachedSupplier.builder(this::updateSessionCredentials)
+            CachedSupplier.builder(() -> currentOwner(owner).updateSessionCredentials())
                           .cachedValueName(toString());
-        if (builder.asyncCredentialUpdateEnabled) {
+        if (asyncCredentialUpdateEnabled) {
             cacheBuilder.prefetchStrategy(new NonBlocking(asyncThreadName));
         }
-        this.sessionCache = cacheBuilder.build();
+        return new SessionCache(cacheBuilder.build(), null);
+    }
+
+    private static StsCredentialsProvider currentOwner(Supplier<StsCredentialsProvider> owner) {
+        StsCredentialsProvider provider = owner.get();
+        if (provider == null) {
+            throw new IllegalStateException("The credentials provider has been closed.");
+        }
+        return provider;
+    }
+
+    private static Region stsRegion(SdkServiceClientConfiguration configuration) {
+        return configuration instanceof AwsServiceClientConfiguration
+               ? ((AwsServiceClientConfiguration) configuration).region()
+               : null;
     }
 
     /**
@@ -90,7 +214,70 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
      * are close to expiring.
      */
     private RefreshResult<AwsSessionCredentials> updateSessionCredentials() {
+        String cacheKey = fileCacheKey();
+        Optional<AwsSessionCredentials> cachedCredentials = loadFromFileCache(cacheKey);
+        if (cachedCredentials.isPresent()) {
+            return toRefreshResult(cachedCredentials.get());
+        }
+
         AwsSessionCredentials credentials = getUpdatedCredentials(stsClient);
+        storeInFileCache(cacheKey, credentials);
+        return toRefreshResult(credentials);
+    }
+
+    /**
+     * Update the expiring session credentials by calling STS with the {@link #stsAsyncClient}. Invoked by
+     * {@link AsyncCachedSupplier} when the credentials are close to expiring.
+     */
+    private CompletableFuture<RefreshResult<AwsSessionCredentials>> updateSessionCredentialsAsync() {
+        CompletableFuture<AwsSessionCredentials> credentials;
+        try {
+            String cacheKey = fileCacheKey();
+            credentials = loadFromFileCacheAsync(cacheKey).thenCompose(cachedCredentials -> {
+                if (cachedCredentials.isPresent()) {
+                    return CompletableFuture.completedFuture(cachedCredentials.get());
+                }
+                return getUpdatedCredentialsAsync(stsAsyncClient).thenApply(c -> {
+                    storeInFileCache(cacheKey, c);
+                    return c;
+                });
+            });
+        } catch (RuntimeException e) {
+            credentials = CompletableFutureUtils.failedFuture(e);
+        }
+        return credentials.thenApply(this::toRefreshResult);
+    }
+
+    /**
+     * Load credentials from the file cache on the {@link #fileCacheExecutor}, so that the calling thread does not read from
+     * disk.
+     */
+    private CompletableFuture<Optional<AwsSessionCredentials>> loadFromFileCacheAsync(String cacheKey) {
+        if (fileCacheExecutor == null || cacheKey == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return CompletableFuture.supplyAsync(() -> loadFromFileCache(cacheKey), fileCacheExecutor);
+    }
+
+    /**
+     * Load credentials from the file cache, if it is enabled and holds credentials that will not need to be refreshed before
+     * the prefetch time.
+     */
+    private Optional<AwsSessionCredentials> loadFromFileCache(String cacheKey) {
+        if (fileCache == null || cacheKey == null) {
+            return Optional.empty();
+        }
+        return fileCache.load(cacheKey, Instant.now().plus(prefetchTime))
+                        .map(credentials -> credentials.copy(c -> c.providerName(providerName())));
+    }
+
+    private void storeInFileCache(String cacheKey, AwsSessionCredentials credentials) {
+        if (fileCache != null && cacheKey != null) {
+            fileCache.store(cacheKey, credentials);
+        }
+    }
+
+    private RefreshResult<AwsSessionCredentials> toRefreshResult(AwsSessionCredentials credentials) {
         Instant actualTokenExpiration =
             credentials.expirationTime()
                        .orElseThrow(() -> new IllegalStateException("Sourced credentials have no expiration value"));
@@ -103,16 +290,42 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
 
     @Override
     public AwsCredentials resolveCredentials() {
-        AwsSessionCredentials credentials = sessionCache.get();
+        AwsSessionCredentials credentials = asyncSessionCache != null
+                                            ? CompletableFutureUtils.joinLikeSync(asyncSessionCache.get())
+                                            : sessionCache.get();
+        logExpiration(credentials);
+        return credentials;
+    }
+
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        if (asyncSessionCache == null) {
+            return AwsCredentialsProvider.super.resolveIdentity(request);
+        }
+        return asyncSessionCache.get().thenApply(credentials -> {
+            logExpiration(credentials);
+            return credentials;
+        });
+    }
+
+    private static void logExpiration(AwsSessionCredentials credentials) {
         credentials.expirationTime().ifPresent(t -> {
             log.debug(() -> "Using STS credentials with expiration time of " + t);
         });
-        return credentials;
     }
 
     @Override
     public void close() {
-        sessionCache.close();
+        if (sharedSessionCacheLease != null) {
+            sharedSessionCacheLease.close();
+        } else if (sessionCache != null) {
+            sessionCache.close();
+        } else {
+            asyncSessionCache.close();
+        }
+        if (fileCacheExecutor != null) {
+            fileCacheExecutor.shutdown();
+        }
     }
 
     /**
@@ -141,8 +354,53 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
      */
     abstract AwsSessionCredentials getUpdatedCredentials(StsClient stsClient);
 
+    /**
+     * Implemented by a child class to call STS with the async client and get a new set of credentials to be used by this
+     * provider.
+     */
+    abstract CompletableFuture<AwsSessionCredentials> getUpdatedCredentialsAsync(StsAsyncClient stsAsyncClient);
+
     abstract String providerName();
 
+    /**
+     * The key under which the credentials of this provider are stored in the file cache, or null if this provider does not
+     * support the file cache. Providers with equal keys share cached credentials.
+     */
+    String fileCacheKey() {
+        return null;
+    }
+
+    /**
+     * Create a file cache key from the STS operation and the request fields that determine the credentials it returns. Secrets
+     * must be passed as hashes, because the string form of the request fields is used.
+     */
+    static String fileCacheKey(String operation, Object... requestFields) {
+        return operation + Arrays.asList(requestFields);
+    }
+
+    /**
+     * The session caches used by a provider, which may be shared with other providers.
+     */
+    private static final class SessionCache implements SdkAutoCloseable {
+        private final CachedSupplier<AwsSessionCredentials> sessionCache;
+        private final AsyncCachedSupplier<AwsSessionCredentials> asyncSessionCache;
+
+        private SessionCache(CachedSupplier<AwsSessionCredentials> sessionCache,
+                             AsyncCachedSupplier<AwsSessionCredentials> asyncSessionCache) {
+            this.sessionCache = sessionCache;
+            this.asyncSessionCache = asyncSessionCache;
+        }
+
+        @Override
+        public void close() {
+            if (sessionCache != null) {
+                sessionCache.close();
+            } else {
+                asyncSessionCache.close();
+            }
+        }
+    }
+
     /**
      * Extended by child class's builders to share configuration across credential providers.
      */
@@ -154,8 +412,11 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
 
         private Boolean asyncCredentialUpdateEnabled = false;
         private StsClient stsClient;
+        private StsAsyncClient stsAsyncClient;
         private Duration staleTime;
         private Duration prefetchTime;
+        private Boolean fileCacheEnabled = false;
+        private Path fileCacheDirectory;
 
         BaseBuilder(Function<B, T> providerConstructor) {
             this.providerConstructor = providerConstructor;
@@ -165,8 +426,11 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
             this.providerConstructor = providerConstructor;
             this.asyncCredentialUpdateEnabled = provider.asyncCredentialUpdateEnabled;
             this.stsClient = provider.stsClient;
+            this.stsAsyncClient = provider.stsAsyncClient;
             this.staleTime = provider.staleTime;
             this.prefetchTime = provider.prefetchTime;
+            this.fileCacheEnabled = provider.fileCacheEnabled;
+            this.fileCacheDirectory = provider.fileCacheDirectory;
         }
 
         /**
@@ -182,6 +446,24 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
             return (B) this;
         }
 
+        /**
+         * Configure the {@link StsAsyncClient} to use when calling STS to update the session. This client should not be shut
+         * down as long as this credentials provider is in use.
+         *
+         * <p>When configured, this client is used instead of the {@link #stsClient(StsClient)}, and
+         * {@link StsCredentialsProvider#resolveIdentity(ResolveIdentityRequest)} no longer blocks the calling thread while the
+         * session is updated. Prefetch updates always happen in the background, regardless of
+         * {@link #asyncCredentialUpdateEnabled(Boolean)}.</p>
+         *
+         * @param stsAsyncClient The STS async client to use for communication with STS.
+         * @return This object for chained calls.
+         */
+        @SuppressWarnings("unchecked")
+        public B stsAsyncClient(StsAsyncClient stsAsyncClient) {
+            this.stsAsyncClient = stsAsyncClient;
+            return (B) this;
+        }
+
         /**
          * Configure whether the provider should fetch credentials asynchronously in the background. If this is true,
          * threads are less likely to block when credentials are loaded, but additional resources are used to maintain
@@ -222,6 +504,36 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
             return (B) this;
         }
 
+        /**
+         * Configure whether the provider should cache the session credentials on disk, so that they can be reused across JVM
+         * restarts and by other processes. Before calling STS, the provider loads the credentials cached for the same request,
+         * if they do not need to be refreshed before the prefetch time. Credentials received from STS are written to the cache.
+         *
+         * <p>Cache files can only be read by the user that created them. By default, they are stored in
+         * {@code ~/.aws/sdk/cache}. See {@link #fileCacheDirectory(Path)}.</p>
+         *
+         * <p>This is supported by the providers that assume a role. It is ignored by
+         * {@link StsGetSessionTokenCredentialsProvider} and {@link StsGetFederationTokenCredentialsProvider}, whose credentials
+         * depend on the caller's identity rather than on the request alone.</p>
+         *
+         * <p>By default, this is disabled.</p>
+         */
+        @SuppressWarnings("unchecked")
+        public B fileCacheEnabled(Boolean fileCacheEnabled) {
+            this.fileCacheEnabled = fileCacheEnabled;
+            return (B) this;
+        }
+
+        /**
+         * When {@link #fileCacheEnabled(Boolean)} is true, this configures the directory the session credentials are cached in.
+         *
+         * <p>By default, this is {@code ~/.aws/sdk/cache}.</p>
+         */
+        @SuppressWarnings("unchecked")
+        public B fileCacheDirectory(Path fileCacheDirectory) {
+            this.fileCacheDirectory = fileCacheDirectory;
+            return (B) this;
+        }
 
         /**
          * Build the credentials provider using the configuration applied to this builder.
@@ -238,5 +550,56 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         Boolean asyncCredentialUpdateEnabled() {
             return asyncCredentialUpdateEnabled;
         }
+
+        /**
+         * The STS async client configured on this builder, if any.
+         */
+        StsAsyncClient stsAsyncClient() {
+            return stsAsyncClient;
+        }
+
+        /**
+         * Whether the provider should cache the session credentials on disk.
+         */
+        Boolean fileCacheEnabled() {
+            return fileCacheEnabled;
+        }
+
+        /**
+         * The directory the session credentials are cached in, if configured.
+         */
+        Path fileCacheDirectory() {
+            return fileCacheDirectory;
+        }
+
+        /**
+         * The service configuration of the STS client, or null if the client does not expose one.
+         */
+        SdkServiceClientConfiguration stsClientConfiguration() {
+            SdkClient client = stsClient();
+            if (client == null) {
+                return null;
+            }
+            try {
+                return client.serviceClientConfiguration();
+            } catch (UnsupportedOperationException e) {
+                return null;
+            }
+        }
+
+        /**
+         * The client used to call STS.
+         */
+        SdkClient stsClient() {
+            return stsAsyncClient != null ? stsAsyncClient : stsClient;
+        }
+
+        /**
+         * The key identifying providers built by this builder that can share their session cache, or null if the session cache
+         * should not be shared.
+         */
+        Object sharedSessionCacheKey() {
+            return null;
+        }
     }
 }
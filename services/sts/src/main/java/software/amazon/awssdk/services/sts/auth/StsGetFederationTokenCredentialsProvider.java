@@ -17,6 +17,7 @@ package software.amazon.awssdk.services.sts.auth;
 
 import static software.amazon.awssdk.services.sts.internal.StsAuthUtils.fromStsCredentials;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -24,6 +25,7 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.endpoints.internal.Arn;
 import software.amazon.awssdk.services.sts.model.FederatedUser;
@@ -85,6 +87,14 @@ public class StsGetFederationTokenCredentialsProvider
                                   accountIdFromArn(federationToken.federatedUser()));
     }
 
+    @Override
+    CompletableFuture<AwsSessionCredentials> getUpdatedCredentialsAsync(StsAsyncClient stsAsyncClient) {
+        return stsAsyncClient.getFederationToken(getFederationTokenRequest)
+                             .thenApply(r -> fromStsCredentials(r.credentials(),
+                                                                providerName(),
+                                                                accountIdFromArn(r.federatedUser())));
+    }
+
     private String accountIdFromArn(FederatedUser federatedUser) {
         if (federatedUser == null) {
             return null;
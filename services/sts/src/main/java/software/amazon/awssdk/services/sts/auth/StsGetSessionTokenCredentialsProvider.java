@@ -17,6 +17,7 @@ package software.amazon.awssdk.services.sts.auth;
 
 import static software.amazon.awssdk.services.sts.internal.StsAuthUtils.fromStsCredentials;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -24,6 +25,7 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.model.GetSessionTokenRequest;
 import software.amazon.awssdk.services.sts.model.GetSessionTokenResponse;
@@ -81,6 +83,12 @@ public class StsGetSessionTokenCredentialsProvider
         return fromStsCredentials(sessionToken.credentials(), providerName());
     }
 
+    @Override
+    CompletableFuture<AwsSessionCredentials> getUpdatedCredentialsAsync(StsAsyncClient stsAsyncClient) {
+        return stsAsyncClient.getSessionToken(getSessionTokenRequest)
+                             .thenApply(r -> fromStsCredentials(r.credentials(), providerName()));
+    }
+
     @Override
     public Builder toBuilder() {
         return new Builder(this);
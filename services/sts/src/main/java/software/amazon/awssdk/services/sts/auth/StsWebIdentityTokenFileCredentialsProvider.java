@@ -23,6 +23,7 @@ import static software.amazon.awssdk.utils.Validate.notNull;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -32,10 +33,14 @@ import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.credentials.internal.WebIdentityTokenCredentialProperties;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.internal.AssumeRoleWithWebIdentityRequestSupplier;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
 /**
@@ -82,9 +87,12 @@ public final class StsWebIdentityTokenFileCredentialsProvider
             String roleArn = builder.roleArn != null ? builder.roleArn
                                                      : trim(SdkSystemSetting.AWS_ROLE_ARN.getStringValueOrThrow());
 
-            String sessionName = builder.roleSessionName != null ? builder.roleSessionName :
-                                 SdkSystemSetting.AWS_ROLE_SESSION_NAME.getStringValue()
-                                                                       .orElse("aws-sdk-java-" + System.currentTimeMillis());
+            Optional<String> configuredSessionName =
+                builder.roleSessionName != null ? Optional.of(builder.roleSessionName)
+                                                : SdkSystemSetting.AWS_ROLE_SESSION_NAME.getStringValue();
+            String sessionName = configuredSessionName.orElse("aws-sdk-java-" + System.currentTimeMillis());
+            boolean sessionNameGenerated = builder.assumeRoleWithWebIdentityRequestSupplier == null
+                                           && !configuredSessionName.isPresent();
 
             WebIdentityTokenCredentialProperties credentialProperties =
                 WebIdentityTokenCredentialProperties.builder()
@@ -110,7 +118,11 @@ public final class StsWebIdentityTokenFileCredentialsProvider
             StsAssumeRoleWithWebIdentityCredentialsProvider.Builder providerBuilder =
                 StsAssumeRoleWithWebIdentityCredentialsProvider.builder()
                                                                .stsClient(builder.stsClient)
+                                                               .stsAsyncClient(builder.stsAsyncClient())
+                                                               .fileCacheEnabled(builder.fileCacheEnabled())
+                                                               .fileCacheDirectory(builder.fileCacheDirectory())
                                                                .refreshRequest(supplier)
+                                                               .roleSessionNameGenerated(sessionNameGenerated)
                                                                .staleTime(this.staleTime())
                                                                .prefetchTime(this.prefetchTime());
             
@@ -143,7 +155,23 @@ public final class StsWebIdentityTokenFileCredentialsProvider
         if (loadException != null) {
             throw loadException;
         }
-        AwsCredentials awsCredentials = credentialsProvider.resolveCredentials();
+        return withProviderName(credentialsProvider.resolveCredentials());
+    }
+
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        if (loadException != null) {
+            return CompletableFutureUtils.failedFuture(loadException);
+        }
+        return credentialsProvider.resolveIdentity(request).thenApply(identity -> {
+            if (identity instanceof AwsCredentials) {
+                return withProviderName((AwsCredentials) identity);
+            }
+            return identity;
+        });
+    }
+
+    private static AwsCredentials withProviderName(AwsCredentials awsCredentials) {
         if (awsCredentials instanceof AwsSessionCredentials) {
             AwsSessionCredentials sessionCredentials = (AwsSessionCredentials) awsCredentials;
             Optional<String> providerName = awsCredentials.providerName();
@@ -167,6 +195,18 @@ public final class StsWebIdentityTokenFileCredentialsProvider
                                   accountIdFromArn(assumeRoleWithWebIdentityResponse.assumedRoleUser()));
     }
 
+    @Override
+    CompletableFuture<AwsSessionCredentials> getUpdatedCredentialsAsync(StsAsyncClient stsAsyncClient) {
+        AssumeRoleWithWebIdentityRequest request =
+            assumeRoleWithWebIdentityRequest != null ? assumeRoleWithWebIdentityRequest.get() : null;
+
+        notNull(request, "AssumeRoleWithWebIdentityRequest can't be null");
+        return stsAsyncClient.assumeRoleWithWebIdentity(request)
+                             .thenApply(r -> fromStsCredentials(r.credentials(),
+                                                                PROVIDER_NAME,
+                                                                accountIdFromArn(r.assumedRoleUser())));
+    }
+
     @Override
     public Builder toBuilder() {
         return new Builder(this);
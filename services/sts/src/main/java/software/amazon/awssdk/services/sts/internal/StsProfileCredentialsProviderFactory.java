@@ -16,11 +16,13 @@
 package software.amazon.awssdk.services.sts.internal;
 
 import java.net.URI;
+import java.util.Arrays;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.ChildProfileCredentialsProviderFactory;
 import software.amazon.awssdk.profiles.Profile;
+import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileProperty;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.regions.providers.DefaultAwsRegionProviderChain;
@@ -42,19 +44,22 @@ public final class StsProfileCredentialsProviderFactory implements ChildProfileC
 
     @Override
     public AwsCredentialsProvider create(AwsCredentialsProvider sourceCredentialsProvider, Profile profile) {
-        return new StsProfileCredentialsProvider(sourceCredentialsProvider, profile, null);
+        return new StsProfileCredentialsProvider(sourceCredentialsProvider, profile, null, null);
     }
 
     @Override
     public AwsCredentialsProvider create(ChildProfileCredentialsRequest request) {
         return new StsProfileCredentialsProvider(request.sourceCredentialsProvider(), request.profile(),
-                                                 request.sourceChain());
+                                                 request.profileFile(), request.sourceChain());
     }
 
     /**
      * A wrapper for a {@link StsAssumeRoleCredentialsProvider} that is returned by this factory when
      * {@link #create(ChildProfileCredentialsRequest)} is invoked. This wrapper is important because it ensures the
      * parent credentials provider is closed when the assume-role credentials provider is no longer needed.
+     * <p>
+     * Providers created for the same profile in equal profile files share their session, so that creating many clients from
+     * the same profile assumes the role once.
      */
     private static final class StsProfileCredentialsProvider implements AwsCredentialsProvider, SdkAutoCloseable {
         private final StsClient stsClient;
@@ -62,7 +67,7 @@ public final class StsProfileCredentialsProviderFactory implements ChildProfileC
         private final StsAssumeRoleCredentialsProvider credentialsProvider;
 
         private StsProfileCredentialsProvider(AwsCredentialsProvider parentCredentialsProvider, Profile profile,
-                                              String sourceChain) {
+                                              ProfileFile profileFile, String sourceChain) {
             String roleArn = requireProperty(profile, ProfileProperty.ROLE_ARN);
             String roleSessionName = profile.property(ProfileProperty.ROLE_SESSION_NAME)
                                             .orElseGet(() -> "aws-sdk-java-" + System.currentTimeMillis());
@@ -84,9 +89,23 @@ public final class StsProfileCredentialsProviderFactory implements ChildProfileC
                                                                        .stsClient(stsClient)
                                                                        .refreshRequest(assumeRoleRequest)
                                                                        .sourceChain(sourceChain)
+                                                                       .sharedSessionCacheEnabled(true)
+                                                                       .sourceCredentialsKey(sourceCredentialsKey(profileFile,
+                                                                                                                  profile))
                                                                        .build();
         }
 
+        /**
+         * The source credentials are loaded from the profile file, so the file and profile name identify them. If the file is
+         * unknown, the parent credentials provider is used instead, and only providers sharing it share a session.
+         */
+        private Object sourceCredentialsKey(ProfileFile profileFile, Profile profile) {
+            if (profileFile == null) {
+                return parentCredentialsProvider;
+            }
+            return Arrays.asList(profileFile, profile.name());
+        }
+
         private void configureEndpoint(StsClientBuilder stsClientBuilder, Profile profile) {
             Region stsRegion = profile.property(ProfileProperty.REGION)
                                       .map(Region::of)
@@ -15,7 +15,25 @@
 
 package software.amazon.awssdk.services.sts.auth;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
@@ -27,6 +45,216 @@ import software.amazon.awssdk.services.sts.model.Credentials;
  * Inherits tests from {@link StsCredentialsProviderTestBase}.
  */
 public class StsAssumeRoleCredentialsProviderTest extends StsCredentialsProviderTestBase<AssumeRoleRequest, AssumeRoleResponse> {
+    @Test
+    public void sharedSessionCacheEnabled_sameRequestAndClient_assumesRoleOnce() {
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn(ARN + "/shared").roleSessionName("one").build();
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(stsClient, request);
+             StsAssumeRoleCredentialsProvider second = sharedProvider(stsClient, request)) {
+            assertThat(second.resolveCredentials()).isSameAs(first.resolveCredentials());
+            verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void sharedSessionCacheEnabled_differentRoles_areNotShared() {
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+
+        try (StsAssumeRoleCredentialsProvider first =
+                 sharedProvider(stsClient, AssumeRoleRequest.builder().roleArn(ARN + "/first").build());
+             StsAssumeRoleCredentialsProvider second =
+                 sharedProvider(stsClient, AssumeRoleRequest.builder().roleArn(ARN + "/second").build())) {
+            first.resolveCredentials();
+            second.resolveCredentials();
+            verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void sharedSessionCacheEnabled_differentSessionNames_assumesRoleOnce() {
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn(ARN + "/names").roleSessionName("one").build();
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(stsClient, request);
+             StsAssumeRoleCredentialsProvider second =
+                 sharedProvider(stsClient, request.toBuilder().roleSessionName("two").build())) {
+            assertThat(second.resolveCredentials()).isSameAs(first.resolveCredentials());
+            verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void sharedSessionCacheEnabled_differentPolicies_areNotShared() {
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn(ARN + "/policies").policy("{}").build();
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(stsClient, request);
+             StsAssumeRoleCredentialsProvider second =
+                 sharedProvider(stsClient, request.toBuilder().policy("{\"Version\":\"2012-10-17\"}").build())) {
+            first.resolveCredentials();
+            second.resolveCredentials();
+            verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void sharedSessionCacheEnabled_differentStsClientsWithSameSourceCredentials_assumesRoleOnce() {
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn(ARN + "/source").build();
+        StsClient otherStsClient = mock(StsClient.class);
+        // Either client may be used to assume the role, so neither stub is required
+        lenient().when(stsClient.assumeRole(any(AssumeRoleRequest.class)))
+                 .thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+        lenient().when(otherStsClient.assumeRole(any(AssumeRoleRequest.class)))
+                 .thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(stsClient, request, "source");
+             StsAssumeRoleCredentialsProvider second = sharedProvider(otherStsClient, request, "source")) {
+            assertThat(second.resolveCredentials()).isSameAs(first.resolveCredentials());
+            assertThat(assumeRoleCalls(stsClient) + assumeRoleCalls(otherStsClient)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void sharedSessionCacheEnabled_differentSourceCredentials_areNotShared() {
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn(ARN + "/sources").build();
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(stsClient, request, "first");
+             StsAssumeRoleCredentialsProvider second = sharedProvider(stsClient, request, "second")) {
+            first.resolveCredentials();
+            second.resolveCredentials();
+            verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void sharedSessionCacheEnabled_differentStsClients_areNotShared() {
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn(ARN + "/clients").build();
+        StsClient otherStsClient = mock(StsClient.class);
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+        when(otherStsClient.assumeRole(any(AssumeRoleRequest.class)))
+            .thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(stsClient, request);
+             StsAssumeRoleCredentialsProvider second = sharedProvider(otherStsClient, request)) {
+            first.resolveCredentials();
+            second.resolveCredentials();
+            verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+            verify(otherStsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void sharedSessionCacheEnabled_oneProviderClosed_remainingProviderStillRefreshes() {
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn(ARN + "/closed").build();
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(Instant.now().minus(Duration.ofSeconds(5))));
+
+        try (StsAssumeRoleCredentialsProvider first = sharedProvider(stsClient, request)) {
+            StsAssumeRoleCredentialsProvider second = sharedProvider(stsClient, request);
+            second.resolveCredentials();
+            second.close();
+
+            first.resolveCredentials();
+            verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void fileCacheEnabled_sameRequest_assumesRoleOnceAcrossProviders(@TempDir Path cacheDirectory) {
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn(ARN + "/cached").roleSessionName("session").build();
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+
+        try (StsAssumeRoleCredentialsProvider first = fileCachedProvider(request, cacheDirectory)) {
+            first.resolveCredentials();
+        }
+
+        try (StsAssumeRoleCredentialsProvider second = fileCachedProvider(request, cacheDirectory)) {
+            AwsSessionCredentials credentials = (AwsSessionCredentials) second.resolveCredentials();
+            assertThat(credentials.sessionToken()).isEqualTo("c");
+            assertThat(credentials.providerName()).hasValue(providerName());
+        }
+
+        verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void fileCacheEnabled_asyncClient_usesCachedCredentials(@TempDir Path cacheDirectory) {
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn(ARN + "/async").roleSessionName("session").build();
+        StsAsyncClient stsAsyncClient = mock(StsAsyncClient.class);
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(Instant.now().plus(Duration.ofHours(1))));
+
+        try (StsAssumeRoleCredentialsProvider first = fileCachedProvider(request, cacheDirectory)) {
+            first.resolveCredentials();
+        }
+
+        try (StsAssumeRoleCredentialsProvider second = StsAssumeRoleCredentialsProvider.builder()
+                                                                                        .stsAsyncClient(stsAsyncClient)
+                                                                                        .refreshRequest(request)
+                                                                                        .fileCacheEnabled(true)
+                                                                                        .fileCacheDirectory(cacheDirectory)
+                                                                                        .build()) {
+            AwsSessionCredentials credentials = (AwsSessionCredentials) second.resolveIdentity().join();
+            assertThat(credentials.sessionToken()).isEqualTo("c");
+        }
+
+        verify(stsAsyncClient, never()).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void fileCacheEnabled_cachedCredentialsExpiringSoon_assumesRoleAgain(@TempDir Path cacheDirectory) {
+        AssumeRoleRequest request = AssumeRoleRequest.builder().roleArn(ARN + "/expiring").roleSessionName("session").build();
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(Instant.now().plus(Duration.ofMinutes(2))));
+
+        try (StsAssumeRoleCredentialsProvider first = fileCachedProvider(request, cacheDirectory)) {
+            first.resolveCredentials();
+        }
+
+        try (StsAssumeRoleCredentialsProvider second = fileCachedProvider(request, cacheDirectory)) {
+            second.resolveCredentials();
+        }
+
+        verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    private StsAssumeRoleCredentialsProvider fileCachedProvider(AssumeRoleRequest request, Path cacheDirectory) {
+        return StsAssumeRoleCredentialsProvider.builder()
+                                               .stsClient(stsClient)
+                                               .refreshRequest(request)
+                                               .fileCacheEnabled(true)
+                                               .fileCacheDirectory(cacheDirectory)
+                                               .build();
+    }
+
+    private static long assumeRoleCalls(StsClient client) {
+        return mockingDetails(client).getInvocations().stream()
+                                     .filter(i -> i.getMethod().getName().equals("assumeRole"))
+                                     .count();
+    }
+
+    private static StsAssumeRoleCredentialsProvider sharedProvider(StsClient client, AssumeRoleRequest request) {
+        return sharedProvider(client, request, null);
+    }
+
+    private static StsAssumeRoleCredentialsProvider sharedProvider(StsClient client, AssumeRoleRequest request,
+                                                                   Object sourceCredentialsKey) {
+        return StsAssumeRoleCredentialsProvider.builder()
+                                               .stsClient(client)
+                                               .refreshRequest(request)
+                                               .sharedSessionCacheEnabled(true)
+                                               .sourceCredentialsKey(sourceCredentialsKey)
+                                               .build();
+    }
+
+    private AssumeRoleResponse response(Instant expiration) {
+        return getResponse(Credentials.builder()
+                                      .accessKeyId("a")
+                                      .secretAccessKey("b")
+                                      .sessionToken("c")
+                                      .expiration(expiration)
+                                      .build());
+    }
+
     @Override
     protected AssumeRoleRequest getRequest() {
         return AssumeRoleRequest.builder().build();
@@ -50,6 +278,11 @@ public class StsAssumeRoleCredentialsProviderTest extends StsCredentialsProvider
         return client.assumeRole(request);
     }
 
+    @Override
+    protected CompletableFuture<AssumeRoleResponse> callAsyncClient(StsAsyncClient client, AssumeRoleRequest request) {
+        return client.assumeRole(request);
+    }
+
     @Override
     protected String providerName() {
         return BusinessMetricFeatureId.CREDENTIALS_STS_ASSUME_ROLE.value();
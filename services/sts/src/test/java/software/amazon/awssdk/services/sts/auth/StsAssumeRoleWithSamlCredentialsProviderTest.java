@@ -15,7 +15,9 @@
 
 package software.amazon.awssdk.services.sts.auth;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.auth.StsAssumeRoleWithSamlCredentialsProvider.Builder;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithSamlRequest;
@@ -53,6 +55,11 @@ public class StsAssumeRoleWithSamlCredentialsProviderTest
         return client.assumeRoleWithSAML(request);
     }
 
+    @Override
+    protected CompletableFuture<AssumeRoleWithSamlResponse> callAsyncClient(StsAsyncClient client, AssumeRoleWithSamlRequest request) {
+        return client.assumeRoleWithSAML(request);
+    }
+
     @Override
     protected String providerName() {
         return BusinessMetricFeatureId.CREDENTIALS_STS_ASSUME_ROLE_SAML.value();
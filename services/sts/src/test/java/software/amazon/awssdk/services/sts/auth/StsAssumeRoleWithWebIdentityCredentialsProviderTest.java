@@ -15,7 +15,19 @@
 
 package software.amazon.awssdk.services.sts.auth;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.auth.StsAssumeRoleWithWebIdentityCredentialsProvider.Builder;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityRequest;
@@ -29,6 +41,34 @@ import software.amazon.awssdk.services.sts.model.Credentials;
  */
 public class StsAssumeRoleWithWebIdentityCredentialsProviderTest
         extends StsCredentialsProviderTestBase<AssumeRoleWithWebIdentityRequest, AssumeRoleWithWebIdentityResponse> {
+    @Test
+    public void fileCacheEnabled_differentWebIdentityTokens_areNotShared(@TempDir Path cacheDirectory) {
+        Credentials credentials = Credentials.builder()
+                                             .accessKeyId("a")
+                                             .secretAccessKey("b")
+                                             .sessionToken("c")
+                                             .expiration(Instant.now().plus(Duration.ofHours(1)))
+                                             .build();
+        when(stsClient.assumeRoleWithWebIdentity(any(AssumeRoleWithWebIdentityRequest.class)))
+            .thenReturn(getResponse(credentials));
+
+        for (String webIdentityToken : new String[] {"first-token", "second-token"}) {
+            try (StsAssumeRoleWithWebIdentityCredentialsProvider provider =
+                     StsAssumeRoleWithWebIdentityCredentialsProvider.builder()
+                                                                    .stsClient(stsClient)
+                                                                    .refreshRequest(r -> r.roleArn(ARN)
+                                                                                          .roleSessionName("session")
+                                                                                          .webIdentityToken(webIdentityToken))
+                                                                    .fileCacheEnabled(true)
+                                                                    .fileCacheDirectory(cacheDirectory)
+                                                                    .build()) {
+                provider.resolveCredentials();
+            }
+        }
+
+        verify(stsClient, times(2)).assumeRoleWithWebIdentity(any(AssumeRoleWithWebIdentityRequest.class));
+    }
+
     @Override
     protected AssumeRoleWithWebIdentityRequest getRequest() {
         return AssumeRoleWithWebIdentityRequest.builder().build();
@@ -52,6 +92,11 @@ public class StsAssumeRoleWithWebIdentityCredentialsProviderTest
         return client.assumeRoleWithWebIdentity(request);
     }
 
+    @Override
+    protected CompletableFuture<AssumeRoleWithWebIdentityResponse> callAsyncClient(StsAsyncClient client, AssumeRoleWithWebIdentityRequest request) {
+        return client.assumeRoleWithWebIdentity(request);
+    }
+
     @Override
     protected String providerName() {
         return BusinessMetricFeatureId.CREDENTIALS_STS_ASSUME_ROLE_WEB_ID.value();
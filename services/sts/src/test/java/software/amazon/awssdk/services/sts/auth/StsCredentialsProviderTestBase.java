@@ -22,12 +22,15 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.endpoints.internal.Arn;
 import software.amazon.awssdk.services.sts.model.Credentials;
@@ -41,6 +44,8 @@ public abstract class StsCredentialsProviderTestBase<RequestT, ResponseT> {
     protected static final String ARN = "arn:aws:ec2:us-east-1:123456789012:vpc/vpc-0e9801d129EXAMPLE";
     @Mock
     protected StsClient stsClient;
+    @Mock
+    protected StsAsyncClient stsAsyncClient;
 
     @Test
     public void cachingDoesNotApplyToExpiredSession() {
@@ -90,6 +95,39 @@ public abstract class StsCredentialsProviderTestBase<RequestT, ResponseT> {
         callClient(verify(stsClient, times(2)), Mockito.any());
     }
 
+    @Test
+    public void asyncClient_concurrentCallersShareOnePendingRefresh() {
+        CompletableFuture<ResponseT> pendingResponse = new CompletableFuture<>();
+        RequestT request = getRequest();
+        when(callAsyncClient(stsAsyncClient, request)).thenReturn(pendingResponse);
+
+        try (StsCredentialsProvider credentialsProvider =
+                 createCredentialsProviderBuilder(request).stsAsyncClient(stsAsyncClient).build()) {
+            CompletableFuture<? extends AwsCredentialsIdentity> first = credentialsProvider.resolveIdentity();
+            CompletableFuture<? extends AwsCredentialsIdentity> second = credentialsProvider.resolveIdentity();
+            assertThat(first).isNotDone();
+            assertThat(second).isNotDone();
+
+            pendingResponse.complete(getResponse(credentials(Instant.now().plus(Duration.ofHours(5)))));
+
+            assertProvidedCredentials((AwsSessionCredentials) first.join());
+            assertProvidedCredentials((AwsSessionCredentials) second.join());
+            callAsyncClient(verify(stsAsyncClient, times(1)), Mockito.any());
+        }
+    }
+
+    @Test
+    public void asyncClient_cachingAppliesToNonExpiredSession() {
+        callAsyncClientWithCredentialsProvider(Instant.now().plus(Duration.ofHours(5)), 2);
+        callAsyncClient(verify(stsAsyncClient, times(1)), Mockito.any());
+    }
+
+    @Test
+    public void asyncClient_cachingDoesNotApplyToExpiredSession() {
+        callAsyncClientWithCredentialsProvider(Instant.now().minus(Duration.ofSeconds(5)), 2);
+        callAsyncClient(verify(stsAsyncClient, times(2)), Mockito.any());
+    }
+
     protected abstract RequestT getRequest();
 
     protected abstract ResponseT getResponse(Credentials credentials);
@@ -99,6 +137,8 @@ public abstract class StsCredentialsProviderTestBase<RequestT, ResponseT> {
 
     protected abstract ResponseT callClient(StsClient client, RequestT request);
 
+    protected abstract CompletableFuture<ResponseT> callAsyncClient(StsAsyncClient client, RequestT request);
+
     protected abstract String providerName();
 
     public void callClientWithCredentialsProvider(Instant credentialsExpirationDate, int numTimesInvokeCredentialsProvider, boolean overrideStaleAndPrefetchTimes) {
@@ -139,4 +179,28 @@ public abstract class StsCredentialsProviderTestBase<RequestT, ResponseT> {
             }
         }
     }
+
+    private void callAsyncClientWithCredentialsProvider(Instant credentialsExpirationDate, int numTimesInvokeCredentialsProvider) {
+        RequestT request = getRequest();
+        ResponseT response = getResponse(credentials(credentialsExpirationDate));
+        when(callAsyncClient(stsAsyncClient, request)).thenReturn(CompletableFuture.completedFuture(response));
+
+        try (StsCredentialsProvider credentialsProvider =
+                 createCredentialsProviderBuilder(request).stsAsyncClient(stsAsyncClient).build()) {
+            for (int i = 0; i < numTimesInvokeCredentialsProvider; ++i) {
+                assertProvidedCredentials((AwsSessionCredentials) credentialsProvider.resolveIdentity().join());
+            }
+        }
+    }
+
+    private static Credentials credentials(Instant expiration) {
+        return Credentials.builder().accessKeyId("a").secretAccessKey("b").sessionToken("c").expiration(expiration).build();
+    }
+
+    private void assertProvidedCredentials(AwsSessionCredentials providedCredentials) {
+        assertThat(providedCredentials.accessKeyId()).isEqualTo("a");
+        assertThat(providedCredentials.secretAccessKey()).isEqualTo("b");
+        assertThat(providedCredentials.sessionToken()).isEqualTo("c");
+        assertThat(providedCredentials.providerName()).isPresent().contains(providerName());
+    }
 }
@@ -15,7 +15,9 @@
 
 package software.amazon.awssdk.services.sts.auth;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.auth.StsGetFederationTokenCredentialsProvider.Builder;
 import software.amazon.awssdk.services.sts.model.AssumedRoleUser;
@@ -53,6 +55,11 @@ public class StsGetFederationTokenCredentialsProviderTest
         return client.getFederationToken(request);
     }
 
+    @Override
+    protected CompletableFuture<GetFederationTokenResponse> callAsyncClient(StsAsyncClient client, GetFederationTokenRequest request) {
+        return client.getFederationToken(request);
+    }
+
     @Override
     protected String providerName() {
         return BusinessMetricFeatureId.CREDENTIALS_STS_FEDERATION_TOKEN.value();
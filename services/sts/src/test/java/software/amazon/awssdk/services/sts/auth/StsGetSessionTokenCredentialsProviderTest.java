@@ -15,7 +15,9 @@
 
 package software.amazon.awssdk.services.sts.auth;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.auth.StsGetSessionTokenCredentialsProvider.Builder;
 import software.amazon.awssdk.services.sts.model.AssumedRoleUser;
@@ -51,6 +53,11 @@ public class StsGetSessionTokenCredentialsProviderTest
         return client.getSessionToken(request);
     }
 
+    @Override
+    protected CompletableFuture<GetSessionTokenResponse> callAsyncClient(StsAsyncClient client, GetSessionTokenRequest request) {
+        return client.getSessionToken(request);
+    }
+
     @Override
     protected String providerName() {
         return BusinessMetricFeatureId.CREDENTIALS_STS_SESSION_TOKEN.value();
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,6 +31,7 @@ import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityRespon
 import software.amazon.awssdk.services.sts.model.AssumedRoleUser;
 import software.amazon.awssdk.services.sts.model.Credentials;
 
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
@@ -190,6 +192,31 @@ class StsWebIdentityTokenCredentialProviderTest {
         }
     }
 
+    @Test
+    void fileCacheEnabled_generatedSessionName_reusedAcrossProviders(@TempDir Path cacheDirectory) throws InterruptedException {
+        ENVIRONMENT_VARIABLE_HELPER.remove(SdkSystemSetting.AWS_ROLE_SESSION_NAME.environmentVariable());
+        when(stsClient.assumeRoleWithWebIdentity(Mockito.any(AssumeRoleWithWebIdentityRequest.class)))
+            .thenReturn(AssumeRoleWithWebIdentityResponse.builder()
+                                                         .credentials(Credentials.builder().accessKeyId("key")
+                                                                                 .expiration(Instant.now().plus(Duration.ofHours(1)))
+                                                                                 .sessionToken("session").secretAccessKey("secret").build()).build());
+
+        for (int i = 0; i < 2; i++) {
+            // The generated session names of the two providers differ
+            Thread.sleep(5);
+            try (StsWebIdentityTokenFileCredentialsProvider provider =
+                     StsWebIdentityTokenFileCredentialsProvider.builder()
+                                                               .stsClient(stsClient)
+                                                               .fileCacheEnabled(true)
+                                                               .fileCacheDirectory(cacheDirectory)
+                                                               .build()) {
+                provider.resolveCredentials();
+            }
+        }
+
+        Mockito.verify(stsClient, Mockito.times(1)).assumeRoleWithWebIdentity(Mockito.any(AssumeRoleWithWebIdentityRequest.class));
+    }
+
     @Test
     void toBuilder_preservesCustomTimingConfiguration() {
         Duration customPrefetch = Duration.ofMinutes(10);
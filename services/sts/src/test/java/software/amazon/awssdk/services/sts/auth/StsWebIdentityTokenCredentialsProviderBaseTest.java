@@ -21,11 +21,13 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
+import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.auth.StsWebIdentityTokenFileCredentialsProvider.Builder;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityRequest;
@@ -82,6 +84,11 @@ public class StsWebIdentityTokenCredentialsProviderBaseTest
         return client.assumeRoleWithWebIdentity(request);
     }
 
+    @Override
+    protected CompletableFuture<AssumeRoleWithWebIdentityResponse> callAsyncClient(StsAsyncClient client, AssumeRoleWithWebIdentityRequest request) {
+        return client.assumeRoleWithWebIdentity(request);
+    }
+
     @Override
     protected String providerName() {
         return String.format("%s,%s", BusinessMetricFeatureId.CREDENTIALS_STS_ASSUME_ROLE_WEB_ID,
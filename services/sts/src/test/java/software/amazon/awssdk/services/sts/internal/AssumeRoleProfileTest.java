@@ -15,9 +15,18 @@
 
 package software.amazon.awssdk.services.sts.internal;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import org.junit.Rule;
 import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.ProfileCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.internal.ProfileCredentialsUtils;
 import software.amazon.awssdk.utils.StringInputStream;
 import software.amazon.awssdk.profiles.ProfileFile;
@@ -30,6 +39,11 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
  * {@link AssumeRoleIntegrationTest#profileCredentialsProviderCanAssumeRoles()}.
  */
 public class AssumeRoleProfileTest {
+    private static final String ENDPOINT_URL_PROPERTY = "aws.endpointUrl";
+
+    @Rule
+    public WireMockRule wireMock = new WireMockRule(wireMockConfig().dynamicPort());
+
     @Test
     public void createAssumeRoleCredentialsProviderViaProfileSucceeds() {
         String profileContent =
@@ -70,4 +84,46 @@ public class AssumeRoleProfileTest {
                                           .build();
         assertThat(profiles.profile("child")).isPresent();
     }
+
+    @Test
+    public void profileCredentialsProvidersForSameProfile_assumeRoleOnce() {
+        String profileContent =
+                "[profile source]\n"
+                + "aws_access_key_id=defaultAccessKey\n"
+                + "aws_secret_access_key=defaultSecretAccessKey\n"
+                + "\n"
+                + "[profile shared]\n"
+                + "source_profile=source\n"
+                + "region=us-west-2\n"
+                + "role_arn=arn:aws:iam::123456789012:role/sharedRole";
+        wireMock.stubFor(post(urlEqualTo("/")).willReturn(aResponse().withStatus(200).withBody(
+            "<AssumeRoleResponse><AssumeRoleResult>"
+            + "<AssumedRoleUser><Arn>arn:aws:sts::123456789012:assumed-role/sharedRole/session</Arn></AssumedRoleUser>"
+            + "<Credentials><AccessKeyId>sessionAccessKey</AccessKeyId><SecretAccessKey>sessionSecretKey</SecretAccessKey>"
+            + "<SessionToken>sessionToken</SessionToken><Expiration>2100-01-01T00:00:00Z</Expiration></Credentials>"
+            + "</AssumeRoleResult></AssumeRoleResponse>")));
+
+        System.setProperty(ENDPOINT_URL_PROPERTY, "http://localhost:" + wireMock.port());
+        try (ProfileCredentialsProvider first = profileCredentialsProvider(profileContent, "shared");
+             ProfileCredentialsProvider second = profileCredentialsProvider(profileContent, "shared")) {
+            AwsSessionCredentials credentials = (AwsSessionCredentials) first.resolveCredentials();
+            assertThat(credentials.sessionToken()).isEqualTo("sessionToken");
+            assertThat(second.resolveCredentials()).isEqualTo(credentials);
+        } finally {
+            System.clearProperty(ENDPOINT_URL_PROPERTY);
+        }
+
+        wireMock.verify(1, postRequestedFor(urlEqualTo("/")));
+    }
+
+    private static ProfileCredentialsProvider profileCredentialsProvider(String profileContent, String profileName) {
+        ProfileFile profiles = ProfileFile.builder()
+                                          .content(new StringInputStream(profileContent))
+                                          .type(ProfileFile.Type.CONFIGURATION)
+                                          .build();
+        return ProfileCredentialsProvider.builder()
+                                         .profileFile(profiles)
+                                         .profileName(profileName)
+                                         .build();
+    }
 }
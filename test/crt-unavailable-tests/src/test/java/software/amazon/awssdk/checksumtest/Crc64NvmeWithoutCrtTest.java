@@ -15,7 +15,6 @@
 
 package software.amazon.awssdk.checksumtest;
 
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static software.amazon.awssdk.auth.signer.S3SignerExecutionAttribute.ENABLE_CHUNKED_ENCODING;
@@ -27,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.checksums.ChecksumValidation;
@@ -39,6 +39,7 @@ import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
@@ -51,7 +52,9 @@ import software.amazon.awssdk.services.protocolrestjson.model.ChecksumMode;
 import software.amazon.awssdk.services.protocolrestjson.model.OperationWithCustomRequestChecksumRequest;
 import software.amazon.awssdk.services.protocolrestjson.model.PutOperationWithChecksumRequest;
 
-public class Crc64NvmeNotAvailableTest {
+public class Crc64NvmeWithoutCrtTest {
+    private static final String EMPTY_BODY_CRC64NVME = "AAAAAAAAAAA=";
+
     private SdkHttpClient httpClient;
     private SdkAsyncHttpClient httpAsyncClient;
     private ProtocolRestJsonAsyncClient asyncClient;
@@ -59,6 +62,7 @@ public class Crc64NvmeNotAvailableTest {
 
     @BeforeEach
     public void setup() throws IOException {
+        CaptureChecksumValidationInterceptor.reset();
         httpClient = Mockito.mock(SdkHttpClient.class);
         httpAsyncClient = Mockito.mock(SdkAsyncHttpClient.class);
         client = initializeSync().build();
@@ -102,54 +106,53 @@ public class Crc64NvmeNotAvailableTest {
     }
 
     @Test
-    public void asyncChecksumCalculation_crc64NvmeNotAvailable_shouldThrowException() throws IOException {
+    public void asyncChecksumCalculation_crc64NvmeWithoutCrt_shouldComputeChecksum() throws IOException {
         stubResponse(SdkHttpFullResponse.builder());
-        assertThatThrownBy(() -> asyncClient.operationWithCustomRequestChecksum(
+        asyncClient.operationWithCustomRequestChecksum(
             OperationWithCustomRequestChecksumRequest.builder()
                                                      .checksumAlgorithm(ChecksumAlgorithm.CRC64_NVME)
-                                                     .build()).join()).hasMessageContaining("Add dependency on "
-                                                                                            + "'software.amazon.awssdk"
-                                                                                            + ".crt:aws-crt' module to "
-                                                                                            + "enable CRC64NVME feature");
+                                                     .build()).join();
+
+        assertThat(CaptureChecksumValidationInterceptor.httpRequest.firstMatchingHeader("x-amz-checksum-crc64nvme"))
+            .isNotEmpty();
     }
 
     @Test
-    public void syncChecksumCalculation_crc64NvmeNotAvailable_shouldThrowException() throws IOException {
+    public void syncChecksumCalculation_crc64NvmeWithoutCrt_shouldComputeChecksum() throws IOException {
         stubResponse(SdkHttpFullResponse.builder());
-        assertThatThrownBy(() -> client.operationWithCustomRequestChecksum(
+        client.operationWithCustomRequestChecksum(
             OperationWithCustomRequestChecksumRequest.builder()
                                                      .checksumAlgorithm(ChecksumAlgorithm.CRC64_NVME)
-                                                     .build())).hasMessageContaining("Add dependency on "
-                                                                                     + "'software.amazon.awssdk"
-                                                                                     + ".crt:aws-crt' module to "
-                                                                                     + "enable CRC64NVME feature");
+                                                     .build());
+
+        assertThat(CaptureChecksumValidationInterceptor.httpRequest.firstMatchingHeader("x-amz-checksum-crc64nvme"))
+            .isNotEmpty();
     }
 
     @Test
-    public void syncChecksumValidation_onlyHasCrc64Nvme_shouldSkipValidation() throws IOException {
-        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", "foobar"));
+    public void syncChecksumValidation_onlyHasCrc64Nvme_shouldValidate() throws IOException {
+        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", EMPTY_BODY_CRC64NVME));
 
         client.getOperationWithChecksum(
             r -> r.checksumMode(ChecksumMode.ENABLED),
             ResponseTransformer.toBytes());
 
-        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.CHECKSUM_ALGORITHM_NOT_FOUND);
-        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isNull();
+        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.VALIDATED);
+        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isEqualTo(DefaultChecksumAlgorithm.CRC64NVME);
     }
 
     @Test
-    public void asyncChecksumValidation_onlyHasCrc64Nvme_shouldSkipValidation() throws IOException {
-        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", "foobar"));
+    public void asyncChecksumValidation_onlyHasCrc64Nvme_shouldValidate() throws IOException {
+        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", EMPTY_BODY_CRC64NVME));
 
         asyncClient.getOperationWithChecksum(
             r -> r.checksumMode(ChecksumMode.ENABLED),
             AsyncResponseTransformer.toBytes()).join();
 
-        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.CHECKSUM_ALGORITHM_NOT_FOUND);
-        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isNull();
+        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.VALIDATED);
+        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isEqualTo(DefaultChecksumAlgorithm.CRC64NVME);
     }
 
-
     private static final class EnableChunkedEncodingInterceptor implements ExecutionInterceptor {
         public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
             SdkRequest request = context.request();
@@ -163,10 +166,17 @@ public class Crc64NvmeNotAvailableTest {
     private static class CaptureChecksumValidationInterceptor implements ExecutionInterceptor {
         private static software.amazon.awssdk.checksums.spi.ChecksumAlgorithm expectedAlgorithm;
         private static ChecksumValidation checksumValidation;
+        private static SdkHttpRequest httpRequest;
 
         public static void reset() {
             expectedAlgorithm = null;
             checksumValidation = null;
+            httpRequest = null;
+        }
+
+        @Override
+        public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+            httpRequest = context.httpRequest();
         }
 
         @Override
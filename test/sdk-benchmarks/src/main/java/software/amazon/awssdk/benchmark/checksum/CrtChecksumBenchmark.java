@@ -26,7 +26,8 @@ import software.amazon.awssdk.checksums.SdkChecksum;
 /**
  * Benchmarks for testing CRT implementations of checksums.
  * <p>
- * There are pitfalls with passing buffers to and from native code since it could lead to lots of copying.
+ * There are pitfalls with passing buffers to and from native code since it could lead to lots of copying. The pure Java
+ * implementations used when the CRT is not on the classpath ({@code _SDK}) are included for comparison.
  */
 public class CrtChecksumBenchmark {
     private static final int PAYLOAD_SIZE = 512 * BenchmarkConstant.MB;
@@ -49,7 +50,7 @@ public class CrtChecksumBenchmark {
                 "SZ_256_MB"})
         private BenchmarkSize chunkSize;
 
-        @Param({"CRC64NVME", "CRC32C_CRT"})
+        @Param({"CRC64NVME", "CRC64NVME_SDK", "CRC32C_CRT", "CRC32C_SDK"})
         private ChecksumAlgorithmParam algorithm;
 
         @Setup
@@ -72,7 +73,7 @@ public class CrtChecksumBenchmark {
         @Param({"SZ_512_KB", "SZ_1_MB", "SZ_2_MB"})
         private BenchmarkSize chunkSize;
 
-        @Param({"CRC64NVME", "CRC32C_CRT", "XXHASH64", "XXHASH3", "XXHASH128"})
+        @Param({"CRC64NVME", "CRC64NVME_SDK", "CRC32C_CRT", "CRC32C_SDK", "XXHASH64", "XXHASH3", "XXHASH128"})
         private ChecksumAlgorithmParam algorithm;
 
         private byte[] buffer;
@@ -58,7 +58,8 @@ public class SdkChecksumBenchmark {
         @Param({"SZ_8_MB", "SZ_32_MB"})
         private BenchmarkSize payloadSize;
 
-        @Param({"XXHASH64", "XXHASH3", "XXHASH128", "SHA512", "CRC32C", "CRC32", "CRC64NVME", "SHA1", "SHA256"})
+        @Param({"XXHASH64", "XXHASH3", "XXHASH128", "SHA512", "CRC32C", "CRC32C_SDK", "CRC32", "CRC64NVME", "CRC64NVME_SDK",
+                "SHA1", "SHA256"})
         private ChecksumAlgorithmParam checksumAlgorithmParam;
 
         @Setup
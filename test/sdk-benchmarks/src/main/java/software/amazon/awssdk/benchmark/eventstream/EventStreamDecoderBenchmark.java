@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.eventstream;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.awscore.internal.eventstream.EventStreamFrame;
+import software.amazon.awssdk.awscore.internal.eventstream.EventStreamFrameDecoder;
+import software.amazon.eventstream.HeaderValue;
+import software.amazon.eventstream.Message;
+import software.amazon.eventstream.MessageDecoder;
+
+/**
+ * Compares decoding an event stream with the {@link MessageDecoder} used before, and with the {@link EventStreamFrameDecoder}.
+ * <p>
+ * Each invocation decodes {@link #EVENTS} events fed in chunks of {@code chunkSize} bytes, as they would be received from the
+ * HTTP client, so the score is in events per second. Run with {@code -prof gc} to get the bytes allocated per event, reported
+ * as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EventStreamDecoderBenchmark {
+    private static final int EVENTS = 1000;
+
+    /**
+     * The size of the payload of each event.
+     */
+    @Param({"256", "4096", "65536"})
+    private int payloadSize;
+
+    /**
+     * The size of the chunks the event stream is fed in.
+     */
+    @Param({"1024", "16384"})
+    private int chunkSize;
+
+    private ByteBuffer[] chunks;
+
+    @Setup
+    public void setup() {
+        Map<String, HeaderValue> headers = new LinkedHashMap<>();
+        headers.put(":message-type", HeaderValue.fromString("event"));
+        headers.put(":event-type", HeaderValue.fromString("SubscribeToShardEvent"));
+        headers.put(":content-type", HeaderValue.fromString("application/json"));
+        byte[] payload = new byte[payloadSize];
+        new Random(0).nextBytes(payload);
+        byte[] message = new Message(headers, payload).toByteBuffer().array();
+
+        ByteBuffer stream = ByteBuffer.allocate(message.length * EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            stream.put(message);
+        }
+        stream.flip();
+
+        chunks = new ByteBuffer[(stream.remaining() + chunkSize - 1) / chunkSize];
+        for (int i = 0; i < chunks.length; i++) {
+            ByteBuffer chunk = stream.slice();
+            chunk.limit(Math.min(chunkSize, chunk.remaining()));
+            chunks[i] = chunk;
+            stream.position(stream.position() + chunk.limit());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void messageDecoder(Blackhole blackhole) {
+        MessageDecoder decoder = new MessageDecoder();
+        for (ByteBuffer chunk : chunks) {
+            decoder.feed(chunk.duplicate());
+            for (Message message : decoder.getDecodedMessages()) {
+                blackhole.consume(message.getHeaders());
+                blackhole.consume(message.getPayload());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void eventStreamFrameDecoder(Blackhole blackhole) {
+        EventStreamFrameDecoder decoder = new EventStreamFrameDecoder();
+        for (ByteBuffer chunk : chunks) {
+            for (EventStreamFrame frame : decoder.decode(chunk)) {
+                blackhole.consume(frame.headers());
+                blackhole.consume(frame.payload());
+            }
+        }
+    }
+}
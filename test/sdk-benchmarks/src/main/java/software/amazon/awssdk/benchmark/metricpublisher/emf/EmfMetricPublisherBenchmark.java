@@ -15,9 +15,11 @@
 
 package software.amazon.awssdk.benchmark.metricpublisher.emf;
 
+import java.time.Duration;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -29,6 +31,12 @@ import software.amazon.awssdk.metrics.publishers.emf.EmfMetricLoggingPublisher;
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
 public class EmfMetricPublisherBenchmark extends MetricsEnabledBenchmark {
+    /**
+     * Whether the publisher aggregates metrics over an interval, instead of logging one entry per API call.
+     */
+    @Param({"false", "true"})
+    public boolean aggregated;
+
     private EmfMetricLoggingPublisher emfMetricLoggingPublisher;
 
     @Override
@@ -37,6 +45,7 @@ public class EmfMetricPublisherBenchmark extends MetricsEnabledBenchmark {
         emfMetricLoggingPublisher = EmfMetricLoggingPublisher.builder()
                                                              .namespace("EmfMetricPublisherBenchmark")
                                                              .logGroupName("LogGroupName")
+                                                             .aggregationInterval(aggregated ? Duration.ofMinutes(1) : null)
                                                              .build();
         super.setup();
     }
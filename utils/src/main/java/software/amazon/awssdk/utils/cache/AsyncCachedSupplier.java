@@ -0,0 +1,251 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A non-blocking counterpart of {@link CachedSupplier} for values that are refreshed asynchronously.
+ * <p>
+ * {@link #get()} never blocks the calling thread. While the cached value is fresh it is returned as a completed future. Once the
+ * value reaches its {@link RefreshResult#prefetchTime()}, a refresh is started in the background and the cached value is still
+ * returned. Once the value reaches its {@link RefreshResult#staleTime()}, or if no value was loaded yet, the returned future
+ * completes when the refresh does. At most one refresh is in flight at any time, and all callers waiting for a value share it.
+ * <p>
+ * If a refresh fails, the callers waiting for it receive the failure, and the next call to {@link #get()} starts a new refresh.
+ * A failed prefetch is logged and the cached value keeps being used until it is stale.
+ * <p>
+ * Once {@link #close()} is called, the callers waiting for a refresh and all later callers receive an
+ * {@link IllegalStateException}.
+ * <p>
+ * This should be created using {@link #builder(Supplier)}.
+ */
+@ThreadSafe
+@SdkProtectedApi
+public final class AsyncCachedSupplier<T> implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(AsyncCachedSupplier.class);
+
+    /**
+     * The supplier used to start a refresh of the {@link #cachedValue}.
+     */
+    private final Supplier<CompletableFuture<RefreshResult<T>>> valueSupplier;
+
+    /**
+     * The clock used by this supplier. Adjustable for testing.
+     */
+    private final Clock clock;
+
+    /**
+     * The name to include with each log message, to differentiate caches.
+     */
+    private final String cachedValueName;
+
+    /**
+     * The refresh currently in flight, or null if there is none.
+     */
+    private final AtomicReference<CompletableFuture<RefreshResult<T>>> pendingRefresh = new AtomicReference<>();
+
+    /**
+     * The value currently stored in this cache.
+     */
+    private volatile RefreshResult<T> cachedValue;
+
+    /**
+     * Whether {@link #close()} was called.
+     */
+    private volatile boolean closed;
+
+    private AsyncCachedSupplier(Builder<T> builder) {
+        this.valueSupplier = Validate.notNull(builder.supplier, "builder.supplier");
+        this.clock = Validate.notNull(builder.clock, "builder.clock");
+        this.cachedValueName = Validate.notNull(builder.cachedValueName, "builder.cachedValueName");
+    }
+
+    /**
+     * Retrieve a builder that can be used for creating an {@link AsyncCachedSupplier}.
+     *
+     * @param valueSupplier The supplier that starts an asynchronous refresh of the value that should be cached.
+     */
+    public static <T> Builder<T> builder(Supplier<CompletableFuture<RefreshResult<T>>> valueSupplier) {
+        return new Builder<>(valueSupplier);
+    }
+
+    /**
+     * Retrieve the cached value, refreshing it if needed. The calling thread is never blocked.
+     */
+    public CompletableFuture<T> get() {
+        if (closed) {
+            return CompletableFutureUtils.failedFuture(closedException());
+        }
+
+        RefreshResult<T> currentCachedValue = cachedValue;
+        if (isStale(currentCachedValue)) {
+            log.debug(() -> "(" + cachedValueName + ") Cached value is stale and will be refreshed.");
+            return refresh().thenApply(RefreshResult::value);
+        }
+
+        if (shouldPrefetch(currentCachedValue)) {
+            log.debug(() -> "(" + cachedValueName + ") Cached value has reached prefetch time and will be refreshed.");
+            refresh();
+        }
+
+        return CompletableFuture.completedFuture(currentCachedValue.value());
+    }
+
+    /**
+     * Returns the refresh in flight, starting one if there is none.
+     */
+    private CompletableFuture<RefreshResult<T>> refresh() {
+        while (true) {
+            CompletableFuture<RefreshResult<T>> pending = pendingRefresh.get();
+            if (pending != null) {
+                return pending;
+            }
+
+            CompletableFuture<RefreshResult<T>> refresh = new CompletableFuture<>();
+            if (pendingRefresh.compareAndSet(null, refresh)) {
+                startRefresh(refresh);
+                return refresh;
+            }
+        }
+    }
+
+    private void startRefresh(CompletableFuture<RefreshResult<T>> refresh) {
+        if (closed) {
+            pendingRefresh.compareAndSet(refresh, null);
+            refresh.completeExceptionally(closedException());
+            return;
+        }
+
+        RefreshResult<T> currentCachedValue = cachedValue;
+        // Make sure the value was not refreshed since the caller checked it.
+        if (!isStale(currentCachedValue) && !shouldPrefetch(currentCachedValue)) {
+            pendingRefresh.compareAndSet(refresh, null);
+            refresh.complete(currentCachedValue);
+            return;
+        }
+
+        log.debug(() -> "(" + cachedValueName + ") Refreshing cached value.");
+        CompletableFuture<RefreshResult<T>> valueFuture;
+        try {
+            valueFuture = Validate.notNull(valueSupplier.get(), "The value supplier returned a null future.");
+        } catch (RuntimeException e) {
+            valueFuture = CompletableFutureUtils.failedFuture(e);
+        }
+
+        valueFuture.whenComplete((result, error) -> {
+            if (error == null && result == null) {
+                error = new IllegalStateException("The value supplier completed with a null value.");
+            }
+
+            if (error == null) {
+                cachedValue = result;
+                log.debug(() -> "(" + cachedValueName + ") Successfully refreshed cached value. "
+                                + "Next Prefetch Time: " + result.prefetchTime() + ". "
+                                + "Next Stale Time: " + result.staleTime());
+            } else {
+                Throwable failure = error;
+                log.debug(() -> "(" + cachedValueName + ") Failed to refresh cached value.", failure);
+            }
+
+            // Clear the pending refresh before completing it, so that callers reacting to the completion see the new state.
+            pendingRefresh.compareAndSet(refresh, null);
+            if (error == null) {
+                refresh.complete(result);
+            } else {
+                refresh.completeExceptionally(error);
+            }
+        });
+    }
+
+    /**
+     * Close this supplier. The refresh in flight, if any, is completed exceptionally so that its callers are not left waiting
+     * for a value supplier whose resources may be released once this supplier is closed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        CompletableFuture<RefreshResult<T>> pending = pendingRefresh.getAndSet(null);
+        if (pending != null) {
+            pending.completeExceptionally(closedException());
+        }
+    }
+
+    private IllegalStateException closedException() {
+        return new IllegalStateException("(" + cachedValueName + ") The cached supplier has been closed.");
+    }
+
+    private boolean isStale(RefreshResult<T> value) {
+        if (value == null) {
+            return true;
+        }
+        return value.staleTime() != null && !clock.instant().isBefore(value.staleTime());
+    }
+
+    private boolean shouldPrefetch(RefreshResult<T> value) {
+        return value != null && value.prefetchTime() != null && !clock.instant().isBefore(value.prefetchTime());
+    }
+
+    /**
+     * A Builder for {@link AsyncCachedSupplier}, created by {@link #builder(Supplier)}.
+     */
+    public static final class Builder<T> {
+        private final Supplier<CompletableFuture<RefreshResult<T>>> supplier;
+        private Clock clock = Clock.systemUTC();
+        private String cachedValueName = "unknown";
+
+        private Builder(Supplier<CompletableFuture<RefreshResult<T>>> supplier) {
+            this.supplier = supplier;
+        }
+
+        /**
+         * Configures a name for the cached value. This name will be included with logs emitted by this supplier, to aid
+         * in debugging.
+         *
+         * By default, this uses "unknown".
+         */
+        public Builder<T> cachedValueName(String cachedValueName) {
+            this.cachedValueName = cachedValueName;
+            return this;
+        }
+
+        /**
+         * Configure the clock used for this cached supplier. Configurable for testing.
+         */
+        @SdkTestInternalApi
+        public Builder<T> clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Create an {@link AsyncCachedSupplier} using the current configuration of this builder.
+         */
+        public AsyncCachedSupplier<T> build() {
+            return new AsyncCachedSupplier<>(this);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Validate the functionality of {@link AsyncCachedSupplier}.
+ */
+public class AsyncCachedSupplierTest {
+    private AdjustableClock clock;
+    private List<CompletableFuture<RefreshResult<String>>> refreshes;
+    private AsyncCachedSupplier<String> supplier;
+
+    @BeforeEach
+    public void setup() {
+        clock = new AdjustableClock();
+        refreshes = new ArrayList<>();
+        supplier = AsyncCachedSupplier.builder(this::startRefresh)
+                                      .clock(clock)
+                                      .cachedValueName("test")
+                                      .build();
+    }
+
+    @Test
+    public void get_noValue_returnsPendingFutureSharedByAllCallers() {
+        CompletableFuture<String> first = supplier.get();
+        CompletableFuture<String> second = supplier.get();
+
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).complete(result("value", Duration.ofMinutes(10), Duration.ofMinutes(5)));
+
+        assertThat(first).isCompletedWithValue("value");
+        assertThat(second).isCompletedWithValue("value");
+    }
+
+    @Test
+    public void get_freshValue_doesNotRefresh() {
+        loadValue("value", Duration.ofMinutes(10), Duration.ofMinutes(5));
+
+        assertThat(supplier.get()).isCompletedWithValue("value");
+        assertThat(refreshes).hasSize(1);
+    }
+
+    @Test
+    public void get_prefetchTimeReached_returnsCachedValueAndRefreshesOnce() {
+        loadValue("old", Duration.ofMinutes(10), Duration.ofMinutes(5));
+        clock.time = clock.time.plus(Duration.ofMinutes(6));
+
+        assertThat(supplier.get()).isCompletedWithValue("old");
+        assertThat(supplier.get()).isCompletedWithValue("old");
+        assertThat(refreshes).hasSize(2);
+
+        refreshes.get(1).complete(result("new", Duration.ofMinutes(20), Duration.ofMinutes(15)));
+
+        assertThat(supplier.get()).isCompletedWithValue("new");
+        assertThat(refreshes).hasSize(2);
+    }
+
+    @Test
+    public void get_prefetchFails_keepsUsingCachedValue() {
+        loadValue("old", Duration.ofMinutes(10), Duration.ofMinutes(5));
+        clock.time = clock.time.plus(Duration.ofMinutes(6));
+
+        assertThat(supplier.get()).isCompletedWithValue("old");
+        refreshes.get(1).completeExceptionally(new RuntimeException("failed"));
+
+        assertThat(supplier.get()).isCompletedWithValue("old");
+        assertThat(refreshes).hasSize(3);
+    }
+
+    @Test
+    public void get_staleValue_waitsForRefresh() {
+        loadValue("old", Duration.ofMinutes(10), Duration.ofMinutes(5));
+        clock.time = clock.time.plus(Duration.ofMinutes(11));
+
+        CompletableFuture<String> value = supplier.get();
+        assertThat(value).isNotDone();
+
+        refreshes.get(1).complete(result("new", Duration.ofMinutes(20), Duration.ofMinutes(15)));
+        assertThat(value).isCompletedWithValue("new");
+    }
+
+    @Test
+    public void get_refreshFails_failsWaitersAndRetriesOnNextCall() {
+        CompletableFuture<String> value = supplier.get();
+        RuntimeException exception = new RuntimeException("failed");
+        refreshes.get(0).completeExceptionally(exception);
+
+        assertThatThrownBy(value::join).isInstanceOf(CompletionException.class).hasCause(exception);
+
+        CompletableFuture<String> retried = supplier.get();
+        assertThat(refreshes).hasSize(2);
+        refreshes.get(1).complete(result("value", Duration.ofMinutes(10), Duration.ofMinutes(5)));
+        assertThat(retried).isCompletedWithValue("value");
+    }
+
+    @Test
+    public void close_refreshInFlight_failsWaitersAndLaterCalls() {
+        CompletableFuture<String> value = supplier.get();
+
+        supplier.close();
+
+        assertThatThrownBy(value::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> supplier.get().join()).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).complete(result("value", Duration.ofMinutes(10), Duration.ofMinutes(5)));
+        assertThatThrownBy(() -> supplier.get().join()).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void get_supplierThrows_returnsFailedFuture() {
+        AsyncCachedSupplier<String> throwingSupplier = AsyncCachedSupplier.<String>builder(() -> {
+            throw new IllegalStateException("failed");
+        }).build();
+
+        assertThatThrownBy(() -> throwingSupplier.get().join()).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void get_valueWithoutStaleTime_neverRefreshes() {
+        supplier.get();
+        refreshes.get(0).complete(RefreshResult.builder("value").build());
+        clock.time = clock.time.plus(Duration.ofDays(365));
+
+        assertThat(supplier.get()).isCompletedWithValue("value");
+        assertThat(refreshes).hasSize(1);
+    }
+
+    private void loadValue(String value, Duration staleAfter, Duration prefetchAfter) {
+        supplier.get();
+        refreshes.get(refreshes.size() - 1).complete(result(value, staleAfter, prefetchAfter));
+    }
+
+    private RefreshResult<String> result(String value, Duration staleAfter, Duration prefetchAfter) {
+        return RefreshResult.builder(value)
+                            .staleTime(clock.time.plus(staleAfter))
+                            .prefetchTime(clock.time.plus(prefetchAfter))
+                            .build();
+    }
+
+    private CompletableFuture<RefreshResult<String>> startRefresh() {
+        CompletableFuture<RefreshResult<String>> refresh = new CompletableFuture<>();
+        refreshes.add(refresh);
+        return refresh;
+    }
+
+    private static class AdjustableClock extends Clock {
+        private Instant time = Instant.parse("2024-01-01T00:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return time;
+        }
+    }
+}